@@ -3,6 +3,7 @@ plugins {
     id("org.springframework.boot") version "3.4.1"
     id("io.spring.dependency-management") version "1.1.7"
     id("org.flywaydb.flyway") version "10.22.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "platform"
@@ -81,6 +82,7 @@ dependencies {
     testImplementation("org.springframework.security:spring-security-test")
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.testcontainers:postgresql")
+    testImplementation("net.jqwik:jqwik:1.9.2")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     testRuntimeOnly("com.h2database:h2")
 }
@@ -89,6 +91,54 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("heap", "load")
+    }
+}
+
+// Streaming tests that must pass under a fixed heap too small to hold their data sets
+val heapTest by tasks.registering(Test::class) {
+    description = "Runs streaming tests under a fixed 256 MB heap."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    maxHeapSize = "256m"
+    useJUnitPlatform {
+        includeTags("heap")
+    }
+    shouldRunAfter(tasks.test)
+}
+
+tasks.check {
+    dependsOn(heapTest)
+}
+
+// Payment load harness against the simulated gateway; run on demand, not part of check
+val loadTest by tasks.registering(Test::class) {
+    description = "Runs the payment load harness (-Dload.payments, -Dload.concurrency)."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    systemProperties(System.getProperties()
+        .filterKeys { it.toString().startsWith("load.") }
+        .mapKeys { it.key.toString() })
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// Microbenchmarks in src/jmh; run with ./gradlew jmh, not part of check
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+}
+
 // QueryDSL Q-class output directory
 val querydslDir = layout.buildDirectory.dir("generated/querydsl")
 
@@ -0,0 +1,82 @@
+package platform.ecommerce.service.pricing;
+
+import org.openjdk.jmh.annotations.*;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coupon recommendation: filtering and sorting Coupon entities with BigDecimal discounts
+ * versus CouponRanker over prepared terms.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CouponRankerBenchmark {
+
+    private static final int TOP = 3;
+
+    @Param({"50", "200", "500"})
+    private int couponCount;
+
+    private List<Coupon> coupons;
+    private CouponTerms[] terms;
+    private BigDecimal orderAmount;
+    private int[] topIndexes;
+    private long[] topDiscounts;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        coupons = new ArrayList<>(couponCount);
+        for (int i = 0; i < couponCount; i++) {
+            boolean percentage = random.nextBoolean();
+            coupons.add(Coupon.builder()
+                    .code("BENCH" + i)
+                    .name("Benchmark " + i)
+                    .type(percentage ? CouponType.PERCENTAGE : CouponType.FIXED_AMOUNT)
+                    .discountValue(BigDecimal.valueOf(percentage ? random.nextInt(1, 50) : random.nextInt(1, 20) * 1000))
+                    .minimumOrder(BigDecimal.valueOf(random.nextInt(0, 100) * 1000))
+                    .maximumDiscount(percentage ? BigDecimal.valueOf(random.nextInt(1, 30) * 1000) : null)
+                    .validFrom(LocalDateTime.now().minusDays(1))
+                    .validTo(LocalDateTime.now().plusDays(30))
+                    .totalQuantity(1_000)
+                    .build());
+        }
+        terms = coupons.stream().map(CouponTerms::of).toArray(CouponTerms[]::new);
+        orderAmount = BigDecimal.valueOf(55_000);
+        topIndexes = new int[TOP];
+        topDiscounts = new long[TOP];
+    }
+
+    @Benchmark
+    public List<Coupon> filterAndSort() {
+        return coupons.stream()
+                .filter(coupon -> coupon.isApplicable(orderAmount))
+                .sorted(Comparator.comparing((Coupon coupon) -> coupon.calculateDiscount(orderAmount)).reversed())
+                .limit(TOP)
+                .toList();
+    }
+
+    @Benchmark
+    public int ranker() {
+        return CouponRanker.rank(terms, MinorUnits.of(orderAmount), topIndexes, topDiscounts);
+    }
+
+    @Benchmark
+    public int rankerWithTerms() {
+        CouponTerms[] prepared = new CouponTerms[coupons.size()];
+        for (int i = 0; i < prepared.length; i++) {
+            prepared[i] = CouponTerms.of(coupons.get(i));
+        }
+        return CouponRanker.rank(prepared, MinorUnits.of(orderAmount), new int[TOP], new long[TOP]);
+    }
+}
@@ -0,0 +1,89 @@
+package platform.ecommerce.service.pricing;
+
+import org.openjdk.jmh.annotations.*;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cart pricing: chained BigDecimal math (as in the cart services and Coupon) versus PricingEngine.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PricingEngineBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int lineCount;
+
+    private List<BigDecimal> basePrices;
+    private List<BigDecimal> additionalPrices;
+    private List<Integer> quantities;
+    private List<PriceLine> priceLines;
+    private Coupon coupon;
+    private CouponTerms couponTerms;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        basePrices = new ArrayList<>(lineCount);
+        additionalPrices = new ArrayList<>(lineCount);
+        quantities = new ArrayList<>(lineCount);
+        priceLines = new ArrayList<>(lineCount);
+
+        for (int i = 0; i < lineCount; i++) {
+            BigDecimal basePrice = BigDecimal.valueOf(random.nextLong(100, 10_000_000), 2);
+            BigDecimal additionalPrice = BigDecimal.valueOf(random.nextLong(0, 500_000), 2);
+            int quantity = random.nextInt(1, 10);
+            basePrices.add(basePrice);
+            additionalPrices.add(additionalPrice);
+            quantities.add(quantity);
+            priceLines.add(PriceLine.of(basePrice, additionalPrice, quantity));
+        }
+
+        coupon = Coupon.builder()
+                .code("BENCH10")
+                .name("Benchmark")
+                .type(CouponType.PERCENTAGE)
+                .discountValue(BigDecimal.valueOf(10))
+                .maximumDiscount(BigDecimal.valueOf(50_000))
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(1))
+                .totalQuantity(1_000)
+                .build();
+        couponTerms = CouponTerms.of(coupon);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        List<BigDecimal> lineTotals = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            BigDecimal unitPrice = basePrices.get(i).add(additionalPrices.get(i));
+            lineTotals.add(unitPrice.multiply(BigDecimal.valueOf(quantities.get(i))));
+        }
+        BigDecimal subtotal = lineTotals.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        return subtotal.subtract(coupon.calculateDiscount(subtotal));
+    }
+
+    @Benchmark
+    public BigDecimal engineFromBigDecimal() {
+        List<PriceLine> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(PriceLine.of(basePrices.get(i), additionalPrices.get(i), quantities.get(i)));
+        }
+        return PricingEngine.price(lines, couponTerms, ShippingPolicy.FREE).total();
+    }
+
+    @Benchmark
+    public long engineMinorUnits() {
+        CartPricing pricing = PricingEngine.price(priceLines, couponTerms, ShippingPolicy.FREE);
+        return pricing.subtotalMinorUnits() - pricing.discountMinorUnits();
+    }
+}
@@ -5,8 +5,15 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+import java.time.Duration;
 
 /**
  * Application-specific configuration properties.
@@ -29,6 +36,28 @@ public class AppProperties {
 
     private EmailVerification emailVerification = new EmailVerification();
 
+    private OrderPartition orderPartition = new OrderPartition();
+
+    private OrderArchive orderArchive = new OrderArchive();
+
+    private OrderExpiry orderExpiry = new OrderExpiry();
+
+    private Payment payment = new Payment();
+
+    private PaymentReconciliation paymentReconciliation = new PaymentReconciliation();
+
+    private PaymentRecovery paymentRecovery = new PaymentRecovery();
+
+    private Cache cache = new Cache();
+
+    private Cart cart = new Cart();
+
+    private Category category = new Category();
+
+    private Coupon coupon = new Coupon();
+
+    private Pricing pricing = new Pricing();
+
     @Getter
     @Setter
     public static class Mail {
@@ -42,4 +71,325 @@ public class AppProperties {
         @Positive
         private int expirationHours = 24;
     }
+
+    @Getter
+    @Setter
+    public static class OrderPartition {
+        /**
+         * Runs the monthly partition maintenance job. Requires the partitioned schema (PostgreSQL).
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of future monthly partitions kept ahead of the current month.
+         */
+        @Positive
+        private int monthsAhead = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class OrderArchive {
+        /**
+         * Runs the archival job. Requires the partitioned schema (PostgreSQL).
+         */
+        private boolean enabled = false;
+
+        /**
+         * Completed orders older than this many days move to the cold partition.
+         */
+        @Positive
+        private int archiveAfterDays = 365;
+
+        @Positive
+        private int batchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class OrderExpiry {
+        /**
+         * Runs the unpaid order sweeper.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Orders still waiting for payment after this many minutes are cancelled.
+         */
+        @Positive
+        private int paymentTimeoutMinutes = 30;
+
+        @Positive
+        private int batchSize = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class Payment {
+        /**
+         * Upper bound for a single gateway attempt; retries run on top of this.
+         */
+        @Positive
+        private int gatewayTimeoutMillis = 5000;
+
+        /**
+         * Bulkhead size: gateway calls beyond this are rejected instead of queued.
+         */
+        @Positive
+        private int maxConcurrentGatewayCalls = 50;
+
+        private Simulator simulator = new Simulator();
+    }
+
+    /**
+     * Failure and latency injection for the mock payment gateway.
+     * Rates are probabilities in [0, 1] applied independently per call.
+     */
+    @Getter
+    @Setter
+    public static class Simulator {
+        private boolean enabled = false;
+
+        /**
+         * Fixed seed for reproducible runs; random when unset.
+         */
+        private Long seed;
+
+        private LatencyDistribution latencyDistribution = LatencyDistribution.LOG_NORMAL;
+
+        @PositiveOrZero
+        private int minLatencyMillis = 0;
+
+        @PositiveOrZero
+        private int medianLatencyMillis = 150;
+
+        @PositiveOrZero
+        private int p99LatencyMillis = 1500;
+
+        /**
+         * Calls that throw, as a dropped connection or 5xx would.
+         */
+        @DecimalMin("0.0") @DecimalMax("1.0")
+        private double errorRate = 0.0;
+
+        /**
+         * Calls that return a declined result.
+         */
+        @DecimalMin("0.0") @DecimalMax("1.0")
+        private double declineRate = 0.0;
+
+        /**
+         * Calls that hang for {@code hangMillis}, longer than any client timeout.
+         */
+        @DecimalMin("0.0") @DecimalMax("1.0")
+        private double timeoutRate = 0.0;
+
+        @Positive
+        private int hangMillis = 30000;
+
+        /**
+         * Outage window repeats every period; 0 disables outages.
+         */
+        @PositiveOrZero
+        private int outagePeriodSeconds = 0;
+
+        @PositiveOrZero
+        private int outageDurationSeconds = 0;
+
+        /**
+         * Share of calls failing during an outage window; below 1.0 models a partial outage.
+         */
+        @DecimalMin("0.0") @DecimalMax("1.0")
+        private double outageErrorRate = 1.0;
+    }
+
+    @Getter
+    @Setter
+    public static class PaymentReconciliation {
+        /**
+         * Runs the daily settlement reconciliation job.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Directory holding PG settlement files named settlement-yyyyMMdd.csv.
+         */
+        @NotBlank
+        private String settlementDirectory = "/var/lib/ecommerce/settlements";
+
+        /**
+         * Settlement lines per IN-query and transaction.
+         */
+        @Positive
+        private int chunkSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class PaymentRecovery {
+        /**
+         * Runs the stale PROCESSING / CANCELLING payment recovery job.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Payments in flight for longer than this are re-sent to the gateway; must exceed a gateway call with retries.
+         */
+        @NotNull
+        private Duration staleAfter = Duration.ofMinutes(10);
+
+        @Positive
+        private int batchSize = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        /**
+         * Where versioned cache namespace generations are kept: REDIS, or MEMORY (single node, tests).
+         */
+        private CacheGenerationStoreType generationStore = CacheGenerationStoreType.REDIS;
+    }
+
+    @Getter
+    @Setter
+    public static class Cart {
+        /**
+         * Where live carts are kept: DATABASE (cart tables), REDIS, or MEMORY (single node, tests).
+         */
+        private CartStoreType store = CartStoreType.DATABASE;
+
+        /**
+         * Idle time after which a stored cart expires; it is re-seeded from the database on next access.
+         */
+        @Positive
+        private int ttlDays = 30;
+
+        /**
+         * Dirty carts written to the database per persistence run.
+         */
+        @Positive
+        private int persistBatchSize = 500;
+
+        /**
+         * Where guest carts are kept: REDIS, or MEMORY (single node, tests). Guest carts are never persisted.
+         */
+        private GuestCartStoreType guestStore = GuestCartStoreType.REDIS;
+
+        /**
+         * Idle time after which a guest cart and its cookie expire.
+         */
+        @Positive
+        private int guestTtlDays = 7;
+
+        /**
+         * Lines a guest cart may hold; guest carts are anonymous, so this bounds what one cookie can store.
+         */
+        @Positive
+        private int guestMaxLines = 50;
+    }
+
+    @Getter
+    @Setter
+    public static class Category {
+        /**
+         * How long the in-memory category tree is served without a change event; bounds staleness across nodes.
+         */
+        @NotNull
+        private Duration treeTtl = Duration.ofMinutes(5);
+
+        /**
+         * Products re-rooted per transaction after a category subtree moves.
+         */
+        @Positive
+        private int reindexBatchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Coupon {
+        /**
+         * Admission gate for first-come-first-served drops: REDIS, or MEMORY (single node, tests).
+         */
+        private CouponIssueGateType issueGate = CouponIssueGateType.REDIS;
+
+        /**
+         * Runs the job that writes admitted claims to member_coupon. Turn off on nodes that only serve claims.
+         */
+        private boolean persistEnabled = true;
+
+        /**
+         * Admitted claims written to member_coupon per persistence run.
+         */
+        @Positive
+        private int persistBatchSize = 500;
+
+        /**
+         * Members issued per transaction by segment-wide issuance jobs; the job checkpoints after each chunk.
+         */
+        @Positive
+        private int bulkIssueChunkSize = 1000;
+
+        /**
+         * How long a cached coupon rule is served without an eviction event; bounds staleness across nodes.
+         */
+        @NotNull
+        private Duration ruleCacheTtl = Duration.ofMinutes(10);
+
+        /**
+         * How long a coupon's used quantity is served from memory before it is read again.
+         */
+        @NotNull
+        private Duration usageRefreshInterval = Duration.ofSeconds(5);
+
+        /**
+         * Stripe rows a hot coupon's remaining quantity is split over when striped usage is enabled.
+         */
+        @Positive
+        private int usageStripes = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class Pricing {
+        /**
+         * Flat shipping fee charged at checkout.
+         */
+        @NotNull
+        @PositiveOrZero
+        private BigDecimal shippingFee = BigDecimal.valueOf(3000);
+
+        /**
+         * Subtotal from which shipping is free; unset to always charge.
+         */
+        @PositiveOrZero
+        private BigDecimal freeShippingThreshold;
+    }
+
+    public enum CacheGenerationStoreType {
+        REDIS,
+        MEMORY
+    }
+
+    public enum CartStoreType {
+        DATABASE,
+        REDIS,
+        MEMORY
+    }
+
+    public enum GuestCartStoreType {
+        REDIS,
+        MEMORY
+    }
+
+    public enum CouponIssueGateType {
+        REDIS,
+        MEMORY
+    }
+
+    public enum LatencyDistribution {
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
 }
@@ -10,6 +10,8 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Async configuration for asynchronous task execution.
@@ -33,6 +35,15 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * Virtual-thread executor for blocking payment gateway calls.
+     * Concurrency is bounded by the gateway client's bulkhead, not by a pool size.
+     */
+    @Bean(name = "paymentGatewayExecutor", destroyMethod = "close")
+    public ExecutorService paymentGatewayExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-gateway-", 0).factory());
+    }
+
     @Override
     public Executor getAsyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -1,5 +1,6 @@
 package platform.ecommerce.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -7,16 +8,25 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import platform.ecommerce.service.cache.CacheGenerationStore;
+import platform.ecommerce.service.cache.InMemoryCacheGenerationStore;
+import platform.ecommerce.service.cache.RedisCacheGenerationStore;
+import platform.ecommerce.service.cache.VersionedCacheManager;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Cache configuration with Redis.
+ * Caches in {@link #VERSIONED_CACHES} are versioned namespaces: clearing one bumps a generation counter
+ * selected by {@code app.cache.generation-store} instead of scanning and deleting its keys.
+ * List-style caches (search results, product lists) belong there too.
  */
 @Configuration
 @EnableCaching
@@ -25,10 +35,23 @@ public class CacheConfig {
     public static final String PRODUCT_CACHE = "products";
     public static final String PRODUCT_DETAIL_CACHE = "productDetails";
     public static final String CATEGORY_CACHE = "categories";
-    public static final String CATEGORY_TREE_CACHE = "categoryTree";
+
+    public static final List<String> VERSIONED_CACHES = List.of(CATEGORY_CACHE);
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache", name = "generation-store", havingValue = "redis", matchIfMissing = true)
+    public CacheGenerationStore redisCacheGenerationStore(StringRedisTemplate stringRedisTemplate) {
+        return new RedisCacheGenerationStore(stringRedisTemplate);
+    }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    @ConditionalOnProperty(prefix = "app.cache", name = "generation-store", havingValue = "memory")
+    public CacheGenerationStore inMemoryCacheGenerationStore() {
+        return new InMemoryCacheGenerationStore();
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheGenerationStore generationStore) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
@@ -46,13 +69,12 @@ public class CacheConfig {
         // Category cache - 1 hour (rarely changes)
         cacheConfigurations.put(CATEGORY_CACHE, defaultConfig.entryTtl(Duration.ofHours(1)));
 
-        // Category tree cache - 2 hours (hierarchical data, rarely changes)
-        cacheConfigurations.put(CATEGORY_TREE_CACHE, defaultConfig.entryTtl(Duration.ofHours(2)));
-
-        return RedisCacheManager.builder(connectionFactory)
+        // Transaction awareness is applied by the versioned manager, around the versioned caches
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
-                .transactionAware()
                 .build();
+        redisCacheManager.afterPropertiesSet();
+        return new VersionedCacheManager(redisCacheManager, generationStore, VERSIONED_CACHES);
     }
 }
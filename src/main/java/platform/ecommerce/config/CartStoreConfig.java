@@ -0,0 +1,47 @@
+package platform.ecommerce.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import platform.ecommerce.service.cart.CartStore;
+import platform.ecommerce.service.cart.GuestCartStore;
+import platform.ecommerce.service.cart.InMemoryCartStore;
+import platform.ecommerce.service.cart.InMemoryGuestCartStore;
+import platform.ecommerce.service.cart.RedisCartStore;
+import platform.ecommerce.service.cart.RedisGuestCartStore;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Cart store selection by {@code app.cart.store}, and guest cart store selection by {@code app.cart.guest-store}.
+ * No member cart store bean exists in DATABASE mode, where carts live only in the cart tables.
+ */
+@Configuration
+public class CartStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cart", name = "store", havingValue = "redis")
+    public CartStore redisCartStore(StringRedisTemplate stringRedisTemplate, AppProperties appProperties) {
+        return new RedisCartStore(stringRedisTemplate, Duration.ofDays(appProperties.getCart().getTtlDays()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cart", name = "store", havingValue = "memory")
+    public CartStore inMemoryCartStore() {
+        return new InMemoryCartStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cart", name = "guest-store", havingValue = "redis", matchIfMissing = true)
+    public GuestCartStore redisGuestCartStore(StringRedisTemplate stringRedisTemplate, AppProperties appProperties) {
+        return new RedisGuestCartStore(stringRedisTemplate, Duration.ofDays(appProperties.getCart().getGuestTtlDays()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cart", name = "guest-store", havingValue = "memory")
+    public GuestCartStore inMemoryGuestCartStore(AppProperties appProperties) {
+        return new InMemoryGuestCartStore(Duration.ofDays(appProperties.getCart().getGuestTtlDays()), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,28 @@
+package platform.ecommerce.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import platform.ecommerce.service.coupon.CouponIssueGate;
+import platform.ecommerce.service.coupon.InMemoryCouponIssueGate;
+import platform.ecommerce.service.coupon.RedisCouponIssueGate;
+
+/**
+ * First-come-first-served coupon gate selection by {@code app.coupon.issue-gate}.
+ */
+@Configuration
+public class CouponIssueConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.coupon", name = "issue-gate", havingValue = "redis", matchIfMissing = true)
+    public CouponIssueGate redisCouponIssueGate(StringRedisTemplate stringRedisTemplate) {
+        return new RedisCouponIssueGate(stringRedisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.coupon", name = "issue-gate", havingValue = "memory")
+    public CouponIssueGate inMemoryCouponIssueGate() {
+        return new InMemoryCouponIssueGate();
+    }
+}
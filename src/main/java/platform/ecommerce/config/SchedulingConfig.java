@@ -0,0 +1,13 @@
+package platform.ecommerce.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (partition maintenance, archival).
+ * Individual jobs are switched on by their own properties.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
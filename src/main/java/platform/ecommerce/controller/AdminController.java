@@ -3,14 +3,22 @@ package platform.ecommerce.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import platform.ecommerce.domain.order.OrderStatus;
+import platform.ecommerce.dto.request.order.OrderExportFormat;
+import platform.ecommerce.dto.request.order.OrderNumberMatch;
+import platform.ecommerce.dto.request.order.OrderSearchCondition;
 import platform.ecommerce.dto.response.ApiResponse;
+import platform.ecommerce.dto.response.CursorResponse;
 import platform.ecommerce.dto.response.admin.DashboardSummaryResponse;
 import platform.ecommerce.dto.response.admin.OrderStatisticsResponse;
 import platform.ecommerce.dto.response.admin.SalesStatisticsResponse;
@@ -19,6 +27,11 @@ import platform.ecommerce.service.admin.SalesPeriod;
 import platform.ecommerce.service.application.AdminDashboardApplicationService;
 import platform.ecommerce.service.application.OrderApplicationService;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
 /**
  * Admin REST controller.
  */
@@ -29,6 +42,8 @@ import platform.ecommerce.service.application.OrderApplicationService;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
+    private static final int EXPORT_GZIP_BUFFER_SIZE = 64 * 1024;
+
     private final AdminDashboardApplicationService adminDashboardApplicationService;
     private final OrderApplicationService orderApplicationService;
 
@@ -64,7 +79,49 @@ public class AdminController {
     public ApiResponse<Page<OrderResponse>> getAllOrders(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        Page<OrderResponse> response = orderApplicationService.searchOrders(null, pageable);
+        Page<OrderResponse> response = orderApplicationService.searchOrders(OrderSearchCondition.empty(), pageable);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "Export orders", description = "Stream orders created in [from, to) as CSV or NDJSON")
+    @GetMapping("/orders/export")
+    public void exportOrders(
+            @Parameter(description = "Created from (inclusive)") @RequestParam LocalDateTime from,
+            @Parameter(description = "Created to (exclusive)") @RequestParam LocalDateTime to,
+            @Parameter(description = "Order status") @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "Output format") @RequestParam(defaultValue = "CSV") OrderExportFormat format,
+            @Parameter(description = "Gzip the file") @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        String filename = "orders." + format.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        OutputStream out = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), EXPORT_GZIP_BUFFER_SIZE)
+                : response.getOutputStream();
+        try (out) {
+            orderApplicationService.exportOrders(from, to, status, format, out);
+        }
+    }
+
+    @Operation(summary = "Scroll orders", description = "Search orders with cursor pagination for large date ranges")
+    @GetMapping("/orders/scroll")
+    public ApiResponse<CursorResponse<OrderResponse>> scrollOrders(
+            @Parameter(description = "Member ID") @RequestParam(required = false) Long memberId,
+            @Parameter(description = "Order status") @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "Order number") @RequestParam(required = false) String orderNumber,
+            @Parameter(description = "Order number match mode") @RequestParam(defaultValue = "PREFIX") OrderNumberMatch orderNumberMatch,
+            @Parameter(description = "Start date") @RequestParam(required = false) LocalDateTime startDate,
+            @Parameter(description = "End date") @RequestParam(required = false) LocalDateTime endDate,
+            @Parameter(description = "Cursor from previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "50") int size
+    ) {
+        OrderSearchCondition condition = new OrderSearchCondition(
+                memberId, status, orderNumber, orderNumberMatch, startDate, endDate
+        );
+        CursorResponse<OrderResponse> response = orderApplicationService.searchOrdersByCursor(condition, cursor, size);
         return ApiResponse.success(response);
     }
 }
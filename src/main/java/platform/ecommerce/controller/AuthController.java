@@ -5,12 +5,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import platform.ecommerce.dto.request.*;
 import platform.ecommerce.dto.response.*;
+import platform.ecommerce.security.GuestCartCookie;
 import platform.ecommerce.service.application.AuthApplicationService;
 
 /**
@@ -35,14 +37,18 @@ public class AuthController {
         return ApiResponse.created(response);
     }
 
-    @Operation(summary = "Login", description = "Authenticate member and get tokens")
+    @Operation(summary = "Login", description = "Authenticate member, merge any guest cart and get tokens")
     @RateLimiter(name = "auth")
     @PostMapping("/login")
     public ApiResponse<LoginResponse> login(
             @Valid @RequestBody LoginRequest request,
-            HttpServletRequest httpRequest
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
     ) {
         LoginResponse response = authApplicationService.login(request, httpRequest);
+        if (GuestCartCookie.read(httpRequest).isPresent()) {
+            GuestCartCookie.expire(httpResponse);
+        }
         return ApiResponse.success(response);
     }
 
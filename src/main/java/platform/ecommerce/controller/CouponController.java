@@ -18,6 +18,7 @@ import platform.ecommerce.security.SecurityUtils;
 import platform.ecommerce.service.application.CouponApplicationService;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Coupon REST controller.
@@ -148,6 +149,81 @@ public class CouponController {
         return ApiResponse.created(response);
     }
 
+    @Operation(summary = "Open coupon drop", description = "Open first-come-first-served issuance for a limited coupon")
+    @PostMapping("/{couponId}/drop")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void openDrop(
+            @Parameter(description = "Coupon ID") @PathVariable Long couponId
+    ) {
+        couponApplicationService.openDrop(couponId);
+    }
+
+    @Operation(summary = "Claim coupon", description = "Claim a coupon from an open drop; the member coupon is stored shortly after")
+    @PostMapping("/{couponId}/claim")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<CouponClaimResponse> claimCoupon(
+            @Parameter(description = "Coupon ID") @PathVariable Long couponId
+    ) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        CouponClaimResponse response = couponApplicationService.claimCoupon(couponId, memberId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "Reconcile coupon drop", description = "Align drop state with issued member coupons")
+    @PostMapping("/{couponId}/drop/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CouponIssueReconcileResponse> reconcileDrop(
+            @Parameter(description = "Coupon ID") @PathVariable Long couponId
+    ) {
+        CouponIssueReconcileResponse response = couponApplicationService.reconcileDrop(couponId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "Stripe coupon usage", description = "Count usage of a hot coupon in striped counters flushed in batches (admin)")
+    @PostMapping("/{couponId}/usage/stripes")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void enableStripedUsage(
+            @Parameter(description = "Coupon ID") @PathVariable Long couponId
+    ) {
+        couponApplicationService.enableStripedUsage(couponId);
+    }
+
+    @Operation(summary = "Bulk issue coupon", description = "Issue a coupon to every member of a segment in the background (admin)")
+    @PostMapping("/{couponId}/bulk-issue")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CouponBulkIssueJobResponse> startBulkIssue(
+            @Parameter(description = "Coupon ID") @PathVariable Long couponId,
+            @Valid @RequestBody CouponBulkIssueRequest request
+    ) {
+        CouponBulkIssueJobResponse response = couponApplicationService.startBulkIssue(couponId, request);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "Get bulk issue job", description = "Get progress of a bulk issue job (admin)")
+    @GetMapping("/bulk-issue/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CouponBulkIssueJobResponse> getBulkIssue(
+            @Parameter(description = "Job ID") @PathVariable Long jobId
+    ) {
+        CouponBulkIssueJobResponse response = couponApplicationService.getBulkIssue(jobId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "Resume bulk issue job", description = "Resume a failed bulk issue job from its last chunk (admin)")
+    @PostMapping("/bulk-issue/{jobId}/resume")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<CouponBulkIssueJobResponse> resumeBulkIssue(
+            @Parameter(description = "Job ID") @PathVariable Long jobId
+    ) {
+        CouponBulkIssueJobResponse response = couponApplicationService.resumeBulkIssue(jobId);
+        return ApiResponse.success(response);
+    }
+
     // ========== Calculation Endpoints ==========
 
     @Operation(summary = "Calculate discount", description = "Calculate discount amount for order")
@@ -160,6 +236,18 @@ public class CouponController {
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "Recommend coupons", description = "Rank the member's usable coupons by discount for an order amount")
+    @GetMapping("/recommendations")
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<List<CouponRecommendationResponse>> recommendCoupons(
+            @Parameter(description = "Order amount") @RequestParam BigDecimal orderAmount,
+            @Parameter(description = "Number of coupons to return") @RequestParam(defaultValue = "3") int limit
+    ) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        List<CouponRecommendationResponse> response = couponApplicationService.recommendCoupons(memberId, orderAmount, limit);
+        return ApiResponse.success(response);
+    }
+
     @Operation(summary = "Get available coupons", description = "Get coupons applicable to order amount")
     @GetMapping("/available")
     @PreAuthorize("isAuthenticated()")
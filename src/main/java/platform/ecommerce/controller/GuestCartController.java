@@ -0,0 +1,85 @@
+package platform.ecommerce.controller;
+
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import platform.ecommerce.dto.request.cart.*;
+import platform.ecommerce.dto.response.*;
+import platform.ecommerce.dto.response.cart.*;
+import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.security.GuestCartCookie;
+import platform.ecommerce.service.application.CartApplicationService;
+
+/**
+ * Guest cart REST controller.
+ * The cart is identified by the guest cart cookie, issued on the first add and merged into
+ * the member cart on login.
+ */
+@Tag(name = "Guest Cart", description = "Shopping cart API for anonymous shoppers")
+@RestController
+@RequestMapping("/api/v1/guest-cart")
+@RequiredArgsConstructor
+public class GuestCartController {
+
+    private final CartApplicationService cartApplicationService;
+
+    @Operation(summary = "Get guest cart", description = "Get shopping cart identified by the guest cart cookie")
+    @GetMapping
+    public ApiResponse<CartResponse> getCart(HttpServletRequest httpRequest) {
+        String token = GuestCartCookie.read(httpRequest).orElse(null);
+        CartResponse response = cartApplicationService.getGuestCart(token);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "Add to guest cart", description = "Add item to guest cart, issuing the cookie if absent")
+    @PostMapping("/items")
+    @ResponseStatus(HttpStatus.CREATED)
+    @RateLimiter(name = "guest-cart")
+    public ApiResponse<CartItemResponse> addToCart(
+            @Valid @RequestBody CartItemAddRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
+    ) {
+        String token = GuestCartCookie.read(httpRequest).orElseGet(GuestCartCookie::newToken);
+        CartItemResponse response = cartApplicationService.addToGuestCart(token, request);
+        GuestCartCookie.write(httpResponse, token, cartApplicationService.getGuestCartTtl());
+        return ApiResponse.created(response);
+    }
+
+    @Operation(summary = "Update guest cart quantity", description = "Update item quantity in guest cart")
+    @PatchMapping("/items/{itemId}")
+    public ApiResponse<CartItemResponse> updateQuantity(
+            @Parameter(description = "Cart item ID") @PathVariable Long itemId,
+            @Valid @RequestBody CartItemUpdateRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse
+    ) {
+        String token = requireToken(httpRequest);
+        CartItemResponse response = cartApplicationService.updateGuestCartQuantity(token, itemId, request.quantity());
+        GuestCartCookie.write(httpResponse, token, cartApplicationService.getGuestCartTtl());
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "Remove from guest cart", description = "Remove item from guest cart")
+    @DeleteMapping("/items/{itemId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void removeFromCart(
+            @Parameter(description = "Cart item ID") @PathVariable Long itemId,
+            HttpServletRequest httpRequest
+    ) {
+        cartApplicationService.removeFromGuestCart(requireToken(httpRequest), itemId);
+    }
+
+    private String requireToken(HttpServletRequest httpRequest) {
+        return GuestCartCookie.read(httpRequest)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.CART_NOT_FOUND));
+    }
+}
@@ -45,6 +45,18 @@ public class OrderController {
         return ApiResponse.created(response);
     }
 
+    @Operation(summary = "Checkout cart", description = "Place an order from the cart and request payment in one step")
+    @PostMapping("/checkout")
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<CheckoutResponse> checkout(
+            @Valid @RequestBody CheckoutRequest request
+    ) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        CheckoutResponse response = orderApplicationService.checkout(memberId, request);
+        return ApiResponse.created(response);
+    }
+
     @Operation(summary = "Get order", description = "Get order by ID (owner or admin only)")
     @GetMapping("/{orderId}")
     @PreAuthorize("isAuthenticated()")
@@ -78,6 +90,18 @@ public class OrderController {
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "Get my order history", description = "Get orders for authenticated member with cursor pagination")
+    @GetMapping("/my/history")
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<CursorResponse<OrderResponse>> getMyOrderHistory(
+            @Parameter(description = "Cursor from previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size
+    ) {
+        Long memberId = SecurityUtils.getCurrentMemberId();
+        CursorResponse<OrderResponse> response = orderApplicationService.getMyOrderHistory(memberId, cursor, size);
+        return ApiResponse.success(response);
+    }
+
     @Operation(summary = "Search orders", description = "Search orders with conditions (admin)")
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -85,12 +109,13 @@ public class OrderController {
             @Parameter(description = "Member ID") @RequestParam(required = false) Long memberId,
             @Parameter(description = "Order status") @RequestParam(required = false) OrderStatus status,
             @Parameter(description = "Order number") @RequestParam(required = false) String orderNumber,
+            @Parameter(description = "Order number match mode") @RequestParam(defaultValue = "PREFIX") OrderNumberMatch orderNumberMatch,
             @Parameter(description = "Start date") @RequestParam(required = false) LocalDateTime startDate,
             @Parameter(description = "End date") @RequestParam(required = false) LocalDateTime endDate,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
         OrderSearchCondition condition = new OrderSearchCondition(
-                memberId, status, orderNumber, startDate, endDate
+                memberId, status, orderNumber, orderNumberMatch, startDate, endDate
         );
         Page<OrderResponse> response = orderApplicationService.searchOrders(condition, pageable);
         return ApiResponse.success(response);
@@ -132,6 +157,26 @@ public class OrderController {
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "Bulk start preparing", description = "Start preparing many orders; failures are reported per order")
+    @PostMapping("/bulk/prepare")
+    @PreAuthorize("hasAnyRole('SELLER', 'ADMIN')")
+    public ApiResponse<BulkOrderResultResponse> startPreparingAll(
+            @Valid @RequestBody BulkPrepareRequest request
+    ) {
+        BulkOrderResultResponse response = orderApplicationService.startPreparingAll(request.orderIds());
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "Bulk ship orders", description = "Ship many orders with tracking numbers; failures are reported per order")
+    @PostMapping("/bulk/ship")
+    @PreAuthorize("hasAnyRole('SELLER', 'ADMIN')")
+    public ApiResponse<BulkOrderResultResponse> shipAll(
+            @Valid @RequestBody BulkShipRequest request
+    ) {
+        BulkOrderResultResponse response = orderApplicationService.shipAll(request.shipments());
+        return ApiResponse.success(response);
+    }
+
     @Operation(summary = "Deliver order", description = "Mark order as delivered")
     @PostMapping("/{orderId}/deliver")
     @PreAuthorize("hasAnyRole('SELLER', 'ADMIN')")
@@ -7,7 +7,9 @@ import platform.ecommerce.exception.EntityNotFoundException;
 import platform.ecommerce.exception.ErrorCode;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -53,6 +55,33 @@ public class Cart extends BaseEntity {
         return newItem;
     }
 
+    /**
+     * Merge many items with {@link #addItem} semantics, e.g. a guest cart on login.
+     * Merged quantities are capped at {@link CartItem#MAX_QUANTITY} instead of failing.
+     * Existing items are indexed once, so the merge is linear in the number of items.
+     */
+    public void mergeItems(List<CartItemQuantity> additions) {
+        Map<ItemKey, CartItem> index = new HashMap<>();
+        items.forEach(item -> index.put(new ItemKey(item.getProductId(), item.getProductOptionId()), item));
+
+        for (CartItemQuantity addition : additions) {
+            ItemKey key = new ItemKey(addition.productId(), addition.productOptionId());
+            CartItem existing = index.get(key);
+            if (existing != null) {
+                existing.updateQuantity(Math.min(existing.getQuantity() + addition.quantity(), CartItem.MAX_QUANTITY));
+                continue;
+            }
+            CartItem newItem = CartItem.builder()
+                    .cart(this)
+                    .productId(addition.productId())
+                    .productOptionId(addition.productOptionId())
+                    .quantity(Math.min(addition.quantity(), CartItem.MAX_QUANTITY))
+                    .build();
+            this.items.add(newItem);
+            index.put(key, newItem);
+        }
+    }
+
     /**
      * Update item quantity.
      */
@@ -117,4 +146,7 @@ public class Cart extends BaseEntity {
                 .findFirst()
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.CART_ITEM_NOT_FOUND));
     }
+
+    private record ItemKey(Long productId, Long productOptionId) {
+    }
 }
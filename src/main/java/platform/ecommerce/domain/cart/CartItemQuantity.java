@@ -0,0 +1,11 @@
+package platform.ecommerce.domain.cart;
+
+/**
+ * Quantity of one product/option to merge into a cart.
+ */
+public record CartItemQuantity(
+        Long productId,
+        Long productOptionId,
+        int quantity
+) {
+}
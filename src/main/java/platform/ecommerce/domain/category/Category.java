@@ -2,6 +2,7 @@ package platform.ecommerce.domain.category;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
 import platform.ecommerce.domain.common.BaseEntity;
 import platform.ecommerce.domain.common.SoftDeletable;
@@ -13,13 +14,18 @@ import java.time.LocalDateTime;
 /**
  * Category aggregate root.
  * Represents a hierarchical product category.
+ * {@code childCount} is denormalized and only changed by atomic repository updates.
+ * {@code path} lists the IDs from the root down to this category ({@code /1/4/9/}),
+ * so a subtree is every path with this category's path as prefix.
  */
 @Entity
 @Table(name = "category", indexes = {
         @Index(name = "idx_category_parent", columnList = "parent_id"),
-        @Index(name = "idx_category_slug", columnList = "slug")
+        @Index(name = "idx_category_slug", columnList = "slug"),
+        @Index(name = "idx_category_path", columnList = "path")
 })
 @SQLRestriction("deleted_at IS NULL")
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category extends BaseEntity implements SoftDeletable {
@@ -47,6 +53,13 @@ public class Category extends BaseEntity implements SoftDeletable {
     @Column(nullable = false)
     private boolean active;
 
+    @Column(name = "child_count", nullable = false)
+    private int childCount;
+
+    // Assigned once the ID is known
+    @Column(length = 255)
+    private String path;
+
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
@@ -93,6 +106,17 @@ public class Category extends BaseEntity implements SoftDeletable {
         this.depth = newDepth;
     }
 
+    /**
+     * Set the materialized path below the given parent path (null for a root).
+     */
+    public void assignPath(String parentPath) {
+        this.path = pathOf(parentPath, getId());
+    }
+
+    public static String pathOf(String parentPath, Long id) {
+        return (parentPath != null ? parentPath : "/") + id + "/";
+    }
+
     /**
      * Activate category.
      */
@@ -2,6 +2,7 @@ package platform.ecommerce.domain.coupon;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
 import platform.ecommerce.domain.common.BaseEntity;
 import platform.ecommerce.domain.common.SoftDeletable;
@@ -15,12 +16,15 @@ import java.time.LocalDateTime;
 /**
  * Coupon aggregate root.
  * Represents a discount coupon with usage rules.
+ * Used quantity is changed by conditional UPDATE statements, so updates write only changed columns
+ * and an admin edit never overwrites a concurrent redemption count.
  */
 @Entity
 @Table(name = "coupon", indexes = {
         @Index(name = "idx_coupon_code", columnList = "code")
 })
 @SQLRestriction("deleted_at IS NULL")
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Coupon extends BaseEntity implements SoftDeletable {
@@ -62,6 +66,12 @@ public class Coupon extends BaseEntity implements SoftDeletable {
     @Column(nullable = false)
     private boolean active;
 
+    /**
+     * Number of usage stripes for hot campaigns, or 0 when usage is counted on this row.
+     */
+    @Column(name = "usage_stripes", nullable = false)
+    private int usageStripes;
+
     @Builder
     public Coupon(String code, String name, CouponType type, BigDecimal discountValue,
                   BigDecimal minimumOrder, BigDecimal maximumDiscount,
@@ -176,6 +186,23 @@ public class Coupon extends BaseEntity implements SoftDeletable {
         this.active = false;
     }
 
+    /**
+     * Count further usage in stripes; used quantity on this row then trails by the last flush.
+     */
+    public void enableStripedUsage(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        if (isStripedUsage()) {
+            throw new InvalidStateException(ErrorCode.CONFLICT, "Coupon usage is already striped");
+        }
+        this.usageStripes = stripes;
+    }
+
+    public boolean isStripedUsage() {
+        return usageStripes > 0;
+    }
+
     /**
      * Update coupon name.
      */
@@ -0,0 +1,111 @@
+package platform.ecommerce.domain.coupon;
+
+import jakarta.persistence.*;
+import lombok.*;
+import platform.ecommerce.domain.common.BaseEntity;
+import platform.ecommerce.domain.member.MemberRole;
+import platform.ecommerce.domain.member.MemberStatus;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+
+/**
+ * Issuance of one coupon to every member matching a segment.
+ * Members are walked in ID order; {@code lastMemberId} is the checkpoint committed with each chunk,
+ * so a failed or interrupted job resumes after the last chunk that was written.
+ */
+@Entity
+@Table(name = "coupon_bulk_issue_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponBulkIssueJob extends BaseEntity {
+
+    private static final int MAX_FAILURE_REASON_LENGTH = 500;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "email_contains", length = 100)
+    private String emailContains;
+
+    @Column(name = "name_contains", length = 100)
+    private String nameContains;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "member_status", length = 20)
+    private MemberStatus memberStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "member_role", length = 20)
+    private MemberRole memberRole;
+
+    @Column(name = "exclude_withdrawn", nullable = false)
+    private boolean excludeWithdrawn;
+
+    @Column(name = "notify_members", nullable = false)
+    private boolean notifyMembers;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponBulkIssueStatus status;
+
+    @Column(name = "last_member_id")
+    private Long lastMemberId;
+
+    @Column(name = "scanned_count", nullable = false)
+    private long scannedCount;
+
+    @Column(name = "issued_count", nullable = false)
+    private long issuedCount;
+
+    @Column(name = "failure_reason", length = MAX_FAILURE_REASON_LENGTH)
+    private String failureReason;
+
+    @Builder
+    public CouponBulkIssueJob(Long couponId, String emailContains, String nameContains,
+                              MemberStatus memberStatus, MemberRole memberRole,
+                              boolean excludeWithdrawn, boolean notifyMembers) {
+        this.couponId = couponId;
+        this.emailContains = emailContains;
+        this.nameContains = nameContains;
+        this.memberStatus = memberStatus;
+        this.memberRole = memberRole;
+        this.excludeWithdrawn = excludeWithdrawn;
+        this.notifyMembers = notifyMembers;
+        this.status = CouponBulkIssueStatus.RUNNING;
+    }
+
+    /**
+     * Record a written chunk and move the checkpoint past it.
+     */
+    public void recordChunk(Long lastMemberId, int scanned, int issued) {
+        this.lastMemberId = lastMemberId;
+        this.scannedCount += scanned;
+        this.issuedCount += issued;
+    }
+
+    public void complete() {
+        this.status = CouponBulkIssueStatus.COMPLETED;
+    }
+
+    public void fail(String reason) {
+        this.status = CouponBulkIssueStatus.FAILED;
+        this.failureReason = reason != null && reason.length() > MAX_FAILURE_REASON_LENGTH
+                ? reason.substring(0, MAX_FAILURE_REASON_LENGTH)
+                : reason;
+    }
+
+    /**
+     * Continue from the checkpoint. Completed jobs cannot be resumed.
+     */
+    public void resume() {
+        if (this.status == CouponBulkIssueStatus.COMPLETED) {
+            throw new InvalidStateException(ErrorCode.CONFLICT, "Bulk issue job already completed");
+        }
+        this.status = CouponBulkIssueStatus.RUNNING;
+        this.failureReason = null;
+    }
+
+    public boolean isRunning() {
+        return this.status == CouponBulkIssueStatus.RUNNING;
+    }
+}
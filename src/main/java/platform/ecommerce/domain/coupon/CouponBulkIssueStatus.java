@@ -0,0 +1,20 @@
+package platform.ecommerce.domain.coupon;
+
+/**
+ * Progress of a segment-wide coupon issuance job.
+ */
+public enum CouponBulkIssueStatus {
+    RUNNING("Issuing chunk by chunk"),
+    COMPLETED("Every member in the segment has been processed"),
+    FAILED("Stopped on an error; can be resumed from the last chunk");
+
+    private final String description;
+
+    CouponBulkIssueStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,52 @@
+package platform.ecommerce.domain.coupon;
+
+import jakarta.persistence.*;
+import lombok.*;
+import platform.ecommerce.domain.common.BaseEntity;
+
+/**
+ * One slice of a hot coupon's remaining quantity.
+ * Redemptions increment a random stripe with a conditional UPDATE instead of all contending
+ * for the coupon row; {@code flushed} is the part of {@code used} already added to the coupon.
+ */
+@Entity
+@Table(name = "coupon_usage_stripe", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_coupon_usage_stripe", columnNames = {"coupon_id", "stripe"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponUsageStripe extends BaseEntity {
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(nullable = false)
+    private int stripe;
+
+    @Column(nullable = false)
+    private int allowance;
+
+    @Column(nullable = false)
+    private int used;
+
+    @Column(nullable = false)
+    private int flushed;
+
+    @Builder
+    public CouponUsageStripe(Long couponId, int stripe, int allowance) {
+        this.couponId = couponId;
+        this.stripe = stripe;
+        this.allowance = allowance;
+    }
+
+    /**
+     * Usage not yet added to the coupon; negative when more was restored than used since the last flush.
+     */
+    public int getUnflushed() {
+        return used - flushed;
+    }
+
+    public void markFlushed() {
+        this.flushed = used;
+    }
+}
@@ -2,6 +2,7 @@ package platform.ecommerce.domain.coupon;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import platform.ecommerce.domain.common.BaseEntity;
 import platform.ecommerce.exception.ErrorCode;
 import platform.ecommerce.exception.InvalidStateException;
@@ -14,8 +15,12 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "member_coupon", indexes = {
-        @Index(name = "idx_member_coupon_member", columnList = "member_id")
+        @Index(name = "idx_member_coupon_member_used", columnList = "member_id, used, coupon_id"),
+        @Index(name = "idx_member_coupon_order", columnList = "order_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uq_member_coupon", columnNames = {"member_id", "coupon_id"})
 })
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MemberCoupon extends BaseEntity {
@@ -0,0 +1,21 @@
+package platform.ecommerce.domain.payment;
+
+/**
+ * Kind of difference found between a settlement line and our payment record.
+ */
+public enum MismatchType {
+    MISSING_PAYMENT("Settled at PG but no matching payment"),
+    AMOUNT_MISMATCH("Settled amount differs from payment amount"),
+    STATUS_MISMATCH("Settled status differs from payment status"),
+    MALFORMED_LINE("Settlement line could not be parsed");
+
+    private final String description;
+
+    MismatchType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
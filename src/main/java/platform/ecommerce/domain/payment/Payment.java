@@ -4,8 +4,6 @@ import jakarta.persistence.*;
 import lombok.*;
 import platform.ecommerce.domain.common.BaseEntity;
 import platform.ecommerce.domain.order.PaymentMethod;
-import platform.ecommerce.exception.ErrorCode;
-import platform.ecommerce.exception.InvalidStateException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -13,6 +11,8 @@ import java.util.UUID;
 
 /**
  * Payment entity for tracking payment history.
+ * Status transitions are conditional updates in {@code PaymentRepository}, so concurrent
+ * requests for the same payment cannot both pass a check and both call the gateway.
  */
 @Entity
 @Table(name = "payment")
@@ -58,40 +58,6 @@ public class Payment extends BaseEntity {
         this.status = PaymentStatus.PENDING;
     }
 
-    /**
-     * Complete payment with PG transaction ID.
-     */
-    public void complete(String pgTransactionId) {
-        if (!this.status.canConfirm()) {
-            throw new InvalidStateException(ErrorCode.PAYMENT_ALREADY_PROCESSED);
-        }
-        this.status = PaymentStatus.COMPLETED;
-        this.pgTransactionId = pgTransactionId;
-        this.paidAt = LocalDateTime.now();
-    }
-
-    /**
-     * Mark payment as failed.
-     */
-    public void fail(String reason) {
-        if (!this.status.canConfirm()) {
-            throw new InvalidStateException(ErrorCode.PAYMENT_ALREADY_PROCESSED);
-        }
-        this.status = PaymentStatus.FAILED;
-        this.failReason = reason;
-    }
-
-    /**
-     * Cancel payment (refund).
-     */
-    public void cancel() {
-        if (!this.status.canCancel()) {
-            throw new InvalidStateException(ErrorCode.PAYMENT_CANNOT_CANCEL);
-        }
-        this.status = PaymentStatus.CANCELLED;
-        this.cancelledAt = LocalDateTime.now();
-    }
-
     private String generateTransactionId() {
         return "PAY-" + UUID.randomUUID().toString().substring(0, 12).toUpperCase();
     }
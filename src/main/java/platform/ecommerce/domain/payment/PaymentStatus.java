@@ -5,7 +5,9 @@ package platform.ecommerce.domain.payment;
  */
 public enum PaymentStatus {
     PENDING("Pending"),
+    PROCESSING("Processing at gateway"),
     COMPLETED("Completed"),
+    CANCELLING("Refund in flight at gateway"),
     FAILED("Failed"),
     CANCELLED("Cancelled");
 
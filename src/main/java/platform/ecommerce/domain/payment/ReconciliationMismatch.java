@@ -0,0 +1,69 @@
+package platform.ecommerce.domain.payment;
+
+import jakarta.persistence.*;
+import lombok.*;
+import platform.ecommerce.domain.common.BaseEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One difference found by settlement reconciliation.
+ * Rows for a settlement date are replaced when that date is reconciled again.
+ */
+@Entity
+@Table(name = "payment_reconciliation_mismatch")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReconciliationMismatch extends BaseEntity {
+
+    @Column(name = "settlement_date", nullable = false)
+    private LocalDate settlementDate;
+
+    @Column(name = "line_number", nullable = false)
+    private long lineNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mismatch_type", nullable = false, length = 30)
+    private MismatchType mismatchType;
+
+    @Column(name = "pg_transaction_id", length = 100)
+    private String pgTransactionId;
+
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "settled_amount", precision = 12, scale = 2)
+    private BigDecimal settledAmount;
+
+    @Column(name = "payment_amount", precision = 12, scale = 2)
+    private BigDecimal paymentAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "settled_status", length = 20)
+    private SettlementStatus settledStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", length = 20)
+    private PaymentStatus paymentStatus;
+
+    @Column(length = 500)
+    private String detail;
+
+    @Builder
+    public ReconciliationMismatch(LocalDate settlementDate, long lineNumber, MismatchType mismatchType,
+                                  String pgTransactionId, Long paymentId,
+                                  BigDecimal settledAmount, BigDecimal paymentAmount,
+                                  SettlementStatus settledStatus, PaymentStatus paymentStatus, String detail) {
+        this.settlementDate = settlementDate;
+        this.lineNumber = lineNumber;
+        this.mismatchType = mismatchType;
+        this.pgTransactionId = pgTransactionId;
+        this.paymentId = paymentId;
+        this.settledAmount = settledAmount;
+        this.paymentAmount = paymentAmount;
+        this.settledStatus = settledStatus;
+        this.paymentStatus = paymentStatus;
+        this.detail = detail;
+    }
+}
@@ -0,0 +1,22 @@
+package platform.ecommerce.domain.payment;
+
+/**
+ * Transaction status as reported in PG settlement files.
+ */
+public enum SettlementStatus {
+    APPROVED(PaymentStatus.COMPLETED),
+    CANCELLED(PaymentStatus.CANCELLED);
+
+    private final PaymentStatus expectedPaymentStatus;
+
+    SettlementStatus(PaymentStatus expectedPaymentStatus) {
+        this.expectedPaymentStatus = expectedPaymentStatus;
+    }
+
+    /**
+     * Payment status our record must have for this settlement line to match.
+     */
+    public PaymentStatus getExpectedPaymentStatus() {
+        return expectedPaymentStatus;
+    }
+}
@@ -17,9 +17,13 @@ import java.util.List;
 /**
  * Product aggregate root.
  * Manages product options, images, and lifecycle.
+ * {@code categoryPath} copies the category's materialized path, so browsing a category
+ * matches its whole subtree with one prefix predicate.
  */
 @Entity
-@Table(name = "product")
+@Table(name = "product", indexes = {
+        @Index(name = "idx_product_category_path", columnList = "category_path")
+})
 @SQLRestriction("deleted_at IS NULL")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -43,6 +47,9 @@ public class Product extends BaseEntity implements SoftDeletable {
     @Column(name = "category_id")
     private Long categoryId;
 
+    @Column(name = "category_path", length = 255)
+    private String categoryPath;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private ProductStatus status;
@@ -124,6 +131,13 @@ public class Product extends BaseEntity implements SoftDeletable {
         this.categoryId = categoryId;
     }
 
+    /**
+     * Record the path of the product's category; null when it has none.
+     */
+    public void assignCategoryPath(String categoryPath) {
+        this.categoryPath = categoryPath;
+    }
+
     // ========== Option Management ==========
 
     /**
@@ -0,0 +1,35 @@
+package platform.ecommerce.dto.request.coupon;
+
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import platform.ecommerce.domain.member.MemberRole;
+import platform.ecommerce.domain.member.MemberStatus;
+
+/**
+ * Request DTO for issuing a coupon to a member segment.
+ * The segment uses the same filters as member search; omitted filters match everyone.
+ */
+@Builder
+public record CouponBulkIssueRequest(
+
+        @Size(max = 100)
+        String emailContains,
+
+        @Size(max = 100)
+        String nameContains,
+
+        MemberStatus status,
+
+        MemberRole role,
+
+        Boolean excludeWithdrawn,
+
+        boolean notifyMembers
+) {
+    public CouponBulkIssueRequest {
+        // Default to true if not specified
+        if (excludeWithdrawn == null) {
+            excludeWithdrawn = true;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package platform.ecommerce.dto.request.order;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Bulk start-preparing request DTO.
+ */
+@Builder
+public record BulkPrepareRequest(
+
+        @NotEmpty(message = "At least one order ID is required")
+        @Size(max = 5000, message = "At most 5000 orders per request")
+        List<@NotNull Long> orderIds
+) {
+}
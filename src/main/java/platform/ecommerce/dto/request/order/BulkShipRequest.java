@@ -0,0 +1,34 @@
+package platform.ecommerce.dto.request.order;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Bulk shipping request DTO.
+ */
+@Builder
+public record BulkShipRequest(
+
+        @NotEmpty(message = "At least one shipment is required")
+        @Size(max = 5000, message = "At most 5000 shipments per request")
+        @Valid
+        List<Shipment> shipments
+) {
+
+    @Builder
+    public record Shipment(
+
+            @NotNull(message = "Order ID is required")
+            Long orderId,
+
+            @NotBlank(message = "Tracking number is required")
+            String trackingNumber
+    ) {
+    }
+}
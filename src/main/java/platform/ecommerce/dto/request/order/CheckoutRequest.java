@@ -0,0 +1,23 @@
+package platform.ecommerce.dto.request.order;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import platform.ecommerce.domain.order.PaymentMethod;
+
+/**
+ * Checkout request DTO. Items and prices come from the member's cart, not the client.
+ */
+@Builder
+public record CheckoutRequest(
+
+        @NotNull(message = "Shipping address is required")
+        @Valid
+        ShippingAddressRequest shippingAddress,
+
+        Long memberCouponId,
+
+        @NotNull(message = "Payment method is required")
+        PaymentMethod paymentMethod
+) {
+}
@@ -0,0 +1,54 @@
+package platform.ecommerce.dto.request.order;
+
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset pagination cursor for orders sorted by (createdAt DESC, id DESC).
+ * Encoded as an opaque URL-safe token for clients.
+ */
+public record OrderCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public OrderCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requires both createdAt and id");
+        }
+    }
+
+    /**
+     * Encode this cursor as an opaque token.
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}. Returns null for a blank token (first page).
+     */
+    public static OrderCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(DELIMITER);
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new InvalidStateException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+        }
+    }
+}
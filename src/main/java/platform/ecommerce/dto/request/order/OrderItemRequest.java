@@ -7,7 +7,8 @@ import java.math.BigDecimal;
 
 /**
  * Order item request DTO.
- * Contains product snapshot data at order time.
+ * Names and unit price are what the client displayed; the order stores the catalog values
+ * and is rejected if the unit price no longer matches.
  */
 @Builder
 public record OrderItemRequest(
@@ -0,0 +1,22 @@
+package platform.ecommerce.dto.request.order;
+
+/**
+ * How an order number search term is matched.
+ */
+public enum OrderNumberMatch {
+
+    /**
+     * Whole order number, served by the unique index.
+     */
+    EXACT,
+
+    /**
+     * Leading characters of the order number, served by a pattern-ops btree index.
+     */
+    PREFIX,
+
+    /**
+     * Any substring of the order number, served by a trigram index. Use only when explicitly requested.
+     */
+    FUZZY
+}
@@ -3,14 +3,18 @@ package platform.ecommerce.dto.request.order;
 import platform.ecommerce.domain.order.OrderStatus;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * Search condition for filtering orders.
+ * Order numbers are stored upper-case, so the search term is normalized the same way
+ * to keep exact and prefix matching on a plain index.
  */
 public record OrderSearchCondition(
         Long memberId,
         OrderStatus status,
         String orderNumber,
+        OrderNumberMatch orderNumberMatch,
         LocalDateTime startDate,
         LocalDateTime endDate
 ) {
@@ -19,6 +23,19 @@ public record OrderSearchCondition(
         if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date must be before end date");
         }
+        orderNumber = normalizeOrderNumber(orderNumber);
+        if (orderNumberMatch == null) {
+            orderNumberMatch = OrderNumberMatch.PREFIX;
+        }
+    }
+
+    public OrderSearchCondition(Long memberId, OrderStatus status, String orderNumber,
+                                LocalDateTime startDate, LocalDateTime endDate) {
+        this(memberId, status, orderNumber, OrderNumberMatch.PREFIX, startDate, endDate);
+    }
+
+    public static OrderSearchCondition empty() {
+        return new OrderSearchCondition(null, null, null, null, null);
     }
 
     public static OrderSearchCondition ofMember(Long memberId) {
@@ -28,4 +45,11 @@ public record OrderSearchCondition(
     public static OrderSearchCondition ofMemberAndStatus(Long memberId, OrderStatus status) {
         return new OrderSearchCondition(memberId, status, null, null, null);
     }
+
+    private static String normalizeOrderNumber(String orderNumber) {
+        if (orderNumber == null || orderNumber.isBlank()) {
+            return null;
+        }
+        return orderNumber.trim().toUpperCase(Locale.ROOT);
+    }
 }
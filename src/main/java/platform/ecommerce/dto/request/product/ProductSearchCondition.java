@@ -13,6 +13,7 @@ public record ProductSearchCondition(
         String name,
         String keyword,
         Long categoryId,
+        String categoryPath,
         Long sellerId,
         ProductStatus status,
         BigDecimal minPrice,
@@ -29,6 +30,14 @@ public record ProductSearchCondition(
         }
     }
 
+    /**
+     * Copy of this condition matching the subtree under the given category path.
+     */
+    public ProductSearchCondition withCategoryPath(String categoryPath) {
+        return new ProductSearchCondition(name, keyword, categoryId, categoryPath, sellerId, status,
+                minPrice, maxPrice, excludeDeleted, sortType);
+    }
+
     public static ProductSearchCondition empty() {
         return ProductSearchCondition.builder().build();
     }
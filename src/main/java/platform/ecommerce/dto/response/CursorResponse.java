@@ -0,0 +1,45 @@
+package platform.ecommerce.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) paginated response wrapper.
+ * No total count is computed, so each page costs no extra count query.
+ */
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    @Builder
+    private CursorResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Build a response from a list fetched with {@code size + 1} rows.
+     * The extra row only signals that a next page exists and is dropped.
+     */
+    public static <T, R> CursorResponse<R> of(List<T> rows, int size,
+                                               Function<T, R> converter, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorResponse.<R>builder()
+                .content(page.stream().map(converter).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+}
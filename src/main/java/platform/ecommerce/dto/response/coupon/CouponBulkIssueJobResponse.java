@@ -0,0 +1,27 @@
+package platform.ecommerce.dto.response.coupon;
+
+import lombok.Builder;
+import platform.ecommerce.domain.coupon.CouponBulkIssueStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a segment-wide coupon issuance job.
+ *
+ * @param lastMemberId checkpoint: members up to this ID have been processed
+ * @param scannedCount members in the segment processed so far
+ * @param issuedCount coupons written so far; members already holding the coupon are skipped
+ */
+@Builder
+public record CouponBulkIssueJobResponse(
+        Long id,
+        Long couponId,
+        CouponBulkIssueStatus status,
+        Long lastMemberId,
+        long scannedCount,
+        long issuedCount,
+        String failureReason,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
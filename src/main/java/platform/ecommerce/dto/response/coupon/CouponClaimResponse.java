@@ -0,0 +1,11 @@
+package platform.ecommerce.dto.response.coupon;
+
+/**
+ * Response DTO for an accepted first-come-first-served claim.
+ * The member coupon row is written shortly after, so it has no ID yet.
+ */
+public record CouponClaimResponse(
+        Long couponId,
+        Long memberId
+) {
+}
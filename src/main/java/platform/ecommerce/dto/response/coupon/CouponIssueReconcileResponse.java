@@ -0,0 +1,19 @@
+package platform.ecommerce.dto.response.coupon;
+
+import lombok.Builder;
+
+/**
+ * Response DTO for reconciling a drop's gate state with member_coupon rows.
+ *
+ * @param inserted members admitted by the gate but missing from the database, now written
+ * @param restored members holding the coupon in the database but unknown to the gate, now added to it
+ */
+@Builder
+public record CouponIssueReconcileResponse(
+        Long couponId,
+        int admitted,
+        int persisted,
+        int inserted,
+        int restored
+) {
+}
@@ -0,0 +1,23 @@
+package platform.ecommerce.dto.response.coupon;
+
+import lombok.Builder;
+import platform.ecommerce.domain.coupon.CouponType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One recommended member coupon with its discount for the requested order amount.
+ */
+@Builder
+public record CouponRecommendationResponse(
+        Long memberCouponId,
+        Long couponId,
+        String code,
+        String name,
+        CouponType type,
+        BigDecimal discountAmount,
+        BigDecimal finalAmount,
+        LocalDateTime expiresAt
+) {
+}
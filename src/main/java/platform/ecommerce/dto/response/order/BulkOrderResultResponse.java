@@ -0,0 +1,27 @@
+package platform.ecommerce.dto.response.order;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Bulk order status transition result DTO.
+ * Failed orders are left unchanged and reported individually.
+ */
+@Builder
+public record BulkOrderResultResponse(
+        int requested,
+        int succeeded,
+        int failed,
+        List<Long> succeededOrderIds,
+        List<Failure> failures
+) {
+
+    @Builder
+    public record Failure(
+            Long orderId,
+            int code,
+            String message
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package platform.ecommerce.dto.response.order;
+
+import platform.ecommerce.dto.response.payment.PaymentResponse;
+
+/**
+ * Checkout response DTO: the placed order and its pending payment.
+ */
+public record CheckoutResponse(
+        OrderResponse order,
+        PaymentResponse payment
+) {
+}
@@ -0,0 +1,28 @@
+package platform.ecommerce.dto.response.order;
+
+import platform.ecommerce.domain.order.OrderStatus;
+import platform.ecommerce.domain.order.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat order row for finance exports.
+ * Selected as a JPQL projection so streaming never builds managed entities.
+ */
+public record OrderExportRow(
+        Long id,
+        String orderNumber,
+        Long memberId,
+        OrderStatus status,
+        PaymentMethod paymentMethod,
+        BigDecimal shippingFee,
+        BigDecimal discountAmount,
+        BigDecimal totalAmount,
+        LocalDateTime createdAt,
+        LocalDateTime paidAt,
+        LocalDateTime shippedAt,
+        LocalDateTime deliveredAt,
+        LocalDateTime cancelledAt
+) {
+}
@@ -63,6 +63,7 @@ public enum ErrorCode {
     ORDER_NOT_PAID(5004, HttpStatus.BAD_REQUEST, "Order is not paid yet"),
     ORDER_ITEM_NOT_FOUND(5005, HttpStatus.NOT_FOUND, "Order item not found"),
     ORDER_STATUS_INVALID(5006, HttpStatus.BAD_REQUEST, "Invalid order status transition"),
+    ORDER_PRICE_CHANGED(5007, HttpStatus.CONFLICT, "Product price has changed"),
 
     // Payment (6xxx)
     PAYMENT_FAILED(6001, HttpStatus.BAD_REQUEST, "Payment failed"),
@@ -78,6 +79,7 @@ public enum ErrorCode {
     CART_ITEM_NOT_FOUND(7002, HttpStatus.NOT_FOUND, "Cart item not found"),
     CART_EMPTY(7003, HttpStatus.BAD_REQUEST, "Cart is empty"),
     CART_ITEM_ALREADY_EXISTS(7004, HttpStatus.CONFLICT, "Item already in cart"),
+    CART_ITEM_LIMIT_EXCEEDED(7005, HttpStatus.BAD_REQUEST, "Cart has too many items"),
 
     // Coupon (8xxx)
     COUPON_NOT_FOUND(8001, HttpStatus.NOT_FOUND, "Coupon not found"),
@@ -85,6 +87,8 @@ public enum ErrorCode {
     COUPON_ALREADY_USED(8003, HttpStatus.BAD_REQUEST, "Coupon already used"),
     COUPON_NOT_APPLICABLE(8004, HttpStatus.BAD_REQUEST, "Coupon not applicable"),
     COUPON_LIMIT_EXCEEDED(8005, HttpStatus.BAD_REQUEST, "Coupon issuance limit exceeded"),
+    COUPON_DROP_NOT_OPEN(8006, HttpStatus.BAD_REQUEST, "Coupon drop is not open"),
+    COUPON_BULK_ISSUE_NOT_FOUND(8007, HttpStatus.NOT_FOUND, "Coupon bulk issue job not found"),
 
     // Review (85xx)
     REVIEW_NOT_FOUND(8501, HttpStatus.NOT_FOUND, "Review not found"),
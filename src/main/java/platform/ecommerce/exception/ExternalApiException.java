@@ -0,0 +1,33 @@
+package platform.ecommerce.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when an external API call fails or is rejected.
+ * {@code outcomeUnknown} is true when the request may have reached the remote side
+ * (timeout, I/O error), so its effect must be reconciled rather than retried blindly.
+ */
+@Getter
+public class ExternalApiException extends BusinessException {
+
+    private final boolean outcomeUnknown;
+
+    private ExternalApiException(ErrorCode errorCode, String message, boolean outcomeUnknown, Throwable cause) {
+        super(errorCode, message, cause);
+        this.outcomeUnknown = outcomeUnknown;
+    }
+
+    /**
+     * The call was not sent (circuit open or too many concurrent calls).
+     */
+    public static ExternalApiException unavailable(String message, Throwable cause) {
+        return new ExternalApiException(ErrorCode.SERVICE_UNAVAILABLE, message, false, cause);
+    }
+
+    /**
+     * The call was sent but failed or timed out.
+     */
+    public static ExternalApiException failed(String message, Throwable cause) {
+        return new ExternalApiException(ErrorCode.EXTERNAL_API_ERROR, message, true, cause);
+    }
+}
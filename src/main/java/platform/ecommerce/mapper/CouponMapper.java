@@ -3,7 +3,9 @@ package platform.ecommerce.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponBulkIssueJob;
 import platform.ecommerce.domain.coupon.MemberCoupon;
+import platform.ecommerce.dto.response.coupon.CouponBulkIssueJobResponse;
 import platform.ecommerce.dto.response.coupon.CouponResponse;
 import platform.ecommerce.dto.response.coupon.MemberCouponResponse;
 
@@ -28,4 +30,6 @@ public interface CouponMapper {
     MemberCouponResponse toMemberCouponResponse(MemberCoupon memberCoupon);
 
     List<MemberCouponResponse> toMemberCouponResponseList(List<MemberCoupon> memberCoupons);
+
+    CouponBulkIssueJobResponse toBulkIssueJobResponse(CouponBulkIssueJob job);
 }
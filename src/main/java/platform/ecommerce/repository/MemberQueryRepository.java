@@ -5,6 +5,8 @@ import org.springframework.data.domain.Pageable;
 import platform.ecommerce.domain.member.Member;
 import platform.ecommerce.dto.request.MemberSearchCondition;
 
+import java.util.List;
+
 /**
  * Member custom query repository interface.
  */
@@ -14,4 +16,10 @@ public interface MemberQueryRepository {
      * Search members with dynamic conditions.
      */
     Page<Member> searchMembers(MemberSearchCondition condition, Pageable pageable);
+
+    /**
+     * IDs of members matching the condition, in ascending order after the given ID (keyset pagination).
+     * @param afterId exclusive lower bound, or null to start from the first member
+     */
+    List<Long> findMemberIdsAfter(MemberSearchCondition condition, Long afterId, int limit);
 }
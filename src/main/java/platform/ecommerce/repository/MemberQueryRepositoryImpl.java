@@ -56,6 +56,28 @@ public class MemberQueryRepositoryImpl implements MemberQueryRepository {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public List<Long> findMemberIdsAfter(MemberSearchCondition condition, Long afterId, int limit) {
+        return queryFactory
+                .select(member.id)
+                .from(member)
+                .where(
+                        idGreaterThan(afterId),
+                        emailContains(condition.email()),
+                        nameContains(condition.name()),
+                        statusEquals(condition.status()),
+                        roleEquals(condition.role()),
+                        excludeWithdrawn(condition.excludeWithdrawn())
+                )
+                .orderBy(member.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression idGreaterThan(Long afterId) {
+        return afterId != null ? member.id.gt(afterId) : null;
+    }
+
     private BooleanExpression emailContains(String email) {
         return email != null && !email.isBlank() ? member.email.containsIgnoreCase(email) : null;
     }
@@ -1,8 +1,17 @@
 package platform.ecommerce.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import platform.ecommerce.domain.payment.Payment;
+import platform.ecommerce.domain.payment.PaymentStatus;
+import platform.ecommerce.service.payment.PaymentSettlementView;
+import platform.ecommerce.service.payment.PaymentWithOwner;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +34,100 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      * Find latest payment for an order.
      */
     Optional<Payment> findFirstByOrderIdOrderByCreatedAtDesc(Long orderId);
+
+    /**
+     * Find payment with its order's member ID in one query, for ownership checks.
+     */
+    @Query("SELECT new platform.ecommerce.service.payment.PaymentWithOwner(p, o.memberId) " +
+           "FROM Payment p JOIN Order o ON o.id = p.orderId WHERE p.id = :paymentId")
+    Optional<PaymentWithOwner> findWithOwnerById(@Param("paymentId") Long paymentId);
+
+    /**
+     * Find all payments for an order, newest first, with the order's member ID.
+     * Returns one row with a null payment when the order has no payments,
+     * and no rows when the order does not exist.
+     */
+    @Query("SELECT new platform.ecommerce.service.payment.PaymentWithOwner(p, o.memberId) " +
+           "FROM Order o LEFT JOIN Payment p ON p.orderId = o.id " +
+           "WHERE o.id = :orderId ORDER BY p.createdAt DESC")
+    List<PaymentWithOwner> findAllWithOwnerByOrderId(@Param("orderId") Long orderId);
+
+    /**
+     * Load the fields reconciliation compares for a chunk of PG transaction IDs.
+     * Projection only, so nothing enters the persistence context.
+     */
+    @Query("SELECT new platform.ecommerce.service.payment.PaymentSettlementView(" +
+           "p.id, p.pgTransactionId, p.amount, p.status) " +
+           "FROM Payment p WHERE p.pgTransactionId IN :pgTransactionIds")
+    List<PaymentSettlementView> findSettlementViewsByPgTransactionIdIn(
+            @Param("pgTransactionIds") Collection<String> pgTransactionIds);
+
+    // ========== Conditional Status Transitions ==========
+
+    /**
+     * Move a payment to {@code to} only if it is still in {@code from}.
+     * @return 1 if moved, 0 if another request changed the status first
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = :to, p.updatedAt = :now WHERE p.id = :id AND p.status = :from")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("from") PaymentStatus from,
+                         @Param("to") PaymentStatus to,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * Record a successful gateway confirmation for a PROCESSING payment.
+     * @return 1 if completed, 0 if the payment was not PROCESSING
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = platform.ecommerce.domain.payment.PaymentStatus.COMPLETED, " +
+           "p.pgTransactionId = :pgTransactionId, p.paidAt = :now, p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.status = platform.ecommerce.domain.payment.PaymentStatus.PROCESSING")
+    int completeProcessing(@Param("id") Long id,
+                           @Param("pgTransactionId") String pgTransactionId,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Record a declined gateway confirmation for a PROCESSING payment.
+     * @return 1 if failed, 0 if the payment was not PROCESSING
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = platform.ecommerce.domain.payment.PaymentStatus.FAILED, " +
+           "p.failReason = :failReason, p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.status = platform.ecommerce.domain.payment.PaymentStatus.PROCESSING")
+    int failProcessing(@Param("id") Long id,
+                       @Param("failReason") String failReason,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Record a successful gateway refund for a CANCELLING payment.
+     * @return 1 if cancelled, 0 if the payment was not CANCELLING
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = platform.ecommerce.domain.payment.PaymentStatus.CANCELLED, " +
+           "p.cancelledAt = :now, p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.status = platform.ecommerce.domain.payment.PaymentStatus.CANCELLING")
+    int completeCancelling(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Payments left in an in-flight status since before the cutoff, oldest first.
+     * Backed by the partial indexes on updated_at for PROCESSING and CANCELLING.
+     */
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.updatedAt < :before ORDER BY p.updatedAt")
+    List<Payment> findStale(@Param("status") PaymentStatus status,
+                            @Param("before") LocalDateTime before,
+                            Limit limit);
+
+    /**
+     * Claim a stale in-flight payment for recovery by touching updated_at,
+     * so only one node re-sends it to the gateway and a failed attempt waits another window.
+     * @return 1 if claimed, 0 if it was resolved or claimed elsewhere
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.status = :status AND p.updatedAt < :before")
+    int claimStale(@Param("id") Long id,
+                   @Param("status") PaymentStatus status,
+                   @Param("before") LocalDateTime before,
+                   @Param("now") LocalDateTime now);
 }
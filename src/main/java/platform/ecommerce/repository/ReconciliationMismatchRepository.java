@@ -0,0 +1,22 @@
+package platform.ecommerce.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import platform.ecommerce.domain.payment.ReconciliationMismatch;
+
+import java.time.LocalDate;
+
+/**
+ * Reconciliation mismatch report repository.
+ */
+public interface ReconciliationMismatchRepository extends JpaRepository<ReconciliationMismatch, Long> {
+
+    /**
+     * Remove the previous report for a settlement date so a re-run replaces it.
+     */
+    @Modifying
+    @Query("DELETE FROM ReconciliationMismatch m WHERE m.settlementDate = :settlementDate")
+    int deleteBySettlementDate(@Param("settlementDate") LocalDate settlementDate);
+}
@@ -1,6 +1,7 @@
 package platform.ecommerce.repository.category;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import platform.ecommerce.domain.category.Category;
@@ -30,8 +31,24 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     @Query("SELECT COUNT(c) > 0 FROM Category c WHERE c.parentId = :parentId")
     boolean hasChildren(@Param("parentId") Long parentId);
 
-    @Query("SELECT COUNT(c) FROM Category c WHERE c.parentId = :parentId")
-    int countChildren(@Param("parentId") Long parentId);
+    /**
+     * Adjust the denormalized child count in place, so concurrent changes under one parent are not lost.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Category c SET c.childCount = c.childCount + :delta WHERE c.id = :id")
+    int adjustChildCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("SELECT c.path FROM Category c WHERE c.id = :id")
+    Optional<String> findPathById(@Param("id") Long id);
+
+    /**
+     * Re-root every category under {@code oldPath} at {@code newPath} and shift its depth, in one statement.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Category c SET c.path = CONCAT(:newPath, SUBSTRING(c.path, :oldPathLength + 1)), " +
+           "c.depth = c.depth + :depthDelta WHERE c.path LIKE CONCAT(:oldPath, '%')")
+    int moveSubtree(@Param("oldPath") String oldPath, @Param("oldPathLength") int oldPathLength,
+                    @Param("newPath") String newPath, @Param("depthDelta") int depthDelta);
 
     // ========== Admin Methods (bypass @SQLRestriction) ==========
 
@@ -0,0 +1,23 @@
+package platform.ecommerce.repository.coupon;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import platform.ecommerce.domain.coupon.CouponBulkIssueJob;
+
+import java.util.Optional;
+
+/**
+ * Repository for CouponBulkIssueJob entity.
+ */
+public interface CouponBulkIssueJobRepository extends JpaRepository<CouponBulkIssueJob, Long> {
+
+    /**
+     * Lock the job for one chunk, so two runners of the same job never write the same chunk.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM CouponBulkIssueJob j WHERE j.id = :id")
+    Optional<CouponBulkIssueJob> findByIdForUpdate(@Param("id") Long id);
+}
@@ -2,7 +2,10 @@ package platform.ecommerce.repository.coupon;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import platform.ecommerce.domain.coupon.Coupon;
@@ -23,6 +26,43 @@ public interface CouponRepository extends JpaRepository<Coupon, Long>, CouponRep
     @Query("SELECT c FROM Coupon c WHERE c.active = true AND c.validTo > CURRENT_TIMESTAMP")
     List<Coupon> findAllActive();
 
+    @Query("SELECT c.usedQuantity FROM Coupon c WHERE c.id = :id")
+    Optional<Integer> findUsedQuantityById(@Param("id") Long id);
+
+    @Query("SELECT c.usageStripes FROM Coupon c WHERE c.id = :id")
+    Optional<Integer> findUsageStripesById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Coupon c WHERE c.id = :id")
+    Optional<Coupon> findByIdForUpdate(@Param("id") Long id);
+
+    // ========== Usage Counting (conditional, never read-modify-write) ==========
+
+    /**
+     * Count one use if quantity remains and usage is counted on the coupon row.
+     * @return 1 if counted, 0 if exhausted or the coupon counts usage in stripes
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Coupon c SET c.usedQuantity = c.usedQuantity + 1 " +
+           "WHERE c.id = :id AND c.usedQuantity < c.totalQuantity AND c.usageStripes = 0")
+    int incrementUsedQuantity(@Param("id") Long id);
+
+    /**
+     * Give back one use counted on the coupon row.
+     * @return 1 if given back, 0 if nothing was used or the coupon counts usage in stripes
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Coupon c SET c.usedQuantity = c.usedQuantity - 1 " +
+           "WHERE c.id = :id AND c.usedQuantity > 0 AND c.usageStripes = 0")
+    int decrementUsedQuantity(@Param("id") Long id);
+
+    /**
+     * Add flushed stripe usage to the coupon row.
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.usedQuantity = c.usedQuantity + :delta WHERE c.id = :id")
+    int addUsedQuantity(@Param("id") Long id, @Param("delta") int delta);
+
     // ========== Admin Methods (bypass @SQLRestriction) ==========
 
     /**
@@ -0,0 +1,45 @@
+package platform.ecommerce.repository.coupon;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import platform.ecommerce.domain.coupon.CouponUsageStripe;
+
+import java.util.List;
+
+/**
+ * Repository for CouponUsageStripe entity.
+ */
+public interface CouponUsageStripeRepository extends JpaRepository<CouponUsageStripe, Long> {
+
+    /**
+     * Count one use on a stripe with allowance left.
+     * @return 1 if counted, 0 if the stripe is exhausted or missing
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CouponUsageStripe s SET s.used = s.used + 1 " +
+           "WHERE s.couponId = :couponId AND s.stripe = :stripe AND s.used < s.allowance")
+    int incrementUsed(@Param("couponId") Long couponId, @Param("stripe") int stripe);
+
+    /**
+     * Give back one use counted on a stripe.
+     * @return 1 if given back, 0 if the stripe has no usage or is missing
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CouponUsageStripe s SET s.used = s.used - 1 " +
+           "WHERE s.couponId = :couponId AND s.stripe = :stripe AND s.used > 0")
+    int decrementUsed(@Param("couponId") Long couponId, @Param("stripe") int stripe);
+
+    /**
+     * Lock all stripes of a coupon for a flush; redemptions on them wait until it commits.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CouponUsageStripe s WHERE s.couponId = :couponId ORDER BY s.stripe")
+    List<CouponUsageStripe> findByCouponIdForUpdate(@Param("couponId") Long couponId);
+
+    @Query("SELECT DISTINCT s.couponId FROM CouponUsageStripe s WHERE s.used <> s.flushed")
+    List<Long> findCouponIdsWithUnflushedUsage();
+}
@@ -0,0 +1,18 @@
+package platform.ecommerce.repository.coupon;
+
+import platform.ecommerce.service.coupon.CouponIssue;
+
+import java.util.List;
+
+/**
+ * Bulk write operations for member coupons, bypassing the persistence context.
+ */
+public interface MemberCouponBulkRepository {
+
+    /**
+     * Insert one unused member coupon per issue with multi-row inserts.
+     * Pairs that already exist are skipped ({@code ON CONFLICT DO NOTHING}).
+     * @return number of rows inserted
+     */
+    int insertIgnoringDuplicates(List<CouponIssue> issues);
+}
@@ -0,0 +1,47 @@
+package platform.ecommerce.repository.coupon;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import platform.ecommerce.service.coupon.CouponIssue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link MemberCouponBulkRepository}.
+ * Rows are written as multi-row INSERT statements; member coupon IDs are IDENTITY,
+ * so Hibernate could only insert them one statement per row.
+ */
+@RequiredArgsConstructor
+public class MemberCouponBulkRepositoryImpl implements MemberCouponBulkRepository {
+
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final String INSERT_PREFIX =
+            "INSERT INTO member_coupon (member_id, coupon_id, used, created_at, updated_at) VALUES ";
+    private static final String ROW = "(?, ?, FALSE, ?, ?)";
+    private static final String ON_CONFLICT = " ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertIgnoringDuplicates(List<CouponIssue> issues) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < issues.size(); from += ROWS_PER_STATEMENT) {
+            List<CouponIssue> chunk = issues.subList(from, Math.min(from + ROWS_PER_STATEMENT, issues.size()));
+            List<Object> args = new ArrayList<>(chunk.size() * 4);
+            for (CouponIssue issue : chunk) {
+                args.add(issue.memberId());
+                args.add(issue.couponId());
+                args.add(now);
+                args.add(now);
+            }
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW)) + ON_CONFLICT;
+            inserted += jdbcTemplate.update(sql, args.toArray());
+        }
+        return inserted;
+    }
+}
@@ -3,10 +3,14 @@ package platform.ecommerce.repository.coupon;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import platform.ecommerce.domain.coupon.MemberCoupon;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,13 +18,35 @@ import java.util.Optional;
  * Repository for MemberCoupon entity.
  * Note: Coupon's @SQLRestriction automatically filters deleted coupons in JOIN queries.
  */
-public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long> {
+public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long>, MemberCouponBulkRepository {
+
+    String APPLICABLE_TO_ORDER = "AND c.active = true AND c.validFrom < CURRENT_TIMESTAMP AND c.validTo > CURRENT_TIMESTAMP " +
+                        "AND c.usedQuantity < c.totalQuantity AND c.minimumOrder <= :orderAmount ";
 
     @Query("SELECT mc FROM MemberCoupon mc JOIN FETCH mc.coupon WHERE mc.memberId = :memberId AND mc.used = false")
     List<MemberCoupon> findAvailableByMemberId(@Param("memberId") Long memberId);
 
-    @Query("SELECT mc FROM MemberCoupon mc JOIN FETCH mc.coupon WHERE mc.memberId = :memberId AND mc.used = false AND mc.coupon.validTo > CURRENT_TIMESTAMP")
-    Page<MemberCoupon> findAvailableByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+    /**
+     * Unused coupons applicable to the order amount, soonest expiry first.
+     * Mirrors {@code Coupon.isApplicable}: active, inside the validity window, quantity left and
+     * minimum order met, so pages and totals count only applicable coupons.
+     */
+    @Query(value = "SELECT mc FROM MemberCoupon mc JOIN FETCH mc.coupon c " +
+                   "WHERE mc.memberId = :memberId AND mc.used = false " + APPLICABLE_TO_ORDER +
+                   "ORDER BY c.validTo ASC, mc.id ASC",
+           countQuery = "SELECT COUNT(mc) FROM MemberCoupon mc JOIN mc.coupon c " +
+                        "WHERE mc.memberId = :memberId AND mc.used = false " + APPLICABLE_TO_ORDER)
+    Page<MemberCoupon> findApplicableByMemberId(@Param("memberId") Long memberId,
+                                                @Param("orderAmount") BigDecimal orderAmount,
+                                                Pageable pageable);
+
+    /**
+     * Unused coupons of active, unexpired coupons with the coupon fetched, soonest expiry first.
+     */
+    @Query("SELECT mc FROM MemberCoupon mc JOIN FETCH mc.coupon c " +
+           "WHERE mc.memberId = :memberId AND mc.used = false AND c.active = true AND c.validTo > CURRENT_TIMESTAMP " +
+           "ORDER BY c.validTo ASC, mc.id ASC")
+    List<MemberCoupon> findUsableByMemberId(@Param("memberId") Long memberId);
 
     @Query("SELECT mc FROM MemberCoupon mc JOIN FETCH mc.coupon WHERE mc.memberId = :memberId")
     List<MemberCoupon> findAllByMemberId(@Param("memberId") Long memberId);
@@ -32,4 +58,36 @@ public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long
     Optional<MemberCoupon> findByIdWithCoupon(@Param("id") Long id);
 
     boolean existsByMemberIdAndCouponId(Long memberId, Long couponId);
+
+    /**
+     * Mark an unused member coupon used by the order.
+     * @return 1 if marked, 0 if it was already used
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberCoupon mc SET mc.used = true, mc.usedAt = :usedAt, mc.orderId = :orderId " +
+           "WHERE mc.id = :id AND mc.used = false")
+    int markUsed(@Param("id") Long id, @Param("orderId") Long orderId, @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * Mark a used member coupon unused again.
+     * @return 1 if marked, 0 if it was not used
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberCoupon mc SET mc.used = false, mc.usedAt = null, mc.orderId = null " +
+           "WHERE mc.id = :id AND mc.used = true")
+    int markUnused(@Param("id") Long id);
+
+    /**
+     * Member coupons used by any of the orders. The coupon is not joined, so coupons deleted
+     * since the order was placed are still returned.
+     */
+    @Query("SELECT mc FROM MemberCoupon mc WHERE mc.orderId IN :orderIds AND mc.used = true")
+    List<MemberCoupon> findUsedByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("SELECT mc.memberId FROM MemberCoupon mc WHERE mc.coupon.id = :couponId")
+    List<Long> findMemberIdsByCouponId(@Param("couponId") Long couponId);
+
+    @Query("SELECT mc.memberId FROM MemberCoupon mc WHERE mc.coupon.id = :couponId AND mc.memberId IN :memberIds")
+    List<Long> findMemberIdsByCouponIdAndMemberIdIn(@Param("couponId") Long couponId,
+                                                    @Param("memberIds") Collection<Long> memberIds);
 }
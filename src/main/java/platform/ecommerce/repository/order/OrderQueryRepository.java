@@ -3,12 +3,27 @@ package platform.ecommerce.repository.order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import platform.ecommerce.domain.order.Order;
+import platform.ecommerce.dto.request.order.OrderCursor;
 import platform.ecommerce.dto.request.order.OrderSearchCondition;
 
+import java.util.List;
+
 /**
  * Custom query repository for Order with QueryDSL support.
  */
 public interface OrderQueryRepository {
 
     Page<Order> search(OrderSearchCondition condition, Pageable pageable);
+
+    /**
+     * Finds orders matching the condition and older than the cursor, newest first, with items initialized.
+     * Skips the count query and offset scan, so it stays cheap deep into large date ranges.
+     */
+    List<Order> searchByCursor(OrderSearchCondition condition, OrderCursor cursor, int limit);
+
+    /**
+     * Finds a member's orders older than the cursor, newest first, with items initialized.
+     * Runs exactly two queries: one for the page of ids, one fetch join for those orders.
+     */
+    List<Order> findMemberOrderHistory(Long memberId, OrderCursor cursor, int limit);
 }
@@ -10,13 +10,22 @@ import org.springframework.stereotype.Repository;
 import platform.ecommerce.domain.order.Order;
 import platform.ecommerce.domain.order.OrderStatus;
 import platform.ecommerce.domain.order.QOrder;
+import platform.ecommerce.domain.order.QOrderItem;
+import platform.ecommerce.dto.request.order.OrderCursor;
+import platform.ecommerce.dto.request.order.OrderNumberMatch;
 import platform.ecommerce.dto.request.order.OrderSearchCondition;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * QueryDSL implementation for Order queries.
+ * List queries page over order ids first, then fetch the orders with their items
+ * in a single fetch join, so mapping items never triggers per-order lazy loads.
  */
 @Repository
 @RequiredArgsConstructor
@@ -28,19 +37,22 @@ public class OrderQueryRepositoryImpl implements OrderQueryRepository {
     public Page<Order> search(OrderSearchCondition condition, Pageable pageable) {
         QOrder order = QOrder.order;
 
-        List<Order> content = queryFactory
-                .selectFrom(order)
+        List<Long> ids = queryFactory
+                .select(order.id)
+                .from(order)
                 .where(
                         memberIdEq(condition.memberId()),
                         statusEq(condition.status()),
-                        orderNumberContains(condition.orderNumber()),
+                        orderNumberMatches(condition.orderNumber(), condition.orderNumberMatch()),
                         createdAtBetween(condition.startDate(), condition.endDate())
                 )
-                .orderBy(order.createdAt.desc())
+                .orderBy(order.createdAt.desc(), order.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
+        List<Order> content = findWithItemsInOrder(ids);
+
         return PageableExecutionUtils.getPage(content, pageable, () ->
                 queryFactory
                         .select(order.count())
@@ -48,13 +60,78 @@ public class OrderQueryRepositoryImpl implements OrderQueryRepository {
                         .where(
                                 memberIdEq(condition.memberId()),
                                 statusEq(condition.status()),
-                                orderNumberContains(condition.orderNumber()),
+                                orderNumberMatches(condition.orderNumber(), condition.orderNumberMatch()),
                                 createdAtBetween(condition.startDate(), condition.endDate())
                         )
                         .fetchOne()
         );
     }
 
+    @Override
+    public List<Order> searchByCursor(OrderSearchCondition condition, OrderCursor cursor, int limit) {
+        QOrder order = QOrder.order;
+
+        List<Long> ids = queryFactory
+                .select(order.id)
+                .from(order)
+                .where(
+                        memberIdEq(condition.memberId()),
+                        statusEq(condition.status()),
+                        orderNumberMatches(condition.orderNumber(), condition.orderNumberMatch()),
+                        createdAtBetween(condition.startDate(), condition.endDate()),
+                        olderThan(cursor)
+                )
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .limit(limit)
+                .fetch();
+
+        return findWithItemsInOrder(ids);
+    }
+
+    @Override
+    public List<Order> findMemberOrderHistory(Long memberId, OrderCursor cursor, int limit) {
+        QOrder order = QOrder.order;
+
+        List<Long> ids = queryFactory
+                .select(order.id)
+                .from(order)
+                .where(
+                        memberIdEq(memberId),
+                        olderThan(cursor)
+                )
+                .orderBy(order.createdAt.desc(), order.id.desc())
+                .limit(limit)
+                .fetch();
+
+        return findWithItemsInOrder(ids);
+    }
+
+    /**
+     * Fetch orders with items for the given ids, preserving the order of the ids.
+     */
+    private List<Order> findWithItemsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        QOrder order = QOrder.order;
+        QOrderItem item = QOrderItem.orderItem;
+
+        Map<Long, Order> ordersById = queryFactory
+                .selectFrom(order)
+                .distinct()
+                .leftJoin(order.items, item).fetchJoin()
+                .where(order.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity(), (first, duplicate) -> first));
+
+        return ids.stream()
+                .map(ordersById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private BooleanExpression memberIdEq(Long memberId) {
         return memberId != null ? QOrder.order.memberId.eq(memberId) : null;
     }
@@ -63,8 +140,19 @@ public class OrderQueryRepositoryImpl implements OrderQueryRepository {
         return status != null ? QOrder.order.status.eq(status) : null;
     }
 
-    private BooleanExpression orderNumberContains(String orderNumber) {
-        return orderNumber != null ? QOrder.order.orderNumber.containsIgnoreCase(orderNumber) : null;
+    /**
+     * Order numbers are stored upper-case and the condition normalizes the term, so no
+     * case folding is applied to the column and its indexes stay usable.
+     */
+    private BooleanExpression orderNumberMatches(String orderNumber, OrderNumberMatch match) {
+        if (orderNumber == null) {
+            return null;
+        }
+        return switch (match) {
+            case EXACT -> QOrder.order.orderNumber.eq(orderNumber);
+            case PREFIX -> QOrder.order.orderNumber.startsWith(orderNumber);
+            case FUZZY -> QOrder.order.orderNumber.contains(orderNumber);
+        };
     }
 
     private BooleanExpression createdAtBetween(LocalDateTime start, LocalDateTime end) {
@@ -77,4 +165,13 @@ public class OrderQueryRepositoryImpl implements OrderQueryRepository {
         }
         return null;
     }
+
+    private BooleanExpression olderThan(OrderCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        QOrder order = QOrder.order;
+        return order.createdAt.lt(cursor.createdAt())
+                .or(order.createdAt.eq(cursor.createdAt()).and(order.id.lt(cursor.id())));
+    }
 }
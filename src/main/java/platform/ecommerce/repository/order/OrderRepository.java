@@ -1,15 +1,25 @@
 package platform.ecommerce.repository.order;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import platform.ecommerce.domain.order.Order;
 import platform.ecommerce.domain.order.OrderStatus;
+import platform.ecommerce.dto.response.order.OrderExportRow;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Order aggregate root.
@@ -28,8 +38,60 @@ public interface OrderRepository extends JpaRepository<Order, Long>, OrderQueryR
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items WHERE o.orderNumber = :orderNumber")
     Optional<Order> findByOrderNumberWithItems(@Param("orderNumber") String orderNumber);
 
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
     boolean existsByOrderNumber(String orderNumber);
 
+    /**
+     * Lock one order row. Payment confirmation takes this lock, so it serializes with
+     * the unpaid order sweeper, which skips locked orders.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Lock orders in the given status created before the cutoff, oldest first.
+     * Rows already locked by another node are skipped (lock timeout -2 = SKIP LOCKED),
+     * so concurrent sweepers work on disjoint batches.
+     * Orders with a payment confirmation in flight (PROCESSING) are excluded; the gateway may have charged them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM Order o WHERE o.status = :status AND o.createdAt < :before " +
+           "AND NOT EXISTS (SELECT 1 FROM Payment p WHERE p.orderId = o.id " +
+           "AND p.status = platform.ecommerce.domain.payment.PaymentStatus.PROCESSING) " +
+           "ORDER BY o.createdAt")
+    List<Order> findByStatusCreatedBeforeForUpdate(@Param("status") OrderStatus status,
+                                                   @Param("before") LocalDateTime before,
+                                                   Limit limit);
+
+    /**
+     * Whether a payment confirmation for the order is in flight (PROCESSING); the gateway may charge it.
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Payment p WHERE p.orderId = :orderId " +
+           "AND p.status = platform.ecommerce.domain.payment.PaymentStatus.PROCESSING")
+    boolean hasPaymentInProgress(@Param("orderId") Long orderId);
+
+    /**
+     * Stream orders created in [from, to) as flat export rows, oldest first.
+     * Backed by a forward-only cursor; must be consumed inside a read-only transaction
+     * and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new platform.ecommerce.dto.response.order.OrderExportRow(" +
+           "o.id, o.orderNumber, o.memberId, o.status, o.paymentMethod, o.shippingFee, o.discountAmount, " +
+           "o.totalAmount, o.createdAt, o.paidAt, o.shippedAt, o.deliveredAt, o.cancelledAt) " +
+           "FROM Order o WHERE o.createdAt >= :from AND o.createdAt < :to " +
+           "AND (:status IS NULL OR o.status = :status) ORDER BY o.createdAt, o.id")
+    Stream<OrderExportRow> streamForExport(@Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to,
+                                           @Param("status") OrderStatus status);
+
     // ========== Admin Statistics Queries ==========
 
     @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM Order o WHERE o.createdAt BETWEEN :from AND :to AND o.status != 'CANCELLED'")
@@ -57,4 +119,33 @@ public interface OrderRepository extends JpaRepository<Order, Long>, OrderQueryR
 
     @Query("SELECT o.status, COUNT(o) FROM Order o GROUP BY o.status")
     List<Object[]> countByStatus();
+
+    // ========== Partition Maintenance (PostgreSQL partitioned schema) ==========
+
+    /**
+     * Create monthly hot partitions for orders and order_item starting at the given month.
+     * Returns the number of partitions created; existing partitions are skipped.
+     */
+    @Query(value = "SELECT create_order_partitions(CAST(:fromMonth AS DATE), :months)", nativeQuery = true)
+    int createMonthlyPartitions(@Param("fromMonth") LocalDate fromMonth, @Param("months") int months);
+
+    /**
+     * Lock a batch of completed hot orders created before the cutoff.
+     * Rows locked by another archiver are skipped.
+     */
+    @Query(value = "SELECT id FROM orders " +
+                   "WHERE storage_tier = 'HOT' AND status IN ('DELIVERED', 'CANCELLED') AND created_at < :before " +
+                   "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findArchivableOrderIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * Move orders to the cold partition. PostgreSQL relocates rows when the partition key changes.
+     */
+    @Modifying
+    @Query(value = "UPDATE orders SET storage_tier = 'COLD' WHERE id IN (:ids) AND storage_tier = 'HOT'", nativeQuery = true)
+    int moveOrdersToColdStorage(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE order_item SET storage_tier = 'COLD' WHERE order_id IN (:ids) AND storage_tier = 'HOT'", nativeQuery = true)
+    int moveOrderItemsToColdStorage(@Param("ids") List<Long> ids);
 }
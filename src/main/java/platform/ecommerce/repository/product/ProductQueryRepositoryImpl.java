@@ -36,7 +36,7 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
                 .where(
                         nameContains(condition.name()),
                         keywordContains(condition.keyword()),
-                        categoryEquals(condition.categoryId()),
+                        categoryMatches(condition.categoryId(), condition.categoryPath()),
                         sellerEquals(condition.sellerId()),
                         statusEquals(condition.status()),
                         priceGoe(condition.minPrice()),
@@ -53,7 +53,7 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
                 .where(
                         nameContains(condition.name()),
                         keywordContains(condition.keyword()),
-                        categoryEquals(condition.categoryId()),
+                        categoryMatches(condition.categoryId(), condition.categoryPath()),
                         sellerEquals(condition.sellerId()),
                         statusEquals(condition.status()),
                         priceGoe(condition.minPrice()),
@@ -76,7 +76,11 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
                 .or(product.description.containsIgnoreCase(keyword));
     }
 
-    private BooleanExpression categoryEquals(Long categoryId) {
+    private BooleanExpression categoryMatches(Long categoryId, String categoryPath) {
+        // A resolved path matches the category and all its descendants on idx_product_category_path
+        if (categoryPath != null) {
+            return product.categoryPath.startsWith(categoryPath);
+        }
         return categoryId != null ? product.categoryId.eq(categoryId) : null;
     }
 
@@ -1,11 +1,15 @@
 package platform.ecommerce.repository.product;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import platform.ecommerce.domain.product.Product;
 import platform.ecommerce.domain.product.ProductStatus;
+import platform.ecommerce.service.product.OptionPriceView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +40,94 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
     @Query("SELECT COUNT(p) > 0 FROM Product p WHERE p.name = :name AND p.sellerId = :sellerId")
     boolean existsByNameAndSellerId(@Param("name") String name, @Param("sellerId") Long sellerId);
 
+    /**
+     * Find products with their options in one query.
+     */
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.options WHERE p.id IN :ids")
+    List<Product> findAllWithOptionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Load name, prices and status for a set of options in one query.
+     * Projection only, so nothing enters the persistence context.
+     */
+    @Query("SELECT new platform.ecommerce.service.product.OptionPriceView(" +
+           "p.id, o.id, p.name, o.optionValue, p.basePrice, o.additionalPrice, p.status) " +
+           "FROM Product p JOIN p.options o WHERE o.id IN :optionIds")
+    List<OptionPriceView> findOptionPriceViewsByOptionIdIn(@Param("optionIds") Collection<Long> optionIds);
+
+    /**
+     * Take stock from an option in place, only if enough is left, so concurrent orders cannot oversell.
+     * The persistence context is not cleared; loaded options keep their old stock.
+     * @return 1 if taken, 0 if the option has too little stock or does not exist under the product
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductOption o SET o.stock = o.stock - :quantity " +
+           "WHERE o.id = :optionId AND o.product.id = :productId AND o.stock >= :quantity")
+    int decreaseOptionStock(@Param("productId") Long productId, @Param("optionId") Long optionId,
+                            @Param("quantity") int quantity);
+
+    /**
+     * Take products whose options have all run out off sale.
+     * @return number of products marked sold out
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.status = :soldOut WHERE p.id IN :ids AND p.status = :active " +
+           "AND NOT EXISTS (SELECT 1 FROM ProductOption o WHERE o.product = p AND o.stock > 0)")
+    int markSoldOut(@Param("ids") Collection<Long> ids,
+                    @Param("active") ProductStatus active,
+                    @Param("soldOut") ProductStatus soldOut);
+
+    /**
+     * Add stock to an option in place, so concurrent restores cannot overwrite each other.
+     * The persistence context is not cleared; loaded options keep their old stock.
+     * @return 1 if added, 0 if the option does not exist under the product
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductOption o SET o.stock = o.stock + :quantity WHERE o.id = :optionId AND o.product.id = :productId")
+    int increaseOptionStock(@Param("productId") Long productId, @Param("optionId") Long optionId,
+                            @Param("quantity") int quantity);
+
+    /**
+     * Put sold-out products that have stock again back on sale.
+     * @return number of products reactivated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.status = :active WHERE p.id IN :ids AND p.status = :soldOut " +
+           "AND EXISTS (SELECT 1 FROM ProductOption o WHERE o.product = p AND o.stock > 0)")
+    int reactivateSoldOut(@Param("ids") Collection<Long> ids,
+                          @Param("soldOut") ProductStatus soldOut,
+                          @Param("active") ProductStatus active);
+
+    /**
+     * Find one batch of products filed under a category path prefix.
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.categoryPath LIKE CONCAT(:pathPrefix, '%') ORDER BY p.id")
+    List<Long> findIdsByCategoryPathPrefix(@Param("pathPrefix") String pathPrefix, Pageable pageable);
+
+    /**
+     * Replace the category path prefix of the given products.
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.categoryPath = CONCAT(:newPrefix, SUBSTRING(p.categoryPath, :oldPrefixLength + 1)) " +
+           "WHERE p.id IN :ids")
+    int replaceCategoryPathPrefix(@Param("ids") Collection<Long> ids, @Param("oldPrefixLength") int oldPrefixLength,
+                                  @Param("newPrefix") String newPrefix);
+
+    /**
+     * Find one batch of products whose category path no longer matches their category's path.
+     */
+    @Query("SELECT p.id FROM Product p, Category c WHERE c.id = p.categoryId " +
+           "AND (p.categoryPath IS NULL OR p.categoryPath <> c.path) ORDER BY p.id")
+    List<Long> findIdsWithStaleCategoryPath(Pageable pageable);
+
+    /**
+     * Copy the category's current path onto the given products.
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.categoryPath = (SELECT c.path FROM Category c WHERE c.id = p.categoryId) " +
+           "WHERE p.id IN :ids")
+    int copyCategoryPaths(@Param("ids") Collection<Long> ids);
+
     // ========== Admin Methods (bypass @SQLRestriction) ==========
 
     /**
@@ -0,0 +1,80 @@
+package platform.ecommerce.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Opaque guest cart token carried in an HttpOnly cookie.
+ * Tokens are 128 random bits, so they cannot be guessed to read another guest's cart.
+ */
+public final class GuestCartCookie {
+
+    public static final String NAME = "GUEST_CART";
+
+    private static final String PATH = "/api/v1";
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[A-Za-z0-9_-]{22}");
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private GuestCartCookie() {
+        // Utility class
+    }
+
+    /**
+     * Read the guest token from the request, ignoring malformed values.
+     */
+    public static Optional<String> read(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        for (Cookie cookie : cookies) {
+            if (NAME.equals(cookie.getName()) && cookie.getValue() != null
+                    && TOKEN_FORMAT.matcher(cookie.getValue()).matches()) {
+                return Optional.of(cookie.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Generate a new random token.
+     */
+    public static String newToken() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Set or refresh the cookie so it lives as long as the guest cart.
+     */
+    public static void write(HttpServletResponse response, String token, Duration maxAge) {
+        response.addHeader(HttpHeaders.SET_COOKIE, build(token, maxAge).toString());
+    }
+
+    /**
+     * Remove the cookie, e.g. after the guest cart was merged on login.
+     */
+    public static void expire(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, build("", Duration.ZERO).toString());
+    }
+
+    private static ResponseCookie build(String value, Duration maxAge) {
+        return ResponseCookie.from(NAME, value)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Lax")
+                .path(PATH)
+                .maxAge(maxAge)
+                .build();
+    }
+}
@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import platform.ecommerce.domain.auth.EmailVerificationToken;
 import platform.ecommerce.domain.auth.PasswordResetToken;
 import platform.ecommerce.domain.auth.RefreshToken;
@@ -19,13 +21,18 @@ import platform.ecommerce.repository.EmailVerificationTokenRepository;
 import platform.ecommerce.repository.MemberRepository;
 import platform.ecommerce.repository.PasswordResetTokenRepository;
 import platform.ecommerce.repository.RefreshTokenRepository;
+import platform.ecommerce.security.GuestCartCookie;
 import platform.ecommerce.security.JwtTokenProvider;
 import platform.ecommerce.service.auth.EmailNotificationInfo;
 import platform.ecommerce.service.auth.LoginResult;
 import platform.ecommerce.service.auth.RegistrationResult;
 import platform.ecommerce.service.auth.TokenResult;
+import platform.ecommerce.service.cart.CartLine;
+import platform.ecommerce.service.cart.CartService;
+import platform.ecommerce.service.cart.GuestCartStore;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Authentication domain service implementation.
@@ -43,6 +50,8 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final CartService cartService;
+    private final GuestCartStore guestCartStore;
 
     @Override
     @Transactional
@@ -90,6 +99,8 @@ public class AuthServiceImpl implements AuthService {
         String accessToken = jwtTokenProvider.generateAccessToken(member);
         RefreshToken refreshToken = createRefreshToken(member, httpRequest);
 
+        mergeGuestCart(member, httpRequest);
+
         log.info("Login successful for member: id={}", member.getId());
 
         return LoginResult.of(
@@ -245,6 +256,34 @@ public class AuthServiceImpl implements AuthService {
         return refreshTokenRepository.save(refreshToken);
     }
 
+    /**
+     * Move the guest cart named by the request's cookie into the member cart.
+     * The guest cart is deleted only after the login commits, so a failed merge or a rolled-back login leaves it in place.
+     */
+    private void mergeGuestCart(Member member, HttpServletRequest httpRequest) {
+        GuestCartCookie.read(httpRequest).ifPresent(token -> {
+            List<CartLine> lines = guestCartStore.getLines(token);
+            if (!lines.isEmpty()) {
+                cartService.mergeGuestLines(member.getId(), lines);
+                log.info("Guest cart merged for member: id={}, lines={}", member.getId(), lines.size());
+            }
+            deleteGuestCartAfterCommit(token);
+        });
+    }
+
+    private void deleteGuestCartAfterCommit(String token) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guestCartStore.delete(token);
+                }
+            });
+            return;
+        }
+        guestCartStore.delete(token);
+    }
+
     private String extractDeviceInfo(HttpServletRequest request) {
         String userAgent = request.getHeader("User-Agent");
         return userAgent != null ? userAgent.substring(0, Math.min(userAgent.length(), 255)) : "Unknown";
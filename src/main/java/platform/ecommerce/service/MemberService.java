@@ -6,6 +6,8 @@ import platform.ecommerce.domain.member.Member;
 import platform.ecommerce.domain.member.MemberAddress;
 import platform.ecommerce.dto.request.*;
 
+import java.util.List;
+
 /**
  * Member domain service interface.
  * Returns entities for ApplicationService to convert to DTOs.
@@ -30,6 +32,12 @@ public interface MemberService {
      */
     Page<Member> searchMembers(MemberSearchCondition condition, Pageable pageable);
 
+    /**
+     * IDs of members matching the condition, in ascending order after the given ID.
+     * Used to walk a whole segment in chunks without offset paging.
+     */
+    List<Long> getMemberIdsAfter(MemberSearchCondition condition, Long afterId, int limit);
+
     /**
      * Update member profile.
      * @return updated Member entity
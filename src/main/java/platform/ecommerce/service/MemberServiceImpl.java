@@ -16,6 +16,8 @@ import platform.ecommerce.exception.ErrorCode;
 import platform.ecommerce.exception.InvalidStateException;
 import platform.ecommerce.repository.MemberRepository;
 
+import java.util.List;
+
 /**
  * Member domain service implementation.
  * Pure business logic - returns entities.
@@ -60,6 +62,11 @@ public class MemberServiceImpl implements MemberService {
         return memberRepository.searchMembers(condition, pageable);
     }
 
+    @Override
+    public List<Long> getMemberIdsAfter(MemberSearchCondition condition, Long afterId, int limit) {
+        return memberRepository.findMemberIdsAfter(condition, afterId, limit);
+    }
+
     @Override
     @Transactional
     public Member updateProfile(Long memberId, MemberUpdateRequest request) {
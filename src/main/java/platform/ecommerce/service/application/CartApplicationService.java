@@ -2,10 +2,14 @@ package platform.ecommerce.service.application;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import platform.ecommerce.config.AppProperties;
 import platform.ecommerce.dto.request.cart.CartItemAddRequest;
 import platform.ecommerce.dto.response.cart.CartItemResponse;
 import platform.ecommerce.dto.response.cart.CartResponse;
 import platform.ecommerce.service.cart.CartService;
+import platform.ecommerce.service.cart.GuestCartService;
+
+import java.time.Duration;
 
 /**
  * Cart application service.
@@ -16,6 +20,8 @@ import platform.ecommerce.service.cart.CartService;
 public class CartApplicationService {
 
     private final CartService cartService;
+    private final GuestCartService guestCartService;
+    private final AppProperties appProperties;
 
     /**
      * Get or create cart for a member.
@@ -58,4 +64,39 @@ public class CartApplicationService {
     public CartResponse getCartSummary(Long memberId) {
         return cartService.getCartSummary(memberId);
     }
+
+    /**
+     * Get guest cart with product details.
+     */
+    public CartResponse getGuestCart(String token) {
+        return guestCartService.getCart(token);
+    }
+
+    /**
+     * Add item to guest cart.
+     */
+    public CartItemResponse addToGuestCart(String token, CartItemAddRequest request) {
+        return guestCartService.addToCart(token, request);
+    }
+
+    /**
+     * Update guest cart item quantity.
+     */
+    public CartItemResponse updateGuestCartQuantity(String token, Long cartItemId, int quantity) {
+        return guestCartService.updateQuantity(token, cartItemId, quantity);
+    }
+
+    /**
+     * Remove item from guest cart.
+     */
+    public void removeFromGuestCart(String token, Long cartItemId) {
+        guestCartService.removeFromCart(token, cartItemId);
+    }
+
+    /**
+     * Lifetime of an idle guest cart, and so of its cookie.
+     */
+    public Duration getGuestCartTtl() {
+        return Duration.ofDays(appProperties.getCart().getGuestTtlDays());
+    }
 }
@@ -3,15 +3,24 @@ package platform.ecommerce.service.application;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import platform.ecommerce.dto.request.coupon.CouponBulkIssueRequest;
 import platform.ecommerce.dto.request.coupon.CouponCreateRequest;
 import platform.ecommerce.dto.request.coupon.CouponSearchCondition;
 import platform.ecommerce.dto.request.coupon.CouponUpdateRequest;
 import platform.ecommerce.dto.response.PageResponse;
 import platform.ecommerce.dto.response.coupon.CouponApplyResponse;
+import platform.ecommerce.dto.response.coupon.CouponBulkIssueJobResponse;
 import platform.ecommerce.dto.response.coupon.CouponCalculationResponse;
+import platform.ecommerce.dto.response.coupon.CouponClaimResponse;
+import platform.ecommerce.dto.response.coupon.CouponIssueReconcileResponse;
+import platform.ecommerce.dto.response.coupon.CouponRecommendationResponse;
 import platform.ecommerce.dto.response.coupon.CouponResponse;
 import platform.ecommerce.dto.response.coupon.MemberCouponResponse;
+import platform.ecommerce.service.coupon.CouponBulkIssueRunner;
+import platform.ecommerce.service.coupon.CouponBulkIssueService;
+import platform.ecommerce.service.coupon.CouponIssueService;
 import platform.ecommerce.service.coupon.CouponService;
+import platform.ecommerce.service.coupon.CouponUsageService;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -25,6 +34,10 @@ import java.util.List;
 public class CouponApplicationService {
 
     private final CouponService couponService;
+    private final CouponIssueService couponIssueService;
+    private final CouponBulkIssueService couponBulkIssueService;
+    private final CouponBulkIssueRunner couponBulkIssueRunner;
+    private final CouponUsageService couponUsageService;
 
     public CouponResponse createCoupon(CouponCreateRequest request) {
         return couponService.createCoupon(request);
@@ -54,6 +67,38 @@ public class CouponApplicationService {
         couponService.deleteCoupon(couponId);
     }
 
+    public void openDrop(Long couponId) {
+        couponIssueService.openDrop(couponId);
+    }
+
+    public CouponClaimResponse claimCoupon(Long couponId, Long memberId) {
+        return couponIssueService.claim(couponId, memberId);
+    }
+
+    public CouponIssueReconcileResponse reconcileDrop(Long couponId) {
+        return couponIssueService.reconcile(couponId);
+    }
+
+    public void enableStripedUsage(Long couponId) {
+        couponUsageService.enableStripedUsage(couponId);
+    }
+
+    public CouponBulkIssueJobResponse startBulkIssue(Long couponId, CouponBulkIssueRequest request) {
+        CouponBulkIssueJobResponse job = couponBulkIssueService.createJob(couponId, request);
+        couponBulkIssueRunner.run(job.id());
+        return job;
+    }
+
+    public CouponBulkIssueJobResponse resumeBulkIssue(Long jobId) {
+        CouponBulkIssueJobResponse job = couponBulkIssueService.resumeJob(jobId);
+        couponBulkIssueRunner.run(jobId);
+        return job;
+    }
+
+    public CouponBulkIssueJobResponse getBulkIssue(Long jobId) {
+        return couponBulkIssueService.getJob(jobId);
+    }
+
     public MemberCouponResponse issueCoupon(Long couponId, Long memberId) {
         return couponService.issueCoupon(couponId, memberId);
     }
@@ -74,6 +119,10 @@ public class CouponApplicationService {
         return couponService.calculateDiscount(couponId, orderAmount);
     }
 
+    public List<CouponRecommendationResponse> recommendCoupons(Long memberId, BigDecimal orderAmount, int limit) {
+        return couponService.recommendCoupons(memberId, orderAmount, limit);
+    }
+
     public PageResponse<MemberCouponResponse> getAvailableCouponsForOrder(Long memberId, BigDecimal orderAmount, Pageable pageable) {
         return couponService.getAvailableCouponsForOrder(memberId, orderAmount, pageable);
     }
@@ -5,18 +5,44 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import platform.ecommerce.domain.order.Order;
+import platform.ecommerce.domain.order.OrderStatus;
 import platform.ecommerce.domain.order.PaymentMethod;
+import platform.ecommerce.dto.request.order.BulkShipRequest;
+import platform.ecommerce.dto.request.order.CheckoutRequest;
 import platform.ecommerce.dto.request.order.OrderCreateRequest;
+import platform.ecommerce.dto.request.order.OrderCursor;
+import platform.ecommerce.dto.request.order.OrderExportFormat;
 import platform.ecommerce.dto.request.order.OrderSearchCondition;
+import platform.ecommerce.dto.response.CursorResponse;
+import platform.ecommerce.dto.response.order.BulkOrderResultResponse;
+import platform.ecommerce.dto.response.order.CheckoutResponse;
 import platform.ecommerce.dto.response.order.OrderResponse;
+import platform.ecommerce.exception.ErrorCode;
 import platform.ecommerce.mapper.OrderMapper;
+import platform.ecommerce.mapper.PaymentMapper;
 import platform.ecommerce.repository.MemberRepository;
 import platform.ecommerce.service.email.EmailService;
+import platform.ecommerce.service.notification.DeliveryNotice;
 import platform.ecommerce.service.notification.NotificationService;
+import platform.ecommerce.service.order.BulkTransitionResult;
+import platform.ecommerce.service.order.CheckoutResult;
+import platform.ecommerce.service.order.CheckoutService;
+import platform.ecommerce.service.order.OrderExportService;
 import platform.ecommerce.service.order.OrderService;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Application service for Order operations.
  * Handles DTO conversion, orchestration, and side effects (email, notification).
@@ -27,8 +53,14 @@ import platform.ecommerce.service.order.OrderService;
 @Transactional(readOnly = true)
 public class OrderApplicationService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final CheckoutService checkoutService;
     private final OrderMapper orderMapper;
+    private final PaymentMapper paymentMapper;
     private final MemberRepository memberRepository;
     private final EmailService emailService;
     private final NotificationService notificationService;
@@ -39,6 +71,12 @@ public class OrderApplicationService {
         return orderMapper.toResponse(order);
     }
 
+    @Transactional
+    public CheckoutResponse checkout(Long memberId, CheckoutRequest request) {
+        CheckoutResult result = checkoutService.checkout(memberId, request);
+        return new CheckoutResponse(orderMapper.toResponse(result.order()), paymentMapper.toResponse(result.payment()));
+    }
+
     public OrderResponse getOrder(Long orderId, Long memberId) {
         Order order = orderService.getOrder(orderId, memberId);
         return orderMapper.toResponse(order);
@@ -54,11 +92,36 @@ public class OrderApplicationService {
                 .map(orderMapper::toResponse);
     }
 
+    public CursorResponse<OrderResponse> getMyOrderHistory(Long memberId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        // Fetch one extra row to detect whether a next page exists
+        List<Order> orders = orderService.getMyOrderHistory(memberId, OrderCursor.decode(cursor), pageSize + 1);
+        return CursorResponse.of(orders, pageSize, orderMapper::toResponse,
+                order -> new OrderCursor(order.getCreatedAt(), order.getId()).encode());
+    }
+
     public Page<OrderResponse> searchOrders(OrderSearchCondition condition, Pageable pageable) {
         return orderService.searchOrders(condition, pageable)
                 .map(orderMapper::toResponse);
     }
 
+    public CursorResponse<OrderResponse> searchOrdersByCursor(OrderSearchCondition condition, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        List<Order> orders = orderService.searchOrdersByCursor(condition, OrderCursor.decode(cursor), pageSize + 1);
+        return CursorResponse.of(orders, pageSize, orderMapper::toResponse,
+                order -> new OrderCursor(order.getCreatedAt(), order.getId()).encode());
+    }
+
+    /**
+     * Streams matching orders to the output stream; see {@link OrderExportService}.
+     */
+    public long exportOrders(LocalDateTime from, LocalDateTime to, OrderStatus status,
+                             OrderExportFormat format, OutputStream out) throws IOException {
+        return orderExportService.exportOrders(from, to, status, format, out);
+    }
+
     @Transactional
     public OrderResponse processPayment(Long orderId, PaymentMethod paymentMethod, String transactionId) {
         Order order = orderService.processPayment(orderId, paymentMethod, transactionId);
@@ -83,6 +146,58 @@ public class OrderApplicationService {
         return orderMapper.toResponse(order);
     }
 
+    /**
+     * Starts preparing many orders, one transaction per chunk so a large request
+     * never holds locks on every order at once.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkOrderResultResponse startPreparingAll(List<Long> orderIds) {
+        List<Order> succeeded = new ArrayList<>();
+        List<BulkTransitionResult.Failure> failures = new ArrayList<>();
+
+        Set<Long> uniqueOrderIds = new LinkedHashSet<>();
+        for (Long orderId : orderIds) {
+            if (!uniqueOrderIds.add(orderId)) {
+                failures.add(new BulkTransitionResult.Failure(
+                        orderId, ErrorCode.INVALID_INPUT, "Duplicate order ID in request"));
+            }
+        }
+
+        for (List<Long> chunk : chunk(new ArrayList<>(uniqueOrderIds))) {
+            collect(orderService.startPreparingAll(chunk), succeeded, failures);
+        }
+
+        return toBulkResponse(orderIds.size(), succeeded, failures);
+    }
+
+    /**
+     * Ships many orders chunk by chunk, then enqueues all delivery notifications as one batch.
+     * Per-order shipped emails are not sent from the bulk path.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkOrderResultResponse shipAll(List<BulkShipRequest.Shipment> shipments) {
+        List<Order> succeeded = new ArrayList<>();
+        List<BulkTransitionResult.Failure> failures = new ArrayList<>();
+
+        Map<Long, String> trackingNumbers = new LinkedHashMap<>();
+        for (BulkShipRequest.Shipment shipment : shipments) {
+            if (trackingNumbers.putIfAbsent(shipment.orderId(), shipment.trackingNumber()) != null) {
+                failures.add(new BulkTransitionResult.Failure(
+                        shipment.orderId(), ErrorCode.INVALID_INPUT, "Duplicate order ID in request"));
+            }
+        }
+
+        for (List<Long> chunk : chunk(new ArrayList<>(trackingNumbers.keySet()))) {
+            Map<Long, String> chunkTrackingNumbers = new LinkedHashMap<>();
+            chunk.forEach(orderId -> chunkTrackingNumbers.put(orderId, trackingNumbers.get(orderId)));
+            collect(orderService.shipAll(chunkTrackingNumbers), succeeded, failures);
+        }
+
+        sendBulkShippedNotifications(succeeded);
+
+        return toBulkResponse(shipments.size(), succeeded, failures);
+    }
+
     @Transactional
     public OrderResponse deliverOrder(Long orderId) {
         Order order = orderService.deliverOrder(orderId);
@@ -103,6 +218,51 @@ public class OrderApplicationService {
 
     // ========== Private Helper Methods ==========
 
+    private static <T> List<List<T>> chunk(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + BULK_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
+    private void collect(BulkTransitionResult result, List<Order> succeeded,
+                         List<BulkTransitionResult.Failure> failures) {
+        succeeded.addAll(result.transitioned());
+        failures.addAll(result.failures());
+    }
+
+    private BulkOrderResultResponse toBulkResponse(int requested, List<Order> succeeded,
+                                                   List<BulkTransitionResult.Failure> failures) {
+        return BulkOrderResultResponse.builder()
+                .requested(requested)
+                .succeeded(succeeded.size())
+                .failed(failures.size())
+                .succeededOrderIds(succeeded.stream().map(Order::getId).toList())
+                .failures(failures.stream()
+                        .map(failure -> BulkOrderResultResponse.Failure.builder()
+                                .orderId(failure.orderId())
+                                .code(failure.errorCode().getCode())
+                                .message(failure.message())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private void sendBulkShippedNotifications(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<DeliveryNotice> notices = orders.stream()
+                .map(order -> new DeliveryNotice(order.getMemberId(), order.getOrderNumber(), order.getTrackingNumber()))
+                .toList();
+        try {
+            notificationService.notifyDeliveryUpdates(notices);
+        } catch (Exception e) {
+            log.warn("Failed to enqueue delivery notifications for {} orders", notices.size(), e);
+        }
+    }
+
     private void sendOrderConfirmationNotifications(Order order) {
         memberRepository.findById(order.getMemberId()).ifPresent(member -> {
             try {
@@ -1,11 +1,17 @@
 package platform.ecommerce.service.application;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import platform.ecommerce.domain.order.PaymentMethod;
 import platform.ecommerce.domain.payment.Payment;
 import platform.ecommerce.dto.response.payment.PaymentResponse;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.ExternalApiException;
+import platform.ecommerce.exception.InvalidStateException;
 import platform.ecommerce.mapper.PaymentMapper;
+import platform.ecommerce.service.payment.PaymentGatewayClient;
+import platform.ecommerce.service.payment.PaymentResult;
 import platform.ecommerce.service.payment.PaymentService;
 
 import java.math.BigDecimal;
@@ -14,12 +20,16 @@ import java.util.List;
 /**
  * Payment application service.
  * Handles DTO conversion using PaymentMapper.
+ * Gateway calls run between short domain transactions, never inside one,
+ * so a slow gateway does not hold a database connection.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentApplicationService {
 
     private final PaymentService paymentService;
+    private final PaymentGatewayClient paymentGatewayClient;
     private final PaymentMapper paymentMapper;
 
     /**
@@ -34,7 +44,22 @@ public class PaymentApplicationService {
      * Confirm payment after user authorization.
      */
     public PaymentResponse confirmPayment(String transactionId, BigDecimal amount) {
-        Payment payment = paymentService.confirmPayment(transactionId, amount);
+        paymentService.startConfirmation(transactionId, amount);
+
+        PaymentResult result;
+        try {
+            result = paymentGatewayClient.confirmPayment(transactionId, amount);
+        } catch (ExternalApiException e) {
+            if (e.isOutcomeUnknown()) {
+                // Gateway may have charged; keep PROCESSING so it is not confirmed twice
+                log.error("Payment confirmation left in PROCESSING: transactionId={}", transactionId, e);
+            } else {
+                paymentService.releaseConfirmation(transactionId);
+            }
+            throw e;
+        }
+
+        Payment payment = paymentService.completeConfirmation(transactionId, result);
         return paymentMapper.toResponse(payment);
     }
 
@@ -42,8 +67,27 @@ public class PaymentApplicationService {
      * Cancel/refund a payment.
      */
     public PaymentResponse cancelPayment(Long paymentId, Long memberId) {
-        Payment payment = paymentService.cancelPayment(paymentId, memberId);
-        return paymentMapper.toResponse(payment);
+        Payment payment = paymentService.startCancellation(paymentId, memberId);
+
+        PaymentResult result;
+        try {
+            result = paymentGatewayClient.cancelPayment(payment.getPgTransactionId(), payment.getAmount());
+        } catch (ExternalApiException e) {
+            if (e.isOutcomeUnknown()) {
+                // Gateway may have refunded; keep CANCELLING so it is not refunded twice
+                log.error("Payment cancellation left in CANCELLING: paymentId={}", paymentId, e);
+            } else {
+                paymentService.releaseCancellation(paymentId);
+            }
+            throw e;
+        }
+        if (!result.success()) {
+            paymentService.releaseCancellation(paymentId);
+            throw new InvalidStateException(ErrorCode.REFUND_FAILED, result.failReason());
+        }
+
+        Payment cancelled = paymentService.completeCancellation(paymentId);
+        return paymentMapper.toResponse(cancelled);
     }
 
     /**
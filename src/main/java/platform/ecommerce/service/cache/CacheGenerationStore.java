@@ -0,0 +1,20 @@
+package platform.ecommerce.service.cache;
+
+/**
+ * Generation counters for versioned cache namespaces.
+ * Entries of a namespace are keyed by its current generation, so bumping the counter
+ * invalidates the whole namespace at once; entries of older generations are never read again
+ * and expire by their TTL.
+ */
+public interface CacheGenerationStore {
+
+    /**
+     * Current generation of the namespace; 0 until it is first invalidated.
+     */
+    long current(String namespace);
+
+    /**
+     * Moves the namespace to a new generation and returns it.
+     */
+    long increment(String namespace);
+}
@@ -0,0 +1,24 @@
+package platform.ecommerce.service.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process {@link CacheGenerationStore} for tests and single-node development.
+ */
+public class InMemoryCacheGenerationStore implements CacheGenerationStore {
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Override
+    public long current(String namespace) {
+        AtomicLong generation = generations.get(namespace);
+        return generation == null ? 0L : generation.get();
+    }
+
+    @Override
+    public long increment(String namespace) {
+        return generations.computeIfAbsent(namespace, key -> new AtomicLong()).incrementAndGet();
+    }
+}
@@ -0,0 +1,34 @@
+package platform.ecommerce.service.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * {@link CacheGenerationStore} backed by Redis, shared by all nodes.
+ * Per namespace: {@code cache-generation:{namespace}}, read with one GET and bumped with one INCR.
+ * Counters carry no TTL; a lost counter restarts at 0 and may serve entries that are still alive from that generation.
+ */
+public class RedisCacheGenerationStore implements CacheGenerationStore {
+
+    private static final String KEY_PREFIX = "cache-generation:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisCacheGenerationStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long current(String namespace) {
+        String generation = redisTemplate.opsForValue().get(KEY_PREFIX + namespace);
+        return generation == null ? 0L : Long.parseLong(generation);
+    }
+
+    @Override
+    public long increment(String namespace) {
+        Long generation = redisTemplate.opsForValue().increment(KEY_PREFIX + namespace);
+        if (generation == null) {
+            throw new IllegalStateException("Cache generation increment returned no result");
+        }
+        return generation;
+    }
+}
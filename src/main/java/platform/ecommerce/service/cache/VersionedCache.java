@@ -0,0 +1,86 @@
+package platform.ecommerce.service.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * {@link Cache} whose keys embed the current generation of its namespace (the cache name),
+ * e.g. {@code categories::3:42}.
+ * Clearing bumps the generation instead of deleting entries, so {@code @CacheEvict(allEntries = true)}
+ * costs one counter increment however many entries the namespace holds; stale entries expire by their TTL.
+ */
+public class VersionedCache implements Cache {
+
+    private static final String SEPARATOR = ":";
+
+    private final Cache target;
+    private final CacheGenerationStore generationStore;
+
+    public VersionedCache(Cache target, CacheGenerationStore generationStore) {
+        this.target = target;
+        this.generationStore = generationStore;
+    }
+
+    @Override
+    public String getName() {
+        return target.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return target.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return target.get(versionedKey(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return target.get(versionedKey(key), type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return target.get(versionedKey(key), valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        target.put(versionedKey(key), value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return target.putIfAbsent(versionedKey(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        target.evict(versionedKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return target.evictIfPresent(versionedKey(key));
+    }
+
+    @Override
+    public void clear() {
+        generationStore.increment(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        generationStore.increment(getName());
+        return true;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private String versionedKey(Object key) {
+        return generationStore.current(getName()) + SEPARATOR + key;
+    }
+}
@@ -0,0 +1,51 @@
+package platform.ecommerce.service.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CacheManager} that serves the given cache names as {@link VersionedCache} namespaces
+ * and passes every other name through.
+ * All caches are made transaction-aware here, outside the versioning, so puts, evictions and
+ * generation bumps from a transaction happen after it commits.
+ * The target manager must therefore not decorate its caches itself.
+ */
+public class VersionedCacheManager implements CacheManager {
+
+    private final CacheManager target;
+    private final CacheGenerationStore generationStore;
+    private final Set<String> versionedNames;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public VersionedCacheManager(CacheManager target, CacheGenerationStore generationStore,
+                                 Collection<String> versionedNames) {
+        this.target = target;
+        this.generationStore = generationStore;
+        this.versionedNames = Set.copyOf(versionedNames);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache targetCache = target.getCache(name);
+        if (targetCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new TransactionAwareCacheDecorator(
+                versionedNames.contains(key) ? new VersionedCache(targetCache, generationStore) : targetCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return target.getCacheNames();
+    }
+}
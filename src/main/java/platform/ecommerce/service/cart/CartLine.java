@@ -0,0 +1,44 @@
+package platform.ecommerce.service.cart;
+
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+
+import java.time.LocalDateTime;
+
+/**
+ * One product/option line in a stored cart.
+ * The line ID packs product and option IDs into one long, so it is stable across stores
+ * and can be derived from a DB cart item: product IDs must fit in 31 bits, option IDs in 32.
+ * IDs outside that range are rejected rather than packed into a colliding line ID.
+ */
+public record CartLine(
+        Long productId,
+        Long productOptionId,
+        int quantity,
+        LocalDateTime addedAt
+) {
+    private static final long OPTION_MASK = 0xFFFF_FFFFL;
+    private static final long MAX_PRODUCT_ID = Integer.MAX_VALUE;
+
+    public long lineId() {
+        return lineId(productId, productOptionId);
+    }
+
+    public static long lineId(Long productId, Long productOptionId) {
+        if (productId < 1 || productId > MAX_PRODUCT_ID
+                || (productOptionId != null && (productOptionId < 1 || productOptionId > OPTION_MASK))) {
+            throw new InvalidStateException(ErrorCode.INVALID_INPUT,
+                    "Product or option ID out of cart line range: " + productId + "/" + productOptionId);
+        }
+        return (productId << 32) | (productOptionId == null ? 0L : productOptionId);
+    }
+
+    public static Long productIdOf(long lineId) {
+        return lineId >>> 32;
+    }
+
+    public static Long productOptionIdOf(long lineId) {
+        long optionId = lineId & OPTION_MASK;
+        return optionId == 0 ? null : optionId;
+    }
+}
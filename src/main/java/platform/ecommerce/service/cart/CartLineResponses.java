@@ -0,0 +1,145 @@
+package platform.ecommerce.service.cart;
+
+import platform.ecommerce.dto.response.cart.CartItemResponse;
+import platform.ecommerce.dto.response.cart.CartResponse;
+import platform.ecommerce.dto.response.product.ProductDetailResponse;
+import platform.ecommerce.dto.response.product.ProductOptionResponse;
+import platform.ecommerce.service.pricing.CartPricing;
+import platform.ecommerce.service.pricing.PriceLine;
+import platform.ecommerce.service.pricing.PricingEngine;
+import platform.ecommerce.service.pricing.ShippingPolicy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Response mapping shared by the store-backed member and guest cart services.
+ * Item IDs are {@link CartLine#lineId()} values.
+ */
+final class CartLineResponses {
+
+    static final Comparator<CartLine> LINE_ORDER =
+            Comparator.comparing(CartLine::addedAt).thenComparingLong(CartLine::lineId);
+
+    private CartLineResponses() {
+        // Utility class
+    }
+
+    static CartResponse toResponse(Long memberId, List<CartItemResponse> items) {
+        BigDecimal subtotal = items.stream()
+                .map(CartItemResponse::subtotal)
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return CartResponse.builder()
+                .memberId(memberId)
+                .items(items)
+                .itemCount(items.stream().mapToInt(CartItemResponse::quantity).sum())
+                .uniqueItemCount(items.size())
+                .subtotal(subtotal)
+                .build();
+    }
+
+    static CartItemResponse toBasicItemResponse(CartLine line) {
+        return CartItemResponse.builder()
+                .id(line.lineId())
+                .productId(line.productId())
+                .productOptionId(line.productOptionId())
+                .quantity(line.quantity())
+                .available(true)
+                .addedAt(line.addedAt())
+                .build();
+    }
+
+    static CartItemResponse toUnavailableItemResponse(CartLine line) {
+        return CartItemResponse.builder()
+                .id(line.lineId())
+                .productId(line.productId())
+                .productOptionId(line.productOptionId())
+                .productName("Product unavailable")
+                .quantity(line.quantity())
+                .unitPrice(BigDecimal.ZERO)
+                .subtotal(BigDecimal.ZERO)
+                .available(false)
+                .addedAt(line.addedAt())
+                .build();
+    }
+
+    /**
+     * Build a cart response, pricing all lines in one pass of the pricing engine.
+     * @param productOrNull product lookup returning null for a product that is no longer available
+     */
+    static CartResponse toPricedResponse(Long memberId, List<CartLine> lines,
+                                         Function<Long, ProductDetailResponse> productOrNull) {
+        List<ProductDetailResponse> products = lines.stream()
+                .map(line -> productOrNull.apply(line.productId()))
+                .toList();
+
+        List<PriceLine> priceLines = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            priceLines.add(toPriceLine(lines.get(i), products.get(i)));
+        }
+        CartPricing pricing = PricingEngine.price(priceLines, null, ShippingPolicy.FREE);
+
+        List<CartItemResponse> items = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            ProductDetailResponse product = products.get(i);
+            items.add(product != null
+                    ? toItemResponse(lines.get(i), product, pricing, i)
+                    : toUnavailableItemResponse(lines.get(i)));
+        }
+
+        return CartResponse.builder()
+                .memberId(memberId)
+                .items(items)
+                .itemCount(items.stream().mapToInt(CartItemResponse::quantity).sum())
+                .uniqueItemCount(items.size())
+                .subtotal(pricing.subtotal())
+                .build();
+    }
+
+    static CartItemResponse toItemResponse(CartLine line, ProductDetailResponse product) {
+        CartPricing pricing = PricingEngine.price(List.of(toPriceLine(line, product)), null, ShippingPolicy.FREE);
+        return toItemResponse(line, product, pricing, 0);
+    }
+
+    private static CartItemResponse toItemResponse(CartLine line, ProductDetailResponse product,
+                                                   CartPricing pricing, int index) {
+        ProductOptionResponse option = findOption(product, line.productOptionId());
+
+        return CartItemResponse.builder()
+                .id(line.lineId())
+                .productId(line.productId())
+                .productOptionId(line.productOptionId())
+                .productName(product.name())
+                .optionName(option != null ? option.optionValue() : null)
+                .unitPrice(pricing.unitPrice(index))
+                .quantity(line.quantity())
+                .subtotal(pricing.lineTotal(index))
+                .available(true)
+                .addedAt(line.addedAt())
+                .build();
+    }
+
+    private static PriceLine toPriceLine(CartLine line, ProductDetailResponse product) {
+        if (product == null) {
+            return PriceLine.unpriced(line.quantity());
+        }
+        ProductOptionResponse option = findOption(product, line.productOptionId());
+        return PriceLine.of(product.basePrice(), option != null ? option.additionalPrice() : null, line.quantity());
+    }
+
+    private static ProductOptionResponse findOption(ProductDetailResponse product, Long optionId) {
+        if (optionId == null) {
+            return null;
+        }
+        return product.options().stream()
+                .filter(opt -> opt.id().equals(optionId))
+                .findFirst()
+                .orElse(null);
+    }
+}
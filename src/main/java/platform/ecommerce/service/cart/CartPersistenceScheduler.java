@@ -0,0 +1,56 @@
+package platform.ecommerce.service.cart;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.config.AppProperties;
+
+import java.util.List;
+
+/**
+ * Writes carts changed in the {@link CartStore} back to the cart tables.
+ * Runs only when a store is active; a cart that fails to persist is marked dirty again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression(CartStoreServiceImpl.STORE_ENABLED)
+public class CartPersistenceScheduler {
+
+    private final CartStore cartStore;
+    private final CartSnapshotService cartSnapshotService;
+    private final AppProperties appProperties;
+
+    @Scheduled(fixedDelayString = "${app.cart.persist-interval:PT1M}")
+    public void persistDirtyCarts() {
+        int batchSize = appProperties.getCart().getPersistBatchSize();
+        int persisted = 0;
+        int failed = 0;
+
+        List<Long> memberIds;
+        do {
+            memberIds = cartStore.pollDirtyMembers(batchSize);
+            for (Long memberId : memberIds) {
+                // An expired cart has nothing newer than the database copy
+                if (!cartStore.isLoaded(memberId)) {
+                    continue;
+                }
+                try {
+                    cartSnapshotService.persist(memberId, cartStore.getLines(memberId));
+                    persisted++;
+                } catch (RuntimeException e) {
+                    log.warn("Failed to persist cart, will retry: memberId={}", memberId, e);
+                    cartStore.markDirty(memberId);
+                    failed++;
+                }
+            }
+            // Stop after a failing batch so re-marked carts wait for the next run
+        } while (memberIds.size() == batchSize && failed == 0);
+
+        if (persisted > 0) {
+            log.info("Persisted {} dirty carts", persisted);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import platform.ecommerce.dto.request.cart.CartItemAddRequest;
 import platform.ecommerce.dto.response.cart.CartItemResponse;
 import platform.ecommerce.dto.response.cart.CartResponse;
 
+import java.util.List;
+
 /**
  * Service interface for Cart operations.
  */
@@ -38,4 +40,15 @@ public interface CartService {
      * Gets the cart with all product details.
      */
     CartResponse getCartSummary(Long memberId);
+
+    /**
+     * Gets the member's cart lines without product details, oldest first. Empty if there is no cart.
+     */
+    List<CartLine> getLines(Long memberId);
+
+    /**
+     * Merges guest cart lines into the member's cart in one write, coalescing quantities
+     * of matching items and capping them at the maximum.
+     */
+    void mergeGuestLines(Long memberId, List<CartLine> lines);
 }
@@ -2,10 +2,12 @@ package platform.ecommerce.service.cart;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import platform.ecommerce.domain.cart.Cart;
 import platform.ecommerce.domain.cart.CartItem;
+import platform.ecommerce.domain.cart.CartItemQuantity;
 import platform.ecommerce.dto.request.cart.CartItemAddRequest;
 import platform.ecommerce.dto.response.cart.CartItemResponse;
 import platform.ecommerce.dto.response.cart.CartResponse;
@@ -15,16 +17,23 @@ import platform.ecommerce.exception.EntityNotFoundException;
 import platform.ecommerce.exception.ErrorCode;
 import platform.ecommerce.repository.cart.CartRepository;
 import platform.ecommerce.service.application.ProductApplicationService;
+import platform.ecommerce.service.pricing.CartPricing;
+import platform.ecommerce.service.pricing.PriceLine;
+import platform.ecommerce.service.pricing.PricingEngine;
+import platform.ecommerce.service.pricing.ShippingPolicy;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Cart service implementation.
+ * Cart service implementation backed by the cart tables.
+ * Default; see {@link CartStoreServiceImpl} for the key-value store variant.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.cart", name = "store", havingValue = "database", matchIfMissing = true)
 @Transactional(readOnly = true)
 public class CartServiceImpl implements CartService {
 
@@ -99,6 +108,27 @@ public class CartServiceImpl implements CartService {
         return toResponseWithProductDetails(cart);
     }
 
+    @Override
+    public List<CartLine> getLines(Long memberId) {
+        return cartRepository.findByMemberIdWithItems(memberId)
+                .map(cart -> cart.getItems().stream()
+                        .map(item -> new CartLine(item.getProductId(), item.getProductOptionId(),
+                                item.getQuantity(), item.getAddedAt()))
+                        .toList())
+                .orElse(List.of());
+    }
+
+    @Override
+    @Transactional
+    public void mergeGuestLines(Long memberId, List<CartLine> lines) {
+        log.info("Merging {} guest cart lines for member: {}", lines.size(), memberId);
+
+        Cart cart = getOrCreateCartEntity(memberId);
+        cart.mergeItems(lines.stream()
+                .map(line -> new CartItemQuantity(line.productId(), line.productOptionId(), line.quantity()))
+                .toList());
+    }
+
     // ========== Private Helper Methods ==========
 
     private Cart createCart(Long memberId) {
@@ -141,14 +171,28 @@ public class CartServiceImpl implements CartService {
                 .build();
     }
 
+    /**
+     * Resolve every item's product, then price all lines in one pass of the pricing engine.
+     */
     private CartResponse toResponseWithProductDetails(Cart cart) {
-        List<CartItemResponse> items = cart.getItems().stream()
-                .map(this::toItemResponseWithProduct)
+        List<CartItem> cartItems = cart.getItems();
+        List<ProductDetailResponse> products = cartItems.stream()
+                .map(item -> findProductOrNull(item.getProductId()))
                 .toList();
 
-        BigDecimal subtotal = items.stream()
-                .map(CartItemResponse::subtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<PriceLine> lines = new ArrayList<>(cartItems.size());
+        for (int i = 0; i < cartItems.size(); i++) {
+            lines.add(toPriceLine(cartItems.get(i), products.get(i)));
+        }
+        CartPricing pricing = PricingEngine.price(lines, null, ShippingPolicy.FREE);
+
+        List<CartItemResponse> items = new ArrayList<>(cartItems.size());
+        for (int i = 0; i < cartItems.size(); i++) {
+            ProductDetailResponse product = products.get(i);
+            items.add(product != null
+                    ? toItemResponse(cartItems.get(i), product, pricing, i)
+                    : toUnavailableItemResponse(cartItems.get(i)));
+        }
 
         return CartResponse.builder()
                 .id(cart.getId())
@@ -156,7 +200,7 @@ public class CartServiceImpl implements CartService {
                 .items(items)
                 .itemCount(cart.getItemCount())
                 .uniqueItemCount(cart.getUniqueItemCount())
-                .subtotal(subtotal)
+                .subtotal(pricing.subtotal())
                 .build();
     }
 
@@ -171,53 +215,65 @@ public class CartServiceImpl implements CartService {
                 .build();
     }
 
-    private CartItemResponse toItemResponseWithProduct(CartItem item) {
+    private ProductDetailResponse findProductOrNull(Long productId) {
         try {
-            ProductDetailResponse product = productApplicationService.getProductDetail(item.getProductId());
-            return toItemResponse(item, product);
+            return productApplicationService.getProductDetail(productId);
         } catch (EntityNotFoundException e) {
             // Product no longer available
-            return CartItemResponse.builder()
-                    .id(item.getId())
-                    .productId(item.getProductId())
-                    .productOptionId(item.getProductOptionId())
-                    .productName("Product unavailable")
-                    .quantity(item.getQuantity())
-                    .unitPrice(BigDecimal.ZERO)
-                    .subtotal(BigDecimal.ZERO)
-                    .available(false)
-                    .addedAt(item.getAddedAt())
-                    .build();
+            return null;
         }
     }
 
-    private CartItemResponse toItemResponse(CartItem item, ProductDetailResponse product) {
-        String optionName = null;
-        BigDecimal unitPrice = product.basePrice();
+    private CartItemResponse toUnavailableItemResponse(CartItem item) {
+        return CartItemResponse.builder()
+                .id(item.getId())
+                .productId(item.getProductId())
+                .productOptionId(item.getProductOptionId())
+                .productName("Product unavailable")
+                .quantity(item.getQuantity())
+                .unitPrice(BigDecimal.ZERO)
+                .subtotal(BigDecimal.ZERO)
+                .available(false)
+                .addedAt(item.getAddedAt())
+                .build();
+    }
 
-        if (item.getProductOptionId() != null) {
-            ProductOptionResponse option = product.options().stream()
-                    .filter(opt -> opt.id().equals(item.getProductOptionId()))
-                    .findFirst()
-                    .orElse(null);
+    private ProductOptionResponse findOption(ProductDetailResponse product, Long optionId) {
+        if (optionId == null) {
+            return null;
+        }
+        return product.options().stream()
+                .filter(opt -> opt.id().equals(optionId))
+                .findFirst()
+                .orElse(null);
+    }
 
-            if (option != null) {
-                optionName = option.optionValue();
-                unitPrice = product.basePrice().add(option.additionalPrice());
-            }
+    private PriceLine toPriceLine(CartItem item, ProductDetailResponse product) {
+        if (product == null) {
+            return PriceLine.unpriced(item.getQuantity());
         }
+        ProductOptionResponse option = findOption(product, item.getProductOptionId());
+        return PriceLine.of(product.basePrice(), option != null ? option.additionalPrice() : null, item.getQuantity());
+    }
+
+    private CartItemResponse toItemResponse(CartItem item, ProductDetailResponse product) {
+        CartPricing pricing = PricingEngine.price(List.of(toPriceLine(item, product)), null, ShippingPolicy.FREE);
+        return toItemResponse(item, product, pricing, 0);
+    }
 
-        BigDecimal subtotal = unitPrice.multiply(BigDecimal.valueOf(item.getQuantity()));
+    private CartItemResponse toItemResponse(CartItem item, ProductDetailResponse product,
+                                            CartPricing pricing, int line) {
+        ProductOptionResponse option = findOption(product, item.getProductOptionId());
 
         return CartItemResponse.builder()
                 .id(item.getId())
                 .productId(item.getProductId())
                 .productOptionId(item.getProductOptionId())
                 .productName(product.name())
-                .optionName(optionName)
-                .unitPrice(unitPrice)
+                .optionName(option != null ? option.optionValue() : null)
+                .unitPrice(pricing.unitPrice(line))
                 .quantity(item.getQuantity())
-                .subtotal(subtotal)
+                .subtotal(pricing.lineTotal(line))
                 .available(true)
                 .addedAt(item.getAddedAt())
                 .build();
@@ -0,0 +1,20 @@
+package platform.ecommerce.service.cart;
+
+import java.util.List;
+
+/**
+ * Moves carts between a {@link CartStore} and the cart tables.
+ * The tables stay the durable copy used for abandoned-cart analytics and for seeding the store.
+ */
+public interface CartSnapshotService {
+
+    /**
+     * Load a member's cart lines from the database; empty if the member has no cart.
+     */
+    List<CartLine> loadLines(Long memberId);
+
+    /**
+     * Make the member's DB cart match the given lines, updating rows in place.
+     */
+    void persist(Long memberId, List<CartLine> lines);
+}
@@ -0,0 +1,58 @@
+package platform.ecommerce.service.cart;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import platform.ecommerce.domain.cart.Cart;
+import platform.ecommerce.domain.cart.CartItem;
+import platform.ecommerce.repository.cart.CartRepository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cart snapshot service implementation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CartSnapshotServiceImpl implements CartSnapshotService {
+
+    private final CartRepository cartRepository;
+
+    @Override
+    public List<CartLine> loadLines(Long memberId) {
+        return cartRepository.findByMemberIdWithItems(memberId)
+                .map(cart -> cart.getItems().stream()
+                        .map(item -> new CartLine(item.getProductId(), item.getProductOptionId(),
+                                item.getQuantity(), item.getAddedAt()))
+                        .toList())
+                .orElse(List.of());
+    }
+
+    @Override
+    @Transactional
+    public void persist(Long memberId, List<CartLine> lines) {
+        Cart cart = cartRepository.findByMemberIdWithItems(memberId)
+                .orElseGet(() -> cartRepository.save(Cart.builder().memberId(memberId).build()));
+
+        // Keep rows for lines that still exist so the (cart, product, option) unique key never collides
+        Set<Long> lineIds = lines.stream().map(CartLine::lineId).collect(Collectors.toSet());
+        cart.getItems().stream()
+                .filter(item -> !lineIds.contains(CartLine.lineId(item.getProductId(), item.getProductOptionId())))
+                .map(CartItem::getId)
+                .toList()
+                .forEach(cart::removeItem);
+
+        for (CartLine line : lines) {
+            cart.findItem(line.productId(), line.productOptionId())
+                    .ifPresentOrElse(
+                            item -> item.updateQuantity(line.quantity()),
+                            () -> cart.addItem(line.productId(), line.productOptionId(), line.quantity()));
+        }
+        log.debug("Cart persisted: memberId={}, lines={}", memberId, lines.size());
+    }
+}
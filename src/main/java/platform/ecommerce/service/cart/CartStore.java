@@ -0,0 +1,60 @@
+package platform.ecommerce.service.cart;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Key-value store holding each member's cart as a map of lines.
+ * Every mutation is atomic per member and marks the cart dirty for lazy persistence.
+ * Implementations: RedisCartStore, InMemoryCartStore.
+ */
+public interface CartStore {
+
+    /**
+     * Whether the member's cart has been created or seeded in this store.
+     */
+    boolean isLoaded(Long memberId);
+
+    /**
+     * Seed the cart with lines from an earlier source, unless another caller already did.
+     * @return true if this call seeded the cart
+     */
+    boolean loadIfAbsent(Long memberId, List<CartLine> lines);
+
+    List<CartLine> getLines(Long memberId);
+
+    /**
+     * Add quantity to a line, creating it if absent.
+     * @throws IllegalArgumentException if the resulting quantity exceeds the maximum
+     */
+    CartLine add(Long memberId, Long productId, Long productOptionId, int quantity);
+
+    /**
+     * Add many lines in one atomic write with {@link #add} semantics, e.g. a guest cart on login.
+     * Merged quantities are capped at the maximum instead of failing.
+     */
+    void merge(Long memberId, List<CartLine> lines);
+
+    /**
+     * Set a line's quantity.
+     * @return updated line, or empty if the line does not exist
+     */
+    Optional<CartLine> updateQuantity(Long memberId, long lineId, int quantity);
+
+    /**
+     * @return true if the line existed
+     */
+    boolean remove(Long memberId, long lineId);
+
+    void clear(Long memberId);
+
+    /**
+     * Remove and return up to {@code limit} members whose carts changed since the last poll.
+     */
+    List<Long> pollDirtyMembers(int limit);
+
+    /**
+     * Mark a cart dirty again, e.g. after its persistence failed.
+     */
+    void markDirty(Long memberId);
+}
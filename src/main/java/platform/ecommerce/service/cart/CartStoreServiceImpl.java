@@ -0,0 +1,173 @@
+package platform.ecommerce.service.cart;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import platform.ecommerce.domain.cart.CartItem;
+import platform.ecommerce.dto.request.cart.CartItemAddRequest;
+import platform.ecommerce.dto.response.cart.CartItemResponse;
+import platform.ecommerce.dto.response.cart.CartResponse;
+import platform.ecommerce.dto.response.product.ProductDetailResponse;
+import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.service.application.ProductApplicationService;
+
+import java.util.List;
+
+import static platform.ecommerce.service.cart.CartLineResponses.LINE_ORDER;
+import static platform.ecommerce.service.cart.CartLineResponses.toItemResponse;
+import static platform.ecommerce.service.cart.CartLineResponses.toResponse;
+import static platform.ecommerce.service.cart.CartLineResponses.toPricedResponse;
+
+/**
+ * Cart service backed by a {@link CartStore} instead of the cart tables.
+ * Mutations touch only the store; dirty carts are written to the database later by
+ * {@link CartPersistenceScheduler}. A cart missing from the store is seeded from the
+ * database on first access, so existing DB carts carry over.
+ * Cart item IDs are {@link CartLine#lineId()} values, not cart_item row IDs.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnExpression(CartStoreServiceImpl.STORE_ENABLED)
+public class CartStoreServiceImpl implements CartService {
+
+    /**
+     * Active for any {@code app.cart.store} other than database.
+     */
+    static final String STORE_ENABLED = "!'${app.cart.store:database}'.equalsIgnoreCase('database')";
+
+    private final CartStore cartStore;
+    private final CartSnapshotService cartSnapshotService;
+    private final ProductApplicationService productApplicationService;
+
+    @Override
+    public CartResponse getOrCreateCart(Long memberId) {
+        List<CartLine> lines = loadLines(memberId);
+        return toResponse(memberId, lines.stream().map(CartLineResponses::toBasicItemResponse).toList());
+    }
+
+    @Override
+    public CartItemResponse addToCart(Long memberId, CartItemAddRequest request) {
+        log.info("Adding item to cart for member: {}", memberId);
+
+        ProductDetailResponse product = productApplicationService.getProductDetail(request.productId());
+        validateProductAvailable(product, request.productOptionId());
+
+        ensureLoaded(memberId);
+        CartLine line = cartStore.add(memberId, request.productId(), request.productOptionId(), request.quantity());
+
+        log.info("Item added to cart: memberId={}, productId={}", memberId, request.productId());
+        return toItemResponse(line, product);
+    }
+
+    @Override
+    public CartItemResponse updateQuantity(Long memberId, Long cartItemId, int quantity) {
+        log.info("Updating cart item quantity: memberId={}, itemId={}, quantity={}",
+                memberId, cartItemId, quantity);
+        validateQuantity(quantity);
+
+        ensureLoaded(memberId);
+        CartLine line = cartStore.updateQuantity(memberId, cartItemId, quantity)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.CART_ITEM_NOT_FOUND));
+
+        ProductDetailResponse product = productApplicationService.getProductDetail(line.productId());
+        return toItemResponse(line, product);
+    }
+
+    @Override
+    public void removeFromCart(Long memberId, Long cartItemId) {
+        log.info("Removing item from cart: memberId={}, itemId={}", memberId, cartItemId);
+
+        ensureLoaded(memberId);
+        if (!cartStore.remove(memberId, cartItemId)) {
+            throw new EntityNotFoundException(ErrorCode.CART_ITEM_NOT_FOUND);
+        }
+    }
+
+    /**
+     * Inside a database transaction (e.g. checkout) the store is cleared only after commit,
+     * so a rolled-back order leaves the cart intact.
+     */
+    @Override
+    public void clearCart(Long memberId) {
+        log.info("Clearing cart for member: {}", memberId);
+
+        ensureLoaded(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cartStore.clear(memberId);
+                }
+            });
+            return;
+        }
+        cartStore.clear(memberId);
+    }
+
+    @Override
+    public CartResponse getCartSummary(Long memberId) {
+        return toPricedResponse(memberId, loadLines(memberId), this::findProductOrNull);
+    }
+
+    @Override
+    public List<CartLine> getLines(Long memberId) {
+        return loadLines(memberId);
+    }
+
+    @Override
+    public void mergeGuestLines(Long memberId, List<CartLine> lines) {
+        log.info("Merging {} guest cart lines for member: {}", lines.size(), memberId);
+
+        ensureLoaded(memberId);
+        cartStore.merge(memberId, lines);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void ensureLoaded(Long memberId) {
+        if (!cartStore.isLoaded(memberId)) {
+            if (cartStore.loadIfAbsent(memberId, cartSnapshotService.loadLines(memberId))) {
+                log.info("Cart seeded from database: memberId={}", memberId);
+            }
+        }
+    }
+
+    private List<CartLine> loadLines(Long memberId) {
+        ensureLoaded(memberId);
+        return cartStore.getLines(memberId).stream()
+                .sorted(LINE_ORDER)
+                .toList();
+    }
+
+    private void validateQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        if (quantity > CartItem.MAX_QUANTITY) {
+            throw new IllegalArgumentException("Quantity cannot exceed " + CartItem.MAX_QUANTITY);
+        }
+    }
+
+    private void validateProductAvailable(ProductDetailResponse product, Long optionId) {
+        if (optionId != null) {
+            product.options().stream()
+                    .filter(opt -> opt.id().equals(optionId))
+                    .findFirst()
+                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PRODUCT_OPTION_NOT_FOUND));
+        }
+    }
+
+    private ProductDetailResponse findProductOrNull(Long productId) {
+        try {
+            return productApplicationService.getProductDetail(productId);
+        } catch (EntityNotFoundException e) {
+            // Product no longer available
+            return null;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package platform.ecommerce.service.cart;
+
+import platform.ecommerce.dto.request.cart.CartItemAddRequest;
+import platform.ecommerce.dto.response.cart.CartItemResponse;
+import platform.ecommerce.dto.response.cart.CartResponse;
+
+/**
+ * Service interface for guest (anonymous) cart operations.
+ * Guest carts are identified by the token in the guest cart cookie.
+ */
+public interface GuestCartService {
+
+    /**
+     * Gets the guest cart with product details. Empty if the token is null or the cart expired.
+     */
+    CartResponse getCart(String token);
+
+    /**
+     * Adds an item to the guest cart. Merges quantity if item already exists.
+     */
+    CartItemResponse addToCart(String token, CartItemAddRequest request);
+
+    /**
+     * Updates the quantity of an item in the guest cart.
+     */
+    CartItemResponse updateQuantity(String token, Long cartItemId, int quantity);
+
+    /**
+     * Removes an item from the guest cart.
+     */
+    void removeFromCart(String token, Long cartItemId);
+}
@@ -0,0 +1,119 @@
+package platform.ecommerce.service.cart;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.domain.cart.CartItem;
+import platform.ecommerce.dto.request.cart.CartItemAddRequest;
+import platform.ecommerce.dto.response.cart.CartItemResponse;
+import platform.ecommerce.dto.response.cart.CartResponse;
+import platform.ecommerce.dto.response.product.ProductDetailResponse;
+import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.service.application.ProductApplicationService;
+
+import java.util.List;
+
+import static platform.ecommerce.service.cart.CartLineResponses.LINE_ORDER;
+import static platform.ecommerce.service.cart.CartLineResponses.toItemResponse;
+import static platform.ecommerce.service.cart.CartLineResponses.toResponse;
+import static platform.ecommerce.service.cart.CartLineResponses.toPricedResponse;
+
+/**
+ * Guest cart service backed by a {@link GuestCartStore}.
+ * Cart item IDs are {@link CartLine#lineId()} values; the response carries no member ID.
+ * A guest cart holds at most {@code app.cart.guest-max-lines} lines.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuestCartServiceImpl implements GuestCartService {
+
+    private final GuestCartStore guestCartStore;
+    private final ProductApplicationService productApplicationService;
+    private final AppProperties appProperties;
+
+    @Override
+    public CartResponse getCart(String token) {
+        if (token == null) {
+            return toResponse(null, List.of());
+        }
+        List<CartLine> lines = guestCartStore.getLines(token).stream()
+                .sorted(LINE_ORDER)
+                .toList();
+        return toPricedResponse(null, lines, this::findProductOrNull);
+    }
+
+    @Override
+    public CartItemResponse addToCart(String token, CartItemAddRequest request) {
+        log.debug("Adding item to guest cart: productId={}", request.productId());
+
+        ProductDetailResponse product = productApplicationService.getProductDetail(request.productId());
+        validateProductAvailable(product, request.productOptionId());
+        validateLineLimit(token, request.productId(), request.productOptionId());
+
+        CartLine line = guestCartStore.add(token, request.productId(), request.productOptionId(), request.quantity());
+        return toItemResponse(line, product);
+    }
+
+    @Override
+    public CartItemResponse updateQuantity(String token, Long cartItemId, int quantity) {
+        validateQuantity(quantity);
+
+        CartLine line = guestCartStore.updateQuantity(token, cartItemId, quantity)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.CART_ITEM_NOT_FOUND));
+
+        ProductDetailResponse product = productApplicationService.getProductDetail(line.productId());
+        return toItemResponse(line, product);
+    }
+
+    @Override
+    public void removeFromCart(String token, Long cartItemId) {
+        if (!guestCartStore.remove(token, cartItemId)) {
+            throw new EntityNotFoundException(ErrorCode.CART_ITEM_NOT_FOUND);
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void validateQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        if (quantity > CartItem.MAX_QUANTITY) {
+            throw new IllegalArgumentException("Quantity cannot exceed " + CartItem.MAX_QUANTITY);
+        }
+    }
+
+    /**
+     * New lines are refused once the cart is full; adding to an existing line is always allowed.
+     */
+    private void validateLineLimit(String token, Long productId, Long productOptionId) {
+        long lineId = CartLine.lineId(productId, productOptionId);
+        List<CartLine> lines = guestCartStore.getLines(token);
+        if (lines.size() >= appProperties.getCart().getGuestMaxLines()
+                && lines.stream().noneMatch(line -> line.lineId() == lineId)) {
+            throw new InvalidStateException(ErrorCode.CART_ITEM_LIMIT_EXCEEDED);
+        }
+    }
+
+    private void validateProductAvailable(ProductDetailResponse product, Long optionId) {
+        if (optionId != null) {
+            product.options().stream()
+                    .filter(opt -> opt.id().equals(optionId))
+                    .findFirst()
+                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PRODUCT_OPTION_NOT_FOUND));
+        }
+    }
+
+    private ProductDetailResponse findProductOrNull(Long productId) {
+        try {
+            return productApplicationService.getProductDetail(productId);
+        } catch (EntityNotFoundException e) {
+            // Product no longer available
+            return null;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package platform.ecommerce.service.cart;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Short-lived carts of anonymous shoppers, keyed by an opaque token from the guest cart cookie.
+ * Guest carts never reach the database: they expire after a period of inactivity
+ * or are merged into the member cart on login.
+ * Implementations: RedisGuestCartStore, InMemoryGuestCartStore.
+ */
+public interface GuestCartStore {
+
+    List<CartLine> getLines(String token);
+
+    /**
+     * Add quantity to a line, creating it if absent. Refreshes the cart's expiry.
+     * @throws IllegalArgumentException if the resulting quantity exceeds the maximum
+     */
+    CartLine add(String token, Long productId, Long productOptionId, int quantity);
+
+    /**
+     * Set a line's quantity.
+     * @return updated line, or empty if the line does not exist
+     */
+    Optional<CartLine> updateQuantity(String token, long lineId, int quantity);
+
+    /**
+     * @return true if the line existed
+     */
+    boolean remove(String token, long lineId);
+
+    void delete(String token);
+}
@@ -0,0 +1,144 @@
+package platform.ecommerce.service.cart;
+
+import platform.ecommerce.domain.cart.CartItem;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process {@link CartStore} for tests and single-node development.
+ * Each cart is an immutable map replaced atomically per member, so reads never see a partial update.
+ * Carts do not expire.
+ */
+public class InMemoryCartStore implements CartStore {
+
+    private final Map<Long, Map<Long, CartLine>> carts = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyMembers = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean isLoaded(Long memberId) {
+        return carts.containsKey(memberId);
+    }
+
+    @Override
+    public boolean loadIfAbsent(Long memberId, List<CartLine> lines) {
+        Map<Long, CartLine> seeded = new LinkedHashMap<>();
+        lines.forEach(line -> seeded.put(line.lineId(), line));
+        return carts.putIfAbsent(memberId, Map.copyOf(seeded)) == null;
+    }
+
+    @Override
+    public List<CartLine> getLines(Long memberId) {
+        return List.copyOf(carts.getOrDefault(memberId, Map.of()).values());
+    }
+
+    @Override
+    public CartLine add(Long memberId, Long productId, Long productOptionId, int quantity) {
+        long lineId = CartLine.lineId(productId, productOptionId);
+        CartLine[] result = new CartLine[1];
+        mutate(memberId, lines -> {
+            CartLine current = lines.get(lineId);
+            int newQuantity = (current == null ? 0 : current.quantity()) + quantity;
+            if (newQuantity > CartItem.MAX_QUANTITY) {
+                throw new IllegalArgumentException("Quantity cannot exceed " + CartItem.MAX_QUANTITY);
+            }
+            LocalDateTime addedAt = current == null ? LocalDateTime.now() : current.addedAt();
+            result[0] = new CartLine(productId, productOptionId, newQuantity, addedAt);
+            lines.put(lineId, result[0]);
+            return true;
+        });
+        return result[0];
+    }
+
+    @Override
+    public void merge(Long memberId, List<CartLine> additions) {
+        mutate(memberId, lines -> {
+            for (CartLine addition : additions) {
+                CartLine current = lines.get(addition.lineId());
+                int quantity = Math.min((current == null ? 0 : current.quantity()) + addition.quantity(),
+                        CartItem.MAX_QUANTITY);
+                LocalDateTime addedAt = current == null ? addition.addedAt() : current.addedAt();
+                lines.put(addition.lineId(),
+                        new CartLine(addition.productId(), addition.productOptionId(), quantity, addedAt));
+            }
+            return !additions.isEmpty();
+        });
+    }
+
+    @Override
+    public Optional<CartLine> updateQuantity(Long memberId, long lineId, int quantity) {
+        CartLine[] result = new CartLine[1];
+        mutate(memberId, lines -> {
+            CartLine current = lines.get(lineId);
+            if (current == null) {
+                return false;
+            }
+            result[0] = new CartLine(current.productId(), current.productOptionId(), quantity, current.addedAt());
+            lines.put(lineId, result[0]);
+            return true;
+        });
+        return Optional.ofNullable(result[0]);
+    }
+
+    @Override
+    public boolean remove(Long memberId, long lineId) {
+        return mutate(memberId, lines -> lines.remove(lineId) != null);
+    }
+
+    @Override
+    public void clear(Long memberId) {
+        mutate(memberId, lines -> {
+            lines.clear();
+            return true;
+        });
+    }
+
+    @Override
+    public List<Long> pollDirtyMembers(int limit) {
+        List<Long> polled = new ArrayList<>(limit);
+        Iterator<Long> iterator = dirtyMembers.iterator();
+        while (polled.size() < limit && iterator.hasNext()) {
+            Long memberId = iterator.next();
+            if (dirtyMembers.remove(memberId)) {
+                polled.add(memberId);
+            }
+        }
+        return polled;
+    }
+
+    @Override
+    public void markDirty(Long memberId) {
+        dirtyMembers.add(memberId);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Apply a change to a copy of the member's lines and publish it atomically.
+     * @return the mutation's result; the cart is marked dirty only when it returns true
+     */
+    private boolean mutate(Long memberId, Mutation mutation) {
+        boolean[] changed = new boolean[1];
+        carts.compute(memberId, (id, current) -> {
+            Map<Long, CartLine> lines = new LinkedHashMap<>(current == null ? Map.of() : current);
+            changed[0] = mutation.apply(lines);
+            return changed[0] ? Map.copyOf(lines) : (current == null ? Map.of() : current);
+        });
+        if (changed[0]) {
+            dirtyMembers.add(memberId);
+        }
+        return changed[0];
+    }
+
+    @FunctionalInterface
+    private interface Mutation {
+        boolean apply(Map<Long, CartLine> lines);
+    }
+}
@@ -0,0 +1,121 @@
+package platform.ecommerce.service.cart;
+
+import platform.ecommerce.domain.cart.CartItem;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process {@link GuestCartStore} for tests and single-node development.
+ * Expired carts are treated as absent on access and swept periodically on writes.
+ */
+public class InMemoryGuestCartStore implements GuestCartStore {
+
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final Map<String, GuestCart> carts = new ConcurrentHashMap<>();
+    private final AtomicLong writes = new AtomicLong();
+    private final Duration ttl;
+    private final Clock clock;
+
+    public InMemoryGuestCartStore(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<CartLine> getLines(String token) {
+        GuestCart cart = carts.get(token);
+        if (cart == null || cart.isExpired(clock.instant())) {
+            return List.of();
+        }
+        return List.copyOf(cart.lines().values());
+    }
+
+    @Override
+    public CartLine add(String token, Long productId, Long productOptionId, int quantity) {
+        long lineId = CartLine.lineId(productId, productOptionId);
+        CartLine[] result = new CartLine[1];
+        mutate(token, lines -> {
+            CartLine current = lines.get(lineId);
+            int newQuantity = (current == null ? 0 : current.quantity()) + quantity;
+            if (newQuantity > CartItem.MAX_QUANTITY) {
+                throw new IllegalArgumentException("Quantity cannot exceed " + CartItem.MAX_QUANTITY);
+            }
+            LocalDateTime addedAt = current == null ? LocalDateTime.now(clock) : current.addedAt();
+            result[0] = new CartLine(productId, productOptionId, newQuantity, addedAt);
+            lines.put(lineId, result[0]);
+            return true;
+        });
+        return result[0];
+    }
+
+    @Override
+    public Optional<CartLine> updateQuantity(String token, long lineId, int quantity) {
+        CartLine[] result = new CartLine[1];
+        mutate(token, lines -> {
+            CartLine current = lines.get(lineId);
+            if (current == null) {
+                return false;
+            }
+            result[0] = new CartLine(current.productId(), current.productOptionId(), quantity, current.addedAt());
+            lines.put(lineId, result[0]);
+            return true;
+        });
+        return Optional.ofNullable(result[0]);
+    }
+
+    @Override
+    public boolean remove(String token, long lineId) {
+        return mutate(token, lines -> lines.remove(lineId) != null);
+    }
+
+    @Override
+    public void delete(String token) {
+        carts.remove(token);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Apply a change to a copy of the cart's lines and publish it with a refreshed expiry.
+     * @return the mutation's result; an unchanged cart keeps its expiry
+     */
+    private boolean mutate(String token, Mutation mutation) {
+        Instant now = clock.instant();
+        boolean[] changed = new boolean[1];
+        carts.compute(token, (key, current) -> {
+            boolean live = current != null && !current.isExpired(now);
+            Map<Long, CartLine> lines = new LinkedHashMap<>(live ? current.lines() : Map.of());
+            changed[0] = mutation.apply(lines);
+            if (!changed[0]) {
+                return live ? current : null;
+            }
+            return new GuestCart(Map.copyOf(lines), now.plus(ttl));
+        });
+        if (changed[0] && writes.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            carts.values().removeIf(cart -> cart.isExpired(now));
+        }
+        return changed[0];
+    }
+
+    private record GuestCart(Map<Long, CartLine> lines, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Mutation {
+        boolean apply(Map<Long, CartLine> lines);
+    }
+}
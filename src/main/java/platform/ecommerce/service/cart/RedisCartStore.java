@@ -0,0 +1,221 @@
+package platform.ecommerce.service.cart;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import platform.ecommerce.domain.cart.CartItem;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link CartStore} keeping one Redis hash per member.
+ * Layout of {@code cart:{memberId}}: field {@code {lineId}} holds the quantity,
+ * {@code {lineId}:at} the added-at epoch millis, and {@code _loaded} marks a seeded cart.
+ * Every mutation is a single Lua script, so it is atomic without WATCH/MULTI round trips.
+ * Changed member IDs go to the {@code cart:dirty} set for lazy persistence.
+ */
+public class RedisCartStore implements CartStore {
+
+    private static final String KEY_PREFIX = "cart:";
+    private static final String DIRTY_KEY = "cart:dirty";
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String ADDED_AT_SUFFIX = ":at";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    // ARGV: field, delta, max, nowMillis, ttlSeconds, memberId -> {quantity, addedAt}, or empty if over max
+    private static final RedisScript<List> ADD_SCRIPT = new DefaultRedisScript<>("""
+            local quantity = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') + tonumber(ARGV[2])
+            if quantity > tonumber(ARGV[3]) then return {} end
+            redis.call('HSET', KEYS[1], ARGV[1], quantity, '_loaded', '1')
+            redis.call('HSETNX', KEYS[1], ARGV[1] .. ':at', ARGV[4])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            redis.call('SADD', KEYS[2], ARGV[6])
+            return {quantity, tonumber(redis.call('HGET', KEYS[1], ARGV[1] .. ':at'))}
+            """, List.class);
+
+    // ARGV: max, ttlSeconds, memberId, then (field, delta, addedAt) triples; quantities are capped at max
+    private static final RedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 4, #ARGV, 3 do
+                local quantity = tonumber(redis.call('HGET', KEYS[1], ARGV[i]) or '0') + tonumber(ARGV[i + 1])
+                redis.call('HSET', KEYS[1], ARGV[i], math.min(quantity, tonumber(ARGV[1])))
+                redis.call('HSETNX', KEYS[1], ARGV[i] .. ':at', ARGV[i + 2])
+            end
+            redis.call('HSET', KEYS[1], '_loaded', '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // ARGV: field, quantity, ttlSeconds, memberId -> {quantity, addedAt} or nil if line is absent
+    private static final RedisScript<List> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return nil end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[4])
+            return {tonumber(ARGV[2]), tonumber(redis.call('HGET', KEYS[1], ARGV[1] .. ':at'))}
+            """, List.class);
+
+    // ARGV: field, memberId -> number of fields removed
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local removed = redis.call('HDEL', KEYS[1], ARGV[1], ARGV[1] .. ':at')
+            if removed > 0 then redis.call('SADD', KEYS[2], ARGV[2]) end
+            return removed
+            """, Long.class);
+
+    // ARGV: ttlSeconds, memberId
+    private static final RedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], '_loaded', '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // ARGV: ttlSeconds, then (field, quantity, addedAt) triples -> 1 if seeded, 0 if already loaded
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HSETNX', KEYS[1], '_loaded', '1') == 0 then return 0 end
+            for i = 2, #ARGV, 3 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1], ARGV[i] .. ':at', ARGV[i + 2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String ttlSeconds;
+
+    public RedisCartStore(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = String.valueOf(ttl.toSeconds());
+    }
+
+    @Override
+    public boolean isLoaded(Long memberId) {
+        return redisTemplate.opsForHash().hasKey(key(memberId), LOADED_FIELD);
+    }
+
+    @Override
+    public boolean loadIfAbsent(Long memberId, List<CartLine> lines) {
+        List<String> args = new ArrayList<>(1 + lines.size() * 3);
+        args.add(ttlSeconds);
+        for (CartLine line : lines) {
+            args.add(String.valueOf(line.lineId()));
+            args.add(String.valueOf(line.quantity()));
+            args.add(String.valueOf(toEpochMillis(line.addedAt())));
+        }
+        Long seeded = redisTemplate.execute(LOAD_SCRIPT, List.of(key(memberId)), args.toArray());
+        return seeded != null && seeded == 1;
+    }
+
+    @Override
+    public List<CartLine> getLines(Long memberId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(memberId));
+        List<CartLine> lines = new ArrayList<>();
+        fields.forEach((field, value) -> {
+            String name = (String) field;
+            if (name.equals(LOADED_FIELD) || name.endsWith(ADDED_AT_SUFFIX)) {
+                return;
+            }
+            long lineId = Long.parseLong(name);
+            Object addedAt = fields.get(name + ADDED_AT_SUFFIX);
+            lines.add(toLine(lineId, Long.parseLong((String) value),
+                    addedAt != null ? Long.parseLong((String) addedAt) : System.currentTimeMillis()));
+        });
+        return lines;
+    }
+
+    @Override
+    public CartLine add(Long memberId, Long productId, Long productOptionId, int quantity) {
+        long lineId = CartLine.lineId(productId, productOptionId);
+        List<?> result = redisTemplate.execute(ADD_SCRIPT, keys(memberId),
+                String.valueOf(lineId), String.valueOf(quantity), String.valueOf(CartItem.MAX_QUANTITY),
+                String.valueOf(System.currentTimeMillis()), ttlSeconds, String.valueOf(memberId));
+        if (result == null || result.isEmpty()) {
+            throw new IllegalArgumentException("Quantity cannot exceed " + CartItem.MAX_QUANTITY);
+        }
+        return toLine(lineId, (Long) result.get(0), (Long) result.get(1));
+    }
+
+    @Override
+    public void merge(Long memberId, List<CartLine> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(3 + lines.size() * 3);
+        args.add(String.valueOf(CartItem.MAX_QUANTITY));
+        args.add(ttlSeconds);
+        args.add(String.valueOf(memberId));
+        for (CartLine line : lines) {
+            args.add(String.valueOf(line.lineId()));
+            args.add(String.valueOf(line.quantity()));
+            args.add(String.valueOf(toEpochMillis(line.addedAt())));
+        }
+        redisTemplate.execute(MERGE_SCRIPT, keys(memberId), args.toArray());
+    }
+
+    @Override
+    public Optional<CartLine> updateQuantity(Long memberId, long lineId, int quantity) {
+        List<?> result = redisTemplate.execute(UPDATE_SCRIPT, keys(memberId),
+                String.valueOf(lineId), String.valueOf(quantity), ttlSeconds, String.valueOf(memberId));
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toLine(lineId, (Long) result.get(0), (Long) result.get(1)));
+    }
+
+    @Override
+    public boolean remove(Long memberId, long lineId) {
+        Long removed = redisTemplate.execute(REMOVE_SCRIPT, keys(memberId),
+                String.valueOf(lineId), String.valueOf(memberId));
+        return removed != null && removed > 0;
+    }
+
+    @Override
+    public void clear(Long memberId) {
+        redisTemplate.execute(CLEAR_SCRIPT, keys(memberId), ttlSeconds, String.valueOf(memberId));
+    }
+
+    @Override
+    public List<Long> pollDirtyMembers(int limit) {
+        List<String> members = redisTemplate.opsForSet().pop(DIRTY_KEY, limit);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    @Override
+    public void markDirty(Long memberId) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(memberId));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private List<String> keys(Long memberId) {
+        return List.of(key(memberId), DIRTY_KEY);
+    }
+
+    private CartLine toLine(long lineId, long quantity, long addedAtMillis) {
+        return new CartLine(
+                CartLine.productIdOf(lineId),
+                CartLine.productOptionIdOf(lineId),
+                (int) quantity,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(addedAtMillis), ZONE)
+        );
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
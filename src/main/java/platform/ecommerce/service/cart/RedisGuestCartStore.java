@@ -0,0 +1,119 @@
+package platform.ecommerce.service.cart;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import platform.ecommerce.domain.cart.CartItem;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link GuestCartStore} keeping one Redis hash per guest token.
+ * Layout of {@code guest-cart:{token}} matches {@link RedisCartStore}: field {@code {lineId}}
+ * holds the quantity and {@code {lineId}:at} the added-at epoch millis.
+ * Every write refreshes the key's TTL, so abandoned guest carts disappear on their own.
+ */
+public class RedisGuestCartStore implements GuestCartStore {
+
+    private static final String KEY_PREFIX = "guest-cart:";
+    private static final String ADDED_AT_SUFFIX = ":at";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    // ARGV: field, delta, max, nowMillis, ttlSeconds -> {quantity, addedAt}, or empty if over max
+    private static final RedisScript<List> ADD_SCRIPT = new DefaultRedisScript<>("""
+            local quantity = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') + tonumber(ARGV[2])
+            if quantity > tonumber(ARGV[3]) then return {} end
+            redis.call('HSET', KEYS[1], ARGV[1], quantity)
+            redis.call('HSETNX', KEYS[1], ARGV[1] .. ':at', ARGV[4])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            return {quantity, tonumber(redis.call('HGET', KEYS[1], ARGV[1] .. ':at'))}
+            """, List.class);
+
+    // ARGV: field, quantity, ttlSeconds -> {quantity, addedAt} or nil if line is absent
+    private static final RedisScript<List> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then return nil end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return {tonumber(ARGV[2]), tonumber(redis.call('HGET', KEYS[1], ARGV[1] .. ':at'))}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String ttlSeconds;
+
+    public RedisGuestCartStore(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = String.valueOf(ttl.toSeconds());
+    }
+
+    @Override
+    public List<CartLine> getLines(String token) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(token));
+        List<CartLine> lines = new ArrayList<>();
+        fields.forEach((field, value) -> {
+            String name = (String) field;
+            if (name.endsWith(ADDED_AT_SUFFIX)) {
+                return;
+            }
+            Object addedAt = fields.get(name + ADDED_AT_SUFFIX);
+            lines.add(toLine(Long.parseLong(name), Long.parseLong((String) value),
+                    addedAt != null ? Long.parseLong((String) addedAt) : System.currentTimeMillis()));
+        });
+        return lines;
+    }
+
+    @Override
+    public CartLine add(String token, Long productId, Long productOptionId, int quantity) {
+        long lineId = CartLine.lineId(productId, productOptionId);
+        List<?> result = redisTemplate.execute(ADD_SCRIPT, List.of(key(token)),
+                String.valueOf(lineId), String.valueOf(quantity), String.valueOf(CartItem.MAX_QUANTITY),
+                String.valueOf(System.currentTimeMillis()), ttlSeconds);
+        if (result == null || result.isEmpty()) {
+            throw new IllegalArgumentException("Quantity cannot exceed " + CartItem.MAX_QUANTITY);
+        }
+        return toLine(lineId, (Long) result.get(0), (Long) result.get(1));
+    }
+
+    @Override
+    public Optional<CartLine> updateQuantity(String token, long lineId, int quantity) {
+        List<?> result = redisTemplate.execute(UPDATE_SCRIPT, List.of(key(token)),
+                String.valueOf(lineId), String.valueOf(quantity), ttlSeconds);
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toLine(lineId, (Long) result.get(0), (Long) result.get(1)));
+    }
+
+    @Override
+    public boolean remove(String token, long lineId) {
+        Long removed = redisTemplate.opsForHash().delete(key(token),
+                String.valueOf(lineId), lineId + ADDED_AT_SUFFIX);
+        return removed != null && removed > 0;
+    }
+
+    @Override
+    public void delete(String token) {
+        redisTemplate.delete(key(token));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private String key(String token) {
+        return KEY_PREFIX + token;
+    }
+
+    private CartLine toLine(long lineId, long quantity, long addedAtMillis) {
+        return new CartLine(
+                CartLine.productIdOf(lineId),
+                CartLine.productOptionIdOf(lineId),
+                (int) quantity,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(addedAtMillis), ZONE)
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package platform.ecommerce.service.category;
+
+/**
+ * Published when a category is created, changed, moved or deleted, so the category tree is rebuilt.
+ */
+public record CategoryChangedEvent(Long categoryId) {
+}
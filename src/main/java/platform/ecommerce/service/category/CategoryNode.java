@@ -0,0 +1,33 @@
+package platform.ecommerce.service.category;
+
+import java.util.List;
+
+/**
+ * One category in a {@link CategoryTree}.
+ * {@code ancestorIds} runs from the root down to the parent; descendants occupy the preorder
+ * positions {@code (preorder, subtreeEnd]}, so subtree membership is a range check.
+ */
+public record CategoryNode(
+        Long id,
+        String name,
+        String slug,
+        String description,
+        Long parentId,
+        String path,
+        int depth,
+        int displayOrder,
+        boolean active,
+        List<Long> childIds,
+        List<Long> ancestorIds,
+        int preorder,
+        int subtreeEnd
+) {
+
+    public boolean isRoot() {
+        return parentId == null;
+    }
+
+    public int childCount() {
+        return childIds.size();
+    }
+}
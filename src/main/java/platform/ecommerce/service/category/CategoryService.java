@@ -6,6 +6,7 @@ import platform.ecommerce.dto.response.category.CategoryResponse;
 import platform.ecommerce.dto.response.category.CategoryTreeResponse;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service interface for Category operations.
@@ -42,6 +43,11 @@ public interface CategoryService {
      */
     List<CategoryResponse> getAncestors(Long categoryId);
 
+    /**
+     * Gets the materialized path of a category, read from the database so it reflects the latest move.
+     */
+    Optional<String> findCategoryPath(Long categoryId);
+
     /**
      * Gets root level categories.
      */
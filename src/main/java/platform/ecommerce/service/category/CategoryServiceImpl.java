@@ -4,7 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import platform.ecommerce.config.CacheConfig;
@@ -18,10 +18,9 @@ import platform.ecommerce.exception.ErrorCode;
 import platform.ecommerce.exception.InvalidStateException;
 import platform.ecommerce.repository.category.CategoryRepository;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Category service implementation.
@@ -33,20 +32,24 @@ import java.util.stream.Collectors;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheConfig.CATEGORY_TREE_CACHE, allEntries = true)
+    @CacheEvict(value = CacheConfig.CATEGORY_CACHE, allEntries = true)
     public CategoryResponse createCategory(CategoryCreateRequest request) {
         log.info("Creating category: {}", request.name());
 
         validateSlugUnique(request.slug(), null);
 
         int depth = 0;
+        String parentPath = null;
         if (request.parentId() != null) {
             Category parent = findCategoryById(request.parentId());
             depth = parent.getDepth() + 1;
             validateDepth(depth);
+            parentPath = parent.getPath();
         }
 
         Category category = Category.builder()
@@ -59,6 +62,9 @@ public class CategoryServiceImpl implements CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
+        savedCategory.assignPath(parentPath);
+        adjustChildCount(request.parentId(), 1);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
         log.info("Category created: id={}", savedCategory.getId());
 
         return toResponse(savedCategory);
@@ -72,38 +78,18 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
-    @Cacheable(value = CacheConfig.CATEGORY_TREE_CACHE, key = "'root'")
     public List<CategoryTreeResponse> getCategoryTree() {
-        List<Category> allCategories = categoryRepository.findAllActive();
-
-        // Group categories by parent ID
-        Map<Long, List<Category>> categoryByParent = allCategories.stream()
-                .collect(Collectors.groupingBy(
-                        c -> c.getParentId() != null ? c.getParentId() : 0L
-                ));
-
-        // Build tree starting from root categories (parentId = null, grouped under 0L)
-        return buildTree(categoryByParent, 0L);
+        // Not put in the shared cache: the snapshot is node-local, and a stale node would republish its tree
+        CategoryTree tree = categoryTreeCache.get();
+        return tree.getRoots().stream()
+                .map(root -> toTreeResponse(tree, root))
+                .toList();
     }
 
     @Override
     public CategoryTreeResponse getCategoryTree(Long categoryId) {
-        Category category = findCategoryById(categoryId);
-        List<Category> allCategories = categoryRepository.findAllActive();
-
-        // Group categories by parent ID
-        Map<Long, List<Category>> categoryByParent = allCategories.stream()
-                .collect(Collectors.groupingBy(
-                        c -> c.getParentId() != null ? c.getParentId() : 0L
-                ));
-
-        return CategoryTreeResponse.builder()
-                .id(category.getId())
-                .name(category.getName())
-                .slug(category.getSlug())
-                .displayOrder(category.getDisplayOrder())
-                .children(buildTree(categoryByParent, category.getId()))
-                .build();
+        CategoryTree tree = categoryTreeCache.get();
+        return toTreeResponse(tree, findNode(tree, categoryId));
     }
 
     @Override
@@ -113,15 +99,15 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public List<CategoryResponse> getAncestors(Long categoryId) {
-        List<CategoryResponse> ancestors = new ArrayList<>();
-        Category current = findCategoryById(categoryId);
-
-        while (current.getParentId() != null) {
-            current = findCategoryById(current.getParentId());
-            ancestors.add(0, toResponse(current)); // Add at beginning for correct order
-        }
+        CategoryTree tree = categoryTreeCache.get();
+        return tree.getAncestors(findNode(tree, categoryId)).stream()
+                .map(this::toResponse)
+                .toList();
+    }
 
-        return ancestors;
+    @Override
+    public Optional<String> findCategoryPath(Long categoryId) {
+        return categoryRepository.findPathById(categoryId);
     }
 
     @Override
@@ -140,10 +126,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.CATEGORY_CACHE, key = "#categoryId"),
-            @CacheEvict(value = CacheConfig.CATEGORY_TREE_CACHE, allEntries = true)
-    })
+    @CacheEvict(value = CacheConfig.CATEGORY_CACHE, key = "#categoryId")
     public CategoryResponse updateCategory(Long categoryId, CategoryUpdateRequest request) {
         log.info("Updating category: id={}", categoryId);
 
@@ -152,6 +135,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         category.updateInfo(request.name(), request.slug(), request.description());
         category.updateDisplayOrder(request.displayOrder());
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         log.info("Category updated: id={}", categoryId);
         return toResponse(category);
@@ -159,23 +143,36 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.CATEGORY_CACHE, key = "#categoryId"),
-            @CacheEvict(value = CacheConfig.CATEGORY_TREE_CACHE, allEntries = true)
-    })
+    @CacheEvict(value = CacheConfig.CATEGORY_CACHE, allEntries = true)
     public CategoryResponse moveCategory(Long categoryId, Long newParentId) {
         log.info("Moving category: id={} to parent={}", categoryId, newParentId);
 
         Category category = findCategoryById(categoryId);
+        Long oldParentId = category.getParentId();
+        String oldPath = category.getPath();
 
         int newDepth = 0;
+        String newParentPath = null;
         if (newParentId != null) {
             Category newParent = findCategoryById(newParentId);
-            validateNotDescendant(category, newParent);
             newDepth = newParent.getDepth() + 1;
+            validateMoveTarget(categoryId, newParentId, newDepth);
+            newParentPath = newParent.getPath();
         }
 
+        int depthDelta = newDepth - category.getDepth();
         category.moveTo(newParentId, newDepth);
+        category.assignPath(newParentPath);
+        if (!Objects.equals(oldParentId, newParentId)) {
+            adjustChildCount(oldParentId, -1);
+            adjustChildCount(newParentId, 1);
+        }
+        if (oldPath != null && !oldPath.equals(category.getPath())) {
+            int descendants = categoryRepository.moveSubtree(oldPath, oldPath.length(), category.getPath(), depthDelta);
+            eventPublisher.publishEvent(new CategorySubtreeMovedEvent(categoryId, oldPath, category.getPath()));
+            log.info("Category subtree re-rooted: id={}, descendants={}", categoryId, descendants);
+        }
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         log.info("Category moved: id={}", categoryId);
         return toResponse(category);
@@ -183,10 +180,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.CATEGORY_CACHE, key = "#categoryId"),
-            @CacheEvict(value = CacheConfig.CATEGORY_TREE_CACHE, allEntries = true)
-    })
+    @CacheEvict(value = CacheConfig.CATEGORY_CACHE, allEntries = true)
     public void deleteCategory(Long categoryId) {
         log.info("Deleting category: id={}", categoryId);
 
@@ -194,36 +188,34 @@ public class CategoryServiceImpl implements CategoryService {
         validateCanDelete(category);
 
         category.delete();
+        adjustChildCount(category.getParentId(), -1);
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         log.info("Category deleted: id={}", categoryId);
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.CATEGORY_CACHE, key = "#categoryId"),
-            @CacheEvict(value = CacheConfig.CATEGORY_TREE_CACHE, allEntries = true)
-    })
+    @CacheEvict(value = CacheConfig.CATEGORY_CACHE, key = "#categoryId")
     public CategoryResponse activateCategory(Long categoryId) {
         log.info("Activating category: id={}", categoryId);
 
         Category category = findCategoryById(categoryId);
         category.activate();
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         return toResponse(category);
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = CacheConfig.CATEGORY_CACHE, key = "#categoryId"),
-            @CacheEvict(value = CacheConfig.CATEGORY_TREE_CACHE, allEntries = true)
-    })
+    @CacheEvict(value = CacheConfig.CATEGORY_CACHE, key = "#categoryId")
     public CategoryResponse deactivateCategory(Long categoryId) {
         log.info("Deactivating category: id={}", categoryId);
 
         Category category = findCategoryById(categoryId);
         category.deactivate();
+        eventPublisher.publishEvent(new CategoryChangedEvent(categoryId));
 
         return toResponse(category);
     }
@@ -250,16 +242,31 @@ public class CategoryServiceImpl implements CategoryService {
         }
     }
 
-    private void validateNotDescendant(Category category, Category newParent) {
-        // Check if newParent is a descendant of category (would create circular reference)
-        Long parentId = newParent.getParentId();
-        while (parentId != null) {
-            if (parentId.equals(category.getId())) {
-                throw new InvalidStateException(ErrorCode.INVALID_INPUT,
-                        "Cannot move category to its own descendant");
-            }
-            Category parent = categoryRepository.findById(parentId).orElse(null);
-            parentId = parent != null ? parent.getParentId() : null;
+    private CategoryNode findNode(CategoryTree tree, Long categoryId) {
+        return tree.find(categoryId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.CATEGORY_NOT_FOUND));
+    }
+
+    private void validateMoveTarget(Long categoryId, Long newParentId, int newDepth) {
+        // Moving under its own descendant would create a circular reference
+        CategoryTree tree = categoryTreeCache.get();
+        if (tree.find(categoryId).isEmpty() || tree.find(newParentId).isEmpty()) {
+            // Created on another node since this tree was built
+            tree = categoryTreeCache.rebuild();
+        }
+        CategoryNode category = findNode(tree, categoryId);
+        CategoryNode newParent = findNode(tree, newParentId);
+        if (tree.isDescendant(newParent, category)) {
+            throw new InvalidStateException(ErrorCode.INVALID_INPUT,
+                    "Cannot move category to its own descendant");
+        }
+        // The whole subtree moves, so its deepest descendant must stay within the limit
+        validateDepth(newDepth + tree.getMaxSubtreeDepth(category) - category.depth());
+    }
+
+    private void adjustChildCount(Long parentId, int delta) {
+        if (parentId != null) {
+            categoryRepository.adjustChildCount(parentId, delta);
         }
     }
 
@@ -270,22 +277,33 @@ public class CategoryServiceImpl implements CategoryService {
         // Note: Check for products would be added when Product-Category relationship is implemented
     }
 
-    private List<CategoryTreeResponse> buildTree(Map<Long, List<Category>> categoryByParent, Long parentId) {
-        List<Category> children = categoryByParent.getOrDefault(parentId, new ArrayList<>());
-
-        return children.stream()
-                .map(category -> CategoryTreeResponse.builder()
-                        .id(category.getId())
-                        .name(category.getName())
-                        .slug(category.getSlug())
-                        .displayOrder(category.getDisplayOrder())
-                        .children(buildTree(categoryByParent, category.getId()))
-                        .build())
-                .toList();
+    private CategoryTreeResponse toTreeResponse(CategoryTree tree, CategoryNode node) {
+        return CategoryTreeResponse.builder()
+                .id(node.id())
+                .name(node.name())
+                .slug(node.slug())
+                .displayOrder(node.displayOrder())
+                .children(tree.getChildren(node).stream()
+                        .map(child -> toTreeResponse(tree, child))
+                        .toList())
+                .build();
+    }
+
+    private CategoryResponse toResponse(CategoryNode node) {
+        return CategoryResponse.builder()
+                .id(node.id())
+                .name(node.name())
+                .slug(node.slug())
+                .description(node.description())
+                .parentId(node.parentId())
+                .depth(node.depth())
+                .displayOrder(node.displayOrder())
+                .active(node.active())
+                .childCount(node.childCount())
+                .build();
     }
 
     private CategoryResponse toResponse(Category category) {
-        int childCount = categoryRepository.countChildren(category.getId());
         return CategoryResponse.builder()
                 .id(category.getId())
                 .name(category.getName())
@@ -295,7 +313,7 @@ public class CategoryServiceImpl implements CategoryService {
                 .depth(category.getDepth())
                 .displayOrder(category.getDisplayOrder())
                 .active(category.isActive())
-                .childCount(childCount)
+                .childCount(category.getChildCount())
                 .build();
     }
 }
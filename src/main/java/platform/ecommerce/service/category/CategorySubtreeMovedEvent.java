@@ -0,0 +1,7 @@
+package platform.ecommerce.service.category;
+
+/**
+ * Published when a category moves, so data keyed by its old path (product category paths) is re-rooted.
+ */
+public record CategorySubtreeMovedEvent(Long categoryId, String oldPath, String newPath) {
+}
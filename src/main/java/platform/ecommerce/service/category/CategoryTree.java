@@ -0,0 +1,186 @@
+package platform.ecommerce.service.category;
+
+import platform.ecommerce.domain.category.Category;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of all categories, built once and shared by every request until the next change.
+ * Lookups, children, ancestor paths and subtree checks are answered from memory.
+ * Children are ordered by display order, then ID.
+ */
+public final class CategoryTree {
+
+    private static final Comparator<Category> SIBLING_ORDER =
+            Comparator.comparingInt(Category::getDisplayOrder).thenComparing(Category::getId);
+
+    private final long version;
+    private final Map<Long, CategoryNode> nodes;
+    private final List<Long> rootIds;
+    private final List<Long> idsInPreorder;
+
+    private CategoryTree(long version, Map<Long, CategoryNode> nodes, List<Long> rootIds, List<Long> idsInPreorder) {
+        this.version = version;
+        this.nodes = nodes;
+        this.rootIds = rootIds;
+        this.idsInPreorder = idsInPreorder;
+    }
+
+    /**
+     * Builds a snapshot from every non-deleted category.
+     * A category whose parent is missing is kept reachable by ID but is not listed under the roots.
+     */
+    public static CategoryTree of(long version, List<Category> categories) {
+        Map<Long, Category> byId = new HashMap<>();
+        categories.forEach(category -> byId.put(category.getId(), category));
+
+        Map<Long, List<Category>> childrenByParent = new HashMap<>();
+        List<Category> heads = new ArrayList<>();
+        for (Category category : categories) {
+            if (category.getParentId() != null && byId.containsKey(category.getParentId())) {
+                childrenByParent.computeIfAbsent(category.getParentId(), id -> new ArrayList<>()).add(category);
+            } else {
+                heads.add(category);
+            }
+        }
+        childrenByParent.values().forEach(children -> children.sort(SIBLING_ORDER));
+        heads.sort(SIBLING_ORDER);
+
+        Long[] preorder = new Long[categories.size()];
+        Map<Long, CategoryNode> nodes = new HashMap<>();
+        int position = 0;
+        for (Category head : heads) {
+            position = index(head, List.of(), childrenByParent, preorder, position, nodes);
+        }
+
+        List<Long> rootIds = heads.stream()
+                .filter(Category::isRoot)
+                .map(Category::getId)
+                .toList();
+        return new CategoryTree(version, Map.copyOf(nodes), rootIds,
+                List.of(Arrays.copyOf(preorder, position)));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public Optional<CategoryNode> find(Long categoryId) {
+        return Optional.ofNullable(nodes.get(categoryId));
+    }
+
+    public List<CategoryNode> getRoots() {
+        return toNodes(rootIds);
+    }
+
+    public List<CategoryNode> getChildren(CategoryNode node) {
+        return toNodes(node.childIds());
+    }
+
+    /**
+     * Ancestors of the node, root first.
+     */
+    public List<CategoryNode> getAncestors(CategoryNode node) {
+        return toNodes(node.ancestorIds());
+    }
+
+    /**
+     * IDs of the node and all of its descendants, in preorder.
+     */
+    public List<Long> getSubtreeIds(CategoryNode node) {
+        return idsInPreorder.subList(node.preorder(), node.subtreeEnd() + 1);
+    }
+
+    /**
+     * Greatest depth among the node and its descendants.
+     */
+    public int getMaxSubtreeDepth(CategoryNode node) {
+        return getSubtreeIds(node).stream()
+                .mapToInt(id -> nodes.get(id).depth())
+                .max()
+                .orElse(node.depth());
+    }
+
+    /**
+     * Whether {@code candidate} lies strictly below {@code ancestor}.
+     */
+    public boolean isDescendant(CategoryNode candidate, CategoryNode ancestor) {
+        return candidate.preorder() > ancestor.preorder() && candidate.preorder() <= ancestor.subtreeEnd();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    // Iterative preorder walk; a node's subtree end is known once its last descendant is placed
+    private static int index(Category head, List<Long> headAncestors, Map<Long, List<Category>> childrenByParent,
+                             Long[] preorder, int position, Map<Long, CategoryNode> nodes) {
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(head, headAncestors, position));
+        preorder[position++] = head.getId();
+
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            List<Category> children = childrenByParent.getOrDefault(frame.category.getId(), List.of());
+            if (frame.nextChild < children.size()) {
+                Category child = children.get(frame.nextChild++);
+                stack.push(new Frame(child, frame.childAncestorIds, position));
+                preorder[position++] = child.getId();
+                continue;
+            }
+            stack.pop();
+            nodes.put(frame.category.getId(), toNode(frame.category, children, frame.ancestorIds, frame.preorder, position - 1));
+        }
+        return position;
+    }
+
+    private static CategoryNode toNode(Category category, List<Category> children, List<Long> ancestorIds,
+                                       int preorder, int subtreeEnd) {
+        return new CategoryNode(
+                category.getId(),
+                category.getName(),
+                category.getSlug(),
+                category.getDescription(),
+                category.getParentId(),
+                category.getPath(),
+                category.getDepth(),
+                category.getDisplayOrder(),
+                category.isActive(),
+                children.stream().map(Category::getId).toList(),
+                ancestorIds,
+                preorder,
+                subtreeEnd
+        );
+    }
+
+    private List<CategoryNode> toNodes(List<Long> ids) {
+        return ids.stream().map(nodes::get).toList();
+    }
+
+    private static final class Frame {
+        private final Category category;
+        private final List<Long> ancestorIds;
+        private final List<Long> childAncestorIds;
+        private final int preorder;
+        private int nextChild;
+
+        private Frame(Category category, List<Long> ancestorIds, int preorder) {
+            this.category = category;
+            this.ancestorIds = ancestorIds;
+            this.preorder = preorder;
+            List<Long> path = new ArrayList<>(ancestorIds);
+            path.add(category.getId());
+            this.childAncestorIds = List.copyOf(path);
+        }
+    }
+}
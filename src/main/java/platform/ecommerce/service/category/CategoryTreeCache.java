@@ -0,0 +1,67 @@
+package platform.ecommerce.service.category;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.repository.category.CategoryRepository;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link CategoryTree}, shared by all requests.
+ * The tree is rebuilt with one query after a category change commits ({@link CategoryChangedEvent})
+ * and otherwise after {@code app.category.tree-ttl}, which bounds how long other nodes serve a stale tree.
+ * Readers keep the previous snapshot while a rebuild runs; rebuilds are serialized, so a load that
+ * started before a change can never replace the tree built after it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+    private final AppProperties appProperties;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong();
+
+    public CategoryTree get() {
+        Snapshot snapshot = current.get();
+        if (snapshot != null && !snapshot.isExpired(System.nanoTime())) {
+            return snapshot.tree();
+        }
+        return rebuildIfStale();
+    }
+
+    public synchronized CategoryTree rebuild() {
+        CategoryTree tree = CategoryTree.of(version.incrementAndGet(), categoryRepository.findAllActive());
+        long expiresAt = System.nanoTime() + appProperties.getCategory().getTreeTtl().toNanos();
+        current.set(new Snapshot(tree, expiresAt));
+        log.debug("Category tree rebuilt: version={}, categories={}", tree.getVersion(), tree.size());
+        return tree;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private synchronized CategoryTree rebuildIfStale() {
+        Snapshot snapshot = current.get();
+        if (snapshot != null && !snapshot.isExpired(System.nanoTime())) {
+            return snapshot.tree();
+        }
+        return rebuild();
+    }
+
+    private record Snapshot(CategoryTree tree, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
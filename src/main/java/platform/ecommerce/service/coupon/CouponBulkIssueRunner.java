@@ -0,0 +1,31 @@
+package platform.ecommerce.service.coupon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a bulk issue job in the background, one chunk transaction at a time.
+ * On error the job is marked failed at its last checkpoint and can be resumed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponBulkIssueRunner {
+
+    private final CouponBulkIssueService couponBulkIssueService;
+
+    @Async
+    public void run(Long jobId) {
+        try {
+            boolean hasMore = true;
+            while (hasMore) {
+                hasMore = couponBulkIssueService.issueNextChunk(jobId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Coupon bulk issue job stopped: jobId={}", jobId, e);
+            couponBulkIssueService.failJob(jobId, e.getMessage());
+        }
+    }
+}
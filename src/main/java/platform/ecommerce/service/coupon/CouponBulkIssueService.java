@@ -0,0 +1,35 @@
+package platform.ecommerce.service.coupon;
+
+import platform.ecommerce.dto.request.coupon.CouponBulkIssueRequest;
+import platform.ecommerce.dto.response.coupon.CouponBulkIssueJobResponse;
+
+/**
+ * Issues one coupon to every member of a segment.
+ * Members are processed in chunks of one transaction each, checkpointed on the job,
+ * and written with multi-row inserts that skip members already holding the coupon.
+ */
+public interface CouponBulkIssueService {
+
+    /**
+     * Creates a running job for the coupon and segment. Chunks are issued by {@link #issueNextChunk}.
+     */
+    CouponBulkIssueJobResponse createJob(Long couponId, CouponBulkIssueRequest request);
+
+    /**
+     * Marks a failed or interrupted job running again; it continues after its checkpoint.
+     */
+    CouponBulkIssueJobResponse resumeJob(Long jobId);
+
+    CouponBulkIssueJobResponse getJob(Long jobId);
+
+    /**
+     * Issues the next chunk of the segment and moves the checkpoint, in one transaction.
+     * @return true while more members may remain
+     */
+    boolean issueNextChunk(Long jobId);
+
+    /**
+     * Stops the job at its current checkpoint.
+     */
+    void failJob(Long jobId, String reason);
+}
@@ -0,0 +1,182 @@
+package platform.ecommerce.service.coupon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponBulkIssueJob;
+import platform.ecommerce.dto.request.MemberSearchCondition;
+import platform.ecommerce.dto.request.coupon.CouponBulkIssueRequest;
+import platform.ecommerce.dto.response.coupon.CouponBulkIssueJobResponse;
+import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.mapper.CouponMapper;
+import platform.ecommerce.repository.coupon.CouponBulkIssueJobRepository;
+import platform.ecommerce.repository.coupon.CouponRepository;
+import platform.ecommerce.repository.coupon.MemberCouponRepository;
+import platform.ecommerce.service.MemberService;
+import platform.ecommerce.service.notification.NotificationService;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Segment-wide coupon issuance implementation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CouponBulkIssueServiceImpl implements CouponBulkIssueService {
+
+    private final CouponBulkIssueJobRepository jobRepository;
+    private final CouponRepository couponRepository;
+    private final MemberCouponRepository memberCouponRepository;
+    private final MemberService memberService;
+    private final NotificationService notificationService;
+    private final CouponMapper couponMapper;
+    private final AppProperties appProperties;
+
+    @Override
+    @Transactional
+    public CouponBulkIssueJobResponse createJob(Long couponId, CouponBulkIssueRequest request) {
+        validateIssuable(findCouponById(couponId));
+
+        CouponBulkIssueJob job = CouponBulkIssueJob.builder()
+                .couponId(couponId)
+                .emailContains(request.emailContains())
+                .nameContains(request.nameContains())
+                .memberStatus(request.status())
+                .memberRole(request.role())
+                .excludeWithdrawn(request.excludeWithdrawn())
+                .notifyMembers(request.notifyMembers())
+                .build();
+
+        CouponBulkIssueJob saved = jobRepository.save(job);
+        log.info("Coupon bulk issue job created: jobId={}, couponId={}", saved.getId(), couponId);
+
+        return couponMapper.toBulkIssueJobResponse(saved);
+    }
+
+    @Override
+    @Transactional
+    public CouponBulkIssueJobResponse resumeJob(Long jobId) {
+        CouponBulkIssueJob job = findJobById(jobId);
+        job.resume();
+        log.info("Coupon bulk issue job resumed: jobId={}, lastMemberId={}", jobId, job.getLastMemberId());
+        return couponMapper.toBulkIssueJobResponse(job);
+    }
+
+    @Override
+    public CouponBulkIssueJobResponse getJob(Long jobId) {
+        return couponMapper.toBulkIssueJobResponse(findJobById(jobId));
+    }
+
+    /**
+     * Members that already hold the coupon are filtered out first, so notifications go only to new holders;
+     * the insert still skips conflicts in case a member was issued the coupon in between.
+     */
+    @Override
+    @Transactional
+    public boolean issueNextChunk(Long jobId) {
+        CouponBulkIssueJob job = jobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_BULK_ISSUE_NOT_FOUND));
+        if (!job.isRunning()) {
+            return false;
+        }
+
+        Coupon coupon = findCouponById(job.getCouponId());
+        validateIssuable(coupon);
+
+        int chunkSize = appProperties.getCoupon().getBulkIssueChunkSize();
+        List<Long> memberIds = memberService.getMemberIdsAfter(toCondition(job), job.getLastMemberId(), chunkSize);
+        if (memberIds.isEmpty()) {
+            completeJob(job);
+            return false;
+        }
+
+        Set<Long> holders = new HashSet<>(
+                memberCouponRepository.findMemberIdsByCouponIdAndMemberIdIn(coupon.getId(), memberIds));
+        List<Long> newHolders = memberIds.stream()
+                .filter(memberId -> !holders.contains(memberId))
+                .toList();
+        int inserted = newHolders.isEmpty() ? 0 : memberCouponRepository.insertIgnoringDuplicates(
+                newHolders.stream().map(memberId -> new CouponIssue(coupon.getId(), memberId)).toList());
+
+        job.recordChunk(memberIds.getLast(), memberIds.size(), inserted);
+        if (job.isNotifyMembers() && !newHolders.isEmpty()) {
+            notifyAfterCommit(newHolders, coupon.getName());
+        }
+
+        if (memberIds.size() < chunkSize) {
+            completeJob(job);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void failJob(Long jobId, String reason) {
+        CouponBulkIssueJob job = findJobById(jobId);
+        job.fail(reason);
+        log.warn("Coupon bulk issue job failed: jobId={}, lastMemberId={}, reason={}",
+                jobId, job.getLastMemberId(), reason);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private Coupon findCouponById(Long couponId) {
+        return couponRepository.findById(couponId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
+    }
+
+    private CouponBulkIssueJob findJobById(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_BULK_ISSUE_NOT_FOUND));
+    }
+
+    private void validateIssuable(Coupon coupon) {
+        if (!coupon.hasQuantityAvailable()) {
+            throw new InvalidStateException(ErrorCode.COUPON_LIMIT_EXCEEDED);
+        }
+        if (!coupon.isValid()) {
+            throw new InvalidStateException(ErrorCode.COUPON_EXPIRED);
+        }
+    }
+
+    private MemberSearchCondition toCondition(CouponBulkIssueJob job) {
+        return MemberSearchCondition.builder()
+                .email(job.getEmailContains())
+                .name(job.getNameContains())
+                .status(job.getMemberStatus())
+                .role(job.getMemberRole())
+                .excludeWithdrawn(job.isExcludeWithdrawn())
+                .build();
+    }
+
+    private void completeJob(CouponBulkIssueJob job) {
+        job.complete();
+        log.info("Coupon bulk issue job completed: jobId={}, scanned={}, issued={}",
+                job.getId(), job.getScannedCount(), job.getIssuedCount());
+    }
+
+    private void notifyAfterCommit(List<Long> memberIds, String couponName) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationService.notifyCouponIssued(memberIds, couponName);
+                }
+            });
+            return;
+        }
+        notificationService.notifyCouponIssued(memberIds, couponName);
+    }
+}
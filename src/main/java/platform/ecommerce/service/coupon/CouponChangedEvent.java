@@ -0,0 +1,8 @@
+package platform.ecommerce.service.coupon;
+
+/**
+ * Published when an admin changes a coupon's rules, so cached snapshots of it are dropped.
+ * {@code previousCode} is the code before the change; snapshots cached under it are dropped too.
+ */
+public record CouponChangedEvent(Long couponId, String code, String previousCode) {
+}
@@ -0,0 +1,10 @@
+package platform.ecommerce.service.coupon;
+
+/**
+ * One coupon admitted to a member by the {@link CouponIssueGate}, waiting to be persisted.
+ */
+public record CouponIssue(
+        Long couponId,
+        Long memberId
+) {
+}
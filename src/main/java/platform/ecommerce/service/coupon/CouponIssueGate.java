@@ -0,0 +1,42 @@
+package platform.ecommerce.service.coupon;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Admission gate for first-come-first-served coupon drops.
+ * Per coupon it keeps an issued counter and the set of issued members, and decides each claim
+ * atomically without touching the database. Admitted claims are queued for batch persistence.
+ */
+public interface CouponIssueGate {
+
+    /**
+     * Opens (or re-opens with a new limit) a drop. Gate state for the coupon expires after {@code ttl}.
+     */
+    void open(Long couponId, int limit, Duration ttl);
+
+    /**
+     * Admits the member if the drop is open, the member has no coupon yet and the limit is not reached.
+     */
+    CouponIssueOutcome admit(Long couponId, Long memberId);
+
+    /**
+     * Removes and returns up to {@code limit} admitted claims awaiting persistence.
+     */
+    List<CouponIssue> pollPending(int limit);
+
+    /**
+     * Puts claims back in the queue, e.g. after a failed write.
+     */
+    void requeue(List<CouponIssue> issues);
+
+    Set<Long> getIssuedMembers(Long couponId);
+
+    /**
+     * Adds members that already hold the coupon (from the database) and resets the counter to the set size.
+     * The restored state expires with the open drop, or after {@code ttl} when the drop is closed or expired.
+     */
+    void restore(Long couponId, Collection<Long> memberIds, Duration ttl);
+}
@@ -0,0 +1,11 @@
+package platform.ecommerce.service.coupon;
+
+/**
+ * Result of a first-come-first-served claim at the {@link CouponIssueGate}.
+ */
+public enum CouponIssueOutcome {
+    ISSUED,
+    ALREADY_ISSUED,
+    SOLD_OUT,
+    NOT_OPEN
+}
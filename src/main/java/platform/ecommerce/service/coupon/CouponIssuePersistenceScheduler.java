@@ -0,0 +1,50 @@
+package platform.ecommerce.service.coupon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.config.AppProperties;
+
+import java.util.List;
+
+/**
+ * Drains claims admitted by the {@link CouponIssueGate} into member_coupon, one batch per transaction.
+ * A batch that fails to write goes back to the queue and the run stops until the next tick.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.coupon", name = "persist-enabled", havingValue = "true", matchIfMissing = true)
+public class CouponIssuePersistenceScheduler {
+
+    private final CouponIssueGate couponIssueGate;
+    private final CouponIssueService couponIssueService;
+    private final AppProperties appProperties;
+
+    @Scheduled(fixedDelayString = "${app.coupon.persist-interval:PT1S}")
+    public void persistPendingIssues() {
+        int batchSize = appProperties.getCoupon().getPersistBatchSize();
+        int inserted = 0;
+
+        List<CouponIssue> issues;
+        do {
+            issues = couponIssueGate.pollPending(batchSize);
+            if (issues.isEmpty()) {
+                break;
+            }
+            try {
+                inserted += couponIssueService.persist(issues);
+            } catch (RuntimeException e) {
+                log.warn("Failed to persist {} coupon issues, will retry", issues.size(), e);
+                couponIssueGate.requeue(issues);
+                break;
+            }
+        } while (issues.size() == batchSize);
+
+        if (inserted > 0) {
+            log.info("Persisted {} issued coupons", inserted);
+        }
+    }
+}
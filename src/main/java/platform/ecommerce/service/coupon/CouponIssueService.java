@@ -0,0 +1,36 @@
+package platform.ecommerce.service.coupon;
+
+import platform.ecommerce.dto.response.coupon.CouponClaimResponse;
+import platform.ecommerce.dto.response.coupon.CouponIssueReconcileResponse;
+
+import java.util.List;
+
+/**
+ * First-come-first-served coupon issuance for limited drops.
+ * Claims are decided by the {@link CouponIssueGate} without a database round trip;
+ * admitted claims are written to member_coupon in batches afterwards.
+ */
+public interface CouponIssueService {
+
+    /**
+     * Opens a drop limited to the coupon's total quantity, until the coupon expires.
+     * Members already holding the coupon are loaded into the gate first.
+     */
+    void openDrop(Long couponId);
+
+    /**
+     * Claims one coupon of an open drop for the member.
+     */
+    CouponClaimResponse claim(Long couponId, Long memberId);
+
+    /**
+     * Writes admitted claims to member_coupon, skipping rows that already exist.
+     * @return number of rows inserted
+     */
+    int persist(List<CouponIssue> issues);
+
+    /**
+     * Brings the gate and member_coupon back in line for one coupon, in both directions.
+     */
+    CouponIssueReconcileResponse reconcile(Long couponId);
+}
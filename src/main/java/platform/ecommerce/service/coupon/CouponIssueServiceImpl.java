@@ -0,0 +1,112 @@
+package platform.ecommerce.service.coupon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.dto.response.coupon.CouponClaimResponse;
+import platform.ecommerce.dto.response.coupon.CouponIssueReconcileResponse;
+import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.repository.coupon.CouponRepository;
+import platform.ecommerce.repository.coupon.MemberCouponRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * First-come-first-served issuance implementation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CouponIssueServiceImpl implements CouponIssueService {
+
+    private final CouponIssueGate couponIssueGate;
+    private final CouponRepository couponRepository;
+    private final MemberCouponRepository memberCouponRepository;
+
+    @Override
+    public void openDrop(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
+        if (!coupon.isValid()) {
+            throw new InvalidStateException(ErrorCode.COUPON_EXPIRED);
+        }
+
+        Duration ttl = remainingValidity(coupon);
+        List<Long> holders = memberCouponRepository.findMemberIdsByCouponId(couponId);
+        couponIssueGate.restore(couponId, holders, ttl);
+        couponIssueGate.open(couponId, coupon.getTotalQuantity(), ttl);
+
+        log.info("Coupon drop opened: couponId={}, limit={}, alreadyIssued={}",
+                couponId, coupon.getTotalQuantity(), holders.size());
+    }
+
+    @Override
+    public CouponClaimResponse claim(Long couponId, Long memberId) {
+        CouponIssueOutcome outcome = couponIssueGate.admit(couponId, memberId);
+        return switch (outcome) {
+            case ISSUED -> new CouponClaimResponse(couponId, memberId);
+            case ALREADY_ISSUED -> throw new InvalidStateException(ErrorCode.CONFLICT, "Coupon already issued to member");
+            case SOLD_OUT -> throw new InvalidStateException(ErrorCode.COUPON_LIMIT_EXCEEDED);
+            case NOT_OPEN -> throw new InvalidStateException(ErrorCode.COUPON_DROP_NOT_OPEN);
+        };
+    }
+
+    @Override
+    @Transactional
+    public int persist(List<CouponIssue> issues) {
+        if (issues.isEmpty()) {
+            return 0;
+        }
+        return memberCouponRepository.insertIgnoringDuplicates(issues);
+    }
+
+    @Override
+    @Transactional
+    public CouponIssueReconcileResponse reconcile(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
+        Set<Long> admitted = couponIssueGate.getIssuedMembers(couponId);
+        Set<Long> persisted = new HashSet<>(memberCouponRepository.findMemberIdsByCouponId(couponId));
+
+        List<CouponIssue> missing = admitted.stream()
+                .filter(memberId -> !persisted.contains(memberId))
+                .map(memberId -> new CouponIssue(couponId, memberId))
+                .toList();
+        int inserted = missing.isEmpty() ? 0 : memberCouponRepository.insertIgnoringDuplicates(missing);
+
+        List<Long> unknownToGate = persisted.stream()
+                .filter(memberId -> !admitted.contains(memberId))
+                .toList();
+        // An expired coupon cannot be re-opened, so there is no gate state left to restore
+        Duration ttl = remainingValidity(coupon);
+        if (ttl.isPositive()) {
+            couponIssueGate.restore(couponId, unknownToGate, ttl);
+        }
+
+        log.info("Coupon drop reconciled: couponId={}, admitted={}, persisted={}, inserted={}, restored={}",
+                couponId, admitted.size(), persisted.size(), inserted, unknownToGate.size());
+
+        return CouponIssueReconcileResponse.builder()
+                .couponId(couponId)
+                .admitted(admitted.size())
+                .persisted(persisted.size())
+                .inserted(inserted)
+                .restored(unknownToGate.size())
+                .build();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private Duration remainingValidity(Coupon coupon) {
+        return Duration.between(LocalDateTime.now(), coupon.getValidTo());
+    }
+}
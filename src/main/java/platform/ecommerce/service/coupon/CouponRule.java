@@ -0,0 +1,63 @@
+package platform.ecommerce.service.coupon;
+
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+import platform.ecommerce.service.pricing.CouponTerms;
+import platform.ecommerce.service.pricing.MinorUnits;
+import platform.ecommerce.service.pricing.PricingEngine;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of a coupon's rules, shared across requests by {@link CouponRuleCache}.
+ * Used quantity changes with every redemption, so it is not part of the snapshot.
+ *
+ * @param terms discount rules in minor units, always marked valid; callers check applicability first
+ */
+public record CouponRule(
+        Long id,
+        String code,
+        String name,
+        CouponType type,
+        CouponTerms terms,
+        BigDecimal minimumOrder,
+        LocalDateTime validFrom,
+        LocalDateTime validTo,
+        boolean active,
+        int totalQuantity
+) {
+
+    public static CouponRule of(Coupon coupon) {
+        return new CouponRule(
+                coupon.getId(),
+                coupon.getCode(),
+                coupon.getName(),
+                coupon.getType(),
+                CouponTerms.of(coupon).withValidity(true),
+                coupon.getMinimumOrder(),
+                coupon.getValidFrom(),
+                coupon.getValidTo(),
+                coupon.isActive(),
+                coupon.getTotalQuantity()
+        );
+    }
+
+    /**
+     * Active and inside the validity window, as in {@code Coupon#isValid} without the quantity check.
+     */
+    public boolean isOpenAt(LocalDateTime now) {
+        return active && now.isAfter(validFrom) && now.isBefore(validTo);
+    }
+
+    public boolean meetsMinimum(BigDecimal orderAmount) {
+        return orderAmount.compareTo(minimumOrder) >= 0;
+    }
+
+    /**
+     * Discount for an order this coupon applies to, as in {@code Coupon#calculateDiscount}.
+     */
+    public BigDecimal discountFor(BigDecimal orderAmount) {
+        return MinorUnits.toAmount(PricingEngine.discount(terms, MinorUnits.of(orderAmount)));
+    }
+}
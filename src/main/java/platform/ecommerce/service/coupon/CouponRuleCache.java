@@ -0,0 +1,129 @@
+package platform.ecommerce.service.coupon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.repository.coupon.CouponRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory coupon rules keyed by code, so coupon previews (apply, validate, calculate)
+ * are answered without a database round trip.
+ * A rule is dropped after an admin change commits ({@link CouponChangedEvent}) and otherwise expires
+ * after {@code app.coupon.rule-cache-ttl}, which bounds how long other nodes serve a stale rule.
+ * Used quantity is kept apart and re-read every {@code app.coupon.usage-refresh-interval};
+ * it only gates previews, redemption still checks quantity in the database.
+ * Unknown codes are not cached, so guessing codes cannot grow the cache, and expired entries
+ * are pruned every rule TTL, so coupons that are no longer looked up do not stay in memory.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponRuleCache {
+
+    private final CouponRepository couponRepository;
+    private final AppProperties appProperties;
+
+    private final Map<String, Cached<CouponRule>> rulesByCode = new ConcurrentHashMap<>();
+    private final Map<Long, String> codesById = new ConcurrentHashMap<>();
+    private final Map<Long, Cached<Integer>> usedQuantities = new ConcurrentHashMap<>();
+
+    // Bumped on every eviction; a rule loaded across an eviction is returned but not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public Optional<CouponRule> findByCode(String code) {
+        String key = code.toUpperCase();
+        Cached<CouponRule> cached = rulesByCode.get(key);
+        if (cached != null && !cached.isExpired(System.nanoTime())) {
+            return Optional.of(cached.value());
+        }
+
+        long loadGeneration = generation.get();
+        Optional<CouponRule> rule = couponRepository.findByCode(key).map(CouponRule::of);
+        rule.ifPresent(loaded -> put(loaded, loadGeneration));
+        return rule;
+    }
+
+    public Optional<CouponRule> findById(Long couponId) {
+        String code = codesById.get(couponId);
+        Cached<CouponRule> cached = code != null ? rulesByCode.get(code) : null;
+        if (cached != null && !cached.isExpired(System.nanoTime())) {
+            return Optional.of(cached.value());
+        }
+
+        long loadGeneration = generation.get();
+        Optional<CouponRule> rule = couponRepository.findById(couponId).map(CouponRule::of);
+        rule.ifPresent(loaded -> put(loaded, loadGeneration));
+        return rule;
+    }
+
+    /**
+     * Remaining quantity from a used count that may be up to one refresh interval old.
+     */
+    public int remainingQuantity(CouponRule rule) {
+        long now = System.nanoTime();
+        Cached<Integer> cached = usedQuantities.get(rule.id());
+        if (cached == null || cached.isExpired(now)) {
+            int usedQuantity = couponRepository.findUsedQuantityById(rule.id()).orElse(rule.totalQuantity());
+            cached = new Cached<>(usedQuantity, now + appProperties.getCoupon().getUsageRefreshInterval().toNanos());
+            usedQuantities.put(rule.id(), cached);
+        }
+        return rule.totalQuantity() - cached.value();
+    }
+
+    /**
+     * Drops the coupon's rule under each given code and under the code it was cached with.
+     */
+    public void evict(Long couponId, String... codes) {
+        generation.incrementAndGet();
+        for (String code : codes) {
+            rulesByCode.remove(code.toUpperCase());
+        }
+        String cachedCode = codesById.remove(couponId);
+        if (cachedCode != null) {
+            rulesByCode.remove(cachedCode);
+        }
+        usedQuantities.remove(couponId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponChanged(CouponChangedEvent event) {
+        evict(event.couponId(), event.code(), event.previousCode());
+        log.debug("Coupon rule evicted: couponId={}, code={}, previousCode={}",
+                event.couponId(), event.code(), event.previousCode());
+    }
+
+    @Scheduled(fixedDelayString = "${app.coupon.rule-cache-ttl:PT10M}",
+               initialDelayString = "${app.coupon.rule-cache-ttl:PT10M}")
+    public void pruneExpired() {
+        long now = System.nanoTime();
+        // Conditional removes: an entry replaced since it was read is kept
+        rulesByCode.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+        codesById.entrySet().removeIf(entry -> !rulesByCode.containsKey(entry.getValue()));
+        usedQuantities.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void put(CouponRule rule, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+        long expiresAt = System.nanoTime() + appProperties.getCoupon().getRuleCacheTtl().toNanos();
+        rulesByCode.put(rule.code(), new Cached<>(rule, expiresAt));
+        codesById.put(rule.id(), rule.code());
+    }
+
+    private record Cached<T>(T value, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package platform.ecommerce.service.coupon;
 
 import org.springframework.data.domain.Pageable;
+import platform.ecommerce.domain.coupon.MemberCoupon;
 import platform.ecommerce.dto.request.coupon.CouponCreateRequest;
 import platform.ecommerce.dto.request.coupon.CouponSearchCondition;
 import platform.ecommerce.dto.request.coupon.CouponUpdateRequest;
 import platform.ecommerce.dto.response.PageResponse;
 import platform.ecommerce.dto.response.coupon.CouponApplyResponse;
 import platform.ecommerce.dto.response.coupon.CouponCalculationResponse;
+import platform.ecommerce.dto.response.coupon.CouponRecommendationResponse;
 import platform.ecommerce.dto.response.coupon.CouponResponse;
 import platform.ecommerce.dto.response.coupon.MemberCouponResponse;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -98,6 +101,17 @@ public interface CouponService {
      */
     CouponApplyResponse applyCoupon(String code, BigDecimal orderAmount);
 
+    /**
+     * Ranks all of a member's usable coupons by discount for an order amount, best first.
+     * Coupons that give no discount are left out.
+     */
+    List<CouponRecommendationResponse> recommendCoupons(Long memberId, BigDecimal orderAmount, int limit);
+
+    /**
+     * Gets a member's own unused, valid coupon (with its coupon loaded) for use at checkout.
+     */
+    MemberCoupon getUsableMemberCoupon(Long memberCouponId, Long memberId);
+
     /**
      * Uses a member coupon for an order.
      */
@@ -108,6 +122,11 @@ public interface CouponService {
      */
     void restoreCoupon(Long memberCouponId);
 
+    /**
+     * Restores the coupons used by the orders (e.g., when they are cancelled or expire unpaid).
+     */
+    void restoreCouponsForOrders(Collection<Long> orderIds);
+
     /**
      * Validates if a coupon can be applied.
      */
@@ -2,6 +2,7 @@ package platform.ecommerce.service.coupon;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -14,6 +15,7 @@ import platform.ecommerce.dto.request.coupon.CouponUpdateRequest;
 import platform.ecommerce.dto.response.PageResponse;
 import platform.ecommerce.dto.response.coupon.CouponApplyResponse;
 import platform.ecommerce.dto.response.coupon.CouponCalculationResponse;
+import platform.ecommerce.dto.response.coupon.CouponRecommendationResponse;
 import platform.ecommerce.dto.response.coupon.CouponResponse;
 import platform.ecommerce.dto.response.coupon.MemberCouponResponse;
 import platform.ecommerce.exception.EntityNotFoundException;
@@ -22,8 +24,14 @@ import platform.ecommerce.exception.InvalidStateException;
 import platform.ecommerce.mapper.CouponMapper;
 import platform.ecommerce.repository.coupon.CouponRepository;
 import platform.ecommerce.repository.coupon.MemberCouponRepository;
+import platform.ecommerce.service.pricing.CouponRanker;
+import platform.ecommerce.service.pricing.CouponTerms;
+import platform.ecommerce.service.pricing.MinorUnits;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -35,9 +43,14 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CouponServiceImpl implements CouponService {
 
+    private static final int MAX_RECOMMENDATIONS = 20;
+
     private final CouponRepository couponRepository;
     private final MemberCouponRepository memberCouponRepository;
     private final CouponMapper couponMapper;
+    private final CouponRuleCache couponRuleCache;
+    private final CouponUsageService couponUsageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -88,6 +101,7 @@ public class CouponServiceImpl implements CouponService {
         log.info("Updating coupon: {}", couponId);
 
         Coupon coupon = findCouponById(couponId);
+        String previousCode = coupon.getCode();
 
         if (request.name() != null) {
             coupon.updateName(request.name());
@@ -105,6 +119,7 @@ public class CouponServiceImpl implements CouponService {
             );
         }
 
+        eventPublisher.publishEvent(new CouponChangedEvent(couponId, coupon.getCode(), previousCode));
         log.info("Coupon updated: id={}", couponId);
         return couponMapper.toResponse(coupon);
     }
@@ -115,6 +130,7 @@ public class CouponServiceImpl implements CouponService {
         log.info("Deactivating coupon: {}", couponId);
         Coupon coupon = findCouponById(couponId);
         coupon.deactivate();
+        eventPublisher.publishEvent(new CouponChangedEvent(couponId, coupon.getCode(), coupon.getCode()));
         log.info("Coupon deactivated: id={}", couponId);
     }
 
@@ -124,6 +140,7 @@ public class CouponServiceImpl implements CouponService {
         log.info("Deleting coupon: {}", couponId);
         Coupon coupon = findCouponById(couponId);
         coupon.delete();
+        eventPublisher.publishEvent(new CouponChangedEvent(couponId, coupon.getCode(), coupon.getCode()));
         log.info("Coupon deleted: id={}", couponId);
     }
 
@@ -194,45 +211,40 @@ public class CouponServiceImpl implements CouponService {
 
     @Override
     public CouponCalculationResponse calculateDiscount(Long couponId, BigDecimal orderAmount) {
-        Coupon coupon = findCouponById(couponId);
+        CouponRule rule = couponRuleCache.findById(couponId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
 
-        if (!coupon.isApplicable(orderAmount)) {
+        if (!isApplicable(rule, orderAmount)) {
             return CouponCalculationResponse.notApplicable(
-                    couponId, coupon.getCode(), coupon.getName(), orderAmount,
+                    couponId, rule.code(), rule.name(), orderAmount,
                     "Order amount does not meet minimum requirement"
             );
         }
 
-        BigDecimal discountAmount = coupon.calculateDiscount(orderAmount);
+        BigDecimal discountAmount = rule.discountFor(orderAmount);
         return CouponCalculationResponse.applicable(
-                couponId, coupon.getCode(), coupon.getName(), orderAmount, discountAmount
+                couponId, rule.code(), rule.name(), orderAmount, discountAmount
         );
     }
 
     @Override
     public PageResponse<MemberCouponResponse> getAvailableCouponsForOrder(Long memberId, BigDecimal orderAmount, Pageable pageable) {
-        Page<MemberCoupon> page = memberCouponRepository.findAvailableByMemberId(memberId, pageable);
-
-        // Filter only applicable coupons
-        List<MemberCouponResponse> applicable = page.getContent().stream()
-                .filter(mc -> mc.getCoupon().isApplicable(orderAmount))
-                .map(couponMapper::toMemberCouponResponse)
-                .toList();
-
-        return PageResponse.of(applicable, (int) page.getTotalElements(), pageable.getPageNumber(), pageable.getPageSize());
+        Page<MemberCoupon> page = memberCouponRepository.findApplicableByMemberId(memberId, orderAmount, pageable);
+        return PageResponse.of(page, couponMapper::toMemberCouponResponse);
     }
 
     @Override
     public CouponApplyResponse applyCoupon(String code, BigDecimal orderAmount) {
         log.info("Applying coupon: code={}, orderAmount={}", code, orderAmount);
 
-        Coupon coupon = findCouponByCode(code);
+        CouponRule rule = couponRuleCache.findByCode(code)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
 
-        if (!coupon.isApplicable(orderAmount)) {
+        if (!isApplicable(rule, orderAmount)) {
             throw new InvalidStateException(ErrorCode.COUPON_NOT_APPLICABLE);
         }
 
-        BigDecimal discountAmount = coupon.calculateDiscount(orderAmount);
+        BigDecimal discountAmount = rule.discountFor(orderAmount);
         BigDecimal finalAmount = orderAmount.subtract(discountAmount);
 
         return CouponApplyResponse.builder()
@@ -244,14 +256,58 @@ public class CouponServiceImpl implements CouponService {
     }
 
     @Override
-    @Transactional
-    public void useCoupon(Long memberCouponId, Long orderId) {
-        log.info("Using coupon: memberCouponId={}, orderId={}", memberCouponId, orderId);
+    public List<CouponRecommendationResponse> recommendCoupons(Long memberId, BigDecimal orderAmount, int limit) {
+        List<MemberCoupon> memberCoupons = memberCouponRepository.findUsableByMemberId(memberId);
 
+        // Ordered by expiry, so on equal discounts the coupon expiring first is recommended first
+        CouponTerms[] terms = new CouponTerms[memberCoupons.size()];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = CouponTerms.of(memberCoupons.get(i).getCoupon());
+        }
+
+        int[] topIndexes = new int[Math.max(1, Math.min(limit, MAX_RECOMMENDATIONS))];
+        long[] topDiscounts = new long[topIndexes.length];
+        int ranked = CouponRanker.rank(terms, MinorUnits.of(orderAmount), topIndexes, topDiscounts);
+
+        List<CouponRecommendationResponse> recommendations = new ArrayList<>(ranked);
+        for (int i = 0; i < ranked; i++) {
+            Coupon coupon = memberCoupons.get(topIndexes[i]).getCoupon();
+            BigDecimal discountAmount = MinorUnits.toAmount(topDiscounts[i]);
+            recommendations.add(CouponRecommendationResponse.builder()
+                    .memberCouponId(memberCoupons.get(topIndexes[i]).getId())
+                    .couponId(coupon.getId())
+                    .code(coupon.getCode())
+                    .name(coupon.getName())
+                    .type(coupon.getType())
+                    .discountAmount(discountAmount)
+                    .finalAmount(orderAmount.subtract(discountAmount))
+                    .expiresAt(coupon.getValidTo())
+                    .build());
+        }
+        return recommendations;
+    }
+
+    @Override
+    public MemberCoupon getUsableMemberCoupon(Long memberCouponId, Long memberId) {
         MemberCoupon memberCoupon = memberCouponRepository.findByIdWithCoupon(memberCouponId)
+                .filter(mc -> mc.getMemberId().equals(memberId))
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
 
-        memberCoupon.use(orderId);
+        if (memberCoupon.isUsed()) {
+            throw new InvalidStateException(ErrorCode.COUPON_ALREADY_USED);
+        }
+        if (!memberCoupon.getCoupon().isValid()) {
+            throw new InvalidStateException(ErrorCode.COUPON_EXPIRED);
+        }
+        return memberCoupon;
+    }
+
+    @Override
+    @Transactional
+    public void useCoupon(Long memberCouponId, Long orderId) {
+        log.info("Using coupon: memberCouponId={}, orderId={}", memberCouponId, orderId);
+
+        couponUsageService.use(memberCouponId, orderId);
 
         log.info("Coupon used: memberCouponId={}", memberCouponId);
     }
@@ -261,26 +317,38 @@ public class CouponServiceImpl implements CouponService {
     public void restoreCoupon(Long memberCouponId) {
         log.info("Restoring coupon: memberCouponId={}", memberCouponId);
 
-        MemberCoupon memberCoupon = memberCouponRepository.findByIdWithCoupon(memberCouponId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
-
-        memberCoupon.restore();
+        couponUsageService.restore(memberCouponId);
 
         log.info("Coupon restored: memberCouponId={}", memberCouponId);
     }
 
     @Override
-    public boolean validateCoupon(String code, BigDecimal orderAmount) {
-        try {
-            Coupon coupon = findCouponByCode(code);
-            return coupon.isApplicable(orderAmount);
-        } catch (EntityNotFoundException e) {
-            return false;
+    @Transactional
+    public void restoreCouponsForOrders(Collection<Long> orderIds) {
+        int restored = couponUsageService.restoreForOrders(orderIds);
+        if (restored > 0) {
+            log.info("Coupons restored for orders: orders={}, coupons={}", orderIds.size(), restored);
         }
     }
 
+    @Override
+    public boolean validateCoupon(String code, BigDecimal orderAmount) {
+        return couponRuleCache.findByCode(code)
+                .map(rule -> isApplicable(rule, orderAmount))
+                .orElse(false);
+    }
+
     // ========== Private Helper Methods ==========
 
+    /**
+     * Same rule as {@code Coupon#isApplicable}; the quantity counter is read only when everything else passes.
+     */
+    private boolean isApplicable(CouponRule rule, BigDecimal orderAmount) {
+        return rule.isOpenAt(LocalDateTime.now())
+                && rule.meetsMinimum(orderAmount)
+                && couponRuleCache.remainingQuantity(rule) > 0;
+    }
+
     private Coupon findCouponById(Long couponId) {
         return couponRepository.findById(couponId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
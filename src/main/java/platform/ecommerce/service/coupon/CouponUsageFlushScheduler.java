@@ -0,0 +1,30 @@
+package platform.ecommerce.service.coupon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds striped coupon usage to the coupon rows, one coupon per transaction.
+ * A coupon that fails to flush keeps its unflushed usage for the next tick.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponUsageFlushScheduler {
+
+    private final CouponUsageService couponUsageService;
+
+    @Scheduled(fixedDelayString = "${app.coupon.usage-flush-interval:PT5S}")
+    public void flushStripedUsage() {
+        for (Long couponId : couponUsageService.getCouponIdsWithUnflushedUsage()) {
+            try {
+                int flushed = couponUsageService.flushUsage(couponId);
+                log.debug("Flushed coupon usage: couponId={}, delta={}", couponId, flushed);
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush coupon usage: couponId={}, will retry", couponId, e);
+            }
+        }
+    }
+}
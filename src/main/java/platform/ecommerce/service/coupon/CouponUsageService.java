@@ -0,0 +1,43 @@
+package platform.ecommerce.service.coupon;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Counts coupon redemptions without read-modify-write on loaded entities.
+ * Every change is a conditional UPDATE, so concurrent redemptions can neither double-use
+ * a member coupon nor push a coupon past its total quantity.
+ * Hot coupons can switch to striped counting: redemptions spread over stripe rows that are
+ * flushed into the coupon in batches.
+ */
+public interface CouponUsageService {
+
+    /**
+     * Marks the member coupon used by the order and counts one use of its coupon.
+     */
+    void use(Long memberCouponId, Long orderId);
+
+    /**
+     * Marks the member coupon unused and gives back one use; does nothing if it was not used.
+     */
+    void restore(Long memberCouponId);
+
+    /**
+     * Gives back the member coupons used by the orders (cancellation, expiry).
+     * @return the number of member coupons restored
+     */
+    int restoreForOrders(Collection<Long> orderIds);
+
+    /**
+     * Splits the coupon's remaining quantity over the configured number of stripes.
+     */
+    void enableStripedUsage(Long couponId);
+
+    /**
+     * Adds stripe usage counted since the last flush to the coupon.
+     * @return the number of uses added, negative if more were restored than used
+     */
+    int flushUsage(Long couponId);
+
+    List<Long> getCouponIdsWithUnflushedUsage();
+}
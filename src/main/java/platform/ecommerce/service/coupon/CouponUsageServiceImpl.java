@@ -0,0 +1,160 @@
+package platform.ecommerce.service.coupon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponUsageStripe;
+import platform.ecommerce.domain.coupon.MemberCoupon;
+import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.repository.coupon.CouponRepository;
+import platform.ecommerce.repository.coupon.CouponUsageStripeRepository;
+import platform.ecommerce.repository.coupon.MemberCouponRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Coupon usage service implementation.
+ * A coupon counts usage on its own row until striping is enabled; the row update is conditional
+ * on {@code usage_stripes = 0}, so a redemption racing the switch falls through to the stripes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CouponUsageServiceImpl implements CouponUsageService {
+
+    private final CouponRepository couponRepository;
+    private final MemberCouponRepository memberCouponRepository;
+    private final CouponUsageStripeRepository couponUsageStripeRepository;
+    private final AppProperties appProperties;
+
+    @Override
+    @Transactional
+    public void use(Long memberCouponId, Long orderId) {
+        MemberCoupon memberCoupon = memberCouponRepository.findByIdWithCoupon(memberCouponId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
+        if (memberCoupon.isUsed()) {
+            throw new InvalidStateException(ErrorCode.COUPON_ALREADY_USED);
+        }
+        Coupon coupon = memberCoupon.getCoupon();
+        if (!coupon.isValid()) {
+            throw new InvalidStateException(ErrorCode.COUPON_EXPIRED);
+        }
+
+        if (memberCouponRepository.markUsed(memberCouponId, orderId, LocalDateTime.now()) == 0) {
+            throw new InvalidStateException(ErrorCode.COUPON_ALREADY_USED);
+        }
+        if (!acquire(coupon.getId())) {
+            throw new InvalidStateException(ErrorCode.COUPON_LIMIT_EXCEEDED);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void restore(Long memberCouponId) {
+        MemberCoupon memberCoupon = memberCouponRepository.findByIdWithCoupon(memberCouponId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
+        if (memberCouponRepository.markUnused(memberCouponId) == 0) {
+            return;
+        }
+        release(memberCoupon.getCoupon().getId());
+    }
+
+    @Override
+    @Transactional
+    public int restoreForOrders(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        int restored = 0;
+        for (MemberCoupon memberCoupon : memberCouponRepository.findUsedByOrderIdIn(orderIds)) {
+            if (memberCouponRepository.markUnused(memberCoupon.getId()) == 1) {
+                release(memberCoupon.getCoupon().getId());
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    @Override
+    @Transactional
+    public void enableStripedUsage(Long couponId) {
+        Coupon coupon = couponRepository.findByIdForUpdate(couponId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.COUPON_NOT_FOUND));
+        int stripes = appProperties.getCoupon().getUsageStripes();
+        int remaining = Math.max(coupon.getRemainingQuantity(), 0);
+
+        coupon.enableStripedUsage(stripes);
+
+        List<CouponUsageStripe> rows = new ArrayList<>(stripes);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            rows.add(CouponUsageStripe.builder()
+                    .couponId(couponId)
+                    .stripe(stripe)
+                    .allowance(remaining / stripes + (stripe < remaining % stripes ? 1 : 0))
+                    .build());
+        }
+        couponUsageStripeRepository.saveAll(rows);
+
+        log.info("Coupon usage striped: couponId={}, stripes={}, remaining={}", couponId, stripes, remaining);
+    }
+
+    @Override
+    @Transactional
+    public int flushUsage(Long couponId) {
+        int delta = 0;
+        for (CouponUsageStripe stripe : couponUsageStripeRepository.findByCouponIdForUpdate(couponId)) {
+            delta += stripe.getUnflushed();
+            stripe.markFlushed();
+        }
+        if (delta != 0) {
+            couponRepository.addUsedQuantity(couponId, delta);
+        }
+        return delta;
+    }
+
+    @Override
+    public List<Long> getCouponIdsWithUnflushedUsage() {
+        return couponUsageStripeRepository.findCouponIdsWithUnflushedUsage();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private boolean acquire(Long couponId) {
+        if (couponRepository.incrementUsedQuantity(couponId) == 1) {
+            return true;
+        }
+        // Exhausted, or striped since the coupon was loaded: only the stripes can tell
+        int stripes = couponRepository.findUsageStripesById(couponId).orElse(0);
+        int start = stripes > 0 ? ThreadLocalRandom.current().nextInt(stripes) : 0;
+        for (int i = 0; i < stripes; i++) {
+            if (couponUsageStripeRepository.incrementUsed(couponId, (start + i) % stripes) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void release(Long couponId) {
+        if (couponRepository.decrementUsedQuantity(couponId) == 1) {
+            return;
+        }
+        int stripes = couponRepository.findUsageStripesById(couponId).orElse(0);
+        int start = stripes > 0 ? ThreadLocalRandom.current().nextInt(stripes) : 0;
+        for (int i = 0; i < stripes; i++) {
+            if (couponUsageStripeRepository.decrementUsed(couponId, (start + i) % stripes) == 1) {
+                return;
+            }
+        }
+        log.warn("No coupon usage left to restore: couponId={}", couponId);
+    }
+}
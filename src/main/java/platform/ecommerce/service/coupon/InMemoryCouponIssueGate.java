@@ -0,0 +1,94 @@
+package platform.ecommerce.service.coupon;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * In-process {@link CouponIssueGate} for tests and single-node development.
+ * Claims for one coupon are serialized on its drop, as Redis serializes the script; drops do not expire.
+ */
+public class InMemoryCouponIssueGate implements CouponIssueGate {
+
+    private final Map<Long, Drop> drops = new ConcurrentHashMap<>();
+    private final Queue<CouponIssue> pending = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void open(Long couponId, int limit, Duration ttl) {
+        Drop drop = drops.computeIfAbsent(couponId, id -> new Drop());
+        synchronized (drop) {
+            drop.limit = limit;
+        }
+    }
+
+    @Override
+    public CouponIssueOutcome admit(Long couponId, Long memberId) {
+        Drop drop = drops.get(couponId);
+        if (drop == null) {
+            return CouponIssueOutcome.NOT_OPEN;
+        }
+        synchronized (drop) {
+            if (drop.limit == null) {
+                return CouponIssueOutcome.NOT_OPEN;
+            }
+            if (drop.members.contains(memberId)) {
+                return CouponIssueOutcome.ALREADY_ISSUED;
+            }
+            if (drop.members.size() >= drop.limit) {
+                return CouponIssueOutcome.SOLD_OUT;
+            }
+            drop.members.add(memberId);
+        }
+        pending.add(new CouponIssue(couponId, memberId));
+        return CouponIssueOutcome.ISSUED;
+    }
+
+    @Override
+    public List<CouponIssue> pollPending(int limit) {
+        List<CouponIssue> issues = new ArrayList<>(Math.min(limit, 1024));
+        CouponIssue issue;
+        while (issues.size() < limit && (issue = pending.poll()) != null) {
+            issues.add(issue);
+        }
+        return issues;
+    }
+
+    @Override
+    public void requeue(List<CouponIssue> issues) {
+        pending.addAll(issues);
+    }
+
+    @Override
+    public Set<Long> getIssuedMembers(Long couponId) {
+        Drop drop = drops.get(couponId);
+        if (drop == null) {
+            return Set.of();
+        }
+        synchronized (drop) {
+            return Set.copyOf(drop.members);
+        }
+    }
+
+    @Override
+    public void restore(Long couponId, Collection<Long> memberIds, Duration ttl) {
+        Drop drop = drops.computeIfAbsent(couponId, id -> new Drop());
+        synchronized (drop) {
+            drop.members.addAll(memberIds);
+        }
+    }
+
+    /**
+     * The member set doubles as the counter: its size is the issued count.
+     */
+    private static final class Drop {
+        private final Set<Long> members = new HashSet<>();
+        private Integer limit;
+    }
+}
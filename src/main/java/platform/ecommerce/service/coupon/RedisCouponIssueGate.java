@@ -0,0 +1,170 @@
+package platform.ecommerce.service.coupon;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link CouponIssueGate} backed by Redis.
+ * Per coupon: {@code coupon-issue:{couponId}:limit} (present while the drop is open),
+ * {@code :count} (issued counter), {@code :members} (issued member IDs) and {@code :pending}
+ * (admitted member IDs awaiting persistence). The coupon ID is the hash tag, so all keys of a drop
+ * share a Redis Cluster slot and admission stays one Lua script; concurrent claims never over-issue.
+ * Coupons that may have pending claims are listed in the {@code coupon-issue:open} set, which is
+ * only touched outside scripts.
+ */
+public class RedisCouponIssueGate implements CouponIssueGate {
+
+    private static final String KEY_PREFIX = "coupon-issue:";
+    private static final String OPEN_KEY = "coupon-issue:open";
+    private static final String SEPARATOR = ":";
+
+    // KEYS: limit, count, members, pending. ARGV: memberId
+    // -> 0 issued, 1 already issued, 2 sold out, 3 not open
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            local limit = redis.call('GET', KEYS[1])
+            if not limit then return 3 end
+            if redis.call('SISMEMBER', KEYS[3], ARGV[1]) == 1 then return 1 end
+            if tonumber(redis.call('GET', KEYS[2]) or '0') >= tonumber(limit) then return 2 end
+            if redis.call('INCR', KEYS[2]) == 1 then
+                local ttl = redis.call('PTTL', KEYS[1])
+                if ttl > 0 then
+                    redis.call('PEXPIRE', KEYS[2], ttl)
+                    redis.call('PEXPIRE', KEYS[3], ttl)
+                end
+            end
+            redis.call('SADD', KEYS[3], ARGV[1])
+            redis.call('RPUSH', KEYS[4], ARGV[1])
+            return 0
+            """, Long.class);
+
+    // KEYS: count, members, limit. ARGV: ttl millis, member IDs...
+    // Expiry follows the open drop, or the given TTL when the drop is closed or expired
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV do redis.call('SADD', KEYS[2], ARGV[i]) end
+            local count = redis.call('SCARD', KEYS[2])
+            local ttl = redis.call('PTTL', KEYS[3])
+            if ttl <= 0 then ttl = tonumber(ARGV[1]) end
+            redis.call('SET', KEYS[1], count, 'PX', ttl)
+            redis.call('PEXPIRE', KEYS[2], ttl)
+            return count
+            """, Long.class);
+
+    private static final CouponIssueOutcome[] OUTCOMES = {
+            CouponIssueOutcome.ISSUED,
+            CouponIssueOutcome.ALREADY_ISSUED,
+            CouponIssueOutcome.SOLD_OUT,
+            CouponIssueOutcome.NOT_OPEN
+    };
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisCouponIssueGate(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void open(Long couponId, int limit, Duration ttl) {
+        redisTemplate.opsForValue().set(key(couponId, "limit"), String.valueOf(limit), ttl);
+        redisTemplate.expire(key(couponId, "count"), ttl);
+        redisTemplate.expire(key(couponId, "members"), ttl);
+        redisTemplate.opsForSet().add(OPEN_KEY, String.valueOf(couponId));
+    }
+
+    @Override
+    public CouponIssueOutcome admit(Long couponId, Long memberId) {
+        Long result = redisTemplate.execute(ADMIT_SCRIPT,
+                List.of(key(couponId, "limit"), key(couponId, "count"), key(couponId, "members"), key(couponId, "pending")),
+                String.valueOf(memberId));
+        if (result == null) {
+            throw new IllegalStateException("Coupon issue script returned no result");
+        }
+        return OUTCOMES[result.intValue()];
+    }
+
+    @Override
+    public List<CouponIssue> pollPending(int limit) {
+        Set<String> couponIds = redisTemplate.opsForSet().members(OPEN_KEY);
+        if (couponIds == null || couponIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<CouponIssue> issues = new ArrayList<>(Math.min(limit, 1024));
+        for (String couponId : couponIds) {
+            if (issues.size() >= limit) {
+                break;
+            }
+            List<String> memberIds = redisTemplate.opsForList().leftPop(key(couponId, "pending"), limit - issues.size());
+            if (memberIds == null || memberIds.isEmpty()) {
+                retireIfClosed(couponId);
+                continue;
+            }
+            Long id = Long.valueOf(couponId);
+            memberIds.forEach(memberId -> issues.add(new CouponIssue(id, Long.valueOf(memberId))));
+        }
+        return issues;
+    }
+
+    @Override
+    public void requeue(List<CouponIssue> issues) {
+        if (issues.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> memberIdsByCoupon = issues.stream().collect(Collectors.groupingBy(
+                CouponIssue::couponId, Collectors.mapping(issue -> String.valueOf(issue.memberId()), Collectors.toList())));
+        memberIdsByCoupon.forEach((couponId, memberIds) -> {
+            redisTemplate.opsForList().rightPushAll(key(couponId, "pending"), memberIds);
+            redisTemplate.opsForSet().add(OPEN_KEY, String.valueOf(couponId));
+        });
+    }
+
+    @Override
+    public Set<Long> getIssuedMembers(Long couponId) {
+        Set<String> members = redisTemplate.opsForSet().members(key(couponId, "members"));
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public void restore(Long couponId, Collection<Long> memberIds, Duration ttl) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.execute(RESTORE_SCRIPT,
+                List.of(key(couponId, "count"), key(couponId, "members"), key(couponId, "limit")),
+                Stream.concat(Stream.of(String.valueOf(ttl.toMillis())), memberIds.stream().map(String::valueOf))
+                        .toArray());
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static String key(Object couponId, String suffix) {
+        return KEY_PREFIX + "{" + couponId + "}" + SEPARATOR + suffix;
+    }
+
+    /**
+     * Drops a coupon with no pending claims from the open set once its drop has closed.
+     * Re-adds it if a concurrent open or requeue slipped in between the checks.
+     */
+    private void retireIfClosed(String couponId) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key(couponId, "limit")))) {
+            return;
+        }
+        redisTemplate.opsForSet().remove(OPEN_KEY, couponId);
+        Long pending = redisTemplate.opsForList().size(key(couponId, "pending"));
+        if ((pending != null && pending > 0) || Boolean.TRUE.equals(redisTemplate.hasKey(key(couponId, "limit")))) {
+            redisTemplate.opsForSet().add(OPEN_KEY, couponId);
+        }
+    }
+}
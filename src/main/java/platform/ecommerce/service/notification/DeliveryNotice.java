@@ -0,0 +1,11 @@
+package platform.ecommerce.service.notification;
+
+/**
+ * Delivery notification payload for batch sending.
+ */
+public record DeliveryNotice(
+        Long memberId,
+        String orderNumber,
+        String trackingNumber
+) {
+}
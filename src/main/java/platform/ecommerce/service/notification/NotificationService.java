@@ -60,11 +60,21 @@ public interface NotificationService {
      */
     void notifyDeliveryUpdate(Long memberId, String orderNumber, String trackingNumber);
 
+    /**
+     * Send delivery notifications for many orders as one asynchronous batch.
+     */
+    void notifyDeliveryUpdates(List<DeliveryNotice> notices);
+
     /**
      * Send coupon notification.
      */
     void notifyCouponIssued(Long memberId, String couponName);
 
+    /**
+     * Send coupon notifications for many members as one asynchronous batch.
+     */
+    void notifyCouponIssued(List<Long> memberIds, String couponName);
+
     /**
      * Send review request notification.
      */
@@ -122,6 +122,25 @@ public class NotificationServiceImpl implements NotificationService {
         createNotification(memberId, NotificationType.DELIVERY, title, content, linkUrl);
     }
 
+    @Override
+    @Async
+    @Transactional
+    public void notifyDeliveryUpdates(List<DeliveryNotice> notices) {
+        List<Notification> notifications = notices.stream()
+                .map(notice -> Notification.builder()
+                        .memberId(notice.memberId())
+                        .type(NotificationType.DELIVERY)
+                        .title("배송 시작")
+                        .content(String.format("주문번호 %s의 상품이 발송되었습니다. 운송장: %s",
+                                notice.orderNumber(), notice.trackingNumber()))
+                        .linkUrl("/orders/" + notice.orderNumber())
+                        .build())
+                .toList();
+
+        notificationRepository.saveAll(notifications);
+        log.info("Delivery notifications created: count={}", notifications.size());
+    }
+
     @Override
     @Async
     @Transactional
@@ -133,6 +152,25 @@ public class NotificationServiceImpl implements NotificationService {
         createNotification(memberId, NotificationType.COUPON, title, content, linkUrl);
     }
 
+    @Override
+    @Async
+    @Transactional
+    public void notifyCouponIssued(List<Long> memberIds, String couponName) {
+        String content = String.format("'%s' 쿠폰이 발급되었습니다.", couponName);
+        List<Notification> notifications = memberIds.stream()
+                .map(memberId -> Notification.builder()
+                        .memberId(memberId)
+                        .type(NotificationType.COUPON)
+                        .title("쿠폰 발급")
+                        .content(content)
+                        .linkUrl("/my/coupons")
+                        .build())
+                .toList();
+
+        notificationRepository.saveAll(notifications);
+        log.info("Coupon notifications created: count={}", notifications.size());
+    }
+
     @Override
     @Async
     @Transactional
@@ -0,0 +1,21 @@
+package platform.ecommerce.service.order;
+
+import platform.ecommerce.domain.order.Order;
+import platform.ecommerce.exception.ErrorCode;
+
+import java.util.List;
+
+/**
+ * Outcome of applying one status transition to many orders.
+ *
+ * @param transitioned orders whose transition was applied
+ * @param failures     orders that were missing or could not transition, left unchanged
+ */
+public record BulkTransitionResult(
+        List<Order> transitioned,
+        List<Failure> failures
+) {
+
+    public record Failure(Long orderId, ErrorCode errorCode, String message) {
+    }
+}
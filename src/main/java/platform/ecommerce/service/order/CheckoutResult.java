@@ -0,0 +1,13 @@
+package platform.ecommerce.service.order;
+
+import platform.ecommerce.domain.order.Order;
+import platform.ecommerce.domain.payment.Payment;
+
+/**
+ * Order placed from a cart together with its pending payment request.
+ */
+public record CheckoutResult(
+        Order order,
+        Payment payment
+) {
+}
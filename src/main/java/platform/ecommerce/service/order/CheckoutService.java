@@ -0,0 +1,16 @@
+package platform.ecommerce.service.order;
+
+import platform.ecommerce.dto.request.order.CheckoutRequest;
+
+/**
+ * Domain service interface for placing an order from a member's cart.
+ */
+public interface CheckoutService {
+
+    /**
+     * Turns the member's cart into an order awaiting payment, in one transaction.
+     * Prices are resolved server-side, stock is reserved, the coupon is applied,
+     * a payment is requested and the cart is cleared.
+     */
+    CheckoutResult checkout(Long memberId, CheckoutRequest request);
+}
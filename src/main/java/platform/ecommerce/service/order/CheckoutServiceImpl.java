@@ -0,0 +1,154 @@
+package platform.ecommerce.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.domain.coupon.MemberCoupon;
+import platform.ecommerce.domain.order.Order;
+import platform.ecommerce.domain.order.ShippingAddress;
+import platform.ecommerce.domain.payment.Payment;
+import platform.ecommerce.domain.product.Product;
+import platform.ecommerce.domain.product.ProductOption;
+import platform.ecommerce.dto.request.order.CheckoutRequest;
+import platform.ecommerce.dto.request.order.ShippingAddressRequest;
+import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.repository.order.OrderRepository;
+import platform.ecommerce.service.cart.CartLine;
+import platform.ecommerce.service.cart.CartService;
+import platform.ecommerce.service.coupon.CouponService;
+import platform.ecommerce.service.payment.PaymentService;
+import platform.ecommerce.service.pricing.CartPricing;
+import platform.ecommerce.service.pricing.CouponTerms;
+import platform.ecommerce.service.pricing.PriceLine;
+import platform.ecommerce.service.pricing.PricingEngine;
+import platform.ecommerce.service.pricing.ShippingPolicy;
+import platform.ecommerce.service.product.ProductService;
+import platform.ecommerce.service.product.StockAdjustment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Checkout implementation.
+ * All products of the cart are loaded with their options in one query, so the number of
+ * statements does not grow with the number of distinct products; only the order item
+ * inserts are one per line.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CheckoutServiceImpl implements CheckoutService {
+
+    private final CartService cartService;
+    private final ProductService productService;
+    private final CouponService couponService;
+    private final PaymentService paymentService;
+    private final OrderRepository orderRepository;
+    private final AppProperties appProperties;
+
+    @Override
+    @Transactional
+    public CheckoutResult checkout(Long memberId, CheckoutRequest request) {
+        log.info("Checking out cart for member: {}", memberId);
+
+        List<CartLine> lines = cartService.getLines(memberId);
+        if (lines.isEmpty()) {
+            throw new InvalidStateException(ErrorCode.CART_EMPTY);
+        }
+
+        Map<Long, Product> productsById = productService.getProductsWithOptions(
+                        lines.stream().map(CartLine::productId).distinct().toList()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<ProductOption> options = new ArrayList<>(lines.size());
+        List<PriceLine> priceLines = new ArrayList<>(lines.size());
+        for (CartLine line : lines) {
+            Product product = findPurchasableProduct(productsById, line.productId());
+            ProductOption option = product.findOptionById(line.productOptionId());
+            options.add(option);
+            priceLines.add(PriceLine.of(product.getBasePrice(), option.getAdditionalPrice(), line.quantity()));
+        }
+
+        MemberCoupon memberCoupon = request.memberCouponId() != null
+                ? couponService.getUsableMemberCoupon(request.memberCouponId(), memberId)
+                : null;
+        CartPricing pricing = PricingEngine.price(
+                priceLines,
+                memberCoupon != null ? CouponTerms.of(memberCoupon.getCoupon()) : null,
+                shippingPolicy()
+        );
+        if (memberCoupon != null && !memberCoupon.getCoupon().isApplicable(pricing.subtotal())) {
+            throw new InvalidStateException(ErrorCode.COUPON_NOT_APPLICABLE);
+        }
+
+        Order order = Order.builder()
+                .memberId(memberId)
+                .shippingAddress(toShippingAddress(request.shippingAddress()))
+                .shippingFee(pricing.shippingFee())
+                .discountAmount(pricing.discount())
+                .build();
+        for (int i = 0; i < lines.size(); i++) {
+            CartLine line = lines.get(i);
+            order.addItem(
+                    line.productId(),
+                    line.productOptionId(),
+                    productsById.get(line.productId()).getName(),
+                    options.get(i).getOptionValue(),
+                    pricing.unitPrice(i),
+                    line.quantity()
+            );
+        }
+        order.validateForPlacement();
+
+        productService.decreaseStocks(lines.stream()
+                .map(line -> new StockAdjustment(line.productId(), line.productOptionId(), line.quantity()))
+                .toList());
+
+        Order savedOrder = orderRepository.save(order);
+        if (memberCoupon != null) {
+            couponService.useCoupon(memberCoupon.getId(), savedOrder.getId());
+        }
+
+        Payment payment = paymentService.requestPayment(savedOrder.getId(), request.paymentMethod());
+        cartService.clearCart(memberId);
+
+        log.info("Checkout completed: orderNumber={}, lines={}", savedOrder.getOrderNumber(), lines.size());
+        return new CheckoutResult(savedOrder, payment);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private Product findPurchasableProduct(Map<Long, Product> productsById, Long productId) {
+        Product product = productsById.get(productId);
+        if (product == null) {
+            throw new EntityNotFoundException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        if (!product.getStatus().canPurchase()) {
+            throw new InvalidStateException(ErrorCode.PRODUCT_NOT_AVAILABLE);
+        }
+        return product;
+    }
+
+    private ShippingPolicy shippingPolicy() {
+        AppProperties.Pricing pricing = appProperties.getPricing();
+        return ShippingPolicy.of(pricing.getShippingFee(), pricing.getFreeShippingThreshold());
+    }
+
+    private ShippingAddress toShippingAddress(ShippingAddressRequest request) {
+        return ShippingAddress.builder()
+                .recipientName(request.recipientName())
+                .recipientPhone(request.recipientPhone())
+                .zipCode(request.zipCode())
+                .address(request.address())
+                .addressDetail(request.addressDetail())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package platform.ecommerce.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.config.AppProperties;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scheduled archival of completed orders to the cold partition, in batches.
+ * Idempotent; batches skip rows locked by other nodes. Monthly partitions are kept by
+ * {@link OrderPartitionScheduler}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.order-archive", name = "enabled", havingValue = "true")
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveService orderArchiveService;
+    private final AppProperties appProperties;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void archiveCompletedOrders() {
+        AppProperties.OrderArchive config = appProperties.getOrderArchive();
+        LocalDateTime before = LocalDateTime.now().minusDays(config.getArchiveAfterDays());
+
+        int total = 0;
+        int archived;
+        do {
+            archived = orderArchiveService.archiveCompletedOrders(before, config.getBatchSize());
+            total += archived;
+        } while (archived == config.getBatchSize());
+
+        log.info("Order archival finished: {} orders moved to cold storage (created before {})", total, before);
+    }
+}
@@ -0,0 +1,24 @@
+package platform.ecommerce.service.order;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Domain service for order partition maintenance and archival.
+ * Requires the partitioned orders schema (PostgreSQL).
+ */
+public interface OrderArchiveService {
+
+    /**
+     * Ensures monthly partitions exist from the given month for the given number of months.
+     * Returns the number of partitions created.
+     */
+    int createMonthlyPartitions(LocalDate fromMonth, int months);
+
+    /**
+     * Moves one batch of completed orders created before the cutoff, with their items,
+     * to cold storage. Returns the number of orders moved; fewer than {@code batchSize}
+     * means nothing is left to archive.
+     */
+    int archiveCompletedOrders(LocalDateTime before, int batchSize);
+}
@@ -0,0 +1,50 @@
+package platform.ecommerce.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import platform.ecommerce.repository.order.OrderRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Domain service implementation for order partition maintenance and archival.
+ * Each archival batch runs in its own transaction so locks are held briefly.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderArchiveServiceImpl implements OrderArchiveService {
+
+    private final OrderRepository orderRepository;
+
+    @Override
+    @Transactional
+    public int createMonthlyPartitions(LocalDate fromMonth, int months) {
+        int created = orderRepository.createMonthlyPartitions(fromMonth.withDayOfMonth(1), months);
+        if (created > 0) {
+            log.info("Created {} order partitions from {}", created, fromMonth);
+        }
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public int archiveCompletedOrders(LocalDateTime before, int batchSize) {
+        List<Long> orderIds = orderRepository.findArchivableOrderIds(before, batchSize);
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        // Items first: both moves share the transaction, so readers never see a split order
+        orderRepository.moveOrderItemsToColdStorage(orderIds);
+        int moved = orderRepository.moveOrdersToColdStorage(orderIds);
+
+        log.debug("Archived {} orders created before {}", moved, before);
+        return orderIds.size();
+    }
+}
@@ -0,0 +1,42 @@
+package platform.ecommerce.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.config.AppProperties;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scheduled sweeper that cancels orders whose payment window has passed.
+ * Each batch locks its orders with SKIP LOCKED, so several nodes can sweep at once
+ * without cancelling the same order twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.order-expiry", name = "enabled", havingValue = "true")
+public class OrderExpiryScheduler {
+
+    private final OrderService orderService;
+    private final AppProperties appProperties;
+
+    @Scheduled(fixedDelayString = "${app.order-expiry.interval:PT1M}")
+    public void expireUnpaidOrders() {
+        AppProperties.OrderExpiry config = appProperties.getOrderExpiry();
+        LocalDateTime before = LocalDateTime.now().minusMinutes(config.getPaymentTimeoutMinutes());
+
+        int total = 0;
+        int expired;
+        do {
+            expired = orderService.expireUnpaidOrders(before, config.getBatchSize());
+            total += expired;
+        } while (expired == config.getBatchSize());
+
+        if (total > 0) {
+            log.info("Unpaid order sweep finished: {} orders cancelled (created before {})", total, before);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package platform.ecommerce.service.order;
+
+import platform.ecommerce.domain.order.OrderStatus;
+import platform.ecommerce.dto.request.order.OrderExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Domain service for streaming order exports.
+ */
+public interface OrderExportService {
+
+    /**
+     * Streams orders created in [from, to), optionally filtered by status, to the output stream.
+     *
+     * @return number of orders exported
+     */
+    long exportOrders(LocalDateTime from, LocalDateTime to, OrderStatus status,
+                      OrderExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,48 @@
+package platform.ecommerce.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import platform.ecommerce.domain.order.OrderStatus;
+import platform.ecommerce.dto.request.order.OrderExportFormat;
+import platform.ecommerce.dto.response.order.OrderExportRow;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.repository.order.OrderRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Domain service implementation for streaming order exports.
+ * Rows are read through a forward-only cursor inside one read-only transaction
+ * and written as they arrive, so heap use stays flat for any date range.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private final OrderRepository orderRepository;
+    private final OrderExportWriter orderExportWriter;
+
+    @Override
+    public long exportOrders(LocalDateTime from, LocalDateTime to, OrderStatus status,
+                             OrderExportFormat format, OutputStream out) throws IOException {
+        if (!from.isBefore(to)) {
+            throw new InvalidStateException(ErrorCode.INVALID_INPUT, "Export start must be before end");
+        }
+
+        log.info("Exporting orders: from={}, to={}, status={}, format={}", from, to, status, format);
+
+        try (Stream<OrderExportRow> rows = orderRepository.streamForExport(from, to, status)) {
+            long count = orderExportWriter.write(rows, format, out);
+            log.info("Exported {} orders", count);
+            return count;
+        }
+    }
+}
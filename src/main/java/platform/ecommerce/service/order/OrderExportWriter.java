@@ -0,0 +1,97 @@
+package platform.ecommerce.service.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.dto.request.order.OrderExportFormat;
+import platform.ecommerce.dto.response.order.OrderExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes order export rows as CSV or NDJSON.
+ * Rows are serialized one at a time through a fixed-size buffer, so memory use
+ * does not depend on the number of rows.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = String.join(",",
+            "id", "order_number", "member_id", "status", "payment_method", "shipping_fee",
+            "discount_amount", "total_amount", "created_at", "paid_at", "shipped_at",
+            "delivered_at", "cancelled_at");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Write all rows to the output stream. The stream is flushed but not closed.
+     *
+     * @return number of rows written
+     */
+    public long write(Stream<OrderExportRow> rows, OrderExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        if (format == OrderExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        Iterator<OrderExportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            OrderExportRow row = iterator.next();
+            switch (format) {
+                case CSV -> writeCsvLine(writer, row);
+                case NDJSON -> writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+            count++;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void writeCsvLine(Writer writer, OrderExportRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writeCsvField(writer, row.orderNumber());
+        writeCsvField(writer, row.memberId());
+        writeCsvField(writer, row.status());
+        writeCsvField(writer, row.paymentMethod());
+        writeCsvField(writer, row.shippingFee() != null ? row.shippingFee().toPlainString() : null);
+        writeCsvField(writer, row.discountAmount() != null ? row.discountAmount().toPlainString() : null);
+        writeCsvField(writer, row.totalAmount() != null ? row.totalAmount().toPlainString() : null);
+        writeCsvField(writer, row.createdAt());
+        writeCsvField(writer, row.paidAt());
+        writeCsvField(writer, row.shippedAt());
+        writeCsvField(writer, row.deliveredAt());
+        writeCsvField(writer, row.cancelledAt());
+    }
+
+    private void writeCsvField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
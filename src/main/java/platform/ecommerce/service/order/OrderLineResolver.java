@@ -0,0 +1,65 @@
+package platform.ecommerce.service.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.dto.request.order.OrderItemRequest;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.service.product.OptionPriceView;
+import platform.ecommerce.service.product.ProductService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves requested order lines against the current catalog.
+ * Names and prices of all lines are read in one query; the client's unit price is only
+ * checked against the catalog price, so an order placed from a stale page is rejected
+ * instead of being charged at the old price.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderLineResolver {
+
+    private final ProductService productService;
+
+    public List<ResolvedOrderLine> resolve(List<OrderItemRequest> items) {
+        List<Long> optionIds = items.stream()
+                .map(OrderItemRequest::productOptionId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, OptionPriceView> pricesByOption = productService.getOptionPrices(optionIds).stream()
+                .collect(Collectors.toMap(OptionPriceView::optionId, Function.identity()));
+
+        return items.stream()
+                .map(item -> resolve(item, pricesByOption.get(item.productOptionId())))
+                .toList();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private ResolvedOrderLine resolve(OrderItemRequest item, OptionPriceView price) {
+        if (price == null || !price.productId().equals(item.productId())) {
+            throw new InvalidStateException(ErrorCode.PRODUCT_OPTION_NOT_FOUND);
+        }
+        if (!price.status().canPurchase()) {
+            throw new InvalidStateException(ErrorCode.PRODUCT_NOT_AVAILABLE);
+        }
+        if (price.unitPrice().compareTo(item.unitPrice()) != 0) {
+            throw new InvalidStateException(ErrorCode.ORDER_PRICE_CHANGED,
+                    String.format("Price of option %d is now %s", item.productOptionId(), price.unitPrice()));
+        }
+        return new ResolvedOrderLine(
+                price.productId(),
+                price.optionId(),
+                price.productName(),
+                price.optionValue(),
+                price.unitPrice(),
+                item.quantity()
+        );
+    }
+}
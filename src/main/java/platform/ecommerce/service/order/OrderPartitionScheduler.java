@@ -0,0 +1,39 @@
+package platform.ecommerce.service.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.config.AppProperties;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps future monthly partitions of the orders tables ahead of time.
+ * On by default and independent of archival: without it new orders fall into the default partition.
+ * Idempotent, so several nodes can run it at once.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.order-partition", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderPartitionScheduler {
+
+    private final OrderArchiveService orderArchiveService;
+    private final AppProperties appProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        createFuturePartitions();
+    }
+
+    /**
+     * Runs daily so a missed run never leaves the current month without a partition.
+     */
+    @Scheduled(cron = "0 0 1 * * *")
+    public void createFuturePartitions() {
+        int monthsAhead = appProperties.getOrderPartition().getMonthsAhead();
+        orderArchiveService.createMonthlyPartitions(LocalDate.now(), monthsAhead + 1);
+    }
+}
@@ -5,8 +5,13 @@ import org.springframework.data.domain.Pageable;
 import platform.ecommerce.domain.order.Order;
 import platform.ecommerce.domain.order.PaymentMethod;
 import platform.ecommerce.dto.request.order.OrderCreateRequest;
+import platform.ecommerce.dto.request.order.OrderCursor;
 import platform.ecommerce.dto.request.order.OrderSearchCondition;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Domain service interface for Order operations.
  * Returns entities for use by application layer.
@@ -38,11 +43,23 @@ public interface OrderService {
      */
     Page<Order> getMyOrders(Long memberId, Pageable pageable);
 
+    /**
+     * Gets a member's order history after the cursor (keyset pagination), items included.
+     * Returns up to {@code limit} orders, newest first.
+     */
+    List<Order> getMyOrderHistory(Long memberId, OrderCursor cursor, int limit);
+
     /**
      * Searches orders with conditions.
      */
     Page<Order> searchOrders(OrderSearchCondition condition, Pageable pageable);
 
+    /**
+     * Searches orders with conditions after the cursor (keyset pagination), items included.
+     * Returns up to {@code limit} orders, newest first.
+     */
+    List<Order> searchOrdersByCursor(OrderSearchCondition condition, OrderCursor cursor, int limit);
+
     /**
      * Processes payment for an order.
      */
@@ -58,6 +75,25 @@ public interface OrderService {
      */
     Order shipOrder(Long orderId, String trackingNumber);
 
+    /**
+     * Starts preparing many orders in one transaction.
+     * Missing orders and invalid transitions are reported as failures and left unchanged.
+     */
+    BulkTransitionResult startPreparingAll(List<Long> orderIds);
+
+    /**
+     * Ships many orders (order ID to tracking number) in one transaction.
+     * Missing orders and invalid transitions are reported as failures and left unchanged.
+     */
+    BulkTransitionResult shipAll(Map<Long, String> trackingNumbers);
+
+    /**
+     * Cancels one batch of orders still waiting for payment that were created before the cutoff,
+     * releasing their stock. Returns the number of orders cancelled; fewer than {@code batchSize}
+     * means no expired order is left.
+     */
+    int expireUnpaidOrders(LocalDateTime before, int batchSize);
+
     /**
      * Marks an order as delivered.
      */
@@ -2,6 +2,7 @@ package platform.ecommerce.service.order;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -11,7 +12,18 @@ import platform.ecommerce.dto.request.order.*;
 import platform.ecommerce.exception.*;
 import platform.ecommerce.repository.order.OrderRepository;
 import platform.ecommerce.security.SecurityUtils;
+import platform.ecommerce.service.coupon.CouponService;
 import platform.ecommerce.service.product.ProductService;
+import platform.ecommerce.service.product.StockAdjustment;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Domain service implementation for Order.
@@ -23,8 +35,12 @@ import platform.ecommerce.service.product.ProductService;
 @Transactional(readOnly = true)
 public class OrderServiceImpl implements OrderService {
 
+    private static final String PAYMENT_EXPIRED_REASON = "Payment not completed in time";
+
     private final OrderRepository orderRepository;
     private final ProductService productService;
+    private final CouponService couponService;
+    private final OrderLineResolver orderLineResolver;
 
     @Override
     @Transactional
@@ -46,26 +62,23 @@ public class OrderServiceImpl implements OrderService {
                 .discountAmount(request.discountAmount())
                 .build();
 
-        for (OrderItemRequest itemRequest : request.items()) {
+        List<ResolvedOrderLine> lines = orderLineResolver.resolve(request.items());
+        for (ResolvedOrderLine line : lines) {
             order.addItem(
-                    itemRequest.productId(),
-                    itemRequest.productOptionId(),
-                    itemRequest.productName(),
-                    itemRequest.optionName(),
-                    itemRequest.unitPrice(),
-                    itemRequest.quantity()
+                    line.productId(),
+                    line.productOptionId(),
+                    line.productName(),
+                    line.optionName(),
+                    line.unitPrice(),
+                    line.quantity()
             );
         }
 
         order.validateForPlacement();
 
-        for (OrderItemRequest itemRequest : request.items()) {
-            productService.decreaseStock(
-                    itemRequest.productId(),
-                    itemRequest.productOptionId(),
-                    itemRequest.quantity()
-            );
-        }
+        productService.decreaseStocks(lines.stream()
+                .map(line -> new StockAdjustment(line.productId(), line.productOptionId(), line.quantity()))
+                .toList());
 
         Order savedOrder = orderRepository.save(order);
         log.info("Order created: orderNumber={}", savedOrder.getOrderNumber());
@@ -98,11 +111,21 @@ public class OrderServiceImpl implements OrderService {
         return orderRepository.search(condition, pageable);
     }
 
+    @Override
+    public List<Order> getMyOrderHistory(Long memberId, OrderCursor cursor, int limit) {
+        return orderRepository.findMemberOrderHistory(memberId, cursor, limit);
+    }
+
     @Override
     public Page<Order> searchOrders(OrderSearchCondition condition, Pageable pageable) {
         return orderRepository.search(condition, pageable);
     }
 
+    @Override
+    public List<Order> searchOrdersByCursor(OrderSearchCondition condition, OrderCursor cursor, int limit) {
+        return orderRepository.searchByCursor(condition, cursor, limit);
+    }
+
     @Override
     @Transactional
     public Order processPayment(Long orderId, PaymentMethod paymentMethod, String transactionId) {
@@ -139,6 +162,53 @@ public class OrderServiceImpl implements OrderService {
         return order;
     }
 
+    @Override
+    @Transactional
+    public BulkTransitionResult startPreparingAll(List<Long> orderIds) {
+        log.info("Starting preparation for {} orders", orderIds.size());
+
+        Map<Long, Order> ordersById = orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        return applyTransition(orderIds, ordersById, Order::startPreparing);
+    }
+
+    @Override
+    @Transactional
+    public BulkTransitionResult shipAll(Map<Long, String> trackingNumbers) {
+        log.info("Shipping {} orders", trackingNumbers.size());
+
+        Map<Long, Order> ordersById = orderRepository.findAllWithItemsByIdIn(trackingNumbers.keySet()).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        return applyTransition(trackingNumbers.keySet(), ordersById,
+                order -> order.ship(trackingNumbers.get(order.getId())));
+    }
+
+    @Override
+    @Transactional
+    public int expireUnpaidOrders(LocalDateTime before, int batchSize) {
+        List<Order> orders = orderRepository.findByStatusCreatedBeforeForUpdate(
+                OrderStatus.PENDING_PAYMENT, before, Limit.of(batchSize));
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        List<StockAdjustment> adjustments = new ArrayList<>();
+        for (Order order : orders) {
+            order.getItems().stream()
+                    .filter(item -> item.getStatus() != OrderItemStatus.CANCELLED)
+                    .forEach(item -> adjustments.add(
+                            new StockAdjustment(item.getProductId(), item.getProductOptionId(), item.getQuantity())));
+            order.cancel(PAYMENT_EXPIRED_REASON);
+        }
+        productService.increaseStocks(adjustments);
+        couponService.restoreCouponsForOrders(orders.stream().map(Order::getId).toList());
+
+        log.info("Expired {} unpaid orders created before {}", orders.size(), before);
+        return orders.size();
+    }
+
     @Override
     @Transactional
     public Order deliverOrder(Long orderId) {
@@ -156,11 +226,18 @@ public class OrderServiceImpl implements OrderService {
     public Order cancelOrder(Long orderId, Long memberId, String reason) {
         log.info("Cancelling order: id={}, memberId={}, reason={}", orderId, memberId, reason);
 
+        // Serializes with payment confirmation, which locks the order before marking its payment PROCESSING
+        orderRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ORDER_NOT_FOUND));
         Order order = findOrderById(orderId);
         validateOrderOwnership(order, memberId);
+        if (orderRepository.hasPaymentInProgress(orderId)) {
+            throw new InvalidStateException(ErrorCode.ORDER_CANNOT_CANCEL, "Payment confirmation is in progress");
+        }
 
         restoreStockForOrder(order);
         order.cancel(reason);
+        couponService.restoreCouponsForOrders(List.of(orderId));
 
         log.info("Order cancelled: id={}", orderId);
         return order;
@@ -193,6 +270,35 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ORDER_NOT_FOUND));
     }
 
+    /**
+     * Applies the transition to each loaded order, collecting failures instead of aborting.
+     * Transitions validate before mutating, so failed orders stay clean and the rest
+     * are flushed together at commit as batched updates.
+     */
+    private BulkTransitionResult applyTransition(Collection<Long> orderIds, Map<Long, Order> ordersById,
+                                                 Consumer<Order> transition) {
+        List<Order> transitioned = new ArrayList<>(ordersById.size());
+        List<BulkTransitionResult.Failure> failures = new ArrayList<>();
+
+        for (Long orderId : orderIds) {
+            Order order = ordersById.get(orderId);
+            if (order == null) {
+                failures.add(new BulkTransitionResult.Failure(
+                        orderId, ErrorCode.ORDER_NOT_FOUND, ErrorCode.ORDER_NOT_FOUND.getMessage()));
+                continue;
+            }
+            try {
+                transition.accept(order);
+                transitioned.add(order);
+            } catch (BusinessException e) {
+                failures.add(new BulkTransitionResult.Failure(orderId, e.getErrorCode(), e.getMessage()));
+            }
+        }
+
+        log.info("Bulk transition applied: succeeded={}, failed={}", transitioned.size(), failures.size());
+        return new BulkTransitionResult(transitioned, failures);
+    }
+
     private void validateOrderOwnership(Order order, Long memberId) {
         if (!order.getMemberId().equals(memberId)) {
             throw new InvalidStateException(ErrorCode.FORBIDDEN, "Not authorized to access this order");
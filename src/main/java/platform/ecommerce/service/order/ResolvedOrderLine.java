@@ -0,0 +1,16 @@
+package platform.ecommerce.service.order;
+
+import java.math.BigDecimal;
+
+/**
+ * Order line with name and unit price taken from the catalog at order time.
+ */
+public record ResolvedOrderLine(
+        Long productId,
+        Long productOptionId,
+        String productName,
+        String optionName,
+        BigDecimal unitPrice,
+        int quantity
+) {
+}
@@ -2,13 +2,17 @@ package platform.ecommerce.service.payment;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import platform.ecommerce.config.AppProperties;
 
 import java.math.BigDecimal;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Mock payment gateway for development and testing.
  * Simulates failure when amount ends with 9999.
+ * With {@code app.payment.simulator.enabled} every call also goes through
+ * {@link PaymentGatewaySimulator} for latency and fault injection.
  */
 @Slf4j
 @Component
@@ -16,8 +20,39 @@ public class MockPaymentGateway implements PaymentGateway {
 
     private static final BigDecimal FAILURE_AMOUNT_SUFFIX = new BigDecimal("9999");
 
+    private final PaymentGatewaySimulator simulator;
+
+    public MockPaymentGateway(AppProperties appProperties) {
+        AppProperties.Simulator config = appProperties.getPayment().getSimulator();
+        this.simulator = config.isEnabled() ? PaymentGatewaySimulator.from(config) : null;
+        if (simulator != null) {
+            log.warn("Mock payment gateway simulator enabled: distribution={}, median={}ms, p99={}ms, "
+                            + "errorRate={}, timeoutRate={}",
+                    config.getLatencyDistribution(), config.getMedianLatencyMillis(),
+                    config.getP99LatencyMillis(), config.getErrorRate(), config.getTimeoutRate());
+        }
+    }
+
     @Override
     public PaymentResult requestPayment(PaymentCommand command) {
+        return simulated("request", () -> doRequestPayment(command));
+    }
+
+    @Override
+    public PaymentResult confirmPayment(String transactionId, BigDecimal amount) {
+        return simulated("confirm", () -> doConfirmPayment(transactionId, amount));
+    }
+
+    @Override
+    public PaymentResult cancelPayment(String pgTransactionId, BigDecimal amount) {
+        return simulated("cancel", () -> doCancelPayment(pgTransactionId, amount));
+    }
+
+    private PaymentResult simulated(String method, Supplier<PaymentResult> call) {
+        return simulator != null ? simulator.simulate(method, call) : call.get();
+    }
+
+    private PaymentResult doRequestPayment(PaymentCommand command) {
         log.info("Mock: Requesting payment for transaction={}, amount={}",
                 command.transactionId(), command.amount());
 
@@ -27,8 +62,7 @@ public class MockPaymentGateway implements PaymentGateway {
         return PaymentResult.success(pgTransactionId);
     }
 
-    @Override
-    public PaymentResult confirmPayment(String transactionId, BigDecimal amount) {
+    private PaymentResult doConfirmPayment(String transactionId, BigDecimal amount) {
         log.info("Mock: Confirming payment for transaction={}, amount={}", transactionId, amount);
 
         // Simulate failure for amounts ending with 9999
@@ -41,8 +75,7 @@ public class MockPaymentGateway implements PaymentGateway {
         return PaymentResult.success(pgTransactionId);
     }
 
-    @Override
-    public PaymentResult cancelPayment(String pgTransactionId, BigDecimal amount) {
+    private PaymentResult doCancelPayment(String pgTransactionId, BigDecimal amount) {
         log.info("Mock: Cancelling payment pgTxId={}, amount={}", pgTransactionId, amount);
 
         // Always succeed for cancellation
@@ -0,0 +1,151 @@
+package platform.ecommerce.service.payment;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.exception.ExternalApiException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Resilient wrapper around {@link PaymentGateway}.
+ * Each call runs on a virtual thread with a hard timeout, inside a bulkhead
+ * and the {@code external-api} circuit breaker and retry.
+ * Must be called outside a database transaction so a slow gateway never holds a connection.
+ */
+@Slf4j
+@Component
+public class PaymentGatewayClient {
+
+    private static final String METRIC_NAME = "payment.gateway.requests";
+    private static final String RESILIENCE_INSTANCE = "external-api";
+
+    private final PaymentGateway paymentGateway;
+    private final ExecutorService executor;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+    private final Duration timeout;
+
+    public PaymentGatewayClient(PaymentGateway paymentGateway,
+                                @Qualifier("paymentGatewayExecutor") ExecutorService executor,
+                                CircuitBreakerRegistry circuitBreakerRegistry,
+                                RetryRegistry retryRegistry,
+                                MeterRegistry meterRegistry,
+                                AppProperties appProperties) {
+        AppProperties.Payment properties = appProperties.getPayment();
+        this.paymentGateway = paymentGateway;
+        this.executor = executor;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE);
+        this.retry = retryRegistry.retry(RESILIENCE_INSTANCE);
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(properties.getMaxConcurrentGatewayCalls());
+        this.timeout = Duration.ofMillis(properties.getGatewayTimeoutMillis());
+    }
+
+    public PaymentResult requestPayment(PaymentCommand command) {
+        return execute("request", () -> paymentGateway.requestPayment(command));
+    }
+
+    public PaymentResult confirmPayment(String transactionId, BigDecimal amount) {
+        return execute("confirm", () -> paymentGateway.confirmPayment(transactionId, amount));
+    }
+
+    public PaymentResult cancelPayment(String pgTransactionId, BigDecimal amount) {
+        return execute("cancel", () -> paymentGateway.cancelPayment(pgTransactionId, amount));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Gateway calls are keyed by transaction ID, so retrying after a timeout is safe.
+     */
+    private PaymentResult execute(String method, Supplier<PaymentResult> call) {
+        AtomicBoolean sent = new AtomicBoolean(false);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Supplier<PaymentResult> guarded = CircuitBreaker.decorateSupplier(circuitBreaker,
+                    () -> callWithTimeout(method, call, sent));
+            PaymentResult result = Retry.decorateSupplier(retry, guarded).get();
+            outcome = result.success() ? "success" : "declined";
+            return result;
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            outcome = "rejected";
+            if (sent.get()) {
+                throw ExternalApiException.failed("Payment gateway " + method + " outcome unknown", e);
+            }
+            throw ExternalApiException.unavailable("Payment gateway temporarily unavailable", e);
+        } catch (GatewayTimeoutException e) {
+            outcome = "timeout";
+            throw ExternalApiException.failed("Payment gateway " + method + " timed out", e);
+        } catch (RuntimeException e) {
+            throw ExternalApiException.failed("Payment gateway " + method + " failed", e);
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Payment gateway call latency including retries")
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private PaymentResult callWithTimeout(String method, Supplier<PaymentResult> call, AtomicBoolean sent) {
+        if (!bulkhead.tryAcquire()) {
+            throw new BulkheadFullException();
+        }
+        try {
+            sent.set(true);
+            Future<PaymentResult> future = executor.submit(call::get);
+            try {
+                return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Payment gateway {} timed out after {}ms", method, timeout.toMillis());
+                throw new GatewayTimeoutException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new GatewayTimeoutException(e);
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private static class BulkheadFullException extends RuntimeException {
+        BulkheadFullException() {
+            super("Too many concurrent payment gateway calls", null, false, false);
+        }
+    }
+
+    private static class GatewayTimeoutException extends RuntimeException {
+        GatewayTimeoutException(Throwable cause) {
+            super("Payment gateway call timed out", cause, false, false);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package platform.ecommerce.service.payment;
+
+import lombok.extern.slf4j.Slf4j;
+import platform.ecommerce.config.AppProperties;
+
+import java.time.Clock;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Injects latency, errors, timeouts and outages into mock gateway calls
+ * so production-like gateway behavior can be reproduced locally and in load tests.
+ */
+@Slf4j
+public class PaymentGatewaySimulator {
+
+    /**
+     * z-score of the 99th percentile of the standard normal distribution.
+     */
+    private static final double Z_99 = 2.326;
+
+    private final AppProperties.Simulator config;
+    private final RandomGenerator random;
+    private final Clock clock;
+    private final Sleeper sleeper;
+
+    public PaymentGatewaySimulator(AppProperties.Simulator config, RandomGenerator random,
+                                   Clock clock, Sleeper sleeper) {
+        this.config = config;
+        this.random = random;
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    public static PaymentGatewaySimulator from(AppProperties.Simulator config) {
+        RandomGenerator random = config.getSeed() != null ? new Random(config.getSeed()) : new Random();
+        return new PaymentGatewaySimulator(config, random, Clock.systemUTC(), Thread::sleep);
+    }
+
+    /**
+     * Run one simulated gateway call. Faults are applied in order:
+     * outage, hang, latency, error, decline; otherwise {@code onSuccess} is returned.
+     */
+    public PaymentResult simulate(String method, Supplier<PaymentResult> onSuccess) {
+        if (inOutage() && chance(config.getOutageErrorRate())) {
+            throw new SimulatedGatewayException("Simulated outage on " + method);
+        }
+        if (chance(config.getTimeoutRate())) {
+            log.debug("Simulator: hanging {} for {}ms", method, config.getHangMillis());
+            pause(config.getHangMillis());
+        }
+        pause(sampleLatencyMillis());
+        if (chance(config.getErrorRate())) {
+            throw new SimulatedGatewayException("Simulated gateway error on " + method);
+        }
+        if (chance(config.getDeclineRate())) {
+            return PaymentResult.failure("Simulated decline");
+        }
+        return onSuccess.get();
+    }
+
+    /**
+     * Draw a latency from the configured distribution.
+     * LOG_NORMAL is fitted so its median and 99th percentile match the configured values.
+     */
+    public long sampleLatencyMillis() {
+        long min = config.getMinLatencyMillis();
+        long median = config.getMedianLatencyMillis();
+        long p99 = Math.max(config.getP99LatencyMillis(), median);
+
+        long latency = switch (config.getLatencyDistribution()) {
+            case FIXED -> median;
+            case UNIFORM -> min >= p99 ? min : random.nextLong(min, p99 + 1);
+            case LOG_NORMAL -> {
+                if (median == 0) {
+                    yield 0;
+                }
+                double sigma = Math.log((double) p99 / median) / Z_99;
+                yield Math.round(median * Math.exp(sigma * random.nextGaussian()));
+            }
+        };
+        return Math.max(min, latency);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private boolean inOutage() {
+        int period = config.getOutagePeriodSeconds();
+        if (period == 0 || config.getOutageDurationSeconds() == 0) {
+            return false;
+        }
+        long secondInPeriod = (clock.millis() / 1000) % period;
+        return secondInPeriod < config.getOutageDurationSeconds();
+    }
+
+    private boolean chance(double rate) {
+        return rate > 0 && random.nextDouble() < rate;
+    }
+
+    private void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            sleeper.sleep(millis);
+        } catch (InterruptedException e) {
+            // Caller gave up (client timeout); stop simulating the call
+            Thread.currentThread().interrupt();
+            throw new SimulatedGatewayException("Simulated call interrupted");
+        }
+    }
+
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    /**
+     * Transport-level failure raised by the simulator.
+     */
+    public static class SimulatedGatewayException extends RuntimeException {
+        public SimulatedGatewayException(String message) {
+            super(message);
+        }
+    }
+}
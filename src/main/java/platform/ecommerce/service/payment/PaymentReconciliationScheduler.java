@@ -0,0 +1,42 @@
+package platform.ecommerce.service.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.config.AppProperties;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Reconciles the previous day's PG settlement file every morning.
+ * Re-running for a date replaces its report, so a failed run can simply be repeated.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.payment-reconciliation", name = "enabled", havingValue = "true")
+public class PaymentReconciliationScheduler {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final SettlementReconciler settlementReconciler;
+    private final AppProperties appProperties;
+
+    @Scheduled(cron = "${app.payment-reconciliation.cron:0 0 5 * * *}")
+    public void reconcileYesterday() {
+        LocalDate settlementDate = LocalDate.now().minusDays(1);
+        Path file = Path.of(appProperties.getPaymentReconciliation().getSettlementDirectory())
+                .resolve("settlement-" + settlementDate.format(FILE_DATE) + ".csv");
+
+        if (!Files.isReadable(file)) {
+            log.warn("Settlement file not available, skipping reconciliation: {}", file);
+            return;
+        }
+        settlementReconciler.reconcile(settlementDate, file);
+    }
+}
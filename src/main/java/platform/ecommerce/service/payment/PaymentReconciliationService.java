@@ -0,0 +1,23 @@
+package platform.ecommerce.service.payment;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Domain service for reconciling payments against PG settlement files.
+ * Each chunk runs in its own short transaction.
+ */
+public interface PaymentReconciliationService {
+
+    /**
+     * Delete the existing mismatch report for a settlement date before a (re-)run.
+     * @return number of rows deleted
+     */
+    int resetReport(LocalDate settlementDate);
+
+    /**
+     * Compare one chunk of settlement lines with payments, loaded in a single IN-query,
+     * and store every mismatch found.
+     */
+    ReconciliationSummary reconcileChunk(LocalDate settlementDate, List<SettlementRecord> records);
+}
@@ -0,0 +1,116 @@
+package platform.ecommerce.service.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import platform.ecommerce.domain.payment.MismatchType;
+import platform.ecommerce.domain.payment.ReconciliationMismatch;
+import platform.ecommerce.repository.PaymentRepository;
+import platform.ecommerce.repository.ReconciliationMismatchRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Payment reconciliation domain service implementation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PaymentReconciliationServiceImpl implements PaymentReconciliationService {
+
+    private final PaymentRepository paymentRepository;
+    private final ReconciliationMismatchRepository mismatchRepository;
+
+    @Override
+    @Transactional
+    public int resetReport(LocalDate settlementDate) {
+        int deleted = mismatchRepository.deleteBySettlementDate(settlementDate);
+        log.info("Reset reconciliation report: settlementDate={}, deleted={}", settlementDate, deleted);
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public ReconciliationSummary reconcileChunk(LocalDate settlementDate, List<SettlementRecord> records) {
+        Map<String, PaymentSettlementView> payments = findPayments(records);
+
+        List<ReconciliationMismatch> mismatches = new ArrayList<>();
+        long matched = 0;
+        for (SettlementRecord record : records) {
+            ReconciliationMismatch mismatch = compare(settlementDate, record, payments.get(record.pgTransactionId()));
+            if (mismatch == null) {
+                matched++;
+            } else {
+                mismatches.add(mismatch);
+            }
+        }
+        mismatchRepository.saveAll(mismatches);
+
+        Map<MismatchType, Long> counts = mismatches.stream()
+                .collect(Collectors.groupingBy(ReconciliationMismatch::getMismatchType,
+                        () -> new EnumMap<>(MismatchType.class), Collectors.counting()));
+        return new ReconciliationSummary(settlementDate, records.size(), matched, counts);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private Map<String, PaymentSettlementView> findPayments(List<SettlementRecord> records) {
+        List<String> pgTransactionIds = records.stream()
+                .filter(record -> !record.isMalformed())
+                .map(SettlementRecord::pgTransactionId)
+                .distinct()
+                .toList();
+        if (pgTransactionIds.isEmpty()) {
+            return Map.of();
+        }
+        return paymentRepository.findSettlementViewsByPgTransactionIdIn(pgTransactionIds).stream()
+                .collect(Collectors.toMap(PaymentSettlementView::pgTransactionId, Function.identity(),
+                        (first, duplicate) -> first));
+    }
+
+    private ReconciliationMismatch compare(LocalDate settlementDate, SettlementRecord record,
+                                           PaymentSettlementView payment) {
+        if (record.isMalformed()) {
+            return mismatch(settlementDate, record, null, MismatchType.MALFORMED_LINE)
+                    .detail(record.error())
+                    .build();
+        }
+        if (payment == null) {
+            return mismatch(settlementDate, record, null, MismatchType.MISSING_PAYMENT).build();
+        }
+        if (payment.amount().compareTo(record.amount()) != 0) {
+            return mismatch(settlementDate, record, payment, MismatchType.AMOUNT_MISMATCH).build();
+        }
+        if (payment.status() != record.status().getExpectedPaymentStatus()) {
+            return mismatch(settlementDate, record, payment, MismatchType.STATUS_MISMATCH).build();
+        }
+        return null;
+    }
+
+    private ReconciliationMismatch.ReconciliationMismatchBuilder mismatch(LocalDate settlementDate,
+                                                                          SettlementRecord record,
+                                                                          PaymentSettlementView payment,
+                                                                          MismatchType type) {
+        ReconciliationMismatch.ReconciliationMismatchBuilder builder = ReconciliationMismatch.builder()
+                .settlementDate(settlementDate)
+                .lineNumber(record.lineNumber())
+                .mismatchType(type)
+                .pgTransactionId(record.pgTransactionId())
+                .settledAmount(record.amount())
+                .settledStatus(record.status());
+        if (payment != null) {
+            builder.paymentId(payment.paymentId())
+                    .paymentAmount(payment.amount())
+                    .paymentStatus(payment.status());
+        }
+        return builder;
+    }
+}
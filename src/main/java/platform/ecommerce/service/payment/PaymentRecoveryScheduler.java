@@ -0,0 +1,38 @@
+package platform.ecommerce.service.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.config.AppProperties;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scheduled recovery of payments stuck in PROCESSING or CANCELLING.
+ * Each payment is claimed with a conditional update first, so several nodes can run it at once.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.payment-recovery", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentRecoveryScheduler {
+
+    private final PaymentRecoveryService paymentRecoveryService;
+    private final AppProperties appProperties;
+
+    @Scheduled(fixedDelayString = "${app.payment-recovery.interval:PT1M}")
+    public void recoverStalePayments() {
+        AppProperties.PaymentRecovery config = appProperties.getPaymentRecovery();
+        LocalDateTime before = LocalDateTime.now().minus(config.getStaleAfter());
+
+        int confirmations = paymentRecoveryService.recoverConfirmations(before, config.getBatchSize());
+        int cancellations = paymentRecoveryService.recoverCancellations(before, config.getBatchSize());
+
+        if (confirmations + cancellations > 0) {
+            log.info("Stale payment recovery finished: {} confirmations and {} cancellations resolved",
+                    confirmations, cancellations);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package platform.ecommerce.service.payment;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resolves payments left in flight (PROCESSING or CANCELLING) by a crash or a gateway call
+ * whose outcome was unknown, by re-sending the call to the gateway.
+ * Gateway calls are keyed by transaction ID, so a re-sent call returns the original outcome
+ * instead of charging or refunding twice.
+ */
+public interface PaymentRecoveryService {
+
+    /**
+     * Re-send confirmation for up to {@code limit} payments PROCESSING since before the cutoff.
+     * @return number of payments resolved
+     */
+    int recoverConfirmations(LocalDateTime before, int limit);
+
+    /**
+     * Re-send the refund for up to {@code limit} payments CANCELLING since before the cutoff.
+     * @return number of payments resolved
+     */
+    int recoverCancellations(LocalDateTime before, int limit);
+}
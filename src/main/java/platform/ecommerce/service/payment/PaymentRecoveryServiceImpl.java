@@ -0,0 +1,69 @@
+package platform.ecommerce.service.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import platform.ecommerce.domain.payment.Payment;
+import platform.ecommerce.domain.payment.PaymentStatus;
+import platform.ecommerce.exception.BusinessException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payment recovery implementation.
+ * Not transactional: each payment is claimed, sent and recorded in short domain transactions,
+ * and the gateway is called between them.
+ * A payment that still cannot be resolved keeps its status and is retried after another stale window.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentRecoveryServiceImpl implements PaymentRecoveryService {
+
+    private final PaymentService paymentService;
+    private final PaymentGatewayClient paymentGatewayClient;
+
+    @Override
+    public int recoverConfirmations(LocalDateTime before, int limit) {
+        int resolved = 0;
+        for (Payment payment : paymentService.getStalePayments(PaymentStatus.PROCESSING, before, limit)) {
+            if (!paymentService.claimStalePayment(payment.getId(), PaymentStatus.PROCESSING, before)) {
+                continue;
+            }
+            try {
+                PaymentResult result = paymentGatewayClient.confirmPayment(payment.getTransactionId(), payment.getAmount());
+                paymentService.completeConfirmation(payment.getTransactionId(), result);
+                resolved++;
+            } catch (BusinessException e) {
+                log.warn("Stale payment confirmation still unresolved: transactionId={}, reason={}",
+                        payment.getTransactionId(), e.getMessage());
+            }
+        }
+        return resolved;
+    }
+
+    @Override
+    public int recoverCancellations(LocalDateTime before, int limit) {
+        int resolved = 0;
+        for (Payment payment : paymentService.getStalePayments(PaymentStatus.CANCELLING, before, limit)) {
+            if (!paymentService.claimStalePayment(payment.getId(), PaymentStatus.CANCELLING, before)) {
+                continue;
+            }
+            try {
+                PaymentResult result = paymentGatewayClient.cancelPayment(payment.getPgTransactionId(), payment.getAmount());
+                if (result.success()) {
+                    paymentService.completeCancellation(payment.getId());
+                } else {
+                    paymentService.releaseCancellation(payment.getId());
+                    log.warn("Stale payment refund declined, returned to COMPLETED: paymentId={}, reason={}",
+                            payment.getId(), result.failReason());
+                }
+                resolved++;
+            } catch (BusinessException e) {
+                log.warn("Stale payment cancellation still unresolved: paymentId={}, reason={}",
+                        payment.getId(), e.getMessage());
+            }
+        }
+        return resolved;
+    }
+}
@@ -2,8 +2,10 @@ package platform.ecommerce.service.payment;
 
 import platform.ecommerce.domain.order.PaymentMethod;
 import platform.ecommerce.domain.payment.Payment;
+import platform.ecommerce.domain.payment.PaymentStatus;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -19,18 +21,54 @@ public interface PaymentService {
     Payment requestPayment(Long orderId, PaymentMethod method);
 
     /**
-     * Confirm payment after user authorization.
+     * Validate the confirmation request and claim the payment (PENDING -> PROCESSING).
+     * First phase of confirmation; the gateway is called after this commits.
+     * The claim is one conditional update, so of concurrent confirmations only one succeeds.
+     * @return claimed Payment entity
+     */
+    Payment startConfirmation(String transactionId, BigDecimal amount);
+
+    /**
+     * Record the gateway result and mark the order as paid on success.
+     * A payment already resolved elsewhere (e.g. by recovery) is returned unchanged.
      * @return updated Payment entity
      */
-    Payment confirmPayment(String transactionId, BigDecimal amount);
+    Payment completeConfirmation(String transactionId, PaymentResult result);
+
+    /**
+     * Return a claimed payment to PENDING when the gateway was never reached.
+     */
+    void releaseConfirmation(String transactionId);
+
+    /**
+     * Validate that the member can cancel the payment and claim it (COMPLETED -> CANCELLING).
+     * First phase of cancellation; the gateway refund is called after this commits.
+     * @return claimed Payment entity to refund
+     */
+    Payment startCancellation(Long paymentId, Long memberId);
 
     /**
-     * Cancel/refund a payment.
-     * @param paymentId the payment ID
-     * @param memberId the member ID for ownership validation
+     * Mark a payment as cancelled after the gateway refund succeeded.
+     * A payment already cancelled elsewhere (e.g. by recovery) is returned unchanged.
      * @return updated Payment entity
      */
-    Payment cancelPayment(Long paymentId, Long memberId);
+    Payment completeCancellation(Long paymentId);
+
+    /**
+     * Return a claimed cancellation to COMPLETED when the refund was declined or never sent.
+     */
+    void releaseCancellation(Long paymentId);
+
+    /**
+     * Payments left in PROCESSING or CANCELLING since before the cutoff, oldest first.
+     */
+    List<Payment> getStalePayments(PaymentStatus status, LocalDateTime before, int limit);
+
+    /**
+     * Claim a stale payment for recovery so only one node re-sends it to the gateway.
+     * @return false if it was resolved or claimed elsewhere
+     */
+    boolean claimStalePayment(Long paymentId, PaymentStatus status, LocalDateTime before);
 
     /**
      * Get payment by ID.
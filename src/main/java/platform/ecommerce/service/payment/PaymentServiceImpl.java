@@ -2,12 +2,14 @@ package platform.ecommerce.service.payment;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import platform.ecommerce.domain.order.Order;
 import platform.ecommerce.domain.order.OrderStatus;
 import platform.ecommerce.domain.order.PaymentMethod;
 import platform.ecommerce.domain.payment.Payment;
+import platform.ecommerce.domain.payment.PaymentStatus;
 import platform.ecommerce.exception.EntityNotFoundException;
 import platform.ecommerce.exception.ErrorCode;
 import platform.ecommerce.exception.InvalidStateException;
@@ -16,7 +18,9 @@ import platform.ecommerce.repository.order.OrderRepository;
 import platform.ecommerce.security.SecurityUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Payment domain service implementation.
@@ -30,7 +34,6 @@ public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
-    private final PaymentGateway paymentGateway;
 
     @Override
     @Transactional
@@ -54,16 +57,32 @@ public class PaymentServiceImpl implements PaymentService {
 
     @Override
     @Transactional
-    public Payment confirmPayment(String transactionId, BigDecimal amount) {
-        log.info("Confirming payment: transactionId={}, amount={}", transactionId, amount);
+    public Payment startConfirmation(String transactionId, BigDecimal amount) {
+        log.info("Starting payment confirmation: transactionId={}, amount={}", transactionId, amount);
 
         Payment payment = findPaymentByTransactionId(transactionId);
         validatePaymentForConfirm(payment, amount);
 
-        PaymentResult result = paymentGateway.confirmPayment(transactionId, amount);
+        // Serializes with the unpaid order sweeper, which skips locked orders
+        Order order = orderRepository.findByIdForUpdate(payment.getOrderId())
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ORDER_NOT_FOUND));
+        validateOrderForPayment(order);
+
+        transition(payment.getId(), PaymentStatus.PENDING, PaymentStatus.PROCESSING,
+                ErrorCode.PAYMENT_ALREADY_PROCESSED);
+        return findPaymentById(payment.getId());
+    }
+
+    @Override
+    @Transactional
+    public Payment completeConfirmation(String transactionId, PaymentResult result) {
+        Payment payment = findPaymentByTransactionId(transactionId);
+        LocalDateTime now = LocalDateTime.now();
 
         if (result.success()) {
-            payment.complete(result.pgTransactionId());
+            if (paymentRepository.completeProcessing(payment.getId(), result.pgTransactionId(), now) == 0) {
+                return alreadyResolved(payment.getId(), PaymentStatus.COMPLETED, PaymentStatus.FAILED);
+            }
 
             // Update order status to PAID
             Order order = findOrderById(payment.getOrderId());
@@ -72,49 +91,85 @@ public class PaymentServiceImpl implements PaymentService {
             log.info("Payment confirmed: transactionId={}, pgTransactionId={}",
                     transactionId, result.pgTransactionId());
         } else {
-            payment.fail(result.failReason());
+            if (paymentRepository.failProcessing(payment.getId(), result.failReason(), now) == 0) {
+                return alreadyResolved(payment.getId(), PaymentStatus.COMPLETED, PaymentStatus.FAILED);
+            }
             log.warn("Payment failed: transactionId={}, reason={}", transactionId, result.failReason());
         }
 
-        return payment;
+        return findPaymentById(payment.getId());
+    }
+
+    @Override
+    @Transactional
+    public void releaseConfirmation(String transactionId) {
+        Payment payment = findPaymentByTransactionId(transactionId);
+        transition(payment.getId(), PaymentStatus.PROCESSING, PaymentStatus.PENDING,
+                ErrorCode.PAYMENT_ALREADY_PROCESSED);
+        log.info("Payment confirmation released: transactionId={}", transactionId);
     }
 
     @Override
     @Transactional
-    public Payment cancelPayment(Long paymentId, Long memberId) {
+    public Payment startCancellation(Long paymentId, Long memberId) {
         log.info("Cancelling payment: paymentId={}, memberId={}", paymentId, memberId);
 
-        Payment payment = findPaymentById(paymentId);
-        validatePaymentOwnership(payment, memberId);
-        validatePaymentForCancel(payment);
+        PaymentWithOwner found = findPaymentWithOwner(paymentId);
+        validateOwner(found.memberId(), memberId, "Not authorized to cancel this payment");
+        validatePaymentForCancel(found.payment());
 
-        PaymentResult result = paymentGateway.cancelPayment(
-                payment.getPgTransactionId(),
-                payment.getAmount()
-        );
+        transition(paymentId, PaymentStatus.COMPLETED, PaymentStatus.CANCELLING, ErrorCode.PAYMENT_CANNOT_CANCEL);
+        return findPaymentById(paymentId);
+    }
 
-        if (result.success()) {
-            payment.cancel();
-            log.info("Payment cancelled: paymentId={}", paymentId);
-        } else {
-            throw new InvalidStateException(ErrorCode.REFUND_FAILED, result.failReason());
+    @Override
+    @Transactional
+    public Payment completeCancellation(Long paymentId) {
+        if (paymentRepository.completeCancelling(paymentId, LocalDateTime.now()) == 0) {
+            return alreadyResolved(paymentId, PaymentStatus.CANCELLED);
         }
+        log.info("Payment cancelled: paymentId={}", paymentId);
 
-        return payment;
+        return findPaymentById(paymentId);
+    }
+
+    @Override
+    @Transactional
+    public void releaseCancellation(Long paymentId) {
+        transition(paymentId, PaymentStatus.CANCELLING, PaymentStatus.COMPLETED, ErrorCode.PAYMENT_CANNOT_CANCEL);
+        log.info("Payment cancellation released: paymentId={}", paymentId);
+    }
+
+    @Override
+    public List<Payment> getStalePayments(PaymentStatus status, LocalDateTime before, int limit) {
+        return paymentRepository.findStale(status, before, Limit.of(limit));
+    }
+
+    @Override
+    @Transactional
+    public boolean claimStalePayment(Long paymentId, PaymentStatus status, LocalDateTime before) {
+        return paymentRepository.claimStale(paymentId, status, before, LocalDateTime.now()) == 1;
     }
 
     @Override
     public Payment getPayment(Long paymentId, Long memberId) {
-        Payment payment = findPaymentById(paymentId);
-        validatePaymentOwnershipOrAdmin(payment, memberId);
-        return payment;
+        PaymentWithOwner found = findPaymentWithOwner(paymentId);
+        validateOwnerOrAdmin(found.memberId(), memberId, "Not authorized to access this payment");
+        return found.payment();
     }
 
     @Override
     public List<Payment> getPaymentsByOrderId(Long orderId, Long memberId) {
-        Order order = findOrderById(orderId);
-        validateOrderOwnershipOrAdmin(order, memberId);
-        return paymentRepository.findByOrderIdOrderByCreatedAtDesc(orderId);
+        List<PaymentWithOwner> rows = paymentRepository.findAllWithOwnerByOrderId(orderId);
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException(ErrorCode.ORDER_NOT_FOUND);
+        }
+        validateOwnerOrAdmin(rows.get(0).memberId(), memberId, "Not authorized to access this order");
+
+        return rows.stream()
+                .map(PaymentWithOwner::payment)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     // ========== Private Helper Methods ==========
@@ -129,11 +184,34 @@ public class PaymentServiceImpl implements PaymentService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PAYMENT_NOT_FOUND));
     }
 
+    private PaymentWithOwner findPaymentWithOwner(Long paymentId) {
+        return paymentRepository.findWithOwnerById(paymentId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PAYMENT_NOT_FOUND));
+    }
+
     private Payment findPaymentByTransactionId(String transactionId) {
         return paymentRepository.findByTransactionId(transactionId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PAYMENT_NOT_FOUND));
     }
 
+    private void transition(Long paymentId, PaymentStatus from, PaymentStatus to, ErrorCode conflict) {
+        if (paymentRepository.transitionStatus(paymentId, from, to, LocalDateTime.now()) == 0) {
+            throw new InvalidStateException(conflict);
+        }
+    }
+
+    /**
+     * Returns the payment when a concurrent request already moved it to one of the final statuses.
+     */
+    private Payment alreadyResolved(Long paymentId, PaymentStatus... resolved) {
+        Payment payment = findPaymentById(paymentId);
+        if (!List.of(resolved).contains(payment.getStatus())) {
+            throw new InvalidStateException(ErrorCode.PAYMENT_ALREADY_PROCESSED);
+        }
+        log.info("Payment already resolved: paymentId={}, status={}", paymentId, payment.getStatus());
+        return payment;
+    }
+
     private void validateOrderForPayment(Order order) {
         if (order.getStatus() != OrderStatus.PENDING_PAYMENT) {
             throw new InvalidStateException(ErrorCode.ORDER_ALREADY_PAID);
@@ -155,29 +233,16 @@ public class PaymentServiceImpl implements PaymentService {
         }
     }
 
-    private void validatePaymentOwnership(Payment payment, Long memberId) {
-        Order order = findOrderById(payment.getOrderId());
-        if (!order.getMemberId().equals(memberId)) {
-            throw new InvalidStateException(ErrorCode.FORBIDDEN, "Not authorized to cancel this payment");
+    private void validateOwner(Long ownerId, Long memberId, String message) {
+        if (!ownerId.equals(memberId)) {
+            throw new InvalidStateException(ErrorCode.FORBIDDEN, message);
         }
     }
 
-    private void validatePaymentOwnershipOrAdmin(Payment payment, Long memberId) {
+    private void validateOwnerOrAdmin(Long ownerId, Long memberId, String message) {
         if (SecurityUtils.hasRole("ADMIN")) {
             return;
         }
-        Order order = findOrderById(payment.getOrderId());
-        if (!order.getMemberId().equals(memberId)) {
-            throw new InvalidStateException(ErrorCode.FORBIDDEN, "Not authorized to access this payment");
-        }
-    }
-
-    private void validateOrderOwnershipOrAdmin(Order order, Long memberId) {
-        if (SecurityUtils.hasRole("ADMIN")) {
-            return;
-        }
-        if (!order.getMemberId().equals(memberId)) {
-            throw new InvalidStateException(ErrorCode.FORBIDDEN, "Not authorized to access this order");
-        }
+        validateOwner(ownerId, memberId, message);
     }
 }
@@ -0,0 +1,16 @@
+package platform.ecommerce.service.payment;
+
+import platform.ecommerce.domain.payment.PaymentStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Payment fields compared against a settlement line.
+ */
+public record PaymentSettlementView(
+        Long paymentId,
+        String pgTransactionId,
+        BigDecimal amount,
+        PaymentStatus status
+) {
+}
@@ -0,0 +1,13 @@
+package platform.ecommerce.service.payment;
+
+import platform.ecommerce.domain.payment.Payment;
+
+/**
+ * Payment loaded together with the member who owns its order.
+ * Lets ownership be checked without loading the order.
+ */
+public record PaymentWithOwner(
+        Payment payment,
+        Long memberId
+) {
+}
@@ -0,0 +1,39 @@
+package platform.ecommerce.service.payment;
+
+import platform.ecommerce.domain.payment.MismatchType;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Counts produced by reconciling a settlement chunk or a whole file.
+ */
+public record ReconciliationSummary(
+        LocalDate settlementDate,
+        long lines,
+        long matched,
+        Map<MismatchType, Long> mismatches
+) {
+    public ReconciliationSummary {
+        mismatches = Collections.unmodifiableMap(mismatches.isEmpty()
+                ? new EnumMap<>(MismatchType.class)
+                : new EnumMap<>(mismatches));
+    }
+
+    public static ReconciliationSummary empty(LocalDate settlementDate) {
+        return new ReconciliationSummary(settlementDate, 0, 0, Map.of());
+    }
+
+    public long totalMismatches() {
+        return mismatches.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public ReconciliationSummary plus(ReconciliationSummary other) {
+        Map<MismatchType, Long> merged = new EnumMap<>(MismatchType.class);
+        merged.putAll(mismatches);
+        other.mismatches.forEach((type, count) -> merged.merge(type, count, Long::sum));
+        return new ReconciliationSummary(settlementDate, lines + other.lines, matched + other.matched, merged);
+    }
+}
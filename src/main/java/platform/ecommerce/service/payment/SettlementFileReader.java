@@ -0,0 +1,94 @@
+package platform.ecommerce.service.payment;
+
+import org.springframework.stereotype.Component;
+import platform.ecommerce.domain.payment.SettlementStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams a PG settlement file in fixed-size chunks.
+ * Format: CSV with header {@code pg_transaction_id,amount,status[,...]}; extra columns are ignored.
+ * Only one chunk is held in memory at a time, regardless of file size.
+ */
+@Component
+public class SettlementFileReader {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final String HEADER_PREFIX = "pg_transaction_id";
+    private static final int MIN_COLUMNS = 3;
+
+    @FunctionalInterface
+    public interface ChunkHandler {
+        /**
+         * @param progress share of the file read so far, in [0, 1]
+         */
+        void handle(List<SettlementRecord> chunk, double progress);
+    }
+
+    /**
+     * Read the whole file, handing each chunk to {@code handler}.
+     * @return number of data lines read
+     */
+    public long read(Path file, int chunkSize, ChunkHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             BufferedReader reader = new BufferedReader(
+                     Channels.newReader(channel, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            long size = Math.max(channel.size(), 1);
+            List<SettlementRecord> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            long dataLines = 0;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.startsWith(HEADER_PREFIX))) {
+                    continue;
+                }
+                chunk.add(parse(lineNumber, line));
+                dataLines++;
+
+                if (chunk.size() == chunkSize) {
+                    // Position runs ahead of the reader by at most one buffer
+                    handler.handle(chunk, Math.min(1.0, (double) channel.position() / size));
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                handler.handle(chunk, 1.0);
+            }
+            return dataLines;
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private SettlementRecord parse(long lineNumber, String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length < MIN_COLUMNS || columns[0].isBlank()) {
+            return SettlementRecord.malformed(lineNumber, abbreviate(line));
+        }
+        try {
+            return SettlementRecord.of(
+                    lineNumber,
+                    columns[0].trim(),
+                    new BigDecimal(columns[1].trim()),
+                    SettlementStatus.valueOf(columns[2].trim().toUpperCase())
+            );
+        } catch (IllegalArgumentException e) {
+            return SettlementRecord.malformed(lineNumber, abbreviate(line));
+        }
+    }
+
+    private String abbreviate(String line) {
+        return line.length() <= 200 ? line : line.substring(0, 200);
+    }
+}
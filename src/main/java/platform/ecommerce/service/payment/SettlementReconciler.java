@@ -0,0 +1,103 @@
+package platform.ecommerce.service.payment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import platform.ecommerce.config.AppProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streams a settlement file through {@link PaymentReconciliationService} chunk by chunk.
+ * Exposes progress and line counts as metrics so long runs can be watched:
+ * {@code payment.reconciliation.progress}, {@code payment.reconciliation.lines} and
+ * {@code payment.reconciliation.duration}.
+ */
+@Slf4j
+@Component
+public class SettlementReconciler {
+
+    private static final String LINES_METRIC = "payment.reconciliation.lines";
+    private static final double LOG_PROGRESS_STEP = 0.1;
+
+    private final SettlementFileReader settlementFileReader;
+    private final PaymentReconciliationService reconciliationService;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final Timer durationTimer;
+    private volatile double progress;
+
+    public SettlementReconciler(SettlementFileReader settlementFileReader,
+                                PaymentReconciliationService reconciliationService,
+                                MeterRegistry meterRegistry,
+                                AppProperties appProperties) {
+        this.settlementFileReader = settlementFileReader;
+        this.reconciliationService = reconciliationService;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = appProperties.getPaymentReconciliation().getChunkSize();
+        this.durationTimer = Timer.builder("payment.reconciliation.duration")
+                .description("Settlement file reconciliation run time")
+                .register(meterRegistry);
+        Gauge.builder("payment.reconciliation.progress", this, reconciler -> reconciler.progress)
+                .description("Share of the current settlement file processed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reconcile a settlement file, replacing any earlier report for the same date.
+     */
+    public ReconciliationSummary reconcile(LocalDate settlementDate, Path file) {
+        log.info("Reconciling settlement file: date={}, file={}", settlementDate, file);
+        reconciliationService.resetReport(settlementDate);
+        progress = 0;
+
+        AtomicReference<ReconciliationSummary> total = new AtomicReference<>(ReconciliationSummary.empty(settlementDate));
+        return durationTimer.record(() -> {
+            try {
+                settlementFileReader.read(file, chunkSize, (chunk, readProgress) -> {
+                    ReconciliationSummary result = reconciliationService.reconcileChunk(settlementDate, chunk);
+                    recordLines(result);
+                    ReconciliationSummary summary = total.get().plus(result);
+                    total.set(summary);
+                    logProgress(summary, readProgress);
+                    progress = readProgress;
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read settlement file " + file, e);
+            }
+
+            ReconciliationSummary summary = total.get();
+            log.info("Reconciliation finished: date={}, lines={}, matched={}, mismatches={}",
+                    settlementDate, summary.lines(), summary.matched(), summary.mismatches());
+            return summary;
+        });
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void recordLines(ReconciliationSummary result) {
+        counter("matched").increment(result.matched());
+        result.mismatches().forEach((type, count) -> counter(type.name().toLowerCase()).increment(count));
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder(LINES_METRIC)
+                .description("Settlement lines reconciled, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void logProgress(ReconciliationSummary summary, double readProgress) {
+        if (Math.floor(readProgress / LOG_PROGRESS_STEP) > Math.floor(progress / LOG_PROGRESS_STEP)) {
+            log.info("Reconciliation progress: {}% ({} lines, {} mismatches)",
+                    Math.round(readProgress * 100), summary.lines(), summary.totalMismatches());
+        }
+    }
+}
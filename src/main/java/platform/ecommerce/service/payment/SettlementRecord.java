@@ -0,0 +1,30 @@
+package platform.ecommerce.service.payment;
+
+import platform.ecommerce.domain.payment.SettlementStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * One parsed settlement file line.
+ * A malformed line keeps its raw text in {@code error} and has no other fields set.
+ */
+public record SettlementRecord(
+        long lineNumber,
+        String pgTransactionId,
+        BigDecimal amount,
+        SettlementStatus status,
+        String error
+) {
+    public static SettlementRecord of(long lineNumber, String pgTransactionId,
+                                      BigDecimal amount, SettlementStatus status) {
+        return new SettlementRecord(lineNumber, pgTransactionId, amount, status, null);
+    }
+
+    public static SettlementRecord malformed(long lineNumber, String error) {
+        return new SettlementRecord(lineNumber, null, null, null, error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,64 @@
+package platform.ecommerce.service.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * Result of {@link PricingEngine#price}. Amounts are kept in minor units and converted
+ * to {@link BigDecimal} only when read through the amount accessors.
+ * Line indexes follow the order of the priced lines.
+ */
+public final class CartPricing {
+
+    private final long[] unitPrices;
+    private final long[] lineTotals;
+    private final long subtotal;
+    private final long discount;
+    private final long shippingFee;
+
+    CartPricing(long[] unitPrices, long[] lineTotals, long subtotal, long discount, long shippingFee) {
+        this.unitPrices = unitPrices;
+        this.lineTotals = lineTotals;
+        this.subtotal = subtotal;
+        this.discount = discount;
+        this.shippingFee = shippingFee;
+    }
+
+    public int lineCount() {
+        return lineTotals.length;
+    }
+
+    public BigDecimal unitPrice(int line) {
+        return MinorUnits.toAmount(unitPrices[line]);
+    }
+
+    public BigDecimal lineTotal(int line) {
+        return MinorUnits.toAmount(lineTotals[line]);
+    }
+
+    public BigDecimal subtotal() {
+        return MinorUnits.toAmount(subtotal);
+    }
+
+    public BigDecimal discount() {
+        return MinorUnits.toAmount(discount);
+    }
+
+    public BigDecimal shippingFee() {
+        return MinorUnits.toAmount(shippingFee);
+    }
+
+    /**
+     * Subtotal plus shipping minus discount, as in {@code Order#getTotalAmount}.
+     */
+    public BigDecimal total() {
+        return MinorUnits.toAmount(subtotal + shippingFee - discount);
+    }
+
+    public long subtotalMinorUnits() {
+        return subtotal;
+    }
+
+    public long discountMinorUnits() {
+        return discount;
+    }
+}
@@ -0,0 +1,50 @@
+package platform.ecommerce.service.pricing;
+
+/**
+ * Picks the coupons giving the largest discount for one order amount.
+ * Discounts are computed with {@link PricingEngine#discount} over a prepared array and kept in
+ * caller-supplied top-k arrays, so ranking allocates nothing per coupon.
+ */
+public final class CouponRanker {
+
+    private CouponRanker() {
+        // Utility class
+    }
+
+    /**
+     * Fills {@code topIndexes} and {@code topDiscounts} with the best coupons, largest discount first.
+     * Coupons that give no discount are skipped; on equal discounts the earlier index wins.
+     *
+     * @param topIndexes   receives indexes into {@code coupons}; its length is the number of results wanted
+     * @param topDiscounts receives the matching discounts in minor units; at least as long as {@code topIndexes}
+     * @return number of coupons ranked
+     */
+    public static int rank(CouponTerms[] coupons, long orderAmount, int[] topIndexes, long[] topDiscounts) {
+        int limit = topIndexes.length;
+        if (limit == 0) {
+            return 0;
+        }
+
+        int count = 0;
+
+        for (int i = 0; i < coupons.length; i++) {
+            long discount = PricingEngine.discount(coupons[i], orderAmount);
+            if (discount <= 0 || (count == limit && discount <= topDiscounts[limit - 1])) {
+                continue;
+            }
+
+            int position = count < limit ? count : limit - 1;
+            while (position > 0 && topDiscounts[position - 1] < discount) {
+                topIndexes[position] = topIndexes[position - 1];
+                topDiscounts[position] = topDiscounts[position - 1];
+                position--;
+            }
+            topIndexes[position] = i;
+            topDiscounts[position] = discount;
+            if (count < limit) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
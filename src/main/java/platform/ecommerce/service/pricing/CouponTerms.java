@@ -0,0 +1,38 @@
+package platform.ecommerce.service.pricing;
+
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+
+/**
+ * Snapshot of a coupon's discount rules in minor units.
+ * Validity is evaluated once when the snapshot is taken, not per pricing call.
+ *
+ * @param discountValue   percentage in hundredths of a percent, or fixed amount in minor units
+ * @param maximumDiscount cap in minor units, or {@link #NO_MAXIMUM}
+ */
+public record CouponTerms(
+        CouponType type,
+        long discountValue,
+        long minimumOrder,
+        long maximumDiscount,
+        boolean valid
+) {
+    public static final long NO_MAXIMUM = -1;
+
+    public static CouponTerms of(Coupon coupon) {
+        return new CouponTerms(
+                coupon.getType(),
+                MinorUnits.of(coupon.getDiscountValue()),
+                MinorUnits.of(coupon.getMinimumOrder()),
+                coupon.getMaximumDiscount() != null ? MinorUnits.of(coupon.getMaximumDiscount()) : NO_MAXIMUM,
+                coupon.isValid()
+        );
+    }
+
+    /**
+     * Same rules with validity decided by the caller, e.g. for snapshots reused across requests.
+     */
+    public CouponTerms withValidity(boolean valid) {
+        return new CouponTerms(type, discountValue, minimumOrder, maximumDiscount, valid);
+    }
+}
@@ -0,0 +1,30 @@
+package platform.ecommerce.service.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversion between {@link BigDecimal} amounts and long minor units (hundredths).
+ * Amounts are stored as DECIMAL(12, 2), so every persisted amount converts exactly.
+ */
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+    public static final long PER_UNIT = 100;
+
+    private MinorUnits() {
+        // Utility class
+    }
+
+    /**
+     * Convert an amount to minor units, rounding half up like {@code Money}.
+     * @throws ArithmeticException if the amount does not fit in a long
+     */
+    public static long of(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
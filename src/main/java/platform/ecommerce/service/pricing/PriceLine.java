@@ -0,0 +1,34 @@
+package platform.ecommerce.service.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * One cart or order line to price, in minor units.
+ */
+public record PriceLine(
+        long basePrice,
+        long additionalPrice,
+        int quantity
+) {
+    /**
+     * A line that contributes its quantity but no amount, e.g. an unavailable product.
+     */
+    public static PriceLine unpriced(int quantity) {
+        return new PriceLine(0, 0, quantity);
+    }
+
+    /**
+     * @param additionalPrice option surcharge, or null for a line without option
+     */
+    public static PriceLine of(BigDecimal basePrice, BigDecimal additionalPrice, int quantity) {
+        return new PriceLine(
+                MinorUnits.of(basePrice),
+                additionalPrice != null ? MinorUnits.of(additionalPrice) : 0,
+                quantity
+        );
+    }
+
+    public long unitPrice() {
+        return basePrice + additionalPrice;
+    }
+}
@@ -0,0 +1,68 @@
+package platform.ecommerce.service.pricing;
+
+import platform.ecommerce.domain.coupon.CouponType;
+
+import java.util.List;
+
+/**
+ * Prices a cart in one pass over its lines using long minor units.
+ * Results match the BigDecimal rules they replace on hot paths:
+ * line total = (base + option) * quantity, subtotal = sum of line totals,
+ * coupon discount as in {@code Coupon#calculateDiscount}, total as in {@code Order#getTotalAmount}.
+ * Overflow raises {@link ArithmeticException} instead of wrapping.
+ */
+public final class PricingEngine {
+
+    // percentage is in hundredths of a percent and the amount in hundredths of a unit
+    private static final long PERCENT_DIVISOR = 100 * 100 * MinorUnits.PER_UNIT;
+
+    private PricingEngine() {
+        // Utility class
+    }
+
+    /**
+     * @param coupon   coupon to apply, or null for none
+     * @param shipping shipping rule; {@link ShippingPolicy#FREE} for cart views
+     */
+    public static CartPricing price(List<PriceLine> lines, CouponTerms coupon, ShippingPolicy shipping) {
+        int size = lines.size();
+        long[] unitPrices = new long[size];
+        long[] lineTotals = new long[size];
+        long subtotal = 0;
+
+        for (int i = 0; i < size; i++) {
+            PriceLine line = lines.get(i);
+            long unitPrice = Math.addExact(line.basePrice(), line.additionalPrice());
+            long lineTotal = Math.multiplyExact(unitPrice, line.quantity());
+            unitPrices[i] = unitPrice;
+            lineTotals[i] = lineTotal;
+            subtotal = Math.addExact(subtotal, lineTotal);
+        }
+
+        long discount = coupon != null ? discount(coupon, subtotal) : 0;
+        return new CartPricing(unitPrices, lineTotals, subtotal, discount, shipping.feeFor(subtotal));
+    }
+
+    /**
+     * Coupon discount for an order amount, both in minor units.
+     * Percentage discounts round down to whole units, then apply the cap;
+     * no discount ever exceeds the order amount.
+     */
+    public static long discount(CouponTerms coupon, long orderAmount) {
+        if (!coupon.valid() || orderAmount < coupon.minimumOrder()) {
+            return 0;
+        }
+
+        long discount;
+        if (coupon.type() == CouponType.PERCENTAGE) {
+            discount = Math.multiplyExact(orderAmount, coupon.discountValue()) / PERCENT_DIVISOR * MinorUnits.PER_UNIT;
+            if (coupon.maximumDiscount() != CouponTerms.NO_MAXIMUM && discount > coupon.maximumDiscount()) {
+                discount = coupon.maximumDiscount();
+            }
+        } else {
+            discount = coupon.discountValue();
+        }
+
+        return Math.min(discount, orderAmount);
+    }
+}
@@ -0,0 +1,34 @@
+package platform.ecommerce.service.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * Flat shipping fee, waived when the subtotal reaches a threshold. Amounts in minor units.
+ *
+ * @param freeThreshold subtotal from which shipping is free, or {@link #NO_THRESHOLD}
+ */
+public record ShippingPolicy(
+        long fee,
+        long freeThreshold
+) {
+    public static final long NO_THRESHOLD = -1;
+
+    public static final ShippingPolicy FREE = new ShippingPolicy(0, NO_THRESHOLD);
+
+    /**
+     * @param freeThreshold subtotal from which shipping is free, or null to always charge
+     */
+    public static ShippingPolicy of(BigDecimal fee, BigDecimal freeThreshold) {
+        return new ShippingPolicy(
+                MinorUnits.of(fee),
+                freeThreshold != null ? MinorUnits.of(freeThreshold) : NO_THRESHOLD
+        );
+    }
+
+    long feeFor(long subtotal) {
+        if (subtotal == 0 || (freeThreshold != NO_THRESHOLD && subtotal >= freeThreshold)) {
+            return 0;
+        }
+        return fee;
+    }
+}
@@ -0,0 +1,22 @@
+package platform.ecommerce.service.product;
+
+import platform.ecommerce.domain.product.ProductStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Current catalog fields needed to price one product option.
+ */
+public record OptionPriceView(
+        Long productId,
+        Long optionId,
+        String productName,
+        String optionValue,
+        BigDecimal basePrice,
+        BigDecimal additionalPrice,
+        ProductStatus status
+) {
+    public BigDecimal unitPrice() {
+        return basePrice.add(additionalPrice);
+    }
+}
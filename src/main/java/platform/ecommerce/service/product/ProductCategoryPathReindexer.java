@@ -0,0 +1,66 @@
+package platform.ecommerce.service.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.service.category.CategorySubtreeMovedEvent;
+
+/**
+ * Re-roots product category paths after a category move commits, in the background,
+ * one batch transaction at a time. Until it finishes, browsing the moved subtree under
+ * its new parent may miss products that have not been re-rooted yet.
+ * A periodic repair re-derives paths that still differ from their category's, so a reindex
+ * that stopped on an error (or a node that went down mid-run) is caught up on the next run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCategoryPathReindexer {
+
+    private final ProductService productService;
+    private final AppProperties appProperties;
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubtreeMoved(CategorySubtreeMovedEvent event) {
+        int batchSize = appProperties.getCategory().getReindexBatchSize();
+        int total = 0;
+        try {
+            int moved;
+            do {
+                moved = productService.reindexCategoryPaths(event.oldPath(), event.newPath(), batchSize);
+                total += moved;
+            } while (moved == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Product category path reindex stopped, the next repair run will finish it: " +
+                      "categoryId={}, from={}, to={}, reindexed={}",
+                    event.categoryId(), event.oldPath(), event.newPath(), total, e);
+            return;
+        }
+        log.info("Product category paths reindexed: categoryId={}, products={}", event.categoryId(), total);
+    }
+
+    @Scheduled(fixedDelayString = "${app.category.path-repair-interval:PT1H}",
+               initialDelayString = "${app.category.path-repair-interval:PT1H}")
+    public void repairCategoryPaths() {
+        int batchSize = appProperties.getCategory().getReindexBatchSize();
+        int total = 0;
+        try {
+            int repaired;
+            do {
+                repaired = productService.repairCategoryPaths(batchSize);
+                total += repaired;
+            } while (repaired == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Product category path repair stopped, will retry: repaired={}", total, e);
+            return;
+        }
+        if (total > 0) {
+            log.info("Product category paths repaired: products={}", total);
+        }
+    }
+}
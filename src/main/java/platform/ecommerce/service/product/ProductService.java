@@ -7,6 +7,9 @@ import platform.ecommerce.domain.product.ProductImage;
 import platform.ecommerce.domain.product.ProductOption;
 import platform.ecommerce.dto.request.product.*;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Product domain service interface.
  * Returns entities for ApplicationService to convert to DTOs.
@@ -26,7 +29,7 @@ public interface ProductService {
     Product getProduct(Long productId);
 
     /**
-     * Search products with conditions.
+     * Search products with conditions. A category filter matches the category and all its descendants.
      * @return page of Product entities
      */
     Page<Product> searchProducts(ProductSearchCondition condition, Pageable pageable);
@@ -81,13 +84,50 @@ public interface ProductService {
      */
     void removeImage(Long productId, Long imageId);
 
+    /**
+     * Get products with their options loaded, in one query. Missing IDs are skipped.
+     */
+    List<Product> getProductsWithOptions(Collection<Long> productIds);
+
+    /**
+     * Get current name, prices and status for many options, in one query. Missing IDs are skipped.
+     */
+    List<OptionPriceView> getOptionPrices(Collection<Long> optionIds);
+
     /**
      * Decrease stock (for order).
      */
     void decreaseStock(Long productId, Long optionId, int quantity);
 
     /**
-     * Increase stock (for cancellation).
+     * Decrease stock for many options at once (order placement, checkout).
+     * Quantities for the same option are summed and taken with conditional in-place updates, so concurrent
+     * orders cannot oversell or overwrite a restore; products left without stock are marked sold out.
+     * Products loaded by the caller keep their old stock and status.
+     */
+    void decreaseStocks(List<StockAdjustment> adjustments);
+
+    /**
+     * Increase stock (for cancellation), with an in-place update.
      */
     void increaseStock(Long productId, Long optionId, int quantity);
+
+    /**
+     * Increase stock for many options at once (bulk cancellation).
+     * Quantities for the same option are summed and added with in-place updates, without loading
+     * the products; sold-out products that get stock back are reactivated.
+     */
+    void increaseStocks(List<StockAdjustment> adjustments);
+
+    /**
+     * Re-root one batch of products filed under {@code oldPath} at {@code newPath}, in one transaction.
+     * @return number of products moved; fewer than {@code batchSize} means none remain
+     */
+    int reindexCategoryPaths(String oldPath, String newPath, int batchSize);
+
+    /**
+     * Re-derive the category path of one batch of products whose copy drifted from their category, in one transaction.
+     * @return number of products repaired; fewer than {@code batchSize} means none remain
+     */
+    int repairCategoryPaths(int batchSize);
 }
@@ -3,6 +3,7 @@ package platform.ecommerce.service.product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,6 +11,13 @@ import platform.ecommerce.domain.product.*;
 import platform.ecommerce.dto.request.product.*;
 import platform.ecommerce.exception.*;
 import platform.ecommerce.repository.product.ProductRepository;
+import platform.ecommerce.service.category.CategoryService;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Product domain service implementation.
@@ -22,6 +30,7 @@ import platform.ecommerce.repository.product.ProductRepository;
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
+    private final CategoryService categoryService;
 
     @Override
     @Transactional
@@ -35,6 +44,7 @@ public class ProductServiceImpl implements ProductService {
                 .sellerId(sellerId)
                 .categoryId(request.categoryId())
                 .build();
+        product.assignCategoryPath(resolveCategoryPath(request.categoryId()));
 
         Product savedProduct = productRepository.save(product);
         log.info("Product created: id={}", savedProduct.getId());
@@ -49,6 +59,12 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public Page<Product> searchProducts(ProductSearchCondition condition, Pageable pageable) {
+        if (condition.categoryId() != null) {
+            // Unknown categories keep the exact ID match and find nothing
+            condition = categoryService.findCategoryPath(condition.categoryId())
+                    .map(condition::withCategoryPath)
+                    .orElse(condition);
+        }
         return productRepository.searchProducts(condition, pageable);
     }
 
@@ -59,6 +75,7 @@ public class ProductServiceImpl implements ProductService {
 
         Product product = findProductById(productId);
         product.update(request.name(), request.description(), request.basePrice(), request.categoryId());
+        product.assignCategoryPath(resolveCategoryPath(request.categoryId()));
 
         return product;
     }
@@ -156,8 +173,43 @@ public class ProductServiceImpl implements ProductService {
     public void decreaseStock(Long productId, Long optionId, int quantity) {
         log.info("Decreasing stock: productId={}, optionId={}, quantity={}", productId, optionId, quantity);
 
-        Product product = findProductById(productId);
-        product.decreaseStock(optionId, quantity);
+        decreaseStocks(List.of(new StockAdjustment(productId, optionId, quantity)));
+    }
+
+    @Override
+    public List<Product> getProductsWithOptions(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findAllWithOptionsByIdIn(productIds);
+    }
+
+    @Override
+    public List<OptionPriceView> getOptionPrices(Collection<Long> optionIds) {
+        if (optionIds.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findOptionPriceViewsByOptionIdIn(optionIds);
+    }
+
+    @Override
+    @Transactional
+    public void decreaseStocks(List<StockAdjustment> adjustments) {
+        if (adjustments.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<Long, Integer>> quantitiesByProduct = groupByProduct(adjustments);
+        log.info("Decreasing stock in bulk: products={}, adjustments={}", quantitiesByProduct.size(), adjustments.size());
+
+        // Products in id order, so concurrent orders lock option rows in the same order
+        quantitiesByProduct.forEach((productId, quantitiesByOption) ->
+                quantitiesByOption.forEach((optionId, quantity) -> {
+                    if (productRepository.decreaseOptionStock(productId, optionId, quantity) == 0) {
+                        throw new InvalidStateException(ErrorCode.INSUFFICIENT_STOCK);
+                    }
+                }));
+        productRepository.markSoldOut(quantitiesByProduct.keySet(), ProductStatus.ACTIVE, ProductStatus.SOLD_OUT);
     }
 
     @Override
@@ -165,12 +217,73 @@ public class ProductServiceImpl implements ProductService {
     public void increaseStock(Long productId, Long optionId, int quantity) {
         log.info("Increasing stock: productId={}, optionId={}, quantity={}", productId, optionId, quantity);
 
-        Product product = findProductById(productId);
-        product.increaseStock(optionId, quantity);
+        increaseStocks(List.of(new StockAdjustment(productId, optionId, quantity)));
+    }
+
+    @Override
+    @Transactional
+    public void increaseStocks(List<StockAdjustment> adjustments) {
+        if (adjustments.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<Long, Integer>> quantitiesByProduct = groupByProduct(adjustments);
+        log.info("Increasing stock in bulk: products={}, adjustments={}", quantitiesByProduct.size(), adjustments.size());
+
+        // Products in id order, so concurrent restores lock option rows in the same order
+        quantitiesByProduct.forEach((productId, quantitiesByOption) ->
+                quantitiesByOption.forEach((optionId, quantity) -> {
+                    if (productRepository.increaseOptionStock(productId, optionId, quantity) == 0) {
+                        throw new EntityNotFoundException(ErrorCode.PRODUCT_OPTION_NOT_FOUND);
+                    }
+                }));
+        productRepository.reactivateSoldOut(quantitiesByProduct.keySet(), ProductStatus.SOLD_OUT, ProductStatus.ACTIVE);
+    }
+
+    @Override
+    @Transactional
+    public int reindexCategoryPaths(String oldPath, String newPath, int batchSize) {
+        List<Long> productIds = productRepository.findIdsByCategoryPathPrefix(oldPath, PageRequest.of(0, batchSize));
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        // Moved rows no longer match the old prefix, so the next batch starts from the first remaining one
+        return productRepository.replaceCategoryPathPrefix(productIds, oldPath.length(), newPath);
+    }
+
+    @Override
+    @Transactional
+    public int repairCategoryPaths(int batchSize) {
+        List<Long> productIds = productRepository.findIdsWithStaleCategoryPath(PageRequest.of(0, batchSize));
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        return productRepository.copyCategoryPaths(productIds);
     }
 
     // ========== Private Helper Methods ==========
 
+    private String resolveCategoryPath(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return categoryService.findCategoryPath(categoryId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.CATEGORY_NOT_FOUND));
+    }
+
+    /**
+     * Sum quantities per product and option. Products are kept in ID order so concurrent
+     * bulk adjustments touch rows in the same order.
+     */
+    private Map<Long, Map<Long, Integer>> groupByProduct(List<StockAdjustment> adjustments) {
+        Map<Long, Map<Long, Integer>> quantitiesByProduct = new TreeMap<>();
+        for (StockAdjustment adjustment : adjustments) {
+            quantitiesByProduct.computeIfAbsent(adjustment.productId(), id -> new LinkedHashMap<>())
+                    .merge(adjustment.optionId(), adjustment.quantity(), Integer::sum);
+        }
+        return quantitiesByProduct;
+    }
+
     private Product findProductById(Long productId) {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
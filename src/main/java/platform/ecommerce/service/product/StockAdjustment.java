@@ -0,0 +1,11 @@
+package platform.ecommerce.service.product;
+
+/**
+ * Stock quantity change for a single product option.
+ */
+public record StockAdjustment(
+        Long productId,
+        Long optionId,
+        int quantity
+) {
+}
@@ -0,0 +1,6 @@
+-- =============================================
+-- V13: Order History Keyset Index
+-- Supports keyset pagination of a member's orders by (created_at, id)
+-- =============================================
+
+CREATE INDEX idx_order_member_created ON orders(member_id, created_at DESC, id DESC);
@@ -0,0 +1,19 @@
+-- =============================================
+-- V14: Order Number Search Indexes
+-- Exact match uses the unique constraint index, prefix match uses a
+-- pattern-ops btree, and fuzzy (substring) match uses a trigram index.
+-- Order numbers are generated upper-case, so the column is already normalized.
+-- =============================================
+
+-- Redundant with the UNIQUE constraint index on order_number
+DROP INDEX IF EXISTS idx_order_number;
+
+-- LIKE 'PREFIX%' cannot use a default-collation btree; pattern ops can
+CREATE INDEX idx_order_number_prefix ON orders(order_number varchar_pattern_ops);
+
+-- LIKE '%TERM%' for explicit fuzzy search only
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_order_number_trgm ON orders USING gin (order_number gin_trgm_ops);
+
+-- Admin keyset search over large date ranges
+CREATE INDEX idx_order_created ON orders(created_at DESC, id DESC);
@@ -0,0 +1,132 @@
+-- =============================================
+-- V15: Order Table Partitioning
+-- orders and order_item are split by storage tier, then by month:
+--   orders (LIST storage_tier)
+--     ├─ orders_hot  (RANGE created_at) → orders_hot_yYYYYmMM, orders_hot_default
+--     └─ orders_cold (archived, completed orders)
+-- Queries on the parent tables see both tiers, so lookups by id or order
+-- number keep working after archival; created_at ranges prune to months.
+-- =============================================
+
+-- Foreign keys can only target a unique key that includes every partition
+-- column, so references to orders(id) and order_item(id) are dropped. They
+-- would otherwise follow the renamed tables and block dropping them.
+-- Triggers take their place (V26).
+ALTER TABLE order_item DROP CONSTRAINT IF EXISTS order_item_order_id_fkey;
+ALTER TABLE payment DROP CONSTRAINT IF EXISTS payment_order_id_fkey;
+ALTER TABLE delivery DROP CONSTRAINT IF EXISTS delivery_order_id_fkey;
+ALTER TABLE member_coupon DROP CONSTRAINT IF EXISTS member_coupon_order_id_fkey;
+ALTER TABLE review DROP CONSTRAINT IF EXISTS review_order_item_id_fkey;
+
+-- Keep id sequences alive when the legacy tables are dropped
+ALTER SEQUENCE orders_id_seq OWNED BY NONE;
+ALTER SEQUENCE order_item_id_seq OWNED BY NONE;
+
+ALTER TABLE orders RENAME TO orders_legacy;
+ALTER TABLE order_item RENAME TO order_item_legacy;
+
+-- -----------------------------------------------
+-- orders
+-- -----------------------------------------------
+CREATE TABLE orders (
+    LIKE orders_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    storage_tier VARCHAR(4) NOT NULL DEFAULT 'HOT',
+    CONSTRAINT pk_orders PRIMARY KEY (id, storage_tier, created_at)
+) PARTITION BY LIST (storage_tier);
+
+CREATE TABLE orders_hot PARTITION OF orders FOR VALUES IN ('HOT') PARTITION BY RANGE (created_at);
+CREATE TABLE orders_hot_default PARTITION OF orders_hot DEFAULT;
+CREATE TABLE orders_cold PARTITION OF orders FOR VALUES IN ('COLD');
+
+ALTER TABLE orders ALTER COLUMN id SET DEFAULT nextval('orders_id_seq');
+ALTER SEQUENCE orders_id_seq OWNED BY orders.id;
+
+-- -----------------------------------------------
+-- order_item
+-- -----------------------------------------------
+CREATE TABLE order_item (
+    LIKE order_item_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    storage_tier VARCHAR(4) NOT NULL DEFAULT 'HOT',
+    CONSTRAINT pk_order_item PRIMARY KEY (id, storage_tier, created_at)
+) PARTITION BY LIST (storage_tier);
+
+CREATE TABLE order_item_hot PARTITION OF order_item FOR VALUES IN ('HOT') PARTITION BY RANGE (created_at);
+CREATE TABLE order_item_hot_default PARTITION OF order_item_hot DEFAULT;
+CREATE TABLE order_item_cold PARTITION OF order_item FOR VALUES IN ('COLD');
+
+ALTER TABLE order_item ALTER COLUMN id SET DEFAULT nextval('order_item_id_seq');
+ALTER SEQUENCE order_item_id_seq OWNED BY order_item.id;
+
+-- -----------------------------------------------
+-- Monthly partition maintenance
+-- Creates hot partitions for [from_month, from_month + months) and returns
+-- the number of partitions created. Safe to call repeatedly.
+-- -----------------------------------------------
+CREATE OR REPLACE FUNCTION create_order_partitions(from_month DATE, months INT)
+RETURNS INT AS $$
+DECLARE
+    month_start DATE;
+    month_end   DATE;
+    suffix      TEXT;
+    created     INT := 0;
+BEGIN
+    FOR i IN 0 .. months - 1 LOOP
+        month_start := (date_trunc('month', from_month) + make_interval(months => i))::DATE;
+        month_end := (month_start + INTERVAL '1 month')::DATE;
+        suffix := to_char(month_start, '"y"YYYY"m"MM');
+
+        IF to_regclass('orders_hot_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF orders_hot FOR VALUES FROM (%L) TO (%L)',
+                           'orders_hot_' || suffix, month_start, month_end);
+            created := created + 1;
+        END IF;
+
+        IF to_regclass('order_item_hot_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF order_item_hot FOR VALUES FROM (%L) TO (%L)',
+                           'order_item_hot_' || suffix, month_start, month_end);
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions from the oldest existing order up to three months ahead
+DO $$
+DECLARE
+    first_month DATE := date_trunc('month', COALESCE(
+            (SELECT MIN(created_at) FROM orders_legacy), CURRENT_TIMESTAMP))::DATE;
+    months INT := (EXTRACT(YEAR FROM age(date_trunc('month', CURRENT_DATE), first_month)) * 12
+                 + EXTRACT(MONTH FROM age(date_trunc('month', CURRENT_DATE), first_month)))::INT + 4;
+BEGIN
+    PERFORM create_order_partitions(first_month, months);
+END;
+$$;
+
+-- -----------------------------------------------
+-- Move existing data
+-- -----------------------------------------------
+INSERT INTO orders SELECT *, 'HOT' FROM orders_legacy;
+INSERT INTO order_item SELECT *, 'HOT' FROM order_item_legacy;
+
+DROP TABLE order_item_legacy;
+DROP TABLE orders_legacy;
+
+-- -----------------------------------------------
+-- Indexes (built after the bulk copy; legacy index names are free again)
+-- -----------------------------------------------
+-- A global UNIQUE on order_number is not possible on a partitioned table;
+-- V26 enforces it through the order_number_registry table.
+CREATE INDEX idx_order_id ON orders(id);
+CREATE INDEX idx_order_member ON orders(member_id);
+CREATE INDEX idx_order_status ON orders(status);
+CREATE INDEX idx_order_date ON orders(ordered_at);
+CREATE INDEX idx_order_member_created ON orders(member_id, created_at DESC, id DESC);
+CREATE INDEX idx_order_created ON orders(created_at DESC, id DESC);
+CREATE INDEX idx_order_number_prefix ON orders(order_number varchar_pattern_ops);
+CREATE INDEX idx_order_number_trgm ON orders USING gin (order_number gin_trgm_ops);
+
+CREATE INDEX idx_order_item_id ON order_item(id);
+CREATE INDEX idx_order_item_order ON order_item(order_id);
+CREATE INDEX idx_order_item_seller ON order_item(seller_id);
+CREATE INDEX idx_order_item_option ON order_item(product_option_id);
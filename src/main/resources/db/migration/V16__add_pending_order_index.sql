@@ -0,0 +1,7 @@
+-- =============================================
+-- V16: Pending Payment Order Index
+-- Partial index for the unpaid order sweeper; only rows still waiting
+-- for payment are indexed, so it stays small as orders complete.
+-- =============================================
+
+CREATE INDEX idx_order_pending_created ON orders(created_at) WHERE status = 'PENDING_PAYMENT';
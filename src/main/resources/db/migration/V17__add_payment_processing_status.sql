@@ -0,0 +1,8 @@
+-- PROCESSING marks a payment whose gateway confirmation is in flight outside the DB transaction
+ALTER TABLE payment DROP CONSTRAINT chk_payment_status;
+ALTER TABLE payment ADD CONSTRAINT chk_payment_status CHECK (status IN (
+    'PENDING', 'PROCESSING', 'COMPLETED', 'FAILED', 'CANCELLED', 'PARTIAL_REFUND', 'FULL_REFUND'
+));
+
+-- Reconciliation lookup for confirmations left in flight by a timeout
+CREATE INDEX idx_payment_processing ON payment (updated_at) WHERE status = 'PROCESSING';
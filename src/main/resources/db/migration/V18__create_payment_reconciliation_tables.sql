@@ -0,0 +1,33 @@
+-- Settlement reconciliation report: one row per settlement line that does not match a payment
+CREATE TABLE payment_reconciliation_mismatch (
+    id                  BIGSERIAL PRIMARY KEY,
+    settlement_date     DATE NOT NULL,
+    line_number         BIGINT NOT NULL,
+    mismatch_type       VARCHAR(30) NOT NULL,
+    pg_transaction_id   VARCHAR(100),
+    payment_id          BIGINT,
+    settled_amount      DECIMAL(12, 2),
+    payment_amount      DECIMAL(12, 2),
+    settled_status      VARCHAR(20),
+    payment_status      VARCHAR(20),
+    detail              VARCHAR(500),
+    created_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_reconciliation_mismatch_type CHECK (mismatch_type IN (
+        'MISSING_PAYMENT', 'AMOUNT_MISMATCH', 'STATUS_MISMATCH', 'MALFORMED_LINE'
+    ))
+);
+
+CREATE INDEX idx_reconciliation_mismatch_date ON payment_reconciliation_mismatch (settlement_date, mismatch_type);
+
+-- Chunked IN-queries look payments up by PG transaction id;
+-- the column is mapped by the entity but V6 only created pg_tid
+ALTER TABLE payment ADD COLUMN IF NOT EXISTS pg_transaction_id VARCHAR(100);
+
+UPDATE payment
+SET pg_transaction_id = pg_tid
+WHERE pg_transaction_id IS NULL
+  AND pg_tid IS NOT NULL;
+
+CREATE INDEX idx_payment_pg_transaction ON payment (pg_transaction_id);
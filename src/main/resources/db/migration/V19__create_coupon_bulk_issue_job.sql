@@ -0,0 +1,22 @@
+-- Segment-wide coupon issuance: one row per job, checkpointed after every chunk
+CREATE TABLE coupon_bulk_issue_job (
+    id                  BIGSERIAL PRIMARY KEY,
+    coupon_id           BIGINT NOT NULL REFERENCES coupon(id),
+    email_contains      VARCHAR(100),
+    name_contains       VARCHAR(100),
+    member_status       VARCHAR(20),
+    member_role         VARCHAR(20),
+    exclude_withdrawn   BOOLEAN NOT NULL DEFAULT TRUE,
+    notify_members      BOOLEAN NOT NULL DEFAULT FALSE,
+    status              VARCHAR(20) NOT NULL,
+    last_member_id      BIGINT,
+    scanned_count       BIGINT NOT NULL DEFAULT 0,
+    issued_count        BIGINT NOT NULL DEFAULT 0,
+    failure_reason      VARCHAR(500),
+    created_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_coupon_bulk_issue_status CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+CREATE INDEX idx_coupon_bulk_issue_job_coupon ON coupon_bulk_issue_job (coupon_id);
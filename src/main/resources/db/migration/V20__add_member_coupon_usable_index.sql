@@ -0,0 +1,17 @@
+-- =============================================
+-- V20: Member Coupon Usable Index
+-- Coupon lists for checkout filter a member's unused coupons in SQL and join
+-- the coupon by id; (member_id, used, coupon_id) serves that lookup from the
+-- index alone and replaces the single-column member index.
+-- =============================================
+
+-- The flag is mapped by the entity but missing from V8; coupons with a use time are used
+ALTER TABLE member_coupon ADD COLUMN IF NOT EXISTS used BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE member_coupon
+SET used = TRUE
+WHERE used_at IS NOT NULL
+  AND used = FALSE;
+
+CREATE INDEX idx_member_coupon_member_used ON member_coupon(member_id, used, coupon_id);
+DROP INDEX IF EXISTS idx_member_coupon_member;
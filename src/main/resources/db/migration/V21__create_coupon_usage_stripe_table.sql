@@ -0,0 +1,21 @@
+-- =============================================
+-- V21: Striped Coupon Usage
+-- Hot campaigns count redemptions on stripe rows instead of the single coupon
+-- row; a scheduler adds flushed deltas back to the coupon in batches.
+-- =============================================
+
+ALTER TABLE coupon ADD COLUMN usage_stripes INT NOT NULL DEFAULT 0;
+
+CREATE TABLE coupon_usage_stripe (
+    id          BIGSERIAL PRIMARY KEY,
+    coupon_id   BIGINT NOT NULL REFERENCES coupon(id),
+    stripe      INT NOT NULL,
+    allowance   INT NOT NULL,
+    used        INT NOT NULL DEFAULT 0,
+    flushed     INT NOT NULL DEFAULT 0,
+    created_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uq_coupon_usage_stripe UNIQUE (coupon_id, stripe),
+    CONSTRAINT chk_coupon_usage_stripe_used CHECK (used >= 0 AND used <= allowance)
+);
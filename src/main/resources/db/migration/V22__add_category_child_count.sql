@@ -0,0 +1,17 @@
+-- =============================================
+-- V22: Category Child Count
+-- Category responses carried a child count from one COUNT query per
+-- category. The count is now stored on the parent and adjusted in place
+-- when a child is created, moved or deleted.
+-- =============================================
+
+ALTER TABLE category ADD COLUMN child_count INT NOT NULL DEFAULT 0;
+
+-- Soft-deleted children are not counted (Category is filtered by deleted_at);
+-- the column is mapped by the entity but missing from V3
+ALTER TABLE category ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+UPDATE category p
+SET child_count = (
+    SELECT COUNT(*) FROM category c WHERE c.parent_id = p.id AND c.deleted_at IS NULL
+);
@@ -0,0 +1,34 @@
+-- =============================================
+-- V23: Materialized Category Paths
+-- Each category stores the IDs from its root down to itself (/1/4/9/), and
+-- each product copies its category's path. Browsing a category then matches
+-- the whole subtree with one prefix predicate on an index.
+-- =============================================
+
+ALTER TABLE category ADD COLUMN path VARCHAR(255);
+
+WITH RECURSIVE tree AS (
+    SELECT id, '/' || CAST(id AS VARCHAR) || '/' AS path
+    FROM category
+    WHERE parent_id IS NULL
+    UNION ALL
+    SELECT c.id, t.path || CAST(c.id AS VARCHAR) || '/'
+    FROM category c
+    JOIN tree t ON c.parent_id = t.id
+)
+UPDATE category c
+SET path = tree.path
+FROM tree
+WHERE c.id = tree.id;
+
+-- varchar_pattern_ops lets LIKE 'prefix%' use the index under any collation
+CREATE INDEX idx_category_path ON category(path varchar_pattern_ops);
+
+ALTER TABLE product ADD COLUMN category_path VARCHAR(255);
+
+UPDATE product p
+SET category_path = c.path
+FROM category c
+WHERE p.category_id = c.id;
+
+CREATE INDEX idx_product_category_path ON product(category_path varchar_pattern_ops) WHERE deleted_at IS NULL;
@@ -0,0 +1,8 @@
+-- CANCELLING marks a payment whose gateway refund is in flight outside the DB transaction
+ALTER TABLE payment DROP CONSTRAINT chk_payment_status;
+ALTER TABLE payment ADD CONSTRAINT chk_payment_status CHECK (status IN (
+    'PENDING', 'PROCESSING', 'COMPLETED', 'CANCELLING', 'FAILED', 'CANCELLED', 'PARTIAL_REFUND', 'FULL_REFUND'
+));
+
+-- Recovery lookup for refunds left in flight by a crash or timeout
+CREATE INDEX idx_payment_cancelling ON payment (updated_at) WHERE status = 'CANCELLING';
@@ -0,0 +1,6 @@
+-- =============================================
+-- V25: Member Coupon Order Index
+-- Supports restoring the coupon used by an order when it is cancelled or expires
+-- =============================================
+
+CREATE INDEX idx_member_coupon_order ON member_coupon(order_id);
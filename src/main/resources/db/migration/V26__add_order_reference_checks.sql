@@ -0,0 +1,207 @@
+-- =============================================
+-- V26: Order Reference Checks and Partition Rollover
+-- V15 dropped the foreign keys to orders(id) and order_item(id), since a
+-- partitioned table can only be referenced through a key covering its
+-- partition columns. Triggers take their place, and a registry table keeps
+-- order numbers unique across partitions. Monthly partitions now also absorb rows that fell into
+-- the default partition, and a year of them is created ahead so inserts do
+-- not depend on the maintenance job having run.
+-- =============================================
+
+-- -----------------------------------------------
+-- Referencing side: order_item, payment, delivery, member_coupon
+-- The order row is locked FOR KEY SHARE, as a foreign key check would,
+-- so it cannot be deleted before the referencing transaction commits.
+-- -----------------------------------------------
+CREATE OR REPLACE FUNCTION check_order_reference()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.order_id IS NULL THEN
+        RETURN NEW;
+    END IF;
+    PERFORM 1 FROM orders WHERE id = NEW.order_id FOR KEY SHARE;
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'order % referenced from % does not exist', NEW.order_id, TG_TABLE_NAME
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_order_item_order_ref BEFORE INSERT OR UPDATE OF order_id ON order_item
+    FOR EACH ROW EXECUTE FUNCTION check_order_reference();
+CREATE TRIGGER trg_payment_order_ref BEFORE INSERT OR UPDATE OF order_id ON payment
+    FOR EACH ROW EXECUTE FUNCTION check_order_reference();
+CREATE TRIGGER trg_delivery_order_ref BEFORE INSERT OR UPDATE OF order_id ON delivery
+    FOR EACH ROW EXECUTE FUNCTION check_order_reference();
+CREATE TRIGGER trg_member_coupon_order_ref BEFORE INSERT OR UPDATE OF order_id ON member_coupon
+    FOR EACH ROW EXECUTE FUNCTION check_order_reference();
+
+-- -----------------------------------------------
+-- Referenced side: deleting an order cascades to its items (as the old
+-- foreign key did) and fails while payments, deliveries or coupons point at it.
+-- Moving an order between partitions is a delete plus an insert; AFTER row
+-- triggers run at the end of the statement, when the moved row exists again.
+-- -----------------------------------------------
+CREATE OR REPLACE FUNCTION check_order_unreferenced()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('app.order_partition_rollover', true) = 'on'
+            OR EXISTS (SELECT 1 FROM orders WHERE id = OLD.id) THEN
+        RETURN NULL;
+    END IF;
+
+    DELETE FROM order_item WHERE order_id = OLD.id;
+    IF EXISTS (SELECT 1 FROM payment WHERE order_id = OLD.id)
+            OR EXISTS (SELECT 1 FROM delivery WHERE order_id = OLD.id)
+            OR EXISTS (SELECT 1 FROM member_coupon WHERE order_id = OLD.id) THEN
+        RAISE EXCEPTION 'order % is still referenced', OLD.id
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_unreferenced AFTER DELETE ON orders
+    FOR EACH ROW EXECUTE FUNCTION check_order_unreferenced();
+
+-- -----------------------------------------------
+-- review -> order_item, checked the same way as the order references above
+-- -----------------------------------------------
+CREATE OR REPLACE FUNCTION check_order_item_reference()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM 1 FROM order_item WHERE id = NEW.order_item_id FOR KEY SHARE;
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'order item % referenced from % does not exist', NEW.order_item_id, TG_TABLE_NAME
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_review_order_item_ref BEFORE INSERT OR UPDATE OF order_item_id ON review
+    FOR EACH ROW EXECUTE FUNCTION check_order_item_reference();
+
+CREATE OR REPLACE FUNCTION check_order_item_unreferenced()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('app.order_partition_rollover', true) = 'on'
+            OR EXISTS (SELECT 1 FROM order_item WHERE id = OLD.id) THEN
+        RETURN NULL;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM review WHERE order_item_id = OLD.id) THEN
+        RAISE EXCEPTION 'order item % is still referenced', OLD.id
+            USING ERRCODE = 'foreign_key_violation';
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_order_item_unreferenced AFTER DELETE ON order_item
+    FOR EACH ROW EXECUTE FUNCTION check_order_item_unreferenced();
+
+-- -----------------------------------------------
+-- Order number uniqueness
+-- A UNIQUE index on a partitioned table must include the partition columns,
+-- so each order number is claimed in a plain table instead. The claim
+-- follows the order across partitions and is released when it is deleted.
+-- -----------------------------------------------
+CREATE TABLE order_number_registry (
+    order_number VARCHAR(50) PRIMARY KEY,
+    order_id     BIGINT NOT NULL
+);
+
+INSERT INTO order_number_registry (order_number, order_id)
+SELECT order_number, id FROM orders;
+
+CREATE OR REPLACE FUNCTION claim_order_number()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        IF NEW.order_number = OLD.order_number THEN
+            RETURN NULL;
+        END IF;
+        DELETE FROM order_number_registry WHERE order_number = OLD.order_number AND order_id = OLD.id;
+    END IF;
+
+    INSERT INTO order_number_registry (order_number, order_id)
+    VALUES (NEW.order_number, NEW.id)
+    ON CONFLICT (order_number) DO NOTHING;
+    -- A row moving between partitions finds its own claim
+    IF NOT FOUND AND NOT EXISTS (SELECT 1 FROM order_number_registry
+                                 WHERE order_number = NEW.order_number AND order_id = NEW.id) THEN
+        RAISE EXCEPTION 'order number % already exists', NEW.order_number
+            USING ERRCODE = 'unique_violation';
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION release_order_number()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('app.order_partition_rollover', true) = 'on'
+            OR EXISTS (SELECT 1 FROM orders WHERE id = OLD.id) THEN
+        RETURN NULL;
+    END IF;
+    DELETE FROM order_number_registry WHERE order_number = OLD.order_number AND order_id = OLD.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_orders_claim_number AFTER INSERT OR UPDATE OF order_number ON orders
+    FOR EACH ROW EXECUTE FUNCTION claim_order_number();
+CREATE TRIGGER trg_orders_release_number AFTER DELETE ON orders
+    FOR EACH ROW EXECUTE FUNCTION release_order_number();
+
+-- -----------------------------------------------
+-- Monthly partition maintenance
+-- A month's rows may already sit in the default partition (the job did not
+-- run in time); attaching the range would then fail, so they are moved into
+-- the new partition before it is attached.
+-- -----------------------------------------------
+CREATE OR REPLACE FUNCTION create_hot_partition(parent_table TEXT, partition_table TEXT, month_start DATE, month_end DATE)
+RETURNS INT AS $$
+BEGIN
+    IF to_regclass(partition_table) IS NOT NULL THEN
+        RETURN 0;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_table, parent_table);
+
+    PERFORM set_config('app.order_partition_rollover', 'on', true);
+    EXECUTE format('WITH moved AS (DELETE FROM %I WHERE created_at >= %L AND created_at < %L RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved',
+                   parent_table || '_default', month_start, month_end, partition_table);
+    PERFORM set_config('app.order_partition_rollover', 'off', true);
+
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   parent_table, partition_table, month_start, month_end);
+    RETURN 1;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION create_order_partitions(from_month DATE, months INT)
+RETURNS INT AS $$
+DECLARE
+    month_start DATE;
+    month_end   DATE;
+    suffix      TEXT;
+    created     INT := 0;
+BEGIN
+    FOR i IN 0 .. months - 1 LOOP
+        month_start := (date_trunc('month', from_month) + make_interval(months => i))::DATE;
+        month_end := (month_start + INTERVAL '1 month')::DATE;
+        suffix := to_char(month_start, '"y"YYYY"m"MM');
+
+        created := created + create_hot_partition('orders_hot', 'orders_hot_' || suffix, month_start, month_end);
+        created := created + create_hot_partition('order_item_hot', 'order_item_hot_' || suffix, month_start, month_end);
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The current month and the twelve after it
+SELECT create_order_partitions(CURRENT_DATE, 13);
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 import platform.ecommerce.exception.EntityNotFoundException;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -147,6 +149,59 @@ class CartTest {
         }
     }
 
+    @Nested
+    @DisplayName("Merge Items")
+    class MergeItems {
+
+        @Test
+        @DisplayName("should coalesce matching items and add new ones")
+        void coalesceAndAdd() {
+            // given
+            cart.addItem(PRODUCT_ID, OPTION_ID, 2);
+            cart.addItem(PRODUCT_ID, null, 1);
+
+            // when
+            cart.mergeItems(List.of(
+                    new CartItemQuantity(PRODUCT_ID, OPTION_ID, 3),
+                    new CartItemQuantity(PRODUCT_ID, null, 1),
+                    new CartItemQuantity(200L, null, 4)
+            ));
+
+            // then
+            assertThat(cart.getItems()).hasSize(3);
+            assertThat(cart.findItem(PRODUCT_ID, OPTION_ID)).get().extracting(CartItem::getQuantity).isEqualTo(5);
+            assertThat(cart.findItem(PRODUCT_ID, null)).get().extracting(CartItem::getQuantity).isEqualTo(2);
+            assertThat(cart.findItem(200L, null)).get().extracting(CartItem::getQuantity).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should coalesce repeated additions of a new item")
+        void coalesceRepeatedNewItem() {
+            // when
+            cart.mergeItems(List.of(
+                    new CartItemQuantity(PRODUCT_ID, OPTION_ID, 1),
+                    new CartItemQuantity(PRODUCT_ID, OPTION_ID, 2)
+            ));
+
+            // then
+            assertThat(cart.getItems()).hasSize(1);
+            assertThat(cart.getItems().get(0).getQuantity()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should cap merged quantity at maximum instead of failing")
+        void capAtMaxQuantity() {
+            // given
+            cart.addItem(PRODUCT_ID, OPTION_ID, 90);
+
+            // when
+            cart.mergeItems(List.of(new CartItemQuantity(PRODUCT_ID, OPTION_ID, 15)));
+
+            // then
+            assertThat(cart.getItems().get(0).getQuantity()).isEqualTo(CartItem.MAX_QUANTITY);
+        }
+    }
+
     @Nested
     @DisplayName("Update Quantity")
     class UpdateQuantity {
@@ -0,0 +1,203 @@
+package platform.ecommerce.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import platform.ecommerce.config.JpaConfig;
+import platform.ecommerce.domain.order.Order;
+import platform.ecommerce.domain.order.PaymentMethod;
+import platform.ecommerce.domain.order.ShippingAddress;
+import platform.ecommerce.domain.payment.Payment;
+import platform.ecommerce.domain.payment.PaymentStatus;
+import platform.ecommerce.service.payment.PaymentWithOwner;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query count tests for payment ownership lookups, and conditional status transitions.
+ * Each lookup must fetch the payment and its owner in a single statement.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@DisplayName("PaymentRepository Ownership Query Tests")
+class PaymentRepositoryTest {
+
+    private static final Long MEMBER_ID = 7L;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Nested
+    @DisplayName("findWithOwnerById")
+    class FindWithOwnerById {
+
+        @Test
+        @DisplayName("should return payment and order member id in one query")
+        void findWithOwnerById_singleQuery() {
+            // given
+            Order order = createOrder();
+            Payment payment = createPayment(order);
+            em.flush();
+            em.clear();
+            statistics.clear();
+
+            // when
+            Optional<PaymentWithOwner> found = paymentRepository.findWithOwnerById(payment.getId());
+
+            // then
+            assertThat(found).hasValueSatisfying(row -> {
+                assertThat(row.payment().getId()).isEqualTo(payment.getId());
+                assertThat(row.memberId()).isEqualTo(MEMBER_ID);
+            });
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should return empty when payment does not exist")
+        void findWithOwnerById_notFound() {
+            assertThat(paymentRepository.findWithOwnerById(999_999L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllWithOwnerByOrderId")
+    class FindAllWithOwnerByOrderId {
+
+        @Test
+        @DisplayName("should return all payments of the order with owner in one query")
+        void findAllWithOwnerByOrderId_singleQuery() {
+            // given
+            Order order = createOrder();
+            createPayment(order);
+            createPayment(order);
+            em.flush();
+            em.clear();
+            statistics.clear();
+
+            // when
+            List<PaymentWithOwner> rows = paymentRepository.findAllWithOwnerByOrderId(order.getId());
+
+            // then
+            assertThat(rows).hasSize(2).allSatisfy(row -> {
+                assertThat(row.payment()).isNotNull();
+                assertThat(row.memberId()).isEqualTo(MEMBER_ID);
+            });
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should return owner row without payment when order has no payments")
+        void findAllWithOwnerByOrderId_noPayments() {
+            // given
+            Order order = createOrder();
+            em.flush();
+            em.clear();
+
+            // when
+            List<PaymentWithOwner> rows = paymentRepository.findAllWithOwnerByOrderId(order.getId());
+
+            // then
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.payment()).isNull();
+                assertThat(row.memberId()).isEqualTo(MEMBER_ID);
+            });
+        }
+
+        @Test
+        @DisplayName("should return no rows when order does not exist")
+        void findAllWithOwnerByOrderId_orderNotFound() {
+            assertThat(paymentRepository.findAllWithOwnerByOrderId(999_999L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("transitionStatus")
+    class TransitionStatus {
+
+        @Test
+        @DisplayName("should let only the first of two claims on the same payment succeed")
+        void transitionStatus_secondClaim_shouldUpdateNothing() {
+            // given
+            Payment payment = createPayment(createOrder());
+            em.flush();
+            LocalDateTime now = LocalDateTime.now();
+
+            // when
+            int first = paymentRepository.transitionStatus(payment.getId(), PaymentStatus.PENDING, PaymentStatus.PROCESSING, now);
+            int second = paymentRepository.transitionStatus(payment.getId(), PaymentStatus.PENDING, PaymentStatus.PROCESSING, now);
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            assertThat(paymentRepository.findById(payment.getId()))
+                    .hasValueSatisfying(found -> assertThat(found.getStatus()).isEqualTo(PaymentStatus.PROCESSING));
+        }
+
+        @Test
+        @DisplayName("should complete only a PROCESSING payment")
+        void completeProcessing_notProcessing_shouldUpdateNothing() {
+            // given
+            Payment payment = createPayment(createOrder());
+            em.flush();
+
+            // when
+            int completed = paymentRepository.completeProcessing(payment.getId(), "PG-1", LocalDateTime.now());
+
+            // then
+            assertThat(completed).isZero();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private Order createOrder() {
+        Order order = Order.builder()
+                .memberId(MEMBER_ID)
+                .shippingAddress(ShippingAddress.builder()
+                        .recipientName("John Doe")
+                        .recipientPhone("010-1234-5678")
+                        .zipCode("12345")
+                        .address("Seoul, Korea")
+                        .addressDetail("Apt 101")
+                        .build())
+                .shippingFee(BigDecimal.valueOf(3000))
+                .build();
+        order.addItem(1L, null, "Product", null, BigDecimal.valueOf(10000), 1);
+        em.persist(order);
+        return order;
+    }
+
+    private Payment createPayment(Order order) {
+        Payment payment = Payment.builder()
+                .orderId(order.getId())
+                .method(PaymentMethod.CREDIT_CARD)
+                .amount(order.getTotalAmount())
+                .build();
+        em.persist(payment);
+        return payment;
+    }
+}
@@ -0,0 +1,74 @@
+package platform.ecommerce.repository.category;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import platform.ecommerce.config.JpaConfig;
+import platform.ecommerce.domain.category.Category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for materialized path maintenance on Category.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@DisplayName("CategoryRepository Path Tests")
+class CategoryRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Nested
+    @DisplayName("moveSubtree")
+    class MoveSubtree {
+
+        @Test
+        @DisplayName("should re-root descendants and shift their depth in one statement")
+        void moveSubtree_shouldRewritePathsAndDepth() {
+            // given - fashion > men > shirts, and a separate electronics root
+            Category fashion = category("fashion", null, 0);
+            Category men = category("men", fashion, 1);
+            Category shirts = category("shirts", men, 2);
+            Category electronics = category("electronics", null, 0);
+            em.flush();
+            String oldPath = men.getPath();
+
+            // when - men moves from fashion to electronics at the same depth
+            men.moveTo(electronics.getId(), 1);
+            men.assignPath(electronics.getPath());
+            int moved = categoryRepository.moveSubtree(oldPath, oldPath.length(), men.getPath(), 0);
+            em.clear();
+
+            // then
+            assertThat(moved).isEqualTo(1);
+            Category reloaded = categoryRepository.findById(shirts.getId()).orElseThrow();
+            assertThat(reloaded.getPath()).isEqualTo("/" + electronics.getId() + "/" + men.getId() + "/" + shirts.getId() + "/");
+            assertThat(reloaded.getDepth()).isEqualTo(2);
+            assertThat(categoryRepository.findPathById(men.getId())).contains(men.getPath());
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private Category category(String slug, Category parent, int depth) {
+        Category category = Category.builder()
+                .name(slug)
+                .slug(slug)
+                .parentId(parent != null ? parent.getId() : null)
+                .depth(depth)
+                .build();
+        em.persist(category);
+        category.assignPath(parent != null ? parent.getPath() : null);
+        return category;
+    }
+}
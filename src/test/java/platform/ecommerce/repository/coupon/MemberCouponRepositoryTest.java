@@ -0,0 +1,124 @@
+package platform.ecommerce.repository.coupon;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import platform.ecommerce.config.JpaConfig;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+import platform.ecommerce.domain.coupon.MemberCoupon;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the applicability filters of member coupon queries.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@DisplayName("MemberCouponRepository Applicability Query Tests")
+class MemberCouponRepositoryTest {
+
+    private static final Long MEMBER_ID = 7L;
+    private static final BigDecimal ORDER_AMOUNT = BigDecimal.valueOf(30000);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MemberCouponRepository memberCouponRepository;
+
+    private MemberCoupon expiresFirst;
+    private MemberCoupon expiresLater;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        expiresFirst = issue(coupon("FIRST", 10000, now.minusDays(1), now.plusDays(3), 100));
+        expiresLater = issue(coupon("LATER", 0, now.minusDays(1), now.plusDays(10), 100));
+
+        issue(coupon("MINIMUM", 50000, now.minusDays(1), now.plusDays(1), 100));
+        issue(coupon("NOTYET", 0, now.plusDays(1), now.plusDays(5), 100));
+        issue(coupon("EXPIRED", 0, now.minusDays(10), now.minusDays(1), 100));
+
+        Coupon inactive = coupon("INACTIVE", 0, now.minusDays(1), now.plusDays(1), 100);
+        inactive.deactivate();
+        issue(inactive);
+
+        Coupon exhausted = coupon("EXHAUSTED", 0, now.minusDays(1), now.plusDays(1), 1);
+        exhausted.use();
+        issue(exhausted);
+
+        MemberCoupon used = issue(coupon("USED", 0, now.minusDays(1), now.plusDays(1), 100));
+        used.use(1L);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    @DisplayName("findApplicableByMemberId")
+    class FindApplicableByMemberId {
+
+        @Test
+        @DisplayName("should page and count only coupons applicable to the order")
+        void findApplicable_shouldFilterInQuery() {
+            // when
+            Page<MemberCoupon> first = memberCouponRepository.findApplicableByMemberId(
+                    MEMBER_ID, ORDER_AMOUNT, PageRequest.of(0, 1));
+            Page<MemberCoupon> second = memberCouponRepository.findApplicableByMemberId(
+                    MEMBER_ID, ORDER_AMOUNT, PageRequest.of(1, 1));
+
+            // then
+            assertThat(first.getTotalElements()).isEqualTo(2);
+            assertThat(first.getContent()).extracting(MemberCoupon::getId).containsExactly(expiresFirst.getId());
+            assertThat(second.getContent()).extracting(MemberCoupon::getId).containsExactly(expiresLater.getId());
+        }
+
+        @Test
+        @DisplayName("should apply the minimum order boundary inclusively")
+        void findApplicable_atMinimumOrder_shouldInclude() {
+            // when
+            Page<MemberCoupon> page = memberCouponRepository.findApplicableByMemberId(
+                    MEMBER_ID, BigDecimal.valueOf(10000), PageRequest.of(0, 20));
+
+            // then
+            assertThat(page.getContent()).extracting(MemberCoupon::getId)
+                    .containsExactly(expiresFirst.getId(), expiresLater.getId());
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private Coupon coupon(String code, long minimumOrder, LocalDateTime validFrom, LocalDateTime validTo, int totalQuantity) {
+        Coupon coupon = Coupon.builder()
+                .code(code)
+                .name(code)
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(1000))
+                .minimumOrder(BigDecimal.valueOf(minimumOrder))
+                .validFrom(validFrom)
+                .validTo(validTo)
+                .totalQuantity(totalQuantity)
+                .build();
+        em.persist(coupon);
+        return coupon;
+    }
+
+    private MemberCoupon issue(Coupon coupon) {
+        MemberCoupon memberCoupon = MemberCoupon.builder().memberId(MEMBER_ID).coupon(coupon).build();
+        em.persist(memberCoupon);
+        return memberCoupon;
+    }
+}
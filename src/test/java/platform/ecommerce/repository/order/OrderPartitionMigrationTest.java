@@ -0,0 +1,247 @@
+package platform.ecommerce.repository.order;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the order partitioning migrations on PostgreSQL and exercises partition rollover
+ * and the triggers that replace the foreign keys to orders and order items and the order number unique key.
+ * The baseline schema is migrated up to V15 with Flyway, then V26 is applied on top.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Order Partition Migration Tests")
+class OrderPartitionMigrationTest {
+
+    private static final String V26 = "db/migration/V26__add_order_reference_checks.sql";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void migrate() throws IOException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .target("15")
+                .load()
+                .migrate();
+
+        jdbc = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbc.execute(new ClassPathResource(V26).getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("partition pre-creation")
+    class PreCreation {
+
+        @Test
+        @DisplayName("should create the current month and the twelve after it")
+        void migration_shouldCreateAYearOfPartitionsAhead() {
+            LocalDate thisMonth = databaseMonth();
+
+            for (int i = 0; i <= 12; i++) {
+                String suffix = thisMonth.plusMonths(i).format(PARTITION_SUFFIX);
+                assertThat(tableExists("orders_hot_" + suffix)).as("orders_hot_" + suffix).isTrue();
+                assertThat(tableExists("order_item_hot_" + suffix)).as("order_item_hot_" + suffix).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("should route a new order to its monthly partition")
+        void insert_shouldLandInMonthlyPartition() {
+            LocalDate thisMonth = databaseMonth();
+            long orderId = insertOrder(thisMonth.atStartOfDay().plusDays(1));
+
+            assertThat(partitionOf("orders", orderId))
+                    .isEqualTo("orders_hot_" + thisMonth.format(PARTITION_SUFFIX));
+        }
+    }
+
+    @Nested
+    @DisplayName("partition rollover")
+    class Rollover {
+
+        @Test
+        @DisplayName("should move rows out of the default partition when their month is created")
+        void createOrderPartitions_shouldAbsorbDefaultRows() {
+            // given
+            LocalDate month = databaseMonth().plusYears(3);
+            long orderId = insertOrder(month.atStartOfDay().plusDays(2));
+            insertOrderItem(orderId, month.atStartOfDay().plusDays(2));
+            insertPayment(orderId);
+            assertThat(partitionOf("orders", orderId)).isEqualTo("orders_hot_default");
+
+            // when
+            Integer created = jdbc.queryForObject(
+                    "SELECT create_order_partitions(CAST(? AS DATE), 1)", Integer.class, month);
+
+            // then
+            String suffix = month.format(PARTITION_SUFFIX);
+            assertThat(created).isEqualTo(2);
+            assertThat(partitionOf("orders", orderId)).isEqualTo("orders_hot_" + suffix);
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM order_item_hot_" + suffix + " WHERE order_id = ?",
+                    Integer.class, orderId)).isEqualTo(1);
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM payment WHERE order_id = ?",
+                    Integer.class, orderId)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should skip partitions that already exist")
+        void createOrderPartitions_existing_shouldCreateNothing() {
+            Integer created = jdbc.queryForObject(
+                    "SELECT create_order_partitions(CAST(? AS DATE), 13)", Integer.class, databaseMonth());
+
+            assertThat(created).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("order reference checks")
+    class ReferenceChecks {
+
+        @Test
+        @DisplayName("should reject rows referencing a missing order")
+        void insert_missingOrder_shouldFail() {
+            assertThatThrownBy(() -> insertPayment(Long.MAX_VALUE))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            assertThatThrownBy(() -> insertOrderItem(Long.MAX_VALUE, LocalDateTime.now()))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
+        @Test
+        @DisplayName("should reject deleting an order that a payment references")
+        void delete_referencedOrder_shouldFail() {
+            long orderId = insertOrder(LocalDateTime.now());
+            insertPayment(orderId);
+
+            assertThatThrownBy(() -> jdbc.update("DELETE FROM orders WHERE id = ?", orderId))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
+        @Test
+        @DisplayName("should cascade items when an unreferenced order is deleted")
+        void delete_unreferencedOrder_shouldDeleteItems() {
+            long orderId = insertOrder(LocalDateTime.now());
+            insertOrderItem(orderId, LocalDateTime.now());
+
+            jdbc.update("DELETE FROM orders WHERE id = ?", orderId);
+
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM order_item WHERE order_id = ?",
+                    Integer.class, orderId)).isZero();
+        }
+
+        @Test
+        @DisplayName("should keep references when an order moves to cold storage")
+        void archive_referencedOrder_shouldKeepReferences() {
+            long orderId = insertOrder(LocalDateTime.now().minusYears(2));
+            insertOrderItem(orderId, LocalDateTime.now().minusYears(2));
+            insertPayment(orderId);
+
+            jdbc.update("UPDATE order_item SET storage_tier = 'COLD' WHERE order_id = ?", orderId);
+            jdbc.update("UPDATE orders SET storage_tier = 'COLD' WHERE id = ?", orderId);
+
+            assertThat(partitionOf("orders", orderId)).isEqualTo("orders_cold");
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM order_item_cold WHERE order_id = ?",
+                    Integer.class, orderId)).isEqualTo(1);
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM payment WHERE order_id = ?",
+                    Integer.class, orderId)).isEqualTo(1);
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM order_number_registry WHERE order_id = ?",
+                    Integer.class, orderId)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reject a review of a missing order item")
+        void insertReview_missingOrderItem_shouldFail() {
+            assertThatThrownBy(() -> jdbc.update(
+                    "INSERT INTO review (member_id, product_id, order_item_id, rating) VALUES (1, 1, ?, 5)",
+                    Long.MAX_VALUE))
+                    .isInstanceOf(DataIntegrityViolationException.class)
+                    .hasMessageContaining("order item");
+        }
+    }
+
+    @Nested
+    @DisplayName("order number uniqueness")
+    class OrderNumberUniqueness {
+
+        @Test
+        @DisplayName("should reject an order number used in another partition")
+        void insert_duplicateOrderNumber_shouldFail() {
+            String orderNumber = UUID.randomUUID().toString().substring(0, 30);
+            insertOrder(orderNumber, LocalDateTime.now());
+
+            assertThatThrownBy(() -> insertOrder(orderNumber, LocalDateTime.now().minusYears(3)))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
+        @Test
+        @DisplayName("should free the order number when the order is deleted")
+        void delete_shouldReleaseOrderNumber() {
+            String orderNumber = UUID.randomUUID().toString().substring(0, 30);
+            long orderId = insertOrder(orderNumber, LocalDateTime.now());
+
+            jdbc.update("DELETE FROM orders WHERE id = ?", orderId);
+
+            assertThatCode(() -> insertOrder(orderNumber, LocalDateTime.now())).doesNotThrowAnyException();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private static long insertOrder(LocalDateTime createdAt) {
+        return insertOrder(UUID.randomUUID().toString().substring(0, 30), createdAt);
+    }
+
+    private static long insertOrder(String orderNumber, LocalDateTime createdAt) {
+        return jdbc.queryForObject(
+                "INSERT INTO orders (member_id, order_number, total_amount, final_amount, " +
+                "recipient_name, recipient_phone, zip_code, address, created_at) " +
+                "VALUES (1, ?, 10000, 10000, 'John Doe', '010-1234-5678', '12345', 'Seoul', ?) RETURNING id",
+                Long.class, orderNumber, createdAt);
+    }
+
+    private static void insertOrderItem(long orderId, LocalDateTime createdAt) {
+        jdbc.update("INSERT INTO order_item (order_id, product_option_id, seller_id, product_name, option_name, " +
+                    "unit_price, quantity, total_price, created_at) " +
+                    "VALUES (?, 1, 1, 'Shirt', 'M', 10000, 1, 10000, ?)", orderId, createdAt);
+    }
+
+    private static void insertPayment(long orderId) {
+        jdbc.update("INSERT INTO payment (order_id, method, amount) VALUES (?, 'CARD', 10000)", orderId);
+    }
+
+    private static LocalDate databaseMonth() {
+        return jdbc.queryForObject("SELECT CAST(date_trunc('month', CURRENT_DATE) AS DATE)", LocalDate.class);
+    }
+
+    private static boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbc.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+    }
+
+    private static String partitionOf(String table, long id) {
+        return jdbc.queryForObject("SELECT tableoid::regclass::text FROM " + table + " WHERE id = ?", String.class, id);
+    }
+}
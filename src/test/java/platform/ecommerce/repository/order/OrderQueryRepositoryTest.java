@@ -0,0 +1,262 @@
+package platform.ecommerce.repository.order;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import platform.ecommerce.config.JpaConfig;
+import platform.ecommerce.domain.order.Order;
+import platform.ecommerce.domain.order.OrderItem;
+import platform.ecommerce.domain.order.ShippingAddress;
+import platform.ecommerce.dto.request.order.OrderCursor;
+import platform.ecommerce.dto.request.order.OrderNumberMatch;
+import platform.ecommerce.dto.request.order.OrderSearchCondition;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query count tests for OrderQueryRepository.
+ * Verifies order listings load items without N+1 queries.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@DisplayName("OrderQueryRepository Query Count Tests")
+class OrderQueryRepositoryTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long OTHER_MEMBER_ID = 2L;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Nested
+    @DisplayName("findMemberOrderHistory")
+    class FindMemberOrderHistory {
+
+        @Test
+        @DisplayName("should load a 20-order page with items in two queries")
+        void findMemberOrderHistory_withManyItems_shouldRunTwoQueries() {
+            // given
+            createOrders(MEMBER_ID, 25, 5);
+            createOrders(OTHER_MEMBER_ID, 3, 1);
+            statistics.clear();
+
+            // when
+            List<Order> orders = orderRepository.findMemberOrderHistory(MEMBER_ID, null, 20);
+            orders.forEach(order -> order.getItems().forEach(OrderItem::getProductName));
+
+            // then
+            assertThat(orders).hasSize(20);
+            assertThat(orders).allSatisfy(order -> {
+                assertThat(order.getMemberId()).isEqualTo(MEMBER_ID);
+                assertThat(order.getItems()).hasSize(5);
+            });
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should keep query count constant when item count grows")
+        void findMemberOrderHistory_queryCountIndependentOfItems() {
+            // given
+            createOrders(MEMBER_ID, 20, 30);
+            statistics.clear();
+
+            // when
+            List<Order> orders = orderRepository.findMemberOrderHistory(MEMBER_ID, null, 20);
+            orders.forEach(order -> order.getItems().size());
+
+            // then
+            assertThat(orders).hasSize(20);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should continue after cursor without overlap, newest first")
+        void findMemberOrderHistory_withCursor_shouldReturnNextPage() {
+            // given
+            createOrders(MEMBER_ID, 15, 1);
+
+            // when
+            List<Order> firstPage = orderRepository.findMemberOrderHistory(MEMBER_ID, null, 10);
+            Order last = firstPage.get(firstPage.size() - 1);
+            OrderCursor cursor = new OrderCursor(last.getCreatedAt(), last.getId());
+            List<Order> secondPage = orderRepository.findMemberOrderHistory(MEMBER_ID, cursor, 10);
+
+            // then
+            assertThat(firstPage).hasSize(10);
+            assertThat(secondPage).hasSize(5);
+            assertThat(firstPage).extracting(Order::getId).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+            assertThat(secondPage).extracting(Order::getId).allMatch(id -> id < last.getId());
+        }
+
+        @Test
+        @DisplayName("should run a single query when member has no orders")
+        void findMemberOrderHistory_noOrders_shouldRunOneQuery() {
+            // given
+            statistics.clear();
+
+            // when
+            List<Order> orders = orderRepository.findMemberOrderHistory(MEMBER_ID, null, 20);
+
+            // then
+            assertThat(orders).isEmpty();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("search")
+    class Search {
+
+        @Test
+        @DisplayName("should not lazy load items per order")
+        void search_shouldNotTriggerNPlusOne() {
+            // given
+            createOrders(MEMBER_ID, 25, 5);
+            statistics.clear();
+
+            // when
+            Page<Order> page = orderRepository.search(OrderSearchCondition.ofMember(MEMBER_ID), PageRequest.of(0, 20));
+            page.getContent().forEach(order -> order.getItems().size());
+
+            // then - id page + fetch join + count
+            assertThat(page.getContent()).hasSize(20);
+            assertThat(page.getTotalElements()).isEqualTo(25);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("order number matching")
+    class OrderNumberMatching {
+
+        @Test
+        @DisplayName("should match exact order number regardless of case and whitespace")
+        void search_exact_shouldNormalizeTerm() {
+            // given
+            createOrders(MEMBER_ID, 3, 1);
+            String orderNumber = orderRepository.findAll().get(0).getOrderNumber();
+            OrderSearchCondition condition = new OrderSearchCondition(
+                    null, null, "  " + orderNumber.toLowerCase() + " ", OrderNumberMatch.EXACT, null, null
+            );
+
+            // when
+            Page<Order> page = orderRepository.search(condition, PageRequest.of(0, 10));
+
+            // then
+            assertThat(page.getContent()).extracting(Order::getOrderNumber).containsExactly(orderNumber);
+        }
+
+        @Test
+        @DisplayName("should match by prefix and not by inner substring")
+        void search_prefix_shouldOnlyMatchLeadingCharacters() {
+            // given
+            createOrders(MEMBER_ID, 3, 1);
+            String orderNumber = orderRepository.findAll().get(0).getOrderNumber();
+            String inner = orderNumber.substring(4, 10);
+
+            // when
+            Page<Order> byPrefix = orderRepository.search(new OrderSearchCondition(
+                    null, null, orderNumber.substring(0, 10), OrderNumberMatch.PREFIX, null, null), PageRequest.of(0, 10));
+            Page<Order> byInner = orderRepository.search(new OrderSearchCondition(
+                    null, null, inner, OrderNumberMatch.PREFIX, null, null), PageRequest.of(0, 10));
+
+            // then
+            assertThat(byPrefix.getContent()).extracting(Order::getOrderNumber).contains(orderNumber);
+            assertThat(byInner.getContent()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should match inner substring only in fuzzy mode")
+        void search_fuzzy_shouldMatchSubstring() {
+            // given
+            createOrders(MEMBER_ID, 3, 1);
+            String orderNumber = orderRepository.findAll().get(0).getOrderNumber();
+            OrderSearchCondition condition = new OrderSearchCondition(
+                    null, null, orderNumber.substring(4, 10), OrderNumberMatch.FUZZY, null, null
+            );
+
+            // when
+            Page<Order> page = orderRepository.search(condition, PageRequest.of(0, 10));
+
+            // then
+            assertThat(page.getContent()).extracting(Order::getOrderNumber).contains(orderNumber);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchByCursor")
+    class SearchByCursor {
+
+        @Test
+        @DisplayName("should walk all matching orders page by page without a count query")
+        void searchByCursor_shouldWalkAllPages() {
+            // given
+            createOrders(MEMBER_ID, 12, 2);
+            createOrders(OTHER_MEMBER_ID, 5, 1);
+            OrderSearchCondition condition = OrderSearchCondition.empty();
+
+            // when
+            statistics.clear();
+            List<Order> firstPage = orderRepository.searchByCursor(condition, null, 10);
+            long firstPageQueries = statistics.getPrepareStatementCount();
+            Order last = firstPage.get(firstPage.size() - 1);
+            List<Order> secondPage = orderRepository.searchByCursor(
+                    condition, new OrderCursor(last.getCreatedAt(), last.getId()), 10);
+
+            // then
+            assertThat(firstPageQueries).isEqualTo(2);
+            assertThat(firstPage).hasSize(10);
+            assertThat(secondPage).hasSize(7);
+            assertThat(secondPage).extracting(Order::getId).doesNotContainAnyElementsOf(
+                    firstPage.stream().map(Order::getId).toList());
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private void createOrders(Long memberId, int orderCount, int itemsPerOrder) {
+        for (int i = 0; i < orderCount; i++) {
+            Order order = Order.builder()
+                    .memberId(memberId)
+                    .shippingAddress(ShippingAddress.builder()
+                            .recipientName("John Doe")
+                            .recipientPhone("010-1234-5678")
+                            .zipCode("12345")
+                            .address("Seoul, Korea")
+                            .addressDetail("Apt 101")
+                            .build())
+                    .shippingFee(BigDecimal.valueOf(3000))
+                    .build();
+            for (int j = 0; j < itemsPerOrder; j++) {
+                order.addItem((long) j + 1, null, "Product " + j, null, BigDecimal.valueOf(10000), 1);
+            }
+            em.persist(order);
+        }
+        em.flush();
+        em.clear();
+    }
+}
@@ -0,0 +1,105 @@
+package platform.ecommerce.repository.product;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import platform.ecommerce.config.JpaConfig;
+import platform.ecommerce.domain.product.Product;
+import platform.ecommerce.dto.request.product.ProductSearchCondition;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for category subtree filtering and re-rooting of product category paths.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@DisplayName("ProductQueryRepository Category Path Tests")
+class ProductQueryRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product shirt;
+    private Product tie;
+
+    @BeforeEach
+    void setUp() {
+        // fashion(1) > men(2) > shirts(4); electronics(10)
+        product("Fashion Sampler", 1L, "/1/");
+        shirt = product("Oxford Shirt", 4L, "/1/2/4/");
+        tie = product("Silk Tie", 2L, "/1/2/");
+        product("Laptop", 10L, "/10/");
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    @DisplayName("searchProducts")
+    class SearchProducts {
+
+        @Test
+        @DisplayName("should match the category and all of its descendants, not siblings sharing a digit prefix")
+        void search_byCategoryPath_shouldMatchSubtree() {
+            // when
+            Page<Product> fashion = productRepository.searchProducts(
+                    ProductSearchCondition.builder().categoryId(1L).build().withCategoryPath("/1/"), PageRequest.of(0, 10));
+            Page<Product> men = productRepository.searchProducts(
+                    ProductSearchCondition.builder().categoryId(2L).build().withCategoryPath("/1/2/"), PageRequest.of(0, 10));
+
+            // then
+            assertThat(fashion.getTotalElements()).isEqualTo(3);
+            assertThat(men.getContent()).extracting(Product::getId)
+                    .containsExactlyInAnyOrder(shirt.getId(), tie.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("category path reindex")
+    class Reindex {
+
+        @Test
+        @DisplayName("should re-root a batch of products under the new path")
+        void reindex_shouldReplacePrefix() {
+            // when - men moves under electronics
+            List<Long> batch = productRepository.findIdsByCategoryPathPrefix("/1/2/", PageRequest.of(0, 10));
+            int moved = productRepository.replaceCategoryPathPrefix(batch, "/1/2/".length(), "/10/2/");
+            em.clear();
+
+            // then
+            assertThat(moved).isEqualTo(2);
+            assertThat(productRepository.findById(shirt.getId()).orElseThrow().getCategoryPath()).isEqualTo("/10/2/4/");
+            assertThat(productRepository.findById(tie.getId()).orElseThrow().getCategoryPath()).isEqualTo("/10/2/");
+            assertThat(productRepository.findIdsByCategoryPathPrefix("/1/2/", PageRequest.of(0, 10))).isEmpty();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private Product product(String name, Long categoryId, String categoryPath) {
+        Product product = Product.builder()
+                .name(name)
+                .basePrice(BigDecimal.valueOf(10000))
+                .sellerId(1L)
+                .categoryId(categoryId)
+                .build();
+        product.assignCategoryPath(categoryPath);
+        em.persist(product);
+        return product;
+    }
+}
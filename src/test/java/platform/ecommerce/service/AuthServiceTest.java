@@ -1,5 +1,6 @@
 package platform.ecommerce.service;
 
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,6 +10,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import platform.ecommerce.domain.auth.EmailVerificationToken;
 import platform.ecommerce.domain.auth.RefreshToken;
 import platform.ecommerce.domain.member.Member;
@@ -21,13 +24,18 @@ import platform.ecommerce.repository.EmailVerificationTokenRepository;
 import platform.ecommerce.repository.MemberRepository;
 import platform.ecommerce.repository.PasswordResetTokenRepository;
 import platform.ecommerce.repository.RefreshTokenRepository;
+import platform.ecommerce.security.GuestCartCookie;
 import platform.ecommerce.security.JwtTokenProvider;
 import platform.ecommerce.service.auth.EmailNotificationInfo;
 import platform.ecommerce.service.auth.LoginResult;
 import platform.ecommerce.service.auth.RegistrationResult;
 import platform.ecommerce.service.auth.TokenResult;
+import platform.ecommerce.service.cart.CartLine;
+import platform.ecommerce.service.cart.CartService;
+import platform.ecommerce.service.cart.GuestCartStore;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -61,6 +69,12 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private GuestCartStore guestCartStore;
+
     @Mock
     private HttpServletRequest httpServletRequest;
 
@@ -178,6 +192,100 @@ class AuthServiceTest {
             assertThat(result.accessToken()).isEqualTo("access-token");
             assertThat(result.refreshToken()).isEqualTo("refresh-token-value");
             assertThat(result.expiresIn()).isEqualTo(900L);
+            verifyNoInteractions(cartService, guestCartStore);
+        }
+
+        @Test
+        @DisplayName("Should merge guest cart into member cart and delete it")
+        void login_withGuestCartCookie_shouldMergeGuestCart() {
+            // given
+            LoginRequest request = LoginRequest.builder()
+                    .email("test@example.com")
+                    .password("Password1!")
+                    .build();
+
+            Member member = MemberFixture.createActiveMember();
+            org.springframework.test.util.ReflectionTestUtils.setField(member, "id", 1L);
+
+            String token = GuestCartCookie.newToken();
+            List<CartLine> lines = List.of(
+                    new CartLine(100L, null, 2, LocalDateTime.now()),
+                    new CartLine(200L, 10L, 1, LocalDateTime.now())
+            );
+
+            given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+            given(passwordEncoder.matches("Password1!", member.getPassword())).willReturn(true);
+            given(refreshTokenRepository.save(any(RefreshToken.class))).willReturn(mock(RefreshToken.class));
+            given(httpServletRequest.getCookies()).willReturn(new Cookie[]{new Cookie(GuestCartCookie.NAME, token)});
+            given(guestCartStore.getLines(token)).willReturn(lines);
+
+            // when
+            authService.login(request, httpServletRequest);
+
+            // then
+            verify(cartService).mergeGuestLines(1L, lines);
+            verify(guestCartStore).delete(token);
+        }
+
+        @Test
+        @DisplayName("Should delete guest cart only after the login transaction commits")
+        void login_withGuestCartCookie_inTransaction_shouldDeleteAfterCommit() {
+            // given
+            LoginRequest request = LoginRequest.builder()
+                    .email("test@example.com")
+                    .password("Password1!")
+                    .build();
+
+            Member member = MemberFixture.createActiveMember();
+            org.springframework.test.util.ReflectionTestUtils.setField(member, "id", 1L);
+
+            String token = GuestCartCookie.newToken();
+            List<CartLine> lines = List.of(new CartLine(100L, null, 2, LocalDateTime.now()));
+
+            given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+            given(passwordEncoder.matches("Password1!", member.getPassword())).willReturn(true);
+            given(refreshTokenRepository.save(any(RefreshToken.class))).willReturn(mock(RefreshToken.class));
+            given(httpServletRequest.getCookies()).willReturn(new Cookie[]{new Cookie(GuestCartCookie.NAME, token)});
+            given(guestCartStore.getLines(token)).willReturn(lines);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                authService.login(request, httpServletRequest);
+
+                // then
+                verify(cartService).mergeGuestLines(1L, lines);
+                verify(guestCartStore, never()).delete(token);
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                verify(guestCartStore).delete(token);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("Should ignore malformed guest cart cookie")
+        void login_withMalformedGuestCartCookie_shouldSkipMerge() {
+            // given
+            LoginRequest request = LoginRequest.builder()
+                    .email("test@example.com")
+                    .password("Password1!")
+                    .build();
+
+            Member member = MemberFixture.createActiveMember();
+
+            given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+            given(passwordEncoder.matches("Password1!", member.getPassword())).willReturn(true);
+            given(refreshTokenRepository.save(any(RefreshToken.class))).willReturn(mock(RefreshToken.class));
+            given(httpServletRequest.getCookies())
+                    .willReturn(new Cookie[]{new Cookie(GuestCartCookie.NAME, "cart:1")});
+
+            // when
+            authService.login(request, httpServletRequest);
+
+            // then
+            verifyNoInteractions(cartService, guestCartStore);
         }
 
         @Test
@@ -0,0 +1,272 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import platform.ecommerce.domain.cart.Cart;
+import platform.ecommerce.domain.cart.CartItem;
+import platform.ecommerce.domain.product.ProductStatus;
+import platform.ecommerce.dto.request.cart.CartItemAddRequest;
+import platform.ecommerce.dto.response.cart.CartItemResponse;
+import platform.ecommerce.dto.response.cart.CartResponse;
+import platform.ecommerce.dto.response.product.ProductDetailResponse;
+import platform.ecommerce.dto.response.product.ProductOptionResponse;
+import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.repository.cart.CartRepository;
+import platform.ecommerce.service.application.ProductApplicationService;
+import platform.ecommerce.service.cart.CartLine;
+import platform.ecommerce.service.cart.CartSnapshotService;
+import platform.ecommerce.service.cart.CartSnapshotServiceImpl;
+import platform.ecommerce.service.cart.CartStoreServiceImpl;
+import platform.ecommerce.service.cart.InMemoryCartStore;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for the store-backed CartService, using the in-memory store.
+ */
+@ExtendWith(MockitoExtension.class)
+class CartStoreServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long PRODUCT_ID = 200L;
+    private static final Long OPTION_ID = 10L;
+
+    @Mock
+    private CartSnapshotService cartSnapshotService;
+
+    @Mock
+    private ProductApplicationService productApplicationService;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    private InMemoryCartStore cartStore;
+    private CartStoreServiceImpl cartService;
+    private ProductDetailResponse testProduct;
+
+    @BeforeEach
+    void setUp() {
+        cartStore = new InMemoryCartStore();
+        cartService = new CartStoreServiceImpl(cartStore, cartSnapshotService, productApplicationService);
+
+        testProduct = ProductDetailResponse.builder()
+                .id(PRODUCT_ID)
+                .name("Test Product")
+                .basePrice(BigDecimal.valueOf(29000))
+                .status(ProductStatus.ACTIVE)
+                .options(List.of(ProductOptionResponse.builder()
+                        .id(OPTION_ID)
+                        .optionValue("Size M")
+                        .additionalPrice(BigDecimal.valueOf(1000))
+                        .build()))
+                .images(List.of())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("first access")
+    class FirstAccess {
+
+        @Test
+        @DisplayName("should seed store from the existing DB cart once")
+        void getOrCreateCart_seedsFromDatabase() {
+            // given
+            given(cartSnapshotService.loadLines(MEMBER_ID)).willReturn(List.of(
+                    new CartLine(PRODUCT_ID, OPTION_ID, 3, LocalDateTime.now().minusDays(1))));
+
+            // when
+            CartResponse first = cartService.getOrCreateCart(MEMBER_ID);
+            CartResponse second = cartService.getOrCreateCart(MEMBER_ID);
+
+            // then
+            assertThat(first.items()).singleElement().satisfies(item -> {
+                assertThat(item.id()).isEqualTo(CartLine.lineId(PRODUCT_ID, OPTION_ID));
+                assertThat(item.quantity()).isEqualTo(3);
+            });
+            assertThat(second.itemCount()).isEqualTo(3);
+            verify(cartSnapshotService, times(1)).loadLines(MEMBER_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("mutations")
+    class Mutations {
+
+        @BeforeEach
+        void emptyDatabaseCart() {
+            given(cartSnapshotService.loadLines(MEMBER_ID)).willReturn(List.of());
+        }
+
+        @Test
+        @DisplayName("should merge quantity for same product and option")
+        void addToCart_mergesQuantity() {
+            // given
+            given(productApplicationService.getProductDetail(PRODUCT_ID)).willReturn(testProduct);
+            CartItemAddRequest request = CartItemAddRequest.builder()
+                    .productId(PRODUCT_ID).productOptionId(OPTION_ID).quantity(2).build();
+
+            // when
+            cartService.addToCart(MEMBER_ID, request);
+            CartItemResponse response = cartService.addToCart(MEMBER_ID, request);
+
+            // then
+            assertThat(response.quantity()).isEqualTo(4);
+            assertThat(response.unitPrice()).isEqualByComparingTo("30000");
+            assertThat(response.subtotal()).isEqualByComparingTo("120000");
+            assertThat(cartStore.pollDirtyMembers(10)).containsExactly(MEMBER_ID);
+        }
+
+        @Test
+        @DisplayName("should reject quantity above maximum without changing the line")
+        void addToCart_overMaximum() {
+            // given
+            given(productApplicationService.getProductDetail(PRODUCT_ID)).willReturn(testProduct);
+            cartService.addToCart(MEMBER_ID, CartItemAddRequest.builder()
+                    .productId(PRODUCT_ID).quantity(CartItem.MAX_QUANTITY).build());
+
+            // when & then
+            assertThatThrownBy(() -> cartService.addToCart(MEMBER_ID, CartItemAddRequest.builder()
+                    .productId(PRODUCT_ID).quantity(1).build()))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(cartStore.getLines(MEMBER_ID)).singleElement()
+                    .extracting(CartLine::quantity).isEqualTo(CartItem.MAX_QUANTITY);
+        }
+
+        @Test
+        @DisplayName("should update, remove and clear by line id")
+        void updateRemoveClear() {
+            // given
+            given(productApplicationService.getProductDetail(PRODUCT_ID)).willReturn(testProduct);
+            Long lineId = cartService.addToCart(MEMBER_ID, CartItemAddRequest.builder()
+                    .productId(PRODUCT_ID).productOptionId(OPTION_ID).quantity(1).build()).id();
+
+            // when & then
+            assertThat(cartService.updateQuantity(MEMBER_ID, lineId, 5).quantity()).isEqualTo(5);
+
+            cartService.removeFromCart(MEMBER_ID, lineId);
+            assertThatThrownBy(() -> cartService.removeFromCart(MEMBER_ID, lineId))
+                    .isInstanceOf(EntityNotFoundException.class);
+            assertThatThrownBy(() -> cartService.updateQuantity(MEMBER_ID, lineId, 2))
+                    .isInstanceOf(EntityNotFoundException.class);
+
+            cartService.clearCart(MEMBER_ID);
+            assertThat(cartService.getOrCreateCart(MEMBER_ID).items()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should not lose concurrent additions")
+        void addToCart_concurrent() throws InterruptedException {
+            // given
+            given(productApplicationService.getProductDetail(PRODUCT_ID)).willReturn(testProduct);
+            CartItemAddRequest request = CartItemAddRequest.builder().productId(PRODUCT_ID).quantity(1).build();
+            int threads = 50;
+            CountDownLatch start = new CountDownLatch(1);
+
+            // when
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < threads; i++) {
+                    executor.submit(() -> {
+                        start.await();
+                        return cartService.addToCart(MEMBER_ID, request);
+                    });
+                }
+                start.countDown();
+            }
+
+            // then
+            assertThat(cartStore.getLines(MEMBER_ID)).singleElement()
+                    .extracting(CartLine::quantity).isEqualTo(threads);
+        }
+
+        @Test
+        @DisplayName("should merge guest lines in one write, capping at maximum")
+        void mergeGuestLines_coalescesAndCaps() {
+            // given
+            given(productApplicationService.getProductDetail(PRODUCT_ID)).willReturn(testProduct);
+            cartService.addToCart(MEMBER_ID, CartItemAddRequest.builder()
+                    .productId(PRODUCT_ID).quantity(90).build());
+            cartStore.pollDirtyMembers(10);
+
+            // when
+            cartService.mergeGuestLines(MEMBER_ID, List.of(
+                    new CartLine(PRODUCT_ID, null, 20, LocalDateTime.now()),
+                    new CartLine(PRODUCT_ID, OPTION_ID, 2, LocalDateTime.now())
+            ));
+
+            // then
+            assertThat(cartStore.getLines(MEMBER_ID))
+                    .extracting(CartLine::productOptionId, CartLine::quantity)
+                    .containsExactlyInAnyOrder(tuple(null, CartItem.MAX_QUANTITY), tuple(OPTION_ID, 2));
+            assertThat(cartStore.pollDirtyMembers(10)).containsExactly(MEMBER_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("CartLine.lineId")
+    class LineId {
+
+        @Test
+        @DisplayName("should round-trip product and option IDs at the edges of the range")
+        void lineId_inRange_shouldRoundTrip() {
+            long lineId = CartLine.lineId((long) Integer.MAX_VALUE, 0xFFFF_FFFFL);
+
+            assertThat(CartLine.productIdOf(lineId)).isEqualTo((long) Integer.MAX_VALUE);
+            assertThat(CartLine.productOptionIdOf(lineId)).isEqualTo(0xFFFF_FFFFL);
+            assertThat(CartLine.productOptionIdOf(CartLine.lineId(PRODUCT_ID, null))).isNull();
+        }
+
+        @Test
+        @DisplayName("should reject IDs that would collide with another line")
+        void lineId_outOfRange_shouldThrow() {
+            assertThatThrownBy(() -> CartLine.lineId(1L << 31, OPTION_ID))
+                    .isInstanceOf(InvalidStateException.class);
+            assertThatThrownBy(() -> CartLine.lineId(PRODUCT_ID, 1L << 32))
+                    .isInstanceOf(InvalidStateException.class);
+            assertThatThrownBy(() -> CartLine.lineId(PRODUCT_ID, 0L))
+                    .isInstanceOf(InvalidStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("CartSnapshotService.persist")
+    class Persist {
+
+        @Test
+        @DisplayName("should update kept rows, add new lines and remove dropped ones")
+        void persist_syncsItems() {
+            // given
+            Cart cart = Cart.builder().memberId(MEMBER_ID).build();
+            ReflectionTestUtils.setField(cart.addItem(PRODUCT_ID, OPTION_ID, 1), "id", 1L);
+            ReflectionTestUtils.setField(cart.addItem(300L, null, 1), "id", 2L);
+            given(cartRepository.findByMemberIdWithItems(MEMBER_ID)).willReturn(Optional.of(cart));
+            CartSnapshotServiceImpl snapshotService = new CartSnapshotServiceImpl(cartRepository);
+
+            // when
+            snapshotService.persist(MEMBER_ID, List.of(
+                    new CartLine(PRODUCT_ID, OPTION_ID, 4, LocalDateTime.now()),
+                    new CartLine(400L, null, 2, LocalDateTime.now())));
+
+            // then
+            assertThat(cart.getItems())
+                    .extracting(CartItem::getProductId, CartItem::getQuantity)
+                    .containsExactlyInAnyOrder(tuple(PRODUCT_ID, 4), tuple(400L, 2));
+            assertThat(cart.findItem(PRODUCT_ID, OPTION_ID)).get().extracting(CartItem::getId).isEqualTo(1L);
+        }
+    }
+}
@@ -5,9 +5,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import platform.ecommerce.domain.category.Category;
 import platform.ecommerce.dto.request.category.CategoryCreateRequest;
@@ -17,7 +19,11 @@ import platform.ecommerce.dto.response.category.CategoryTreeResponse;
 import platform.ecommerce.exception.EntityNotFoundException;
 import platform.ecommerce.exception.InvalidStateException;
 import platform.ecommerce.repository.category.CategoryRepository;
+import platform.ecommerce.service.category.CategoryChangedEvent;
 import platform.ecommerce.service.category.CategoryServiceImpl;
+import platform.ecommerce.service.category.CategorySubtreeMovedEvent;
+import platform.ecommerce.service.category.CategoryTree;
+import platform.ecommerce.service.category.CategoryTreeCache;
 
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +41,12 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -54,6 +66,7 @@ class CategoryServiceTest {
                 .displayOrder(1)
                 .build();
         ReflectionTestUtils.setField(rootCategory, "id", ROOT_ID);
+        rootCategory.assignPath(null);
 
         childCategory = Category.builder()
                 .name("Smartphones")
@@ -64,6 +77,7 @@ class CategoryServiceTest {
                 .displayOrder(1)
                 .build();
         ReflectionTestUtils.setField(childCategory, "id", CHILD_ID);
+        childCategory.assignPath(rootCategory.getPath());
     }
 
     @Nested
@@ -88,7 +102,6 @@ class CategoryServiceTest {
                 ReflectionTestUtils.setField(category, "id", 3L);
                 return category;
             });
-            given(categoryRepository.countChildren(anyLong())).willReturn(0);
 
             // when
             CategoryResponse response = categoryService.createCategory(request);
@@ -98,6 +111,7 @@ class CategoryServiceTest {
             assertThat(response.slug()).isEqualTo("fashion");
             assertThat(response.depth()).isZero();
             assertThat(response.parentId()).isNull();
+            verify(categoryRepository, never()).adjustChildCount(anyLong(), anyInt());
         }
 
         @Test
@@ -118,7 +132,6 @@ class CategoryServiceTest {
                 ReflectionTestUtils.setField(category, "id", 3L);
                 return category;
             });
-            given(categoryRepository.countChildren(anyLong())).willReturn(0);
 
             // when
             CategoryResponse response = categoryService.createCategory(request);
@@ -126,6 +139,10 @@ class CategoryServiceTest {
             // then
             assertThat(response.depth()).isEqualTo(1);
             assertThat(response.parentId()).isEqualTo(ROOT_ID);
+            verify(categoryRepository).adjustChildCount(ROOT_ID, 1);
+            ArgumentCaptor<Category> saved = ArgumentCaptor.forClass(Category.class);
+            verify(categoryRepository).save(saved.capture());
+            assertThat(saved.getValue().getPath()).isEqualTo("/1/3/");
         }
 
         @Test
@@ -173,8 +190,8 @@ class CategoryServiceTest {
         @DisplayName("should return category by id")
         void returnCategoryById() {
             // given
+            ReflectionTestUtils.setField(rootCategory, "childCount", 1);
             given(categoryRepository.findById(ROOT_ID)).willReturn(Optional.of(rootCategory));
-            given(categoryRepository.countChildren(ROOT_ID)).willReturn(1);
 
             // when
             CategoryResponse response = categoryService.getCategory(ROOT_ID);
@@ -205,7 +222,7 @@ class CategoryServiceTest {
         @DisplayName("should return hierarchical tree structure")
         void returnTreeStructure() {
             // given
-            given(categoryRepository.findAllActive()).willReturn(List.of(rootCategory, childCategory));
+            givenTree();
 
             // when
             List<CategoryTreeResponse> tree = categoryService.getCategoryTree();
@@ -215,6 +232,64 @@ class CategoryServiceTest {
             assertThat(tree.get(0).name()).isEqualTo("Electronics");
             assertThat(tree.get(0).children()).hasSize(1);
             assertThat(tree.get(0).children().get(0).name()).isEqualTo("Smartphones");
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("should return subtree of a category from the snapshot")
+        void returnSubtree() {
+            // given
+            givenTree();
+
+            // when
+            CategoryTreeResponse subtree = categoryService.getCategoryTree(ROOT_ID);
+
+            // then
+            assertThat(subtree.id()).isEqualTo(ROOT_ID);
+            assertThat(subtree.children()).extracting(CategoryTreeResponse::id).containsExactly(CHILD_ID);
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("should throw exception when category is not in the tree")
+        void throwOnUnknownCategory() {
+            // given
+            givenTree();
+
+            // when & then
+            assertThatThrownBy(() -> categoryService.getCategoryTree(999L))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getAncestors")
+    class GetAncestors {
+
+        @Test
+        @DisplayName("should return ancestors root first without querying")
+        void returnAncestorsRootFirst() {
+            // given
+            Category grandchild = category(4L, "iphone", CHILD_ID, 2);
+            given(categoryTreeCache.get()).willReturn(CategoryTree.of(1L, List.of(rootCategory, childCategory, grandchild)));
+
+            // when
+            List<CategoryResponse> ancestors = categoryService.getAncestors(4L);
+
+            // then
+            assertThat(ancestors).extracting(CategoryResponse::id).containsExactly(ROOT_ID, CHILD_ID);
+            assertThat(ancestors.get(0).childCount()).isEqualTo(1);
+            verifyNoInteractions(categoryRepository);
+        }
+
+        @Test
+        @DisplayName("should return empty list for root category")
+        void returnEmptyForRoot() {
+            // given
+            givenTree();
+
+            // when & then
+            assertThat(categoryService.getAncestors(ROOT_ID)).isEmpty();
         }
     }
 
@@ -226,15 +301,17 @@ class CategoryServiceTest {
         @DisplayName("should return only root level categories")
         void returnRootCategories() {
             // given
+            ReflectionTestUtils.setField(rootCategory, "childCount", 1);
             given(categoryRepository.findRootCategories()).willReturn(List.of(rootCategory));
-            given(categoryRepository.countChildren(ROOT_ID)).willReturn(1);
 
             // when
             List<CategoryResponse> categories = categoryService.getRootCategories();
 
-            // then
+            // then - child count comes from the row, not a query per category
             assertThat(categories).hasSize(1);
             assertThat(categories.get(0).parentId()).isNull();
+            assertThat(categories.get(0).childCount()).isEqualTo(1);
+            verifyNoMoreInteractions(categoryRepository);
         }
     }
 
@@ -247,7 +324,6 @@ class CategoryServiceTest {
         void returnDirectChildren() {
             // given
             given(categoryRepository.findByParentId(ROOT_ID)).willReturn(List.of(childCategory));
-            given(categoryRepository.countChildren(CHILD_ID)).willReturn(0);
 
             // when
             List<CategoryResponse> children = categoryService.getChildren(ROOT_ID);
@@ -288,7 +364,6 @@ class CategoryServiceTest {
 
             given(categoryRepository.findById(ROOT_ID)).willReturn(Optional.of(rootCategory));
             given(categoryRepository.findBySlug("consumer-electronics")).willReturn(Optional.empty());
-            given(categoryRepository.countChildren(ROOT_ID)).willReturn(1);
 
             // when
             CategoryResponse response = categoryService.updateCategory(ROOT_ID, request);
@@ -311,7 +386,6 @@ class CategoryServiceTest {
 
             given(categoryRepository.findById(ROOT_ID)).willReturn(Optional.of(rootCategory));
             given(categoryRepository.findBySlug("electronics")).willReturn(Optional.of(rootCategory));
-            given(categoryRepository.countChildren(ROOT_ID)).willReturn(0);
 
             // when
             CategoryResponse response = categoryService.updateCategory(ROOT_ID, request);
@@ -335,10 +409,11 @@ class CategoryServiceTest {
                     .depth(0)
                     .build();
             ReflectionTestUtils.setField(anotherRoot, "id", 3L);
+            anotherRoot.assignPath(null);
 
             given(categoryRepository.findById(CHILD_ID)).willReturn(Optional.of(childCategory));
             given(categoryRepository.findById(3L)).willReturn(Optional.of(anotherRoot));
-            given(categoryRepository.countChildren(CHILD_ID)).willReturn(0);
+            given(categoryTreeCache.get()).willReturn(CategoryTree.of(1L, List.of(rootCategory, childCategory, anotherRoot)));
 
             // when
             CategoryResponse response = categoryService.moveCategory(CHILD_ID, 3L);
@@ -346,6 +421,44 @@ class CategoryServiceTest {
             // then
             assertThat(response.parentId()).isEqualTo(3L);
             assertThat(response.depth()).isEqualTo(1);
+            verify(categoryRepository).adjustChildCount(ROOT_ID, -1);
+            verify(categoryRepository).adjustChildCount(3L, 1);
+            verify(categoryRepository).moveSubtree("/1/2/", 5, "/3/2/", 0);
+            verify(eventPublisher).publishEvent(new CategorySubtreeMovedEvent(CHILD_ID, "/1/2/", "/3/2/"));
+            verify(eventPublisher).publishEvent(new CategoryChangedEvent(CHILD_ID));
+        }
+
+        @Test
+        @DisplayName("should reject moving a category under its own descendant")
+        void throwOnMoveUnderDescendant() {
+            // given
+            given(categoryRepository.findById(ROOT_ID)).willReturn(Optional.of(rootCategory));
+            given(categoryRepository.findById(CHILD_ID)).willReturn(Optional.of(childCategory));
+            givenTree();
+
+            // when & then
+            assertThatThrownBy(() -> categoryService.moveCategory(ROOT_ID, CHILD_ID))
+                    .isInstanceOf(InvalidStateException.class);
+            assertThat(rootCategory.getParentId()).isNull();
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("should reject a move that pushes the deepest descendant past the depth limit")
+        void throwOnSubtreeTooDeep() {
+            // given - electronics > smartphones > android > flagship, moved under fashion
+            Category android = category(4L, "android", CHILD_ID, 2);
+            Category flagship = category(5L, "flagship", 4L, 3);
+            Category fashion = category(3L, "fashion", null, 0);
+            given(categoryRepository.findById(ROOT_ID)).willReturn(Optional.of(rootCategory));
+            given(categoryRepository.findById(3L)).willReturn(Optional.of(fashion));
+            given(categoryTreeCache.get()).willReturn(
+                    CategoryTree.of(1L, List.of(rootCategory, childCategory, android, flagship, fashion)));
+
+            // when & then
+            assertThatThrownBy(() -> categoryService.moveCategory(ROOT_ID, 3L))
+                    .isInstanceOf(InvalidStateException.class);
+            verify(categoryRepository, never()).moveSubtree(any(), anyInt(), any(), anyInt());
         }
 
         @Test
@@ -353,7 +466,6 @@ class CategoryServiceTest {
         void moveCategoryToRoot() {
             // given
             given(categoryRepository.findById(CHILD_ID)).willReturn(Optional.of(childCategory));
-            given(categoryRepository.countChildren(CHILD_ID)).willReturn(0);
 
             // when
             CategoryResponse response = categoryService.moveCategory(CHILD_ID, null);
@@ -361,6 +473,8 @@ class CategoryServiceTest {
             // then
             assertThat(response.parentId()).isNull();
             assertThat(response.depth()).isZero();
+            verify(categoryRepository).adjustChildCount(ROOT_ID, -1);
+            verify(categoryRepository).moveSubtree("/1/2/", 5, "/2/", -1);
         }
     }
 
@@ -380,6 +494,7 @@ class CategoryServiceTest {
 
             // then
             assertThat(childCategory.isDeleted()).isTrue();
+            verify(categoryRepository).adjustChildCount(ROOT_ID, -1);
         }
 
         @Test
@@ -405,7 +520,6 @@ class CategoryServiceTest {
             // given
             childCategory.deactivate();
             given(categoryRepository.findById(CHILD_ID)).willReturn(Optional.of(childCategory));
-            given(categoryRepository.countChildren(CHILD_ID)).willReturn(0);
 
             // when
             CategoryResponse response = categoryService.activateCategory(CHILD_ID);
@@ -419,7 +533,6 @@ class CategoryServiceTest {
         void deactivateCategory() {
             // given
             given(categoryRepository.findById(CHILD_ID)).willReturn(Optional.of(childCategory));
-            given(categoryRepository.countChildren(CHILD_ID)).willReturn(0);
 
             // when
             CategoryResponse response = categoryService.deactivateCategory(CHILD_ID);
@@ -428,4 +541,21 @@ class CategoryServiceTest {
             assertThat(response.active()).isFalse();
         }
     }
+
+    // ========== Helper Methods ==========
+
+    private void givenTree() {
+        given(categoryTreeCache.get()).willReturn(CategoryTree.of(1L, List.of(rootCategory, childCategory)));
+    }
+
+    private Category category(Long id, String slug, Long parentId, int depth) {
+        Category category = Category.builder()
+                .name(slug)
+                .slug(slug)
+                .parentId(parentId)
+                .depth(depth)
+                .build();
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
 }
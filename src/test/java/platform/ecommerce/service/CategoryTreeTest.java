@@ -0,0 +1,106 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import platform.ecommerce.domain.category.Category;
+import platform.ecommerce.service.category.CategoryNode;
+import platform.ecommerce.service.category.CategoryTree;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CategoryTree.
+ */
+class CategoryTreeTest {
+
+    private CategoryTree tree;
+
+    @BeforeEach
+    void setUp() {
+        // fashion(1) -> men(2) -> shirts(4), pants(5); fashion -> women(3); electronics(6)
+        tree = CategoryTree.of(7L, List.of(
+                category(5L, "pants", 2L, 2, 2),
+                category(6L, "electronics", null, 0, 2),
+                category(3L, "women", 1L, 1, 2),
+                category(1L, "fashion", null, 0, 1),
+                category(4L, "shirts", 2L, 2, 1),
+                category(2L, "men", 1L, 1, 1)));
+    }
+
+    @Nested
+    @DisplayName("structure")
+    class Structure {
+
+        @Test
+        @DisplayName("should order roots and children by display order")
+        void shouldOrderSiblings() {
+            assertThat(tree.getVersion()).isEqualTo(7L);
+            assertThat(tree.getRoots()).extracting(CategoryNode::id).containsExactly(1L, 6L);
+            assertThat(tree.getChildren(node(2L))).extracting(CategoryNode::id).containsExactly(4L, 5L);
+            assertThat(node(1L).childCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should precompute ancestor paths root first")
+        void shouldPrecomputeAncestors() {
+            assertThat(tree.getAncestors(node(5L))).extracting(CategoryNode::id).containsExactly(1L, 2L);
+            assertThat(tree.getAncestors(node(6L))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should keep a category whose parent is missing out of the roots")
+        void orphan_shouldBeFindableButNotListed() {
+            CategoryTree withOrphan = CategoryTree.of(1L, List.of(
+                    category(1L, "fashion", null, 0, 1),
+                    category(9L, "orphan", 99L, 1, 1)));
+
+            assertThat(withOrphan.getRoots()).extracting(CategoryNode::id).containsExactly(1L);
+            assertThat(withOrphan.find(9L)).isPresent();
+            assertThat(withOrphan.getAncestors(withOrphan.find(9L).orElseThrow())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("subtree")
+    class Subtree {
+
+        @Test
+        @DisplayName("should list a category and all of its descendants")
+        void shouldListSubtreeIds() {
+            assertThat(tree.getSubtreeIds(node(1L))).containsExactly(1L, 2L, 4L, 5L, 3L);
+            assertThat(tree.getSubtreeIds(node(4L))).containsExactly(4L);
+        }
+
+        @Test
+        @DisplayName("should answer descendant checks from preorder ranges")
+        void shouldCheckDescendants() {
+            assertThat(tree.isDescendant(node(5L), node(1L))).isTrue();
+            assertThat(tree.isDescendant(node(3L), node(2L))).isFalse();
+            assertThat(tree.isDescendant(node(1L), node(1L))).isFalse();
+            assertThat(tree.isDescendant(node(1L), node(5L))).isFalse();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private CategoryNode node(Long id) {
+        return tree.find(id).orElseThrow();
+    }
+
+    private Category category(Long id, String slug, Long parentId, int depth, int displayOrder) {
+        Category category = Category.builder()
+                .name(slug)
+                .slug(slug)
+                .parentId(parentId)
+                .depth(depth)
+                .displayOrder(displayOrder)
+                .build();
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+}
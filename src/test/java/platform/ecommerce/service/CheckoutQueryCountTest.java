@@ -0,0 +1,190 @@
+package platform.ecommerce.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import platform.ecommerce.domain.cart.Cart;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+import platform.ecommerce.domain.coupon.MemberCoupon;
+import platform.ecommerce.domain.order.PaymentMethod;
+import platform.ecommerce.domain.product.OptionType;
+import platform.ecommerce.domain.product.Product;
+import platform.ecommerce.domain.product.ProductOption;
+import platform.ecommerce.dto.request.order.CheckoutRequest;
+import platform.ecommerce.dto.request.order.ShippingAddressRequest;
+import platform.ecommerce.repository.cart.CartRepository;
+import platform.ecommerce.repository.coupon.CouponRepository;
+import platform.ecommerce.repository.coupon.MemberCouponRepository;
+import platform.ecommerce.repository.product.ProductRepository;
+import platform.ecommerce.service.coupon.CouponIssuePersistenceScheduler;
+import platform.ecommerce.service.coupon.CouponUsageFlushScheduler;
+import platform.ecommerce.service.order.CheckoutResult;
+import platform.ecommerce.service.order.CheckoutService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query count tests for checkout.
+ * Verifies that reads do not grow with the number of cart lines: products, options and the
+ * coupon are loaded once per checkout. Stock is taken with one conditional update per line.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.order-expiry.enabled=false",
+        "app.payment-recovery.enabled=false"
+})
+@ActiveProfiles("test")
+@DisplayName("Checkout Query Count Tests")
+class CheckoutQueryCountTest {
+
+    /**
+     * Per extra line: one order item insert and one conditional stock update. Cart item deletes are batched.
+     */
+    private static final int STATEMENTS_PER_EXTRA_LINE = 2;
+
+    // Scheduled jobs share the global statistics, so they are kept from running during the test
+    @MockitoBean
+    private CouponIssuePersistenceScheduler couponIssuePersistenceScheduler;
+
+    @MockitoBean
+    private CouponUsageFlushScheduler couponUsageFlushScheduler;
+
+    @Autowired
+    private CheckoutService checkoutService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private MemberCouponRepository memberCouponRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("should run the same reads for a 10-product cart as for a 2-product cart")
+    void checkout_withCoupon_shouldNotGrowReadsWithLines() {
+        // given
+        Long smallCartMember = 9001L;
+        Long largeCartMember = 9002L;
+        CheckoutRequest smallCart = givenCartWithCoupon(smallCartMember, 2);
+        CheckoutRequest largeCart = givenCartWithCoupon(largeCartMember, 10);
+
+        // when
+        Counts small = checkoutCounts(smallCartMember, smallCart, 2);
+        Counts large = checkoutCounts(largeCartMember, largeCart, 10);
+
+        // then
+        assertThat(large.reads()).isEqualTo(small.reads());
+        assertThat(large.entityFetches()).isEqualTo(small.entityFetches());
+        assertThat(large.collectionFetches()).isEqualTo(small.collectionFetches());
+        assertThat(large.statements() - small.statements()).isLessThanOrEqualTo((10 - 2) * STATEMENTS_PER_EXTRA_LINE);
+    }
+
+    // ========== Helper Methods ==========
+
+    private Counts checkoutCounts(Long memberId, CheckoutRequest request, int expectedLines) {
+        statistics.clear();
+
+        CheckoutResult result = checkoutService.checkout(memberId, request);
+
+        assertThat(result.order().getItems()).hasSize(expectedLines);
+        return new Counts(
+                statistics.getPrepareStatementCount(),
+                readQueryCount(),
+                statistics.getEntityFetchCount(),
+                statistics.getCollectionFetchCount()
+        );
+    }
+
+    /**
+     * Executed select queries; the per-line stock updates are counted with the statements.
+     */
+    private long readQueryCount() {
+        return Arrays.stream(statistics.getQueries())
+                .filter(query -> query.stripLeading().regionMatches(true, 0, "select", 0, 6)
+                        || query.stripLeading().regionMatches(true, 0, "from", 0, 4))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+    }
+
+    private CheckoutRequest givenCartWithCoupon(Long memberId, int lines) {
+        Long memberCouponId = transactionTemplate.execute(status -> {
+            Cart cart = Cart.builder().memberId(memberId).build();
+            List<Product> products = new ArrayList<>(lines);
+            for (int i = 0; i < lines; i++) {
+                Product product = Product.builder()
+                        .name("Product " + memberId + "-" + i)
+                        .basePrice(BigDecimal.valueOf(10000))
+                        .sellerId(1L)
+                        .build();
+                product.addOption(OptionType.SIZE, "M", BigDecimal.ZERO, 100);
+                product.publish();
+                products.add(product);
+            }
+            productRepository.saveAll(products);
+            productRepository.flush();
+            for (Product product : products) {
+                ProductOption option = product.getOptions().get(0);
+                cart.addItem(product.getId(), option.getId(), 1);
+            }
+            cartRepository.save(cart);
+
+            Coupon coupon = couponRepository.save(Coupon.builder()
+                    .code("CHECKOUT" + memberId)
+                    .name("Checkout Coupon")
+                    .type(CouponType.FIXED_AMOUNT)
+                    .discountValue(BigDecimal.valueOf(1000))
+                    .validFrom(LocalDateTime.now().minusDays(1))
+                    .validTo(LocalDateTime.now().plusDays(1))
+                    .totalQuantity(10)
+                    .build());
+            return memberCouponRepository.save(MemberCoupon.builder().memberId(memberId).coupon(coupon).build()).getId();
+        });
+
+        return CheckoutRequest.builder()
+                .shippingAddress(ShippingAddressRequest.builder()
+                        .recipientName("John Doe")
+                        .recipientPhone("010-1234-5678")
+                        .zipCode("12345")
+                        .address("Seoul, Korea")
+                        .build())
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .memberCouponId(memberCouponId)
+                .build();
+    }
+
+    private record Counts(long statements, long reads, long entityFetches, long collectionFetches) {
+    }
+}
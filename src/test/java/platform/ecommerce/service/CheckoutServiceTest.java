@@ -0,0 +1,247 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+import platform.ecommerce.domain.coupon.MemberCoupon;
+import platform.ecommerce.domain.order.Order;
+import platform.ecommerce.domain.order.OrderItem;
+import platform.ecommerce.domain.order.PaymentMethod;
+import platform.ecommerce.domain.payment.Payment;
+import platform.ecommerce.domain.product.OptionType;
+import platform.ecommerce.domain.product.Product;
+import platform.ecommerce.domain.product.ProductOption;
+import platform.ecommerce.dto.request.order.CheckoutRequest;
+import platform.ecommerce.dto.request.order.ShippingAddressRequest;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.repository.order.OrderRepository;
+import platform.ecommerce.service.cart.CartLine;
+import platform.ecommerce.service.cart.CartService;
+import platform.ecommerce.service.coupon.CouponService;
+import platform.ecommerce.service.order.CheckoutResult;
+import platform.ecommerce.service.order.CheckoutServiceImpl;
+import platform.ecommerce.service.payment.PaymentService;
+import platform.ecommerce.service.product.ProductService;
+import platform.ecommerce.service.product.StockAdjustment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for CheckoutService (Domain Layer).
+ */
+@ExtendWith(MockitoExtension.class)
+class CheckoutServiceTest {
+
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Spy
+    private AppProperties appProperties = new AppProperties();
+
+    @InjectMocks
+    private CheckoutServiceImpl checkoutService;
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long ORDER_ID = 100L;
+    private static final Long MEMBER_COUPON_ID = 50L;
+
+    private Product shirt;
+    private Product mug;
+    private CheckoutRequest request;
+
+    @BeforeEach
+    void setUp() {
+        appProperties.getPricing().setShippingFee(BigDecimal.valueOf(3000));
+        appProperties.getPricing().setFreeShippingThreshold(BigDecimal.valueOf(100000));
+
+        shirt = product(1L, "Shirt", 20000, 10L, "M", 1000);
+        mug = product(2L, "Mug", 8000, 20L, "White", 0);
+
+        request = CheckoutRequest.builder()
+                .shippingAddress(ShippingAddressRequest.builder()
+                        .recipientName("John Doe")
+                        .recipientPhone("010-1234-5678")
+                        .zipCode("12345")
+                        .address("Seoul, Korea")
+                        .build())
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("checkout")
+    class Checkout {
+
+        @Test
+        @DisplayName("should price lines from the catalog, reserve stock, request payment and clear cart")
+        void checkout_shouldPlaceOrderFromCart() {
+            // given
+            givenCart(new CartLine(1L, 10L, 2, LocalDateTime.now()), new CartLine(2L, 20L, 1, LocalDateTime.now()));
+            givenSavedOrder();
+            Payment payment = Payment.builder().orderId(ORDER_ID).method(PaymentMethod.CREDIT_CARD)
+                    .amount(BigDecimal.valueOf(53000)).build();
+            given(paymentService.requestPayment(ORDER_ID, PaymentMethod.CREDIT_CARD)).willReturn(payment);
+
+            // when
+            CheckoutResult result = checkoutService.checkout(MEMBER_ID, request);
+
+            // then
+            Order order = result.order();
+            assertThat(order.getItems()).extracting(OrderItem::getProductName, OrderItem::getOptionName, OrderItem::getUnitPrice)
+                    .containsExactly(
+                            tuple("Shirt", "M", new BigDecimal("21000.00")),
+                            tuple("Mug", "White", new BigDecimal("8000.00")));
+            assertThat(order.getShippingFee()).isEqualByComparingTo("3000");
+            assertThat(order.getTotalAmount()).isEqualByComparingTo("53000");
+            assertThat(result.payment()).isSameAs(payment);
+
+            verify(productService).getProductsWithOptions(List.of(1L, 2L));
+            verify(productService).decreaseStocks(List.of(
+                    new StockAdjustment(1L, 10L, 2), new StockAdjustment(2L, 20L, 1)));
+            verify(cartService).clearCart(MEMBER_ID);
+        }
+
+        @Test
+        @DisplayName("should apply member coupon and mark it used by the order")
+        void checkout_withCoupon_shouldDiscountAndUseCoupon() {
+            // given
+            givenCart(new CartLine(1L, 10L, 2, LocalDateTime.now()));
+            givenSavedOrder();
+            MemberCoupon memberCoupon = memberCoupon(10000);
+            given(couponService.getUsableMemberCoupon(MEMBER_COUPON_ID, MEMBER_ID)).willReturn(memberCoupon);
+
+            // when
+            CheckoutResult result = checkoutService.checkout(MEMBER_ID, withCoupon());
+
+            // then - 10% of 42000, capped at 3000
+            assertThat(result.order().getDiscountAmount()).isEqualByComparingTo("3000");
+            assertThat(result.order().getTotalAmount()).isEqualByComparingTo("42000");
+            verify(couponService).useCoupon(MEMBER_COUPON_ID, ORDER_ID);
+        }
+
+        @Test
+        @DisplayName("should reject coupon below its minimum order without touching stock")
+        void checkout_couponBelowMinimum_shouldThrow() {
+            // given
+            givenCart(new CartLine(2L, 20L, 1, LocalDateTime.now()));
+            given(couponService.getUsableMemberCoupon(MEMBER_COUPON_ID, MEMBER_ID)).willReturn(memberCoupon(10000));
+
+            // when & then
+            assertThatThrownBy(() -> checkoutService.checkout(MEMBER_ID, withCoupon()))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.COUPON_NOT_APPLICABLE);
+            verify(productService, never()).decreaseStocks(anyList());
+            verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should reject an empty cart")
+        void checkout_emptyCart_shouldThrow() {
+            // given
+            given(cartService.getLines(MEMBER_ID)).willReturn(List.of());
+
+            // when & then
+            assertThatThrownBy(() -> checkoutService.checkout(MEMBER_ID, request))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.CART_EMPTY);
+            verifyNoInteractions(productService, orderRepository, paymentService);
+        }
+
+        @Test
+        @DisplayName("should reject a line whose product is no longer on sale")
+        void checkout_discontinuedProduct_shouldThrow() {
+            // given
+            mug.discontinue();
+            givenCart(new CartLine(1L, 10L, 1, LocalDateTime.now()), new CartLine(2L, 20L, 1, LocalDateTime.now()));
+
+            // when & then
+            assertThatThrownBy(() -> checkoutService.checkout(MEMBER_ID, request))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.PRODUCT_NOT_AVAILABLE);
+            verify(productService, never()).decreaseStocks(anyList());
+            verify(cartService, never()).clearCart(any());
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private void givenCart(CartLine... lines) {
+        given(cartService.getLines(MEMBER_ID)).willReturn(List.of(lines));
+        given(productService.getProductsWithOptions(anyCollection())).willReturn(List.of(shirt, mug));
+    }
+
+    private void givenSavedOrder() {
+        given(orderRepository.save(any(Order.class))).willAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            ReflectionTestUtils.setField(order, "id", ORDER_ID);
+            return order;
+        });
+    }
+
+    private CheckoutRequest withCoupon() {
+        return CheckoutRequest.builder()
+                .shippingAddress(request.shippingAddress())
+                .memberCouponId(MEMBER_COUPON_ID)
+                .paymentMethod(request.paymentMethod())
+                .build();
+    }
+
+    private MemberCoupon memberCoupon(long minimumOrder) {
+        Coupon coupon = Coupon.builder()
+                .code("SAVE10")
+                .name("10% Off")
+                .type(CouponType.PERCENTAGE)
+                .discountValue(BigDecimal.valueOf(10))
+                .minimumOrder(BigDecimal.valueOf(minimumOrder))
+                .maximumDiscount(BigDecimal.valueOf(3000))
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(30))
+                .totalQuantity(100)
+                .build();
+        MemberCoupon memberCoupon = MemberCoupon.builder().memberId(MEMBER_ID).coupon(coupon).build();
+        ReflectionTestUtils.setField(memberCoupon, "id", MEMBER_COUPON_ID);
+        return memberCoupon;
+    }
+
+    private Product product(Long id, String name, long basePrice, Long optionId, String optionValue, long additionalPrice) {
+        Product product = Product.builder()
+                .name(name)
+                .basePrice(BigDecimal.valueOf(basePrice))
+                .sellerId(1L)
+                .build();
+        ReflectionTestUtils.setField(product, "id", id);
+        ProductOption option = product.addOption(OptionType.SIZE, optionValue, BigDecimal.valueOf(additionalPrice), 10);
+        ReflectionTestUtils.setField(option, "id", optionId);
+        product.publish();
+        return product;
+    }
+}
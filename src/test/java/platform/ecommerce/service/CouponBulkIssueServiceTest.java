@@ -0,0 +1,228 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponBulkIssueJob;
+import platform.ecommerce.domain.coupon.CouponBulkIssueStatus;
+import platform.ecommerce.domain.coupon.CouponType;
+import platform.ecommerce.domain.member.MemberStatus;
+import platform.ecommerce.dto.request.MemberSearchCondition;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.mapper.CouponMapper;
+import platform.ecommerce.repository.coupon.CouponBulkIssueJobRepository;
+import platform.ecommerce.repository.coupon.CouponRepository;
+import platform.ecommerce.repository.coupon.MemberCouponRepository;
+import platform.ecommerce.service.coupon.CouponBulkIssueServiceImpl;
+import platform.ecommerce.service.coupon.CouponIssue;
+import platform.ecommerce.service.notification.NotificationService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for CouponBulkIssueService.
+ */
+@ExtendWith(MockitoExtension.class)
+class CouponBulkIssueServiceTest {
+
+    @Mock
+    private CouponBulkIssueJobRepository jobRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private MemberCouponRepository memberCouponRepository;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private CouponMapper couponMapper;
+
+    @Spy
+    private AppProperties appProperties = new AppProperties();
+
+    @InjectMocks
+    private CouponBulkIssueServiceImpl couponBulkIssueService;
+
+    private static final Long COUPON_ID = 1L;
+    private static final Long JOB_ID = 10L;
+
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        appProperties.getCoupon().setBulkIssueChunkSize(3);
+
+        coupon = Coupon.builder()
+                .code("WELCOME")
+                .name("Welcome Back")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(3000))
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(30))
+                .totalQuantity(1000)
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", COUPON_ID);
+    }
+
+    @Nested
+    @DisplayName("issueNextChunk")
+    class IssueNextChunk {
+
+        @Test
+        @DisplayName("should insert only members not holding the coupon and move the checkpoint")
+        void issueNextChunk_shouldSkipHoldersAndCheckpoint() {
+            // given
+            CouponBulkIssueJob job = givenJob(true);
+            given(memberService.getMemberIdsAfter(any(MemberSearchCondition.class), isNull(), eq(3)))
+                    .willReturn(List.of(11L, 12L, 13L));
+            given(memberCouponRepository.findMemberIdsByCouponIdAndMemberIdIn(COUPON_ID, List.of(11L, 12L, 13L)))
+                    .willReturn(List.of(12L));
+            given(memberCouponRepository.insertIgnoringDuplicates(
+                    List.of(new CouponIssue(COUPON_ID, 11L), new CouponIssue(COUPON_ID, 13L)))).willReturn(2);
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(JOB_ID);
+
+            // then
+            assertThat(hasMore).isTrue();
+            assertThat(job.getLastMemberId()).isEqualTo(13L);
+            assertThat(job.getScannedCount()).isEqualTo(3);
+            assertThat(job.getIssuedCount()).isEqualTo(2);
+            assertThat(job.getStatus()).isEqualTo(CouponBulkIssueStatus.RUNNING);
+            verify(notificationService).notifyCouponIssued(List.of(11L, 13L), "Welcome Back");
+        }
+
+        @Test
+        @DisplayName("should continue after the checkpoint and complete on a short chunk")
+        void issueNextChunk_resumed_shouldStartAfterCheckpoint() {
+            // given
+            CouponBulkIssueJob job = givenJob(false);
+            job.recordChunk(13L, 3, 3);
+            given(memberService.getMemberIdsAfter(any(MemberSearchCondition.class), eq(13L), eq(3)))
+                    .willReturn(List.of(14L));
+            given(memberCouponRepository.findMemberIdsByCouponIdAndMemberIdIn(COUPON_ID, List.of(14L)))
+                    .willReturn(List.of());
+            given(memberCouponRepository.insertIgnoringDuplicates(anyList())).willReturn(1);
+
+            // when
+            boolean hasMore = couponBulkIssueService.issueNextChunk(JOB_ID);
+
+            // then
+            assertThat(hasMore).isFalse();
+            assertThat(job.getStatus()).isEqualTo(CouponBulkIssueStatus.COMPLETED);
+            assertThat(job.getIssuedCount()).isEqualTo(4);
+            verifyNoInteractions(notificationService);
+        }
+
+        @Test
+        @DisplayName("should pass the segment filters to the member scan")
+        void issueNextChunk_shouldUseSegmentCondition() {
+            // given
+            givenJob(false);
+            given(memberService.getMemberIdsAfter(any(MemberSearchCondition.class), isNull(), eq(3)))
+                    .willReturn(List.of());
+
+            // when
+            couponBulkIssueService.issueNextChunk(JOB_ID);
+
+            // then
+            verify(memberService).getMemberIdsAfter(
+                    MemberSearchCondition.builder().status(MemberStatus.ACTIVE).excludeWithdrawn(true).build(), null, 3);
+            verify(memberCouponRepository, never()).insertIgnoringDuplicates(anyList());
+        }
+
+        @Test
+        @DisplayName("should stop when the coupon has expired")
+        void issueNextChunk_expiredCoupon_shouldThrow() {
+            // given
+            givenJob(false);
+            coupon.deactivate();
+
+            // when & then
+            assertThatThrownBy(() -> couponBulkIssueService.issueNextChunk(JOB_ID))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.COUPON_EXPIRED);
+            verifyNoInteractions(memberService);
+        }
+    }
+
+    @Nested
+    @DisplayName("resumeJob")
+    class ResumeJob {
+
+        @Test
+        @DisplayName("should reject resuming a completed job")
+        void resumeJob_completed_shouldThrow() {
+            // given
+            CouponBulkIssueJob job = newJob(false);
+            job.complete();
+            given(jobRepository.findById(JOB_ID)).willReturn(Optional.of(job));
+
+            // when & then
+            assertThatThrownBy(() -> couponBulkIssueService.resumeJob(JOB_ID))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.CONFLICT);
+        }
+
+        @Test
+        @DisplayName("should run a failed job again from its checkpoint")
+        void resumeJob_failed_shouldBeRunning() {
+            // given
+            CouponBulkIssueJob job = newJob(false);
+            job.recordChunk(13L, 3, 3);
+            job.fail("connection reset");
+            given(jobRepository.findById(JOB_ID)).willReturn(Optional.of(job));
+
+            // when
+            couponBulkIssueService.resumeJob(JOB_ID);
+
+            // then
+            assertThat(job.getStatus()).isEqualTo(CouponBulkIssueStatus.RUNNING);
+            assertThat(job.getLastMemberId()).isEqualTo(13L);
+            assertThat(job.getFailureReason()).isNull();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private CouponBulkIssueJob givenJob(boolean notifyMembers) {
+        CouponBulkIssueJob job = newJob(notifyMembers);
+        given(jobRepository.findByIdForUpdate(JOB_ID)).willReturn(Optional.of(job));
+        given(couponRepository.findById(COUPON_ID)).willReturn(Optional.of(coupon));
+        return job;
+    }
+
+    private CouponBulkIssueJob newJob(boolean notifyMembers) {
+        CouponBulkIssueJob job = CouponBulkIssueJob.builder()
+                .couponId(COUPON_ID)
+                .memberStatus(MemberStatus.ACTIVE)
+                .excludeWithdrawn(true)
+                .notifyMembers(notifyMembers)
+                .build();
+        ReflectionTestUtils.setField(job, "id", JOB_ID);
+        return job;
+    }
+}
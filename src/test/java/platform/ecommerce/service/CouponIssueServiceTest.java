@@ -0,0 +1,215 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+import platform.ecommerce.dto.response.coupon.CouponIssueReconcileResponse;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.repository.coupon.CouponRepository;
+import platform.ecommerce.repository.coupon.MemberCouponRepository;
+import platform.ecommerce.service.coupon.CouponIssue;
+import platform.ecommerce.service.coupon.CouponIssueServiceImpl;
+import platform.ecommerce.service.coupon.InMemoryCouponIssueGate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for CouponIssueService with the in-memory gate.
+ */
+@ExtendWith(MockitoExtension.class)
+class CouponIssueServiceTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private MemberCouponRepository memberCouponRepository;
+
+    private InMemoryCouponIssueGate gate;
+    private CouponIssueServiceImpl couponIssueService;
+
+    private static final Long COUPON_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        gate = new InMemoryCouponIssueGate();
+        couponIssueService = new CouponIssueServiceImpl(gate, couponRepository, memberCouponRepository);
+    }
+
+    @Nested
+    @DisplayName("claim")
+    class Claim {
+
+        @Test
+        @DisplayName("should reject claims before the drop is opened")
+        void claim_notOpen_shouldThrow() {
+            assertThatThrownBy(() -> couponIssueService.claim(COUPON_ID, 1L))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.COUPON_DROP_NOT_OPEN);
+        }
+
+        @Test
+        @DisplayName("should count members already holding the coupon against the limit")
+        void claim_afterOpen_shouldRespectExistingHolders() {
+            // given
+            givenDrop(2, List.of(7L));
+
+            // when
+            couponIssueService.openDrop(COUPON_ID);
+            couponIssueService.claim(COUPON_ID, 8L);
+
+            // then
+            assertThatThrownBy(() -> couponIssueService.claim(COUPON_ID, 7L))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.CONFLICT);
+            assertThatThrownBy(() -> couponIssueService.claim(COUPON_ID, 9L))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.COUPON_LIMIT_EXCEEDED);
+            assertThat(gate.pollPending(10)).containsExactly(new CouponIssue(COUPON_ID, 8L));
+        }
+    }
+
+    @Nested
+    @DisplayName("contention")
+    class Contention {
+
+        @Test
+        @DisplayName("should issue exactly 1k coupons to 10k concurrent claimers")
+        void claim_10kClaimers_shouldIssueExactlyLimit() throws InterruptedException {
+            // given
+            givenDrop(1_000, List.of());
+            couponIssueService.openDrop(COUPON_ID);
+
+            // when
+            ClaimCounts counts = claimConcurrently(10_000, memberIndex -> (long) memberIndex);
+
+            // then
+            assertThat(counts.issued.get()).isEqualTo(1_000);
+            assertThat(counts.soldOut.get()).isEqualTo(9_000);
+            assertThat(counts.other.get()).isZero();
+            assertPendingMatchesGate(1_000);
+        }
+
+        @Test
+        @DisplayName("should issue at most one coupon per member when members claim repeatedly")
+        void claim_repeatedClaims_shouldIssueOncePerMember() throws InterruptedException {
+            // given - 10k claims from 500 members
+            givenDrop(1_000, List.of());
+            couponIssueService.openDrop(COUPON_ID);
+
+            // when
+            ClaimCounts counts = claimConcurrently(10_000, claimIndex -> (long) (claimIndex % 500));
+
+            // then
+            assertThat(counts.issued.get()).isEqualTo(500);
+            assertThat(counts.alreadyIssued.get()).isEqualTo(9_500);
+            assertPendingMatchesGate(500);
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile")
+    class Reconcile {
+
+        @Test
+        @DisplayName("should write admitted members missing from the database and restore unknown holders")
+        void reconcile_shouldAlignBothSides() {
+            // given
+            givenDrop(10, List.of());
+            couponIssueService.openDrop(COUPON_ID);
+            couponIssueService.claim(COUPON_ID, 1L);
+            couponIssueService.claim(COUPON_ID, 2L);
+            given(memberCouponRepository.findMemberIdsByCouponId(COUPON_ID)).willReturn(List.of(2L, 3L));
+            given(memberCouponRepository.insertIgnoringDuplicates(List.of(new CouponIssue(COUPON_ID, 1L)))).willReturn(1);
+
+            // when
+            CouponIssueReconcileResponse response = couponIssueService.reconcile(COUPON_ID);
+
+            // then
+            assertThat(response.inserted()).isEqualTo(1);
+            assertThat(response.restored()).isEqualTo(1);
+            assertThat(gate.getIssuedMembers(COUPON_ID)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private void givenDrop(int totalQuantity, List<Long> holders) {
+        Coupon coupon = Coupon.builder()
+                .code("DROP")
+                .name("Limited Drop")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(5000))
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(1))
+                .totalQuantity(totalQuantity)
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", COUPON_ID);
+        given(couponRepository.findById(COUPON_ID)).willReturn(Optional.of(coupon));
+        given(memberCouponRepository.findMemberIdsByCouponId(COUPON_ID)).willReturn(holders);
+    }
+
+    private ClaimCounts claimConcurrently(int claims, IntFunction<Long> memberOf)
+            throws InterruptedException {
+        ClaimCounts counts = new ClaimCounts();
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < claims; i++) {
+                Long memberId = memberOf.apply(i);
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        couponIssueService.claim(COUPON_ID, memberId);
+                        counts.issued.incrementAndGet();
+                    } catch (InvalidStateException e) {
+                        switch (e.getErrorCode()) {
+                            case COUPON_LIMIT_EXCEEDED -> counts.soldOut.incrementAndGet();
+                            case CONFLICT -> counts.alreadyIssued.incrementAndGet();
+                            default -> counts.other.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+        return counts;
+    }
+
+    private void assertPendingMatchesGate(int expected) {
+        List<CouponIssue> pending = gate.pollPending(Integer.MAX_VALUE);
+        Set<Long> pendingMembers = new HashSet<>();
+        pending.forEach(issue -> pendingMembers.add(issue.memberId()));
+
+        assertThat(pending).hasSize(expected);
+        assertThat(pendingMembers).hasSize(expected).isEqualTo(gate.getIssuedMembers(COUPON_ID));
+    }
+
+    private static final class ClaimCounts {
+        private final AtomicInteger issued = new AtomicInteger();
+        private final AtomicInteger soldOut = new AtomicInteger();
+        private final AtomicInteger alreadyIssued = new AtomicInteger();
+        private final AtomicInteger other = new AtomicInteger();
+    }
+}
@@ -0,0 +1,221 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.repository.coupon.CouponRepository;
+import platform.ecommerce.repository.coupon.MemberCouponRepository;
+import platform.ecommerce.service.coupon.CouponIssue;
+import platform.ecommerce.service.coupon.CouponIssueGate;
+import platform.ecommerce.service.coupon.CouponIssueService;
+import platform.ecommerce.service.coupon.RedisCouponIssueGate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stress tests for first-come-first-served issuance against real Redis and PostgreSQL.
+ * Claims go through the Redis gate and are drained into member_coupon with the persistence batch write;
+ * the scheduled drain is turned off so the test controls when batches run.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.coupon.issue-gate=redis",
+        "app.coupon.persist-enabled=false",
+        "app.order-partition.enabled=false",
+        "app.payment-recovery.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Coupon Issue Stress Tests")
+class CouponIssueStressTest {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @Autowired
+    private CouponIssueService couponIssueService;
+
+    @Autowired
+    private CouponIssueGate couponIssueGate;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private MemberCouponRepository memberCouponRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Nested
+    @DisplayName("contention")
+    class Contention {
+
+        @Test
+        @DisplayName("should issue and persist exactly 1k coupons to 10k concurrent claimers")
+        void claim_10kClaimers_shouldPersistExactlyLimit() throws InterruptedException {
+            // given
+            Long couponId = givenOpenDrop(1_000);
+
+            // when
+            ClaimCounts counts = claimConcurrently(couponId, 10_000, memberIndex -> (long) memberIndex + 1);
+            drainPending();
+
+            // then
+            assertThat(counts.issued.get()).isEqualTo(1_000);
+            assertThat(counts.soldOut.get()).isEqualTo(9_000);
+            assertThat(counts.other.get()).isZero();
+            assertPersistedMatchesGate(couponId, 1_000);
+        }
+
+        @Test
+        @DisplayName("should issue and persist at most one coupon per member when members claim repeatedly")
+        void claim_repeatedClaims_shouldPersistOncePerMember() throws InterruptedException {
+            // given - 10k claims from 500 members
+            Long couponId = givenOpenDrop(1_000);
+
+            // when
+            ClaimCounts counts = claimConcurrently(couponId, 10_000, claimIndex -> (long) (claimIndex % 500) + 1);
+            drainPending();
+
+            // then
+            assertThat(counts.issued.get()).isEqualTo(500);
+            assertThat(counts.alreadyIssued.get()).isEqualTo(9_500);
+            assertPersistedMatchesGate(couponId, 500);
+        }
+    }
+
+    @Nested
+    @DisplayName("redis keys")
+    class RedisKeys {
+
+        @Test
+        @DisplayName("should keep every key of a drop under the coupon's hash tag")
+        void open_shouldHashTagKeysByCoupon() {
+            // given
+            Long couponId = givenOpenDrop(10);
+
+            // when
+            couponIssueService.claim(couponId, 1L);
+
+            // then
+            Set<String> keys = redisTemplate.keys("coupon-issue:*");
+            assertThat(keys).contains(
+                    "coupon-issue:{" + couponId + "}:limit",
+                    "coupon-issue:{" + couponId + "}:count",
+                    "coupon-issue:{" + couponId + "}:members",
+                    "coupon-issue:{" + couponId + "}:pending");
+            assertThat(couponIssueGate.pollPending(BATCH_SIZE)).contains(new CouponIssue(couponId, 1L));
+        }
+
+        @Test
+        @DisplayName("should re-apply the expiry when restoring after the drop has expired")
+        void restore_afterExpiry_shouldSetTtl() {
+            // given - a coupon that was never opened, so there is no limit key to take the expiry from
+            Long couponId = 999_999L;
+
+            // when
+            couponIssueGate.restore(couponId, List.of(1L, 2L), Duration.ofMinutes(5));
+
+            // then
+            assertThat(couponIssueGate.getIssuedMembers(couponId)).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(redisTemplate.getExpire("coupon-issue:{" + couponId + "}:count")).isPositive();
+            assertThat(redisTemplate.getExpire("coupon-issue:{" + couponId + "}:members")).isPositive();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private Long givenOpenDrop(int totalQuantity) {
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .code("DROP" + UUID.randomUUID().toString().substring(0, 8))
+                .name("Limited Drop")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(5000))
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(1))
+                .totalQuantity(totalQuantity)
+                .build());
+        assertThat(couponIssueGate).isInstanceOf(RedisCouponIssueGate.class);
+        couponIssueService.openDrop(coupon.getId());
+        return coupon.getId();
+    }
+
+    private ClaimCounts claimConcurrently(Long couponId, int claims, IntFunction<Long> memberOf)
+            throws InterruptedException {
+        ClaimCounts counts = new ClaimCounts();
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(64)) {
+            for (int i = 0; i < claims; i++) {
+                Long memberId = memberOf.apply(i);
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        couponIssueService.claim(couponId, memberId);
+                        counts.issued.incrementAndGet();
+                    } catch (InvalidStateException e) {
+                        switch (e.getErrorCode()) {
+                            case COUPON_LIMIT_EXCEEDED -> counts.soldOut.incrementAndGet();
+                            case CONFLICT -> counts.alreadyIssued.incrementAndGet();
+                            default -> counts.other.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+        return counts;
+    }
+
+    private void drainPending() {
+        List<CouponIssue> issues;
+        while (!(issues = couponIssueGate.pollPending(BATCH_SIZE)).isEmpty()) {
+            couponIssueService.persist(issues);
+        }
+    }
+
+    private void assertPersistedMatchesGate(Long couponId, int expected) {
+        Set<Long> persisted = new HashSet<>(memberCouponRepository.findMemberIdsByCouponId(couponId));
+
+        assertThat(persisted).hasSize(expected).isEqualTo(couponIssueGate.getIssuedMembers(couponId));
+    }
+
+    private static final class ClaimCounts {
+        private final AtomicInteger issued = new AtomicInteger();
+        private final AtomicInteger soldOut = new AtomicInteger();
+        private final AtomicInteger alreadyIssued = new AtomicInteger();
+        private final AtomicInteger other = new AtomicInteger();
+    }
+}
@@ -0,0 +1,180 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+import platform.ecommerce.repository.coupon.CouponRepository;
+import platform.ecommerce.service.coupon.CouponChangedEvent;
+import platform.ecommerce.service.coupon.CouponRule;
+import platform.ecommerce.service.coupon.CouponRuleCache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for CouponRuleCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class CouponRuleCacheTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private CouponRuleCache couponRuleCache;
+    private Coupon coupon;
+
+    private static final Long COUPON_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        couponRuleCache = new CouponRuleCache(couponRepository, new AppProperties());
+
+        coupon = Coupon.builder()
+                .code("SAVE10")
+                .name("10% Off")
+                .type(CouponType.PERCENTAGE)
+                .discountValue(BigDecimal.valueOf(10))
+                .minimumOrder(BigDecimal.valueOf(10000))
+                .maximumDiscount(BigDecimal.valueOf(5000))
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(30))
+                .totalQuantity(100)
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", COUPON_ID);
+    }
+
+    @Nested
+    @DisplayName("rules")
+    class Rules {
+
+        @Test
+        @DisplayName("should load a rule once and serve code and id lookups from memory")
+        void findByCode_shouldLoadOnce() {
+            // given
+            given(couponRepository.findByCode("SAVE10")).willReturn(Optional.of(coupon));
+
+            // when
+            couponRuleCache.findByCode("save10");
+            Optional<CouponRule> byCode = couponRuleCache.findByCode("SAVE10");
+            Optional<CouponRule> byId = couponRuleCache.findById(COUPON_ID);
+
+            // then
+            assertThat(byCode).hasValueSatisfying(rule -> {
+                assertThat(rule.discountFor(BigDecimal.valueOf(30000))).isEqualByComparingTo("3000");
+                assertThat(rule.meetsMinimum(BigDecimal.valueOf(9999))).isFalse();
+            });
+            assertThat(byId).isEqualTo(byCode);
+            verify(couponRepository, times(1)).findByCode("SAVE10");
+            verify(couponRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("should reload a rule after its change event")
+        void onCouponChanged_shouldEvict() {
+            // given
+            given(couponRepository.findByCode("SAVE10")).willReturn(Optional.of(coupon));
+            couponRuleCache.findByCode("SAVE10");
+            coupon.deactivate();
+
+            // when
+            couponRuleCache.onCouponChanged(new CouponChangedEvent(COUPON_ID, "SAVE10", "SAVE10"));
+            Optional<CouponRule> reloaded = couponRuleCache.findByCode("SAVE10");
+
+            // then
+            assertThat(reloaded).hasValueSatisfying(rule ->
+                    assertThat(rule.isOpenAt(LocalDateTime.now())).isFalse());
+            verify(couponRepository, times(2)).findByCode("SAVE10");
+        }
+
+        @Test
+        @DisplayName("should drop a rule cached under the coupon's previous code")
+        void onCouponChanged_codeChanged_shouldEvictPreviousCode() {
+            // given
+            given(couponRepository.findByCode("SAVE10")).willReturn(Optional.of(coupon));
+            couponRuleCache.findByCode("SAVE10");
+
+            // when
+            couponRuleCache.onCouponChanged(new CouponChangedEvent(COUPON_ID, "SAVE15", "SAVE10"));
+            couponRuleCache.findByCode("SAVE10");
+
+            // then
+            verify(couponRepository, times(2)).findByCode("SAVE10");
+        }
+
+        @Test
+        @DisplayName("should not cache unknown codes")
+        void findByCode_unknown_shouldNotCache() {
+            // given
+            given(couponRepository.findByCode("NOPE")).willReturn(Optional.empty());
+
+            // when
+            couponRuleCache.findByCode("NOPE");
+            Optional<CouponRule> rule = couponRuleCache.findByCode("NOPE");
+
+            // then
+            assertThat(rule).isEmpty();
+            verify(couponRepository, times(2)).findByCode("NOPE");
+        }
+    }
+
+    @Nested
+    @DisplayName("pruneExpired")
+    class PruneExpired {
+
+        @Test
+        @DisplayName("should remove expired rules and used counts")
+        void pruneExpired_shouldRemoveExpiredEntries() {
+            // given - every entry expires as soon as it is cached
+            AppProperties appProperties = new AppProperties();
+            appProperties.getCoupon().setRuleCacheTtl(Duration.ZERO);
+            appProperties.getCoupon().setUsageRefreshInterval(Duration.ZERO);
+            CouponRuleCache cache = new CouponRuleCache(couponRepository, appProperties);
+            given(couponRepository.findByCode("SAVE10")).willReturn(Optional.of(coupon));
+            given(couponRepository.findUsedQuantityById(COUPON_ID)).willReturn(Optional.of(40));
+            cache.findByCode("SAVE10").ifPresent(cache::remainingQuantity);
+
+            // when
+            cache.pruneExpired();
+
+            // then
+            assertThat((Map<?, ?>) ReflectionTestUtils.getField(cache, "rulesByCode")).isEmpty();
+            assertThat((Map<?, ?>) ReflectionTestUtils.getField(cache, "codesById")).isEmpty();
+            assertThat((Map<?, ?>) ReflectionTestUtils.getField(cache, "usedQuantities")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("remainingQuantity")
+    class RemainingQuantity {
+
+        @Test
+        @DisplayName("should read used quantity once per refresh interval")
+        void remainingQuantity_shouldReuseCounter() {
+            // given
+            CouponRule rule = CouponRule.of(coupon);
+            given(couponRepository.findUsedQuantityById(COUPON_ID)).willReturn(Optional.of(40));
+
+            // when
+            couponRuleCache.remainingQuantity(rule);
+            int remaining = couponRuleCache.remainingQuantity(rule);
+
+            // then
+            assertThat(remaining).isEqualTo(60);
+            verify(couponRepository, times(1)).findUsedQuantityById(COUPON_ID);
+        }
+    }
+}
@@ -8,20 +8,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import platform.ecommerce.domain.coupon.Coupon;
 import platform.ecommerce.domain.coupon.CouponType;
 import platform.ecommerce.domain.coupon.MemberCoupon;
 import platform.ecommerce.dto.request.coupon.CouponCreateRequest;
 import platform.ecommerce.dto.response.coupon.CouponApplyResponse;
+import platform.ecommerce.dto.response.coupon.CouponRecommendationResponse;
 import platform.ecommerce.dto.response.coupon.CouponResponse;
 import platform.ecommerce.dto.response.coupon.MemberCouponResponse;
 import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.ErrorCode;
 import platform.ecommerce.exception.InvalidStateException;
 import platform.ecommerce.mapper.CouponMapper;
 import platform.ecommerce.repository.coupon.CouponRepository;
 import platform.ecommerce.repository.coupon.MemberCouponRepository;
+import platform.ecommerce.service.coupon.CouponRule;
+import platform.ecommerce.service.coupon.CouponRuleCache;
 import platform.ecommerce.service.coupon.CouponServiceImpl;
+import platform.ecommerce.service.coupon.CouponUsageService;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -48,6 +54,15 @@ class CouponServiceTest {
     @Mock
     private CouponMapper couponMapper;
 
+    @Mock
+    private CouponRuleCache couponRuleCache;
+
+    @Mock
+    private CouponUsageService couponUsageService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CouponServiceImpl couponService;
 
@@ -296,7 +311,8 @@ class CouponServiceTest {
         void calculateDiscountSuccessfully() {
             // given
             BigDecimal orderAmount = BigDecimal.valueOf(30000);
-            given(couponRepository.findByCode("SAVE10")).willReturn(Optional.of(testCoupon));
+            given(couponRuleCache.findByCode("SAVE10")).willReturn(Optional.of(CouponRule.of(testCoupon)));
+            given(couponRuleCache.remainingQuantity(any(CouponRule.class))).willReturn(100);
 
             // when
             CouponApplyResponse response = couponService.applyCoupon("SAVE10", orderAmount);
@@ -312,12 +328,26 @@ class CouponServiceTest {
         void throwOnInvalidCoupon() {
             // given - below minimum order
             BigDecimal orderAmount = BigDecimal.valueOf(5000);
-            given(couponRepository.findByCode("SAVE10")).willReturn(Optional.of(testCoupon));
+            given(couponRuleCache.findByCode("SAVE10")).willReturn(Optional.of(CouponRule.of(testCoupon)));
 
             // when & then
             assertThatThrownBy(() -> couponService.applyCoupon("SAVE10", orderAmount))
                     .isInstanceOf(InvalidStateException.class);
         }
+
+        @Test
+        @DisplayName("should reject coupon with no quantity left without loading the coupon")
+        void throwWhenQuantityExhausted() {
+            // given
+            given(couponRuleCache.findByCode("SAVE10")).willReturn(Optional.of(CouponRule.of(testCoupon)));
+            given(couponRuleCache.remainingQuantity(any(CouponRule.class))).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> couponService.applyCoupon("SAVE10", BigDecimal.valueOf(30000)))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.COUPON_NOT_APPLICABLE);
+            verifyNoInteractions(couponRepository);
+        }
     }
 
     @Nested
@@ -325,18 +355,14 @@ class CouponServiceTest {
     class UseCoupon {
 
         @Test
-        @DisplayName("should mark member coupon as used")
+        @DisplayName("should count usage through the atomic usage service")
         void useCouponSuccessfully() {
-            // given
-            given(memberCouponRepository.findByIdWithCoupon(MEMBER_COUPON_ID))
-                    .willReturn(Optional.of(testMemberCoupon));
-
             // when
             couponService.useCoupon(MEMBER_COUPON_ID, 1000L);
 
             // then
-            assertThat(testMemberCoupon.isUsed()).isTrue();
-            assertThat(testMemberCoupon.getOrderId()).isEqualTo(1000L);
+            verify(couponUsageService).use(MEMBER_COUPON_ID, 1000L);
+            verifyNoInteractions(memberCouponRepository);
         }
     }
 
@@ -345,20 +371,13 @@ class CouponServiceTest {
     class RestoreCoupon {
 
         @Test
-        @DisplayName("should restore used coupon")
+        @DisplayName("should restore usage through the atomic usage service")
         void restoreCouponSuccessfully() {
-            // given
-            testMemberCoupon.use(1000L);
-            assertThat(testMemberCoupon.isUsed()).isTrue();
-
-            given(memberCouponRepository.findByIdWithCoupon(MEMBER_COUPON_ID))
-                    .willReturn(Optional.of(testMemberCoupon));
-
             // when
             couponService.restoreCoupon(MEMBER_COUPON_ID);
 
             // then
-            assertThat(testMemberCoupon.isUsed()).isFalse();
+            verify(couponUsageService).restore(MEMBER_COUPON_ID);
         }
     }
 
@@ -370,7 +389,8 @@ class CouponServiceTest {
         @DisplayName("should return true for valid coupon")
         void returnTrueForValidCoupon() {
             // given
-            given(couponRepository.findByCode("SAVE10")).willReturn(Optional.of(testCoupon));
+            given(couponRuleCache.findByCode("SAVE10")).willReturn(Optional.of(CouponRule.of(testCoupon)));
+            given(couponRuleCache.remainingQuantity(any(CouponRule.class))).willReturn(100);
 
             // when
             boolean valid = couponService.validateCoupon("SAVE10", BigDecimal.valueOf(20000));
@@ -383,7 +403,7 @@ class CouponServiceTest {
         @DisplayName("should return false when below minimum order")
         void returnFalseWhenBelowMinimum() {
             // given
-            given(couponRepository.findByCode("SAVE10")).willReturn(Optional.of(testCoupon));
+            given(couponRuleCache.findByCode("SAVE10")).willReturn(Optional.of(CouponRule.of(testCoupon)));
 
             // when
             boolean valid = couponService.validateCoupon("SAVE10", BigDecimal.valueOf(5000));
@@ -396,7 +416,7 @@ class CouponServiceTest {
         @DisplayName("should return false when coupon not found")
         void returnFalseWhenNotFound() {
             // given
-            given(couponRepository.findByCode("INVALID")).willReturn(Optional.empty());
+            given(couponRuleCache.findByCode("INVALID")).willReturn(Optional.empty());
 
             // when
             boolean valid = couponService.validateCoupon("INVALID", BigDecimal.valueOf(20000));
@@ -405,4 +425,63 @@ class CouponServiceTest {
             assertThat(valid).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("recommendCoupons")
+    class RecommendCoupons {
+
+        @Test
+        @DisplayName("should rank applicable coupons by discount and keep earlier expiry on ties")
+        void recommend_shouldRankByDiscount() {
+            // given - SAVE10 gives 3000 on 30000
+            MemberCoupon flat2000 = memberCoupon(51L, 2L, "FLAT2000", 2000, 0);
+            MemberCoupon flat3000 = memberCoupon(52L, 3L, "FLAT3000", 3000, 0);
+            MemberCoupon flat5000 = memberCoupon(53L, 4L, "FLAT5000", 5000, 50000);
+            given(memberCouponRepository.findUsableByMemberId(MEMBER_ID))
+                    .willReturn(List.of(testMemberCoupon, flat2000, flat5000, flat3000));
+
+            // when
+            List<CouponRecommendationResponse> response =
+                    couponService.recommendCoupons(MEMBER_ID, BigDecimal.valueOf(30000), 3);
+
+            // then
+            assertThat(response).extracting(CouponRecommendationResponse::memberCouponId)
+                    .containsExactly(MEMBER_COUPON_ID, 52L, 51L);
+            assertThat(response.get(0).discountAmount()).isEqualByComparingTo("3000");
+            assertThat(response.get(0).finalAmount()).isEqualByComparingTo("27000");
+            assertThat(response.get(2).finalAmount()).isEqualByComparingTo("28000");
+        }
+
+        @Test
+        @DisplayName("should return empty list when no coupon applies")
+        void recommend_noneApplicable_shouldReturnEmpty() {
+            // given
+            given(memberCouponRepository.findUsableByMemberId(MEMBER_ID))
+                    .willReturn(List.of(testMemberCoupon));
+
+            // when
+            List<CouponRecommendationResponse> response =
+                    couponService.recommendCoupons(MEMBER_ID, BigDecimal.valueOf(5000), 3);
+
+            // then
+            assertThat(response).isEmpty();
+        }
+    }
+
+    private MemberCoupon memberCoupon(Long id, Long couponId, String code, long discount, long minimumOrder) {
+        Coupon coupon = Coupon.builder()
+                .code(code)
+                .name(code)
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(discount))
+                .minimumOrder(BigDecimal.valueOf(minimumOrder))
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(30))
+                .totalQuantity(100)
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", couponId);
+        MemberCoupon memberCoupon = MemberCoupon.builder().memberId(MEMBER_ID).coupon(coupon).build();
+        ReflectionTestUtils.setField(memberCoupon, "id", id);
+        return memberCoupon;
+    }
 }
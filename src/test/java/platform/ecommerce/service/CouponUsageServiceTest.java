@@ -0,0 +1,331 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+import platform.ecommerce.domain.coupon.CouponUsageStripe;
+import platform.ecommerce.domain.coupon.MemberCoupon;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.repository.coupon.CouponRepository;
+import platform.ecommerce.repository.coupon.CouponUsageStripeRepository;
+import platform.ecommerce.repository.coupon.MemberCouponRepository;
+import platform.ecommerce.service.coupon.CouponUsageServiceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for CouponUsageService.
+ */
+@ExtendWith(MockitoExtension.class)
+class CouponUsageServiceTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private MemberCouponRepository memberCouponRepository;
+
+    @Mock
+    private CouponUsageStripeRepository couponUsageStripeRepository;
+
+    @Spy
+    private AppProperties appProperties = new AppProperties();
+
+    @InjectMocks
+    private CouponUsageServiceImpl couponUsageService;
+
+    private static final Long COUPON_ID = 1L;
+    private static final Long MEMBER_COUPON_ID = 10L;
+    private static final Long ORDER_ID = 100L;
+
+    private Coupon coupon;
+    private MemberCoupon memberCoupon;
+
+    @BeforeEach
+    void setUp() {
+        coupon = Coupon.builder()
+                .code("HOT")
+                .name("Hot Deal")
+                .type(CouponType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(5000))
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(1))
+                .totalQuantity(10)
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", COUPON_ID);
+        memberCoupon = MemberCoupon.builder().memberId(1L).coupon(coupon).build();
+        ReflectionTestUtils.setField(memberCoupon, "id", MEMBER_COUPON_ID);
+    }
+
+    @Nested
+    @DisplayName("use")
+    class Use {
+
+        @Test
+        @DisplayName("should mark the member coupon and count usage on the coupon row")
+        void use_shouldUpdateConditionally() {
+            // given
+            givenMemberCoupon();
+            given(memberCouponRepository.markUsed(eq(MEMBER_COUPON_ID), eq(ORDER_ID), any())).willReturn(1);
+            given(couponRepository.incrementUsedQuantity(COUPON_ID)).willReturn(1);
+
+            // when
+            couponUsageService.use(MEMBER_COUPON_ID, ORDER_ID);
+
+            // then
+            verifyNoInteractions(couponUsageStripeRepository);
+        }
+
+        @Test
+        @DisplayName("should reject a member coupon another order marked used first")
+        void use_lostRace_shouldThrow() {
+            // given
+            givenMemberCoupon();
+            given(memberCouponRepository.markUsed(eq(MEMBER_COUPON_ID), eq(ORDER_ID), any())).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> couponUsageService.use(MEMBER_COUPON_ID, ORDER_ID))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.COUPON_ALREADY_USED);
+            verify(couponRepository, never()).incrementUsedQuantity(any());
+        }
+
+        @Test
+        @DisplayName("should reject usage once the coupon quantity is exhausted")
+        void use_exhausted_shouldThrow() {
+            // given
+            givenMemberCoupon();
+            given(memberCouponRepository.markUsed(eq(MEMBER_COUPON_ID), eq(ORDER_ID), any())).willReturn(1);
+            given(couponRepository.incrementUsedQuantity(COUPON_ID)).willReturn(0);
+            given(couponRepository.findUsageStripesById(COUPON_ID)).willReturn(Optional.of(0));
+
+            // when & then
+            assertThatThrownBy(() -> couponUsageService.use(MEMBER_COUPON_ID, ORDER_ID))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.COUPON_LIMIT_EXCEEDED);
+        }
+
+        @Test
+        @DisplayName("should fall through to stripes when the coupon was striped after loading")
+        void use_striped_shouldProbeStripesUntilOneHasAllowance() {
+            // given
+            givenMemberCoupon();
+            given(memberCouponRepository.markUsed(eq(MEMBER_COUPON_ID), eq(ORDER_ID), any())).willReturn(1);
+            given(couponRepository.incrementUsedQuantity(COUPON_ID)).willReturn(0);
+            given(couponRepository.findUsageStripesById(COUPON_ID)).willReturn(Optional.of(4));
+            given(couponUsageStripeRepository.incrementUsed(eq(COUPON_ID), anyInt())).willReturn(0, 0, 1);
+
+            // when
+            couponUsageService.use(MEMBER_COUPON_ID, ORDER_ID);
+
+            // then
+            verify(couponUsageStripeRepository, times(3)).incrementUsed(eq(COUPON_ID), anyInt());
+        }
+
+        @Test
+        @DisplayName("should reject usage when every stripe is exhausted")
+        void use_allStripesExhausted_shouldThrow() {
+            // given
+            givenMemberCoupon();
+            given(memberCouponRepository.markUsed(eq(MEMBER_COUPON_ID), eq(ORDER_ID), any())).willReturn(1);
+            given(couponRepository.incrementUsedQuantity(COUPON_ID)).willReturn(0);
+            given(couponRepository.findUsageStripesById(COUPON_ID)).willReturn(Optional.of(4));
+            given(couponUsageStripeRepository.incrementUsed(eq(COUPON_ID), anyInt())).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> couponUsageService.use(MEMBER_COUPON_ID, ORDER_ID))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.COUPON_LIMIT_EXCEEDED);
+            verify(couponUsageStripeRepository, times(4)).incrementUsed(eq(COUPON_ID), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("restore")
+    class Restore {
+
+        @Test
+        @DisplayName("should give back usage only when the member coupon was used")
+        void restore_notUsed_shouldNotTouchCounters() {
+            // given
+            givenMemberCoupon();
+            given(memberCouponRepository.markUnused(MEMBER_COUPON_ID)).willReturn(0);
+
+            // when
+            couponUsageService.restore(MEMBER_COUPON_ID);
+
+            // then
+            verify(couponRepository, never()).decrementUsedQuantity(any());
+            verifyNoInteractions(couponUsageStripeRepository);
+        }
+
+        @Test
+        @DisplayName("should give back usage on the coupon row")
+        void restore_shouldDecrementCoupon() {
+            // given
+            givenMemberCoupon();
+            given(memberCouponRepository.markUnused(MEMBER_COUPON_ID)).willReturn(1);
+            given(couponRepository.decrementUsedQuantity(COUPON_ID)).willReturn(1);
+
+            // when
+            couponUsageService.restore(MEMBER_COUPON_ID);
+
+            // then
+            verifyNoInteractions(couponUsageStripeRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("restoreForOrders")
+    class RestoreForOrders {
+
+        @Test
+        @DisplayName("should give back the member coupons used by the orders")
+        void restoreForOrders_shouldRestoreUsedCoupons() {
+            // given
+            given(memberCouponRepository.findUsedByOrderIdIn(List.of(ORDER_ID))).willReturn(List.of(memberCoupon));
+            given(memberCouponRepository.markUnused(MEMBER_COUPON_ID)).willReturn(1);
+            given(couponRepository.decrementUsedQuantity(COUPON_ID)).willReturn(1);
+
+            // when
+            int restored = couponUsageService.restoreForOrders(List.of(ORDER_ID));
+
+            // then
+            assertThat(restored).isEqualTo(1);
+            verify(couponRepository).decrementUsedQuantity(COUPON_ID);
+        }
+
+        @Test
+        @DisplayName("should not give back usage for a coupon restored concurrently")
+        void restoreForOrders_alreadyRestored_shouldNotTouchCounters() {
+            // given
+            given(memberCouponRepository.findUsedByOrderIdIn(List.of(ORDER_ID))).willReturn(List.of(memberCoupon));
+            given(memberCouponRepository.markUnused(MEMBER_COUPON_ID)).willReturn(0);
+
+            // when
+            int restored = couponUsageService.restoreForOrders(List.of(ORDER_ID));
+
+            // then
+            assertThat(restored).isZero();
+            verify(couponRepository, never()).decrementUsedQuantity(any());
+        }
+
+        @Test
+        @DisplayName("should not query when there are no orders")
+        void restoreForOrders_noOrders_shouldReturnZero() {
+            // when
+            int restored = couponUsageService.restoreForOrders(List.of());
+
+            // then
+            assertThat(restored).isZero();
+            verifyNoInteractions(memberCouponRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("enableStripedUsage")
+    class EnableStripedUsage {
+
+        @Test
+        @DisplayName("should split the remaining quantity over the stripes")
+        void enable_shouldSplitRemaining() {
+            // given
+            appProperties.getCoupon().setUsageStripes(4);
+            coupon.use();
+            given(couponRepository.findByIdForUpdate(COUPON_ID)).willReturn(Optional.of(coupon));
+
+            // when
+            couponUsageService.enableStripedUsage(COUPON_ID);
+
+            // then - 9 remaining over 4 stripes
+            ArgumentCaptor<List<CouponUsageStripe>> stripes = ArgumentCaptor.captor();
+            verify(couponUsageStripeRepository).saveAll(stripes.capture());
+            assertThat(stripes.getValue()).extracting(CouponUsageStripe::getStripe, CouponUsageStripe::getAllowance)
+                    .containsExactly(tuple(0, 3), tuple(1, 2), tuple(2, 2), tuple(3, 2));
+            assertThat(coupon.isStripedUsage()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should reject a coupon that is already striped")
+        void enable_alreadyStriped_shouldThrow() {
+            // given
+            coupon.enableStripedUsage(2);
+            given(couponRepository.findByIdForUpdate(COUPON_ID)).willReturn(Optional.of(coupon));
+
+            // when & then
+            assertThatThrownBy(() -> couponUsageService.enableStripedUsage(COUPON_ID))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.CONFLICT);
+            verifyNoInteractions(couponUsageStripeRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("flushUsage")
+    class FlushUsage {
+
+        @Test
+        @DisplayName("should add usage since the last flush to the coupon in one update")
+        void flush_shouldAddUnflushedUsage() {
+            // given
+            CouponUsageStripe first = stripe(0, 5, 3);
+            CouponUsageStripe second = stripe(1, 5, 0);
+            given(couponUsageStripeRepository.findByCouponIdForUpdate(COUPON_ID)).willReturn(List.of(first, second));
+
+            // when
+            int flushed = couponUsageService.flushUsage(COUPON_ID);
+
+            // then
+            assertThat(flushed).isEqualTo(4);
+            assertThat(first.getUnflushed()).isZero();
+            assertThat(second.getUnflushed()).isZero();
+            verify(couponRepository).addUsedQuantity(COUPON_ID, 4);
+        }
+
+        @Test
+        @DisplayName("should skip the coupon update when nothing changed")
+        void flush_noChange_shouldNotUpdateCoupon() {
+            // given
+            given(couponUsageStripeRepository.findByCouponIdForUpdate(COUPON_ID)).willReturn(List.of(stripe(0, 5, 5)));
+
+            // when
+            int flushed = couponUsageService.flushUsage(COUPON_ID);
+
+            // then
+            assertThat(flushed).isZero();
+            verify(couponRepository, never()).addUsedQuantity(any(), anyInt());
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private void givenMemberCoupon() {
+        given(memberCouponRepository.findByIdWithCoupon(MEMBER_COUPON_ID)).willReturn(Optional.of(memberCoupon));
+    }
+
+    private CouponUsageStripe stripe(int index, int used, int flushed) {
+        CouponUsageStripe stripe = CouponUsageStripe.builder().couponId(COUPON_ID).stripe(index).allowance(10).build();
+        ReflectionTestUtils.setField(stripe, "used", used);
+        ReflectionTestUtils.setField(stripe, "flushed", flushed);
+        return stripe;
+    }
+}
@@ -0,0 +1,91 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import platform.ecommerce.repository.order.OrderRepository;
+import platform.ecommerce.service.order.OrderArchiveServiceImpl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for OrderArchiveService (Domain Layer).
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderArchiveServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderArchiveServiceImpl orderArchiveService;
+
+    @Nested
+    @DisplayName("createMonthlyPartitions")
+    class CreateMonthlyPartitions {
+
+        @Test
+        @DisplayName("should start partitions at the first day of the month")
+        void createMonthlyPartitions_shouldAlignToMonth() {
+            // given
+            given(orderRepository.createMonthlyPartitions(LocalDate.of(2026, 3, 1), 4)).willReturn(2);
+
+            // when
+            int created = orderArchiveService.createMonthlyPartitions(LocalDate.of(2026, 3, 17), 4);
+
+            // then
+            assertThat(created).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("archiveCompletedOrders")
+    class ArchiveCompletedOrders {
+
+        private final LocalDateTime before = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        @Test
+        @DisplayName("should move items and orders of the batch to cold storage")
+        void archiveCompletedOrders_shouldMoveBatch() {
+            // given
+            List<Long> ids = List.of(1L, 2L, 3L);
+            given(orderRepository.findArchivableOrderIds(before, 500)).willReturn(ids);
+            given(orderRepository.moveOrdersToColdStorage(ids)).willReturn(3);
+
+            // when
+            int archived = orderArchiveService.archiveCompletedOrders(before, 500);
+
+            // then
+            assertThat(archived).isEqualTo(3);
+            InOrder inOrder = inOrder(orderRepository);
+            inOrder.verify(orderRepository).moveOrderItemsToColdStorage(ids);
+            inOrder.verify(orderRepository).moveOrdersToColdStorage(ids);
+        }
+
+        @Test
+        @DisplayName("should do nothing when no order is archivable")
+        void archiveCompletedOrders_noCandidates_shouldSkipUpdates() {
+            // given
+            given(orderRepository.findArchivableOrderIds(before, 500)).willReturn(List.of());
+
+            // when
+            int archived = orderArchiveService.archiveCompletedOrders(before, 500);
+
+            // then
+            assertThat(archived).isZero();
+            verify(orderRepository, never()).moveOrdersToColdStorage(anyList());
+            verify(orderRepository, never()).moveOrderItemsToColdStorage(anyList());
+        }
+    }
+}
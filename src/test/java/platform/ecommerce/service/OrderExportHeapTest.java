@@ -0,0 +1,95 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import platform.ecommerce.dto.request.order.OrderExportFormat;
+import platform.ecommerce.service.order.OrderExportService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Heap test for order exports against PostgreSQL.
+ * Runs in the heapTest task with a fixed heap that one million materialized rows would not fit in,
+ * so it only passes while rows are streamed from the repository cursor to the output.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "app.payment-recovery.enabled=false"
+})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("heap")
+@DisplayName("Order Export Heap Tests")
+class OrderExportHeapTest {
+
+    private static final int ORDER_COUNT = 1_000_000;
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should stream one million orders from the database with gzip under a fixed heap")
+    void exportOrders_millionRows_shouldKeepHeapFlat() throws IOException {
+        // given - one order per second from FROM
+        jdbcTemplate.update("""
+                INSERT INTO orders (order_number, member_id, status, payment_method, shipping_fee, discount_amount,
+                                    total_amount, recipient_name, recipient_phone, zip_code, address,
+                                    created_at, updated_at, paid_at)
+                SELECT 'ORD-' || lpad(g::text, 10, '0'), g % 1000 + 1, 'PAID', 'CREDIT_CARD', 3000, 0,
+                       53000, 'John Doe', '010-1234-5678', '12345', 'Seoul',
+                       ts, ts, ts
+                FROM generate_series(1, ?) AS g,
+                     LATERAL (SELECT CAST(? AS TIMESTAMP) + g * INTERVAL '1 second' AS ts) AS t
+                """, ORDER_COUNT, FROM);
+        CountingOutputStream sink = new CountingOutputStream();
+
+        // when
+        long count;
+        try (GZIPOutputStream gzip = new GZIPOutputStream(sink, 64 * 1024)) {
+            count = orderExportService.exportOrders(FROM, FROM.plusYears(1), null, OrderExportFormat.CSV, gzip);
+        }
+
+        // then
+        assertThat(count).isEqualTo(ORDER_COUNT);
+        assertThat(sink.bytes).isPositive();
+    }
+
+    // ========== Helper Methods ==========
+
+    private static class CountingOutputStream extends OutputStream {
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
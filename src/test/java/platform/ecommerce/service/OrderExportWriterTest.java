@@ -0,0 +1,118 @@
+package platform.ecommerce.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import platform.ecommerce.domain.order.OrderStatus;
+import platform.ecommerce.domain.order.PaymentMethod;
+import platform.ecommerce.dto.request.order.OrderExportFormat;
+import platform.ecommerce.dto.response.order.OrderExportRow;
+import platform.ecommerce.service.order.OrderExportWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for OrderExportWriter.
+ */
+class OrderExportWriterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 15, 10, 30);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final OrderExportWriter writer = new OrderExportWriter(objectMapper);
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("should write header and one line per order")
+        void write_csv_shouldWriteHeaderAndRows() throws IOException {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long count = writer.write(Stream.of(row(1L), row(2L)), OrderExportFormat.CSV, out);
+
+            // then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(count).isEqualTo(2);
+            assertThat(lines).hasSize(3);
+            assertThat(lines[0]).startsWith("id,order_number,member_id,status");
+            assertThat(lines[1]).isEqualTo(
+                    "1,ORD-00000001,7,PAID,CREDIT_CARD,3000,0,53000,2026-01-15T10:30,2026-01-15T10:30,,,");
+        }
+
+        @Test
+        @DisplayName("should quote fields containing separators")
+        void write_csv_shouldEscapeSpecialCharacters() throws IOException {
+            // given
+            OrderExportRow row = new OrderExportRow(1L, "ORD-\"A\",B", 7L, OrderStatus.PAID, null,
+                    null, null, null, CREATED_AT, null, null, null, null);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            writer.write(Stream.of(row), OrderExportFormat.CSV, out);
+
+            // then
+            assertThat(out.toString(StandardCharsets.UTF_8)).contains("1,\"ORD-\"\"A\"\",B\",7,PAID,");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("should write one JSON object per line")
+        void write_ndjson_shouldWriteOneObjectPerLine() throws IOException {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long count = writer.write(Stream.of(row(1L), row(2L)), OrderExportFormat.NDJSON, out);
+
+            // then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(count).isEqualTo(2);
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[1]).get("orderNumber").asText()).isEqualTo("ORD-00000002");
+            assertThat(objectMapper.readTree(lines[1]).get("createdAt").asText()).isEqualTo("2026-01-15T10:30:00");
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private OrderExportRow row(long id) {
+        return new OrderExportRow(
+                id,
+                String.format("ORD-%08d", id),
+                7L,
+                OrderStatus.PAID,
+                PaymentMethod.CREDIT_CARD,
+                BigDecimal.valueOf(3000),
+                BigDecimal.ZERO,
+                BigDecimal.valueOf(53000),
+                CREATED_AT,
+                CREATED_AT,
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import platform.ecommerce.domain.product.ProductStatus;
+import platform.ecommerce.dto.request.order.OrderItemRequest;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.InvalidStateException;
+import platform.ecommerce.service.order.OrderLineResolver;
+import platform.ecommerce.service.order.ResolvedOrderLine;
+import platform.ecommerce.service.product.OptionPriceView;
+import platform.ecommerce.service.product.ProductService;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for OrderLineResolver.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderLineResolverTest {
+
+    @Mock
+    private ProductService productService;
+
+    @InjectMocks
+    private OrderLineResolver orderLineResolver;
+
+    @Nested
+    @DisplayName("resolve")
+    class Resolve {
+
+        @Test
+        @DisplayName("should take names and prices from the catalog with one lookup for all lines")
+        void resolve_shouldUseCatalogValues() {
+            // given
+            given(productService.getOptionPrices(List.of(10L, 20L))).willReturn(List.of(
+                    view(1L, 10L, "Shirt", "M", 20000, 1000, ProductStatus.ACTIVE),
+                    view(2L, 20L, "Mug", "White", 8000, 0, ProductStatus.ACTIVE)));
+
+            // when
+            List<ResolvedOrderLine> lines = orderLineResolver.resolve(List.of(
+                    item(1L, 10L, "old name", 21000, 2),
+                    item(2L, 20L, "Mug", 8000, 1),
+                    item(1L, 10L, "Shirt", 21000, 1)));
+
+            // then
+            assertThat(lines).extracting(ResolvedOrderLine::productName, ResolvedOrderLine::optionName, ResolvedOrderLine::quantity)
+                    .containsExactly(tuple("Shirt", "M", 2), tuple("Mug", "White", 1), tuple("Shirt", "M", 1));
+            assertThat(lines.get(0).unitPrice()).isEqualByComparingTo("21000");
+            verify(productService).getOptionPrices(anyList());
+        }
+
+        @Test
+        @DisplayName("should reject a line whose price changed since the client saw it")
+        void resolve_priceChanged_shouldThrow() {
+            // given
+            given(productService.getOptionPrices(List.of(10L))).willReturn(List.of(
+                    view(1L, 10L, "Shirt", "M", 22000, 1000, ProductStatus.ACTIVE)));
+
+            // when & then
+            assertThatThrownBy(() -> orderLineResolver.resolve(List.of(item(1L, 10L, "Shirt", 21000, 1))))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.ORDER_PRICE_CHANGED);
+        }
+
+        @Test
+        @DisplayName("should reject a product that is no longer on sale")
+        void resolve_notPurchasable_shouldThrow() {
+            // given
+            given(productService.getOptionPrices(List.of(10L))).willReturn(List.of(
+                    view(1L, 10L, "Shirt", "M", 20000, 1000, ProductStatus.SOLD_OUT)));
+
+            // when & then
+            assertThatThrownBy(() -> orderLineResolver.resolve(List.of(item(1L, 10L, "Shirt", 21000, 1))))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.PRODUCT_NOT_AVAILABLE);
+        }
+
+        @Test
+        @DisplayName("should reject an option that is missing or belongs to another product")
+        void resolve_unknownOption_shouldThrow() {
+            // given
+            given(productService.getOptionPrices(List.of(10L))).willReturn(List.of(
+                    view(1L, 10L, "Shirt", "M", 20000, 1000, ProductStatus.ACTIVE)));
+
+            // when & then
+            assertThatThrownBy(() -> orderLineResolver.resolve(List.of(item(2L, 10L, "Shirt", 21000, 1))))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.PRODUCT_OPTION_NOT_FOUND);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private OrderItemRequest item(Long productId, Long optionId, String name, long unitPrice, int quantity) {
+        return OrderItemRequest.builder()
+                .productId(productId)
+                .productOptionId(optionId)
+                .productName(name)
+                .unitPrice(BigDecimal.valueOf(unitPrice))
+                .quantity(quantity)
+                .build();
+    }
+
+    private OptionPriceView view(Long productId, Long optionId, String name, String optionValue,
+                                 long basePrice, long additionalPrice, ProductStatus status) {
+        return new OptionPriceView(productId, optionId, name, optionValue,
+                BigDecimal.valueOf(basePrice), BigDecimal.valueOf(additionalPrice), status);
+    }
+}
@@ -9,6 +9,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -17,13 +18,22 @@ import org.springframework.test.util.ReflectionTestUtils;
 import platform.ecommerce.domain.order.*;
 import platform.ecommerce.dto.request.order.*;
 import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.ErrorCode;
 import platform.ecommerce.exception.InvalidStateException;
 import platform.ecommerce.repository.order.OrderRepository;
+import platform.ecommerce.service.coupon.CouponService;
+import platform.ecommerce.service.order.BulkTransitionResult;
+import platform.ecommerce.service.order.OrderLineResolver;
 import platform.ecommerce.service.order.OrderServiceImpl;
+import platform.ecommerce.service.order.ResolvedOrderLine;
 import platform.ecommerce.service.product.ProductService;
+import platform.ecommerce.service.product.StockAdjustment;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -43,6 +53,12 @@ class OrderServiceTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private OrderLineResolver orderLineResolver;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -102,6 +118,7 @@ class OrderServiceTest {
         @DisplayName("should create order with items and decrease stock")
         void createOrderSuccessfully() {
             // given
+            givenResolvedLines();
             given(orderRepository.save(any(Order.class))).willAnswer(invocation -> {
                 Order order = invocation.getArgument(0);
                 ReflectionTestUtils.setField(order, "id", ORDER_ID);
@@ -119,8 +136,8 @@ class OrderServiceTest {
             assertThat(order.getItems()).hasSize(1);
             assertThat(order.getItems().get(0).getProductName()).isEqualTo("Test Product");
 
-            // verify stock was decreased
-            verify(productService).decreaseStock(1L, 10L, 2);
+            // verify stock was decreased in one bulk call
+            verify(productService).decreaseStocks(List.of(new StockAdjustment(1L, 10L, 2)));
             verify(orderRepository).save(any(Order.class));
         }
 
@@ -128,6 +145,7 @@ class OrderServiceTest {
         @DisplayName("should calculate totals correctly")
         void createOrderWithCorrectTotals() {
             // given
+            givenResolvedLines();
             given(orderRepository.save(any(Order.class))).willAnswer(invocation -> {
                 Order order = invocation.getArgument(0);
                 ReflectionTestUtils.setField(order, "id", ORDER_ID);
@@ -145,6 +163,36 @@ class OrderServiceTest {
             // total = 58000 + 3000 - 0 = 61000
             assertThat(order.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(61000));
         }
+
+        @Test
+        @DisplayName("should store catalog name and price instead of client values")
+        void createOrder_shouldUseResolvedLines() {
+            // given
+            given(orderLineResolver.resolve(createRequest.items())).willReturn(List.of(
+                    new ResolvedOrderLine(1L, 10L, "Catalog Name", "M", BigDecimal.valueOf(29000), 2)));
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            Order order = orderService.createOrder(MEMBER_ID, createRequest);
+
+            // then
+            assertThat(order.getItems().get(0).getProductName()).isEqualTo("Catalog Name");
+            assertThat(order.getItems().get(0).getOptionName()).isEqualTo("M");
+        }
+
+        @Test
+        @DisplayName("should not touch stock when a line is rejected")
+        void createOrder_staleLine_shouldNotDecreaseStock() {
+            // given
+            given(orderLineResolver.resolve(createRequest.items()))
+                    .willThrow(new InvalidStateException(ErrorCode.ORDER_PRICE_CHANGED));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrder(MEMBER_ID, createRequest))
+                    .isInstanceOf(InvalidStateException.class);
+            verify(productService, never()).decreaseStocks(anyList());
+            verify(orderRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -367,7 +415,7 @@ class OrderServiceTest {
         void cancelOrderSuccessfully() {
             // given
             testOrder.addItem(1L, 10L, "Test Product", "Size M", BigDecimal.valueOf(29000), 2);
-            given(orderRepository.findByIdWithItems(ORDER_ID)).willReturn(Optional.of(testOrder));
+            givenLockedOrder();
 
             // when
             Order order = orderService.cancelOrder(ORDER_ID, MEMBER_ID, "Customer request");
@@ -380,6 +428,20 @@ class OrderServiceTest {
             verify(productService).increaseStock(1L, 10L, 2);
         }
 
+        @Test
+        @DisplayName("should restore the coupon used by the order")
+        void cancelOrder_shouldRestoreCoupon() {
+            // given
+            testOrder.addItem(1L, 10L, "Test Product", "Size M", BigDecimal.valueOf(29000), 2);
+            givenLockedOrder();
+
+            // when
+            orderService.cancelOrder(ORDER_ID, MEMBER_ID, "Customer request");
+
+            // then
+            verify(couponService).restoreCouponsForOrders(List.of(ORDER_ID));
+        }
+
         @Test
         @DisplayName("should throw exception when order cannot be cancelled")
         void cancelOrderNotAllowed() {
@@ -388,11 +450,12 @@ class OrderServiceTest {
             testOrder.startPreparing();
             testOrder.ship("TRACK-123");
             testOrder.deliver();
-            given(orderRepository.findByIdWithItems(ORDER_ID)).willReturn(Optional.of(testOrder));
+            givenLockedOrder();
 
             // when & then
             assertThatThrownBy(() -> orderService.cancelOrder(ORDER_ID, MEMBER_ID, "Too late"))
                     .isInstanceOf(InvalidStateException.class);
+            verify(couponService, never()).restoreCouponsForOrders(anyCollection());
         }
 
         @Test
@@ -400,12 +463,34 @@ class OrderServiceTest {
         void cancelOrderNotOwner() {
             // given
             testOrder.addItem(1L, 10L, "Test Product", "Size M", BigDecimal.valueOf(29000), 2);
-            given(orderRepository.findByIdWithItems(ORDER_ID)).willReturn(Optional.of(testOrder));
+            givenLockedOrder();
 
             // when & then
             assertThatThrownBy(() -> orderService.cancelOrder(ORDER_ID, 999L, "Unauthorized attempt"))
                     .isInstanceOf(InvalidStateException.class);
         }
+
+        @Test
+        @DisplayName("should reject cancel while a payment confirmation is in flight")
+        void cancelOrder_paymentProcessing_shouldThrow() {
+            // given
+            testOrder.addItem(1L, 10L, "Test Product", "Size M", BigDecimal.valueOf(29000), 2);
+            givenLockedOrder();
+            given(orderRepository.hasPaymentInProgress(ORDER_ID)).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> orderService.cancelOrder(ORDER_ID, MEMBER_ID, "Customer request"))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.ORDER_CANNOT_CANCEL);
+            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT);
+            verify(productService, never()).increaseStock(any(), any(), anyInt());
+            verify(couponService, never()).restoreCouponsForOrders(anyCollection());
+        }
+
+        private void givenLockedOrder() {
+            given(orderRepository.findByIdForUpdate(ORDER_ID)).willReturn(Optional.of(testOrder));
+            given(orderRepository.findByIdWithItems(ORDER_ID)).willReturn(Optional.of(testOrder));
+        }
     }
 
     @Nested
@@ -441,6 +526,134 @@ class OrderServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("bulk transitions")
+    class BulkTransitions {
+
+        @Test
+        @DisplayName("should prepare loaded orders and report missing ones")
+        void startPreparingAll_shouldReportMissingOrders() {
+            // given
+            testOrder.markAsPaid(PaymentMethod.CREDIT_CARD, "TXN-123");
+            given(orderRepository.findAllById(List.of(ORDER_ID, 999L))).willReturn(List.of(testOrder));
+
+            // when
+            BulkTransitionResult result = orderService.startPreparingAll(List.of(ORDER_ID, 999L));
+
+            // then
+            assertThat(result.transitioned()).containsExactly(testOrder);
+            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.PREPARING);
+            assertThat(result.failures()).singleElement()
+                    .satisfies(failure -> {
+                        assertThat(failure.orderId()).isEqualTo(999L);
+                        assertThat(failure.errorCode()).isEqualTo(ErrorCode.ORDER_NOT_FOUND);
+                    });
+        }
+
+        @Test
+        @DisplayName("should leave orders that cannot ship unchanged and continue")
+        void shipAll_invalidTransition_shouldReportFailure() {
+            // given
+            Order preparingOrder = Order.builder()
+                    .memberId(MEMBER_ID)
+                    .shippingAddress(testOrder.getShippingAddress())
+                    .build();
+            ReflectionTestUtils.setField(preparingOrder, "id", 200L);
+            preparingOrder.markAsPaid(PaymentMethod.CREDIT_CARD, "TXN-456");
+            preparingOrder.startPreparing();
+
+            Map<Long, String> trackingNumbers = new LinkedHashMap<>();
+            trackingNumbers.put(ORDER_ID, "TRACK-1");
+            trackingNumbers.put(200L, "TRACK-2");
+            given(orderRepository.findAllWithItemsByIdIn(trackingNumbers.keySet()))
+                    .willReturn(List.of(testOrder, preparingOrder));
+
+            // when
+            BulkTransitionResult result = orderService.shipAll(trackingNumbers);
+
+            // then
+            assertThat(result.transitioned()).containsExactly(preparingOrder);
+            assertThat(preparingOrder.getTrackingNumber()).isEqualTo("TRACK-2");
+            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT);
+            assertThat(testOrder.getTrackingNumber()).isNull();
+            assertThat(result.failures()).extracting(BulkTransitionResult.Failure::errorCode)
+                    .containsExactly(ErrorCode.ORDER_STATUS_INVALID);
+        }
+    }
+
+    @Nested
+    @DisplayName("expireUnpaidOrders")
+    class ExpireUnpaidOrders {
+
+        @Test
+        @DisplayName("should cancel expired orders and release stock in one aggregated call")
+        void expireUnpaidOrders_shouldCancelAndReleaseStock() {
+            // given
+            LocalDateTime before = LocalDateTime.now().minusMinutes(30);
+            testOrder.addItem(1L, 10L, "Test Product", "Size M", BigDecimal.valueOf(29000), 2);
+            testOrder.addItem(2L, 20L, "Other Product", "Size L", BigDecimal.valueOf(15000), 1);
+            given(orderRepository.findByStatusCreatedBeforeForUpdate(
+                    eq(OrderStatus.PENDING_PAYMENT), eq(before), any(Limit.class)))
+                    .willReturn(List.of(testOrder));
+
+            // when
+            int expired = orderService.expireUnpaidOrders(before, 100);
+
+            // then
+            assertThat(expired).isEqualTo(1);
+            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+
+            ArgumentCaptor<List<StockAdjustment>> captor = ArgumentCaptor.forClass(List.class);
+            verify(productService).increaseStocks(captor.capture());
+            assertThat(captor.getValue()).containsExactly(
+                    new StockAdjustment(1L, 10L, 2),
+                    new StockAdjustment(2L, 20L, 1)
+            );
+            verify(productService, never()).increaseStock(anyLong(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("should restore the coupons of all expired orders in one call")
+        void expireUnpaidOrders_shouldRestoreCoupons() {
+            // given
+            LocalDateTime before = LocalDateTime.now().minusMinutes(30);
+            Order otherOrder = Order.builder()
+                    .memberId(2L)
+                    .shippingAddress(testOrder.getShippingAddress())
+                    .shippingFee(BigDecimal.ZERO)
+                    .discountAmount(BigDecimal.ZERO)
+                    .build();
+            ReflectionTestUtils.setField(otherOrder, "id", 101L);
+            testOrder.addItem(1L, 10L, "Test Product", "Size M", BigDecimal.valueOf(29000), 2);
+            otherOrder.addItem(2L, 20L, "Other Product", "Size L", BigDecimal.valueOf(15000), 1);
+            given(orderRepository.findByStatusCreatedBeforeForUpdate(
+                    eq(OrderStatus.PENDING_PAYMENT), eq(before), any(Limit.class)))
+                    .willReturn(List.of(testOrder, otherOrder));
+
+            // when
+            orderService.expireUnpaidOrders(before, 100);
+
+            // then
+            verify(couponService).restoreCouponsForOrders(List.of(ORDER_ID, 101L));
+        }
+
+        @Test
+        @DisplayName("should do nothing when no order has expired")
+        void expireUnpaidOrders_noExpiredOrders_shouldReturnZero() {
+            // given
+            given(orderRepository.findByStatusCreatedBeforeForUpdate(any(), any(), any(Limit.class)))
+                    .willReturn(List.of());
+
+            // when
+            int expired = orderService.expireUnpaidOrders(LocalDateTime.now(), 100);
+
+            // then
+            assertThat(expired).isZero();
+            verify(productService, never()).increaseStocks(anyList());
+            verify(couponService, never()).restoreCouponsForOrders(anyCollection());
+        }
+    }
+
     @Nested
     @DisplayName("searchOrders")
     class SearchOrders {
@@ -464,4 +677,11 @@ class OrderServiceTest {
             verify(orderRepository).search(condition, pageable);
         }
     }
+
+    // ========== Helper Methods ==========
+
+    private void givenResolvedLines() {
+        given(orderLineResolver.resolve(createRequest.items())).willReturn(List.of(
+                new ResolvedOrderLine(1L, 10L, "Test Product", "Size M", BigDecimal.valueOf(29000), 2)));
+    }
 }
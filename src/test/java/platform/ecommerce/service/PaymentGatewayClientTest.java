@@ -0,0 +1,165 @@
+package platform.ecommerce.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.exception.ErrorCode;
+import platform.ecommerce.exception.ExternalApiException;
+import platform.ecommerce.service.payment.PaymentGateway;
+import platform.ecommerce.service.payment.PaymentGatewayClient;
+import platform.ecommerce.service.payment.PaymentResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for PaymentGatewayClient.
+ * Uses real Resilience4j and Micrometer registries with a short timeout.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentGatewayClientTest {
+
+    private static final String TX_ID = "PAY-1";
+    private static final BigDecimal AMOUNT = BigDecimal.valueOf(10000);
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private PaymentGatewayClient client;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(2)
+                .waitDuration(Duration.ofMillis(10))
+                .build());
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.getPayment().setGatewayTimeoutMillis(100);
+
+        client = new PaymentGatewayClient(paymentGateway, executor, circuitBreakerRegistry,
+                retryRegistry, meterRegistry, appProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Nested
+    @DisplayName("confirmPayment")
+    class ConfirmPayment {
+
+        @Test
+        @DisplayName("should return gateway result and record latency by method and outcome")
+        void confirmPayment_success() {
+            // given
+            given(paymentGateway.confirmPayment(TX_ID, AMOUNT)).willReturn(PaymentResult.success("PG-1"));
+
+            // when
+            PaymentResult result = client.confirmPayment(TX_ID, AMOUNT);
+
+            // then
+            assertThat(result.success()).isTrue();
+            Timer timer = meterRegistry.get("payment.gateway.requests")
+                    .tag("method", "confirm").tag("outcome", "success").timer();
+            assertThat(timer.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should record declined result without retrying")
+        void confirmPayment_declined() {
+            // given
+            given(paymentGateway.confirmPayment(TX_ID, AMOUNT)).willReturn(PaymentResult.failure("Card declined"));
+
+            // when
+            PaymentResult result = client.confirmPayment(TX_ID, AMOUNT);
+
+            // then
+            assertThat(result.success()).isFalse();
+            verify(paymentGateway, times(1)).confirmPayment(TX_ID, AMOUNT);
+            assertThat(meterRegistry.get("payment.gateway.requests")
+                    .tag("outcome", "declined").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should retry transient errors")
+        void confirmPayment_retriesTransientError() {
+            // given
+            given(paymentGateway.confirmPayment(TX_ID, AMOUNT))
+                    .willThrow(new IllegalStateException("connection reset"))
+                    .willReturn(PaymentResult.success("PG-1"));
+
+            // when
+            PaymentResult result = client.confirmPayment(TX_ID, AMOUNT);
+
+            // then
+            assertThat(result.success()).isTrue();
+            verify(paymentGateway, times(2)).confirmPayment(TX_ID, AMOUNT);
+        }
+
+        @Test
+        @DisplayName("should time out slow gateway and report outcome as unknown")
+        void confirmPayment_timeout() {
+            // given
+            given(paymentGateway.confirmPayment(TX_ID, AMOUNT)).willAnswer(invocation -> {
+                Thread.sleep(5_000);
+                return PaymentResult.success("PG-1");
+            });
+
+            // when & then
+            long startedAt = System.nanoTime();
+            assertThatThrownBy(() -> client.confirmPayment(TX_ID, AMOUNT))
+                    .isInstanceOfSatisfying(ExternalApiException.class, e -> {
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_API_ERROR);
+                        assertThat(e.isOutcomeUnknown()).isTrue();
+                    });
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+            assertThat(meterRegistry.get("payment.gateway.requests")
+                    .tag("outcome", "timeout").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reject calls without reaching gateway when circuit is open")
+        void confirmPayment_circuitOpen() {
+            // given
+            circuitBreakerRegistry.circuitBreaker("external-api").transitionToOpenState();
+
+            // when & then
+            assertThatThrownBy(() -> client.confirmPayment(TX_ID, AMOUNT))
+                    .isInstanceOfSatisfying(ExternalApiException.class, e -> {
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+                        assertThat(e.isOutcomeUnknown()).isFalse();
+                    });
+            verifyNoInteractions(paymentGateway);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import platform.ecommerce.config.AppProperties;
+import platform.ecommerce.config.AppProperties.LatencyDistribution;
+import platform.ecommerce.service.payment.PaymentGatewaySimulator;
+import platform.ecommerce.service.payment.PaymentGatewaySimulator.SimulatedGatewayException;
+import platform.ecommerce.service.payment.PaymentResult;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for PaymentGatewaySimulator.
+ * Uses a seeded random and a recording sleeper, so no test actually waits.
+ */
+class PaymentGatewaySimulatorTest {
+
+    private static final int SAMPLES = 20_000;
+
+    private AppProperties.Simulator config;
+    private List<Long> sleeps;
+
+    @BeforeEach
+    void setUp() {
+        config = new AppProperties.Simulator();
+        config.setEnabled(true);
+        sleeps = new ArrayList<>();
+    }
+
+    @Nested
+    @DisplayName("sampleLatencyMillis")
+    class SampleLatency {
+
+        @Test
+        @DisplayName("should fit log-normal median and p99 to configured values")
+        void sampleLatency_logNormal_matchesPercentiles() {
+            // given
+            config.setLatencyDistribution(LatencyDistribution.LOG_NORMAL);
+            config.setMedianLatencyMillis(100);
+            config.setP99LatencyMillis(1000);
+            PaymentGatewaySimulator simulator = simulatorAt(0);
+
+            // when
+            long[] latencies = LongStream.range(0, SAMPLES).map(i -> simulator.sampleLatencyMillis()).sorted().toArray();
+
+            // then
+            assertThat(latencies[SAMPLES / 2]).isBetween(90L, 110L);
+            assertThat(latencies[(int) (SAMPLES * 0.99)]).isBetween(850L, 1150L);
+        }
+
+        @Test
+        @DisplayName("should keep uniform samples within min and p99")
+        void sampleLatency_uniform_staysInRange() {
+            // given
+            config.setLatencyDistribution(LatencyDistribution.UNIFORM);
+            config.setMinLatencyMillis(20);
+            config.setP99LatencyMillis(80);
+            PaymentGatewaySimulator simulator = simulatorAt(0);
+
+            // when
+            long[] latencies = LongStream.range(0, SAMPLES).map(i -> simulator.sampleLatencyMillis()).toArray();
+
+            // then
+            assertThat(Arrays.stream(latencies).min().orElseThrow()).isGreaterThanOrEqualTo(20L);
+            assertThat(Arrays.stream(latencies).max().orElseThrow()).isLessThanOrEqualTo(80L);
+        }
+    }
+
+    @Nested
+    @DisplayName("simulate")
+    class Simulate {
+
+        @Test
+        @DisplayName("should sleep sampled latency and return success")
+        void simulate_success() {
+            // given
+            config.setLatencyDistribution(LatencyDistribution.FIXED);
+            config.setMedianLatencyMillis(250);
+            PaymentGatewaySimulator simulator = simulatorAt(0);
+
+            // when
+            PaymentResult result = simulator.simulate("confirm", () -> PaymentResult.success("PG-1"));
+
+            // then
+            assertThat(result.success()).isTrue();
+            assertThat(sleeps).containsExactly(250L);
+        }
+
+        @Test
+        @DisplayName("should fail roughly the configured share of calls")
+        void simulate_errorRate() {
+            // given
+            config.setMedianLatencyMillis(0);
+            config.setErrorRate(0.2);
+            PaymentGatewaySimulator simulator = simulatorAt(0);
+
+            // when
+            int errors = 0;
+            for (int i = 0; i < SAMPLES; i++) {
+                try {
+                    simulator.simulate("confirm", () -> PaymentResult.success("PG-1"));
+                } catch (SimulatedGatewayException e) {
+                    errors++;
+                }
+            }
+
+            // then
+            assertThat(errors / (double) SAMPLES).isCloseTo(0.2, within(0.02));
+        }
+
+        @Test
+        @DisplayName("should hang for configured time when timeout fires")
+        void simulate_timeout() {
+            // given
+            config.setMedianLatencyMillis(0);
+            config.setTimeoutRate(1.0);
+            config.setHangMillis(30_000);
+            PaymentGatewaySimulator simulator = simulatorAt(0);
+
+            // when
+            simulator.simulate("confirm", () -> PaymentResult.success("PG-1"));
+
+            // then
+            assertThat(sleeps).containsExactly(30_000L);
+        }
+
+        @Test
+        @DisplayName("should reject every call inside an outage window only")
+        void simulate_outageWindow() {
+            // given
+            config.setMedianLatencyMillis(0);
+            config.setOutagePeriodSeconds(60);
+            config.setOutageDurationSeconds(10);
+
+            // when & then
+            assertThatThrownBy(() -> simulatorAt(5_000).simulate("confirm", () -> PaymentResult.success("PG-1")))
+                    .isInstanceOf(SimulatedGatewayException.class);
+            assertThat(simulatorAt(30_000).simulate("confirm", () -> PaymentResult.success("PG-1")).success())
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("should return declined result without throwing")
+        void simulate_decline() {
+            // given
+            config.setMedianLatencyMillis(0);
+            config.setDeclineRate(1.0);
+
+            // when
+            PaymentResult result = simulatorAt(0).simulate("confirm", () -> PaymentResult.success("PG-1"));
+
+            // then
+            assertThat(result.success()).isFalse();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private PaymentGatewaySimulator simulatorAt(long epochMillis) {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+        return new PaymentGatewaySimulator(config, new Random(42), clock, sleeps::add);
+    }
+}
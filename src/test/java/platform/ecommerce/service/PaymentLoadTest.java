@@ -0,0 +1,246 @@
+package platform.ecommerce.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import platform.ecommerce.domain.order.Order;
+import platform.ecommerce.domain.order.PaymentMethod;
+import platform.ecommerce.domain.order.ShippingAddress;
+import platform.ecommerce.dto.response.payment.PaymentResponse;
+import platform.ecommerce.exception.BusinessException;
+import platform.ecommerce.repository.order.OrderRepository;
+import platform.ecommerce.service.application.PaymentApplicationService;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load harness for the payment flow: requestPayment then confirmPayment per order,
+ * against the mock gateway in simulator mode.
+ * Logs throughput, end-to-end p50/p99 and connection-pool saturation.
+ *
+ * Run with {@code ./gradlew loadTest}; size with -Dload.payments and -Dload.concurrency.
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.datasource.hikari.connection-timeout=2000",
+        "app.order-expiry.enabled=false",
+        "app.payment.gateway-timeout-millis=1000",
+        "app.payment.simulator.enabled=true",
+        "app.payment.simulator.seed=42",
+        "app.payment.simulator.latency-distribution=LOG_NORMAL",
+        "app.payment.simulator.median-latency-millis=100",
+        "app.payment.simulator.p99-latency-millis=800",
+        "app.payment.simulator.error-rate=0.02",
+        "app.payment.simulator.decline-rate=0.05",
+        "app.payment.simulator.timeout-rate=0.01",
+        "logging.level.platform.ecommerce=WARN",
+        "logging.level.platform.ecommerce.service.PaymentLoadTest=INFO"
+})
+@ActiveProfiles("test")
+@DisplayName("Payment Load Harness")
+class PaymentLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentLoadTest.class);
+
+    private static final int PAYMENTS = Integer.getInteger("load.payments", 500);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 100);
+    private static final BigDecimal ITEM_PRICE = BigDecimal.valueOf(10000);
+
+    @Autowired
+    private PaymentApplicationService paymentApplicationService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("should keep the connection pool unsaturated while the gateway is slow")
+    void paymentFlow_underSlowGateway() throws Exception {
+        // given
+        List<Order> orders = createOrders(PAYMENTS);
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        PoolSampler sampler = new PoolSampler(pool);
+
+        long[] latencies = new long[PAYMENTS];
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        AtomicInteger index = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+
+        // when
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Order order : orders) {
+                inFlight.acquire();
+                executor.submit(() -> {
+                    long callStartedAt = System.nanoTime();
+                    String outcome = pay(order);
+                    latencies[index.getAndIncrement()] = System.nanoTime() - callStartedAt;
+                    outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+                    inFlight.release();
+                });
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        sampler.stop();
+
+        // then
+        report(latencies, elapsedNanos, outcomes, sampler);
+        long total = outcomes.values().stream().mapToLong(LongAdder::sum).sum();
+        assertThat(total).isEqualTo(PAYMENTS);
+        assertThat(outcomes).doesNotContainKey("pool-timeout");
+        assertThat(sampler.maxAwaiting()).isLessThan(CONCURRENCY);
+    }
+
+    // ========== Helper Methods ==========
+
+    private String pay(Order order) {
+        try {
+            PaymentResponse requested = paymentApplicationService.requestPayment(order.getId(), PaymentMethod.CREDIT_CARD);
+            PaymentResponse confirmed = paymentApplicationService.confirmPayment(
+                    requested.transactionId(), order.getTotalAmount());
+            return confirmed.status().name();
+        } catch (BusinessException e) {
+            return e.getErrorCode().name();
+        } catch (RuntimeException e) {
+            return hasCause(e, SQLTransientConnectionException.class) ? "pool-timeout" : e.getClass().getSimpleName();
+        }
+    }
+
+    private List<Order> createOrders(int count) {
+        return transactionTemplate.execute(status -> {
+            List<Order> orders = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Order order = Order.builder()
+                        .memberId((long) (i % 50) + 1)
+                        .shippingAddress(ShippingAddress.builder()
+                                .recipientName("Load Tester")
+                                .recipientPhone("010-0000-0000")
+                                .zipCode("12345")
+                                .address("Seoul, Korea")
+                                .addressDetail("Apt " + i)
+                                .build())
+                        .shippingFee(BigDecimal.ZERO)
+                        .build();
+                order.addItem(1L, null, "Load Product", null, ITEM_PRICE, 1);
+                orders.add(order);
+            }
+            return orderRepository.saveAll(orders);
+        });
+    }
+
+    private void report(long[] latencies, long elapsedNanos, Map<String, LongAdder> outcomes, PoolSampler sampler) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double seconds = elapsedNanos / 1e9;
+
+        log.info("Payment load: payments={}, concurrency={}", PAYMENTS, CONCURRENCY);
+        log.info("Throughput: {} payments/s ({}s total)",
+                String.format("%.1f", PAYMENTS / seconds), String.format("%.2f", seconds));
+        log.info("Latency: p50={}ms, p99={}ms, max={}ms",
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]));
+        log.info("Pool: maxActive={}, size={}, maxAwaiting={}",
+                sampler.maxActive(), sampler.poolSize(), sampler.maxAwaiting());
+        outcomes.forEach((outcome, count) -> log.info("Outcome: {}={}", outcome, count.sum()));
+        meterRegistry.find("payment.gateway.requests").timers().forEach(this::logTimer);
+    }
+
+    private void logTimer(Timer timer) {
+        log.info("Gateway: method={}, outcome={}, count={}, mean={}ms, max={}ms",
+                timer.getId().getTag("method"), timer.getId().getTag("outcome"), timer.count(),
+                String.format("%.1f", timer.mean(TimeUnit.MILLISECONDS)),
+                String.format("%.1f", timer.max(TimeUnit.MILLISECONDS)));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static boolean hasCause(Throwable throwable, Class<? extends Throwable> type) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Samples Hikari pool gauges every 5 ms to catch short saturation spikes.
+     */
+    private static class PoolSampler {
+
+        private final HikariPoolMXBean pool;
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final AtomicInteger maxActive = new AtomicInteger();
+        private final AtomicInteger maxAwaiting = new AtomicInteger();
+        private final AtomicInteger poolSize = new AtomicInteger();
+
+        PoolSampler(HikariPoolMXBean pool) {
+            this.pool = pool;
+            scheduler.scheduleAtFixedRate(this::sample, 0, 5, TimeUnit.MILLISECONDS);
+        }
+
+        private void sample() {
+            maxActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+            maxAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+            poolSize.accumulateAndGet(pool.getTotalConnections(), Math::max);
+        }
+
+        void stop() throws InterruptedException {
+            scheduler.shutdown();
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        }
+
+        int maxActive() {
+            return maxActive.get();
+        }
+
+        int maxAwaiting() {
+            return maxAwaiting.get();
+        }
+
+        int poolSize() {
+            return poolSize.get();
+        }
+    }
+}
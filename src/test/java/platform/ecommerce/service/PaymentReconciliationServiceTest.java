@@ -0,0 +1,183 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import platform.ecommerce.domain.payment.MismatchType;
+import platform.ecommerce.domain.payment.PaymentStatus;
+import platform.ecommerce.domain.payment.ReconciliationMismatch;
+import platform.ecommerce.domain.payment.SettlementStatus;
+import platform.ecommerce.repository.PaymentRepository;
+import platform.ecommerce.repository.ReconciliationMismatchRepository;
+import platform.ecommerce.service.payment.PaymentReconciliationServiceImpl;
+import platform.ecommerce.service.payment.PaymentSettlementView;
+import platform.ecommerce.service.payment.ReconciliationSummary;
+import platform.ecommerce.service.payment.SettlementFileReader;
+import platform.ecommerce.service.payment.SettlementRecord;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for settlement reconciliation: chunk comparison and streaming file reading.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationServiceTest {
+
+    private static final LocalDate SETTLEMENT_DATE = LocalDate.of(2026, 1, 15);
+    private static final BigDecimal AMOUNT = BigDecimal.valueOf(10000);
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private ReconciliationMismatchRepository mismatchRepository;
+
+    @InjectMocks
+    private PaymentReconciliationServiceImpl reconciliationService;
+
+    @Nested
+    @DisplayName("reconcileChunk")
+    class ReconcileChunk {
+
+        @Test
+        @DisplayName("should report missing, amount and status mismatches from one IN-query")
+        void reconcileChunk_classifiesMismatches() {
+            // given
+            List<SettlementRecord> records = List.of(
+                    SettlementRecord.of(2, "PG-OK", AMOUNT, SettlementStatus.APPROVED),
+                    SettlementRecord.of(3, "PG-MISSING", AMOUNT, SettlementStatus.APPROVED),
+                    SettlementRecord.of(4, "PG-AMOUNT", BigDecimal.valueOf(9000), SettlementStatus.APPROVED),
+                    SettlementRecord.of(5, "PG-STATUS", AMOUNT, SettlementStatus.CANCELLED),
+                    SettlementRecord.malformed(6, "garbage")
+            );
+            given(paymentRepository.findSettlementViewsByPgTransactionIdIn(anyCollection())).willReturn(List.of(
+                    new PaymentSettlementView(1L, "PG-OK", AMOUNT, PaymentStatus.COMPLETED),
+                    new PaymentSettlementView(2L, "PG-AMOUNT", AMOUNT, PaymentStatus.COMPLETED),
+                    new PaymentSettlementView(3L, "PG-STATUS", AMOUNT, PaymentStatus.COMPLETED)
+            ));
+
+            // when
+            ReconciliationSummary summary = reconciliationService.reconcileChunk(SETTLEMENT_DATE, records);
+
+            // then
+            assertThat(summary.lines()).isEqualTo(5);
+            assertThat(summary.matched()).isEqualTo(1);
+            assertThat(summary.mismatches()).containsOnly(
+                    entry(MismatchType.MISSING_PAYMENT, 1L),
+                    entry(MismatchType.AMOUNT_MISMATCH, 1L),
+                    entry(MismatchType.STATUS_MISMATCH, 1L),
+                    entry(MismatchType.MALFORMED_LINE, 1L));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<ReconciliationMismatch>> saved = ArgumentCaptor.forClass(List.class);
+            verify(mismatchRepository).saveAll(saved.capture());
+            assertThat(saved.getValue())
+                    .filteredOn(m -> m.getMismatchType() == MismatchType.AMOUNT_MISMATCH)
+                    .singleElement()
+                    .satisfies(m -> {
+                        assertThat(m.getPaymentId()).isEqualTo(2L);
+                        assertThat(m.getSettledAmount()).isEqualByComparingTo("9000");
+                        assertThat(m.getPaymentAmount()).isEqualByComparingTo(AMOUNT);
+                    });
+            verify(paymentRepository, times(1)).findSettlementViewsByPgTransactionIdIn(anyCollection());
+        }
+
+        @Test
+        @DisplayName("should skip the query when the chunk has only malformed lines")
+        void reconcileChunk_onlyMalformed_noQuery() {
+            // when
+            ReconciliationSummary summary = reconciliationService.reconcileChunk(
+                    SETTLEMENT_DATE, List.of(SettlementRecord.malformed(2, "x")));
+
+            // then
+            assertThat(summary.mismatches()).containsOnly(entry(MismatchType.MALFORMED_LINE, 1L));
+            verify(paymentRepository, never()).findSettlementViewsByPgTransactionIdIn(anyCollection());
+        }
+    }
+
+    @Nested
+    @DisplayName("SettlementFileReader")
+    class ReadSettlementFile {
+
+        private final SettlementFileReader reader = new SettlementFileReader();
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("should stream lines in bounded chunks, skipping header and blanks")
+        void read_chunksLines() throws IOException {
+            // given
+            Path file = writeSettlementFile(2_500);
+            List<Integer> chunkSizes = new ArrayList<>();
+            List<Double> progress = new ArrayList<>();
+
+            // when
+            long lines = reader.read(file, 1_000, (chunk, read) -> {
+                chunkSizes.add(chunk.size());
+                progress.add(read);
+            });
+
+            // then
+            assertThat(lines).isEqualTo(2_500);
+            assertThat(chunkSizes).containsExactly(1_000, 1_000, 500);
+            assertThat(progress).isSorted().last().isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("should parse fields and keep unparseable lines as malformed")
+        void read_parsesAndFlagsMalformed() throws IOException {
+            // given
+            Path file = tempDir.resolve("settlement.csv");
+            Files.writeString(file, """
+                    pg_transaction_id,amount,status,settled_at
+                    PG-1,10000.00,APPROVED,2026-01-15T10:00:00
+                    PG-2,abc,APPROVED,2026-01-15T10:00:00
+                    PG-3,5000,refunded
+                    """);
+            List<SettlementRecord> records = new ArrayList<>();
+
+            // when
+            reader.read(file, 10, (chunk, read) -> records.addAll(chunk));
+
+            // then
+            assertThat(records).hasSize(3);
+            assertThat(records.get(0)).isEqualTo(
+                    SettlementRecord.of(2, "PG-1", new BigDecimal("10000.00"), SettlementStatus.APPROVED));
+            assertThat(records.get(1).isMalformed()).isTrue();
+            assertThat(records.get(2).isMalformed()).isTrue();
+            assertThat(records.get(2).lineNumber()).isEqualTo(4);
+        }
+
+        private Path writeSettlementFile(int lines) throws IOException {
+            Path file = tempDir.resolve("settlement-large.csv");
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write("pg_transaction_id,amount,status\n");
+                for (int i = 0; i < lines; i++) {
+                    writer.write("PG-" + i + ",10000,APPROVED\n");
+                    if (i % 700 == 0) {
+                        writer.write("\n");
+                    }
+                }
+            }
+            return file;
+        }
+    }
+}
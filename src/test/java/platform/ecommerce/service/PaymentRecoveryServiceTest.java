@@ -0,0 +1,155 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import platform.ecommerce.domain.order.PaymentMethod;
+import platform.ecommerce.domain.payment.Payment;
+import platform.ecommerce.domain.payment.PaymentStatus;
+import platform.ecommerce.exception.ExternalApiException;
+import platform.ecommerce.service.payment.PaymentGatewayClient;
+import platform.ecommerce.service.payment.PaymentRecoveryServiceImpl;
+import platform.ecommerce.service.payment.PaymentResult;
+import platform.ecommerce.service.payment.PaymentService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * Unit tests for PaymentRecoveryService.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentRecoveryServiceTest {
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private PaymentGatewayClient paymentGatewayClient;
+
+    @InjectMocks
+    private PaymentRecoveryServiceImpl paymentRecoveryService;
+
+    private static final Long PAYMENT_ID = 200L;
+    private static final BigDecimal AMOUNT = BigDecimal.valueOf(100000);
+    private static final LocalDateTime BEFORE = LocalDateTime.now().minusMinutes(10);
+
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        payment = Payment.builder()
+                .orderId(100L)
+                .method(PaymentMethod.CREDIT_CARD)
+                .amount(AMOUNT)
+                .build();
+        ReflectionTestUtils.setField(payment, "id", PAYMENT_ID);
+        ReflectionTestUtils.setField(payment, "pgTransactionId", "PG-12345678");
+    }
+
+    @Nested
+    @DisplayName("recoverConfirmations")
+    class RecoverConfirmations {
+
+        @Test
+        @DisplayName("should re-send a stale confirmation and record the gateway result")
+        void recoverConfirmations_shouldRecordResult() {
+            // given
+            givenStale(PaymentStatus.PROCESSING, true);
+            PaymentResult result = PaymentResult.success("PG-12345678");
+            given(paymentGatewayClient.confirmPayment(payment.getTransactionId(), AMOUNT)).willReturn(result);
+
+            // when
+            int resolved = paymentRecoveryService.recoverConfirmations(BEFORE, 10);
+
+            // then
+            assertThat(resolved).isEqualTo(1);
+            verify(paymentService).completeConfirmation(payment.getTransactionId(), result);
+        }
+
+        @Test
+        @DisplayName("should skip a payment another node claimed first")
+        void recoverConfirmations_claimedElsewhere_shouldSkip() {
+            // given
+            givenStale(PaymentStatus.PROCESSING, false);
+
+            // when
+            int resolved = paymentRecoveryService.recoverConfirmations(BEFORE, 10);
+
+            // then
+            assertThat(resolved).isZero();
+            verifyNoInteractions(paymentGatewayClient);
+        }
+
+        @Test
+        @DisplayName("should leave the payment PROCESSING when the gateway outcome is still unknown")
+        void recoverConfirmations_gatewayUnknown_shouldLeaveForNextRun() {
+            // given
+            givenStale(PaymentStatus.PROCESSING, true);
+            given(paymentGatewayClient.confirmPayment(payment.getTransactionId(), AMOUNT))
+                    .willThrow(ExternalApiException.failed("timed out", new RuntimeException()));
+
+            // when
+            int resolved = paymentRecoveryService.recoverConfirmations(BEFORE, 10);
+
+            // then
+            assertThat(resolved).isZero();
+            verify(paymentService, never()).completeConfirmation(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("recoverCancellations")
+    class RecoverCancellations {
+
+        @Test
+        @DisplayName("should complete the cancellation when the re-sent refund succeeds")
+        void recoverCancellations_refunded_shouldComplete() {
+            // given
+            givenStale(PaymentStatus.CANCELLING, true);
+            given(paymentGatewayClient.cancelPayment("PG-12345678", AMOUNT))
+                    .willReturn(PaymentResult.success("PG-12345678"));
+
+            // when
+            int resolved = paymentRecoveryService.recoverCancellations(BEFORE, 10);
+
+            // then
+            assertThat(resolved).isEqualTo(1);
+            verify(paymentService).completeCancellation(PAYMENT_ID);
+        }
+
+        @Test
+        @DisplayName("should return the payment to COMPLETED when the refund is declined")
+        void recoverCancellations_declined_shouldRelease() {
+            // given
+            givenStale(PaymentStatus.CANCELLING, true);
+            given(paymentGatewayClient.cancelPayment("PG-12345678", AMOUNT))
+                    .willReturn(PaymentResult.failure("Already settled"));
+
+            // when
+            paymentRecoveryService.recoverCancellations(BEFORE, 10);
+
+            // then
+            verify(paymentService).releaseCancellation(PAYMENT_ID);
+            verify(paymentService, never()).completeCancellation(any());
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private void givenStale(PaymentStatus status, boolean claimed) {
+        given(paymentService.getStalePayments(status, BEFORE, 10)).willReturn(List.of(payment));
+        given(paymentService.claimStalePayment(PAYMENT_ID, status, BEFORE)).willReturn(claimed);
+    }
+}
@@ -13,12 +13,13 @@ import platform.ecommerce.domain.order.*;
 import platform.ecommerce.domain.payment.Payment;
 import platform.ecommerce.domain.payment.PaymentStatus;
 import platform.ecommerce.exception.EntityNotFoundException;
+import platform.ecommerce.exception.ErrorCode;
 import platform.ecommerce.exception.InvalidStateException;
 import platform.ecommerce.repository.PaymentRepository;
 import platform.ecommerce.repository.order.OrderRepository;
-import platform.ecommerce.service.payment.PaymentGateway;
 import platform.ecommerce.service.payment.PaymentResult;
 import platform.ecommerce.service.payment.PaymentServiceImpl;
+import platform.ecommerce.service.payment.PaymentWithOwner;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -41,9 +42,6 @@ class PaymentServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
-    @Mock
-    private PaymentGateway paymentGateway;
-
     @InjectMocks
     private PaymentServiceImpl paymentService;
 
@@ -139,144 +137,324 @@ class PaymentServiceTest {
     // ========== 2. Payment Confirmation Tests ==========
 
     @Nested
-    @DisplayName("confirmPayment")
-    class ConfirmPayment {
+    @DisplayName("startConfirmation")
+    class StartConfirmation {
 
         @Test
-        @DisplayName("should complete payment and update order status")
-        void confirmPayment_success() {
+        @DisplayName("should lock the order and claim pending payment as PROCESSING")
+        void startConfirmation_success() {
             // given
             String transactionId = testPayment.getTransactionId();
             given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
-            given(orderRepository.findById(ORDER_ID)).willReturn(Optional.of(testOrder));
-            given(paymentGateway.confirmPayment(eq(transactionId), eq(AMOUNT)))
-                    .willReturn(PaymentResult.success("PG-12345678"));
+            given(orderRepository.findByIdForUpdate(ORDER_ID)).willReturn(Optional.of(testOrder));
+            given(paymentRepository.transitionStatus(eq(PAYMENT_ID), eq(PaymentStatus.PENDING),
+                    eq(PaymentStatus.PROCESSING), any())).willReturn(1);
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
 
             // when
-            Payment result = paymentService.confirmPayment(transactionId, AMOUNT);
+            Payment result = paymentService.startConfirmation(transactionId, AMOUNT);
 
             // then
-            assertThat(result.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
-            assertThat(result.getPgTransactionId()).isEqualTo("PG-12345678");
-            assertThat(result.getPaidAt()).isNotNull();
+            assertThat(result).isSameAs(testPayment);
+            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT);
+        }
 
-            // verify order was marked as paid
-            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.PAID);
+        @Test
+        @DisplayName("should reject a concurrent confirmation that lost the claim")
+        void startConfirmation_claimLost() {
+            // given - both requests read PENDING, the other one updated first
+            String transactionId = testPayment.getTransactionId();
+            given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
+            given(orderRepository.findByIdForUpdate(ORDER_ID)).willReturn(Optional.of(testOrder));
+            given(paymentRepository.transitionStatus(eq(PAYMENT_ID), eq(PaymentStatus.PENDING),
+                    eq(PaymentStatus.PROCESSING), any())).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.startConfirmation(transactionId, AMOUNT))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.PAYMENT_ALREADY_PROCESSED);
         }
 
         @Test
-        @DisplayName("should fail payment when gateway returns failure")
-        void confirmPayment_gatewayFailure() {
+        @DisplayName("should not claim when the order was expired by the sweeper")
+        void startConfirmation_orderExpired() {
             // given
+            testOrder.cancel("Payment not completed in time");
             String transactionId = testPayment.getTransactionId();
             given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
-            given(paymentGateway.confirmPayment(eq(transactionId), eq(AMOUNT)))
-                    .willReturn(PaymentResult.failure("Card declined"));
+            given(orderRepository.findByIdForUpdate(ORDER_ID)).willReturn(Optional.of(testOrder));
 
-            // when
-            Payment result = paymentService.confirmPayment(transactionId, AMOUNT);
+            // when & then
+            assertThatThrownBy(() -> paymentService.startConfirmation(transactionId, AMOUNT))
+                    .isInstanceOf(InvalidStateException.class);
+            verify(paymentRepository, never()).transitionStatus(any(), any(), any(), any());
+        }
 
-            // then
-            assertThat(result.getStatus()).isEqualTo(PaymentStatus.FAILED);
-            assertThat(result.getFailReason()).isEqualTo("Card declined");
+        @Test
+        @DisplayName("should throw exception when confirmation already in flight")
+        void startConfirmation_alreadyProcessing() {
+            // given
+            withStatus(PaymentStatus.PROCESSING);
+            String transactionId = testPayment.getTransactionId();
+            given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.startConfirmation(transactionId, AMOUNT))
+                    .isInstanceOf(InvalidStateException.class);
         }
 
         @Test
         @DisplayName("should throw exception when payment already completed")
-        void confirmPayment_alreadyCompleted() {
+        void startConfirmation_alreadyCompleted() {
             // given
-            testPayment.complete("PG-OLD");
+            withStatus(PaymentStatus.COMPLETED);
             String transactionId = testPayment.getTransactionId();
             given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
 
             // when & then
-            assertThatThrownBy(() -> paymentService.confirmPayment(transactionId, AMOUNT))
+            assertThatThrownBy(() -> paymentService.startConfirmation(transactionId, AMOUNT))
                     .isInstanceOf(InvalidStateException.class);
         }
 
         @Test
         @DisplayName("should throw exception when amount mismatch")
-        void confirmPayment_amountMismatch() {
+        void startConfirmation_amountMismatch() {
             // given
             String transactionId = testPayment.getTransactionId();
             given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
 
             // when & then
-            assertThatThrownBy(() -> paymentService.confirmPayment(transactionId, BigDecimal.valueOf(50000)))
+            assertThatThrownBy(() -> paymentService.startConfirmation(transactionId, BigDecimal.valueOf(50000)))
                     .isInstanceOf(InvalidStateException.class);
+            verify(paymentRepository, never()).transitionStatus(any(), any(), any(), any());
         }
 
         @Test
         @DisplayName("should throw exception when payment not found")
-        void confirmPayment_notFound() {
+        void startConfirmation_notFound() {
             // given
             given(paymentRepository.findByTransactionId("INVALID")).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> paymentService.confirmPayment("INVALID", AMOUNT))
+            assertThatThrownBy(() -> paymentService.startConfirmation("INVALID", AMOUNT))
                     .isInstanceOf(EntityNotFoundException.class);
         }
     }
 
-    // ========== 3. Payment Cancellation Tests ==========
+    @Nested
+    @DisplayName("completeConfirmation")
+    class CompleteConfirmation {
+
+        @Test
+        @DisplayName("should complete processing payment and update order status")
+        void completeConfirmation_success() {
+            // given
+            withStatus(PaymentStatus.PROCESSING);
+            String transactionId = testPayment.getTransactionId();
+            given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
+            given(paymentRepository.completeProcessing(eq(PAYMENT_ID), eq("PG-12345678"), any())).willReturn(1);
+            given(orderRepository.findById(ORDER_ID)).willReturn(Optional.of(testOrder));
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
+
+            // when
+            paymentService.completeConfirmation(transactionId, PaymentResult.success("PG-12345678"));
+
+            // then
+            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.PAID);
+        }
+
+        @Test
+        @DisplayName("should return the payment unchanged when recovery already resolved it")
+        void completeConfirmation_alreadyResolved() {
+            // given
+            String transactionId = testPayment.getTransactionId();
+            given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
+            given(paymentRepository.completeProcessing(eq(PAYMENT_ID), eq("PG-12345678"), any())).willReturn(0);
+            withStatus(PaymentStatus.COMPLETED);
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
+
+            // when
+            Payment result = paymentService.completeConfirmation(transactionId, PaymentResult.success("PG-12345678"));
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+            assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT);
+            verify(orderRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("should fail payment when gateway returns failure")
+        void completeConfirmation_gatewayFailure() {
+            // given
+            withStatus(PaymentStatus.PROCESSING);
+            String transactionId = testPayment.getTransactionId();
+            given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
+            given(paymentRepository.failProcessing(eq(PAYMENT_ID), eq("Card declined"), any())).willReturn(1);
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
+
+            // when
+            paymentService.completeConfirmation(transactionId, PaymentResult.failure("Card declined"));
+
+            // then
+            verify(paymentRepository).failProcessing(eq(PAYMENT_ID), eq("Card declined"), any());
+            verify(orderRepository, never()).findById(any());
+        }
+    }
 
     @Nested
-    @DisplayName("cancelPayment")
-    class CancelPayment {
+    @DisplayName("releaseConfirmation")
+    class ReleaseConfirmation {
 
-        private static final Long MEMBER_ID = 1L;
+        @Test
+        @DisplayName("should return processing payment to PENDING")
+        void releaseConfirmation_success() {
+            // given
+            String transactionId = testPayment.getTransactionId();
+            given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
+            given(paymentRepository.transitionStatus(eq(PAYMENT_ID), eq(PaymentStatus.PROCESSING),
+                    eq(PaymentStatus.PENDING), any())).willReturn(1);
+
+            // when & then
+            assertThatCode(() -> paymentService.releaseConfirmation(transactionId)).doesNotThrowAnyException();
+        }
 
         @Test
-        @DisplayName("should cancel completed payment")
-        void cancelPayment_success() {
+        @DisplayName("should throw exception when payment is not processing")
+        void releaseConfirmation_notProcessing() {
             // given
-            testPayment.complete("PG-12345678");
+            String transactionId = testPayment.getTransactionId();
+            given(paymentRepository.findByTransactionId(transactionId)).willReturn(Optional.of(testPayment));
+            given(paymentRepository.transitionStatus(eq(PAYMENT_ID), eq(PaymentStatus.PROCESSING),
+                    eq(PaymentStatus.PENDING), any())).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.releaseConfirmation(transactionId))
+                    .isInstanceOf(InvalidStateException.class);
+        }
+    }
+
+    // ========== 3. Payment Cancellation Tests ==========
+
+    @Nested
+    @DisplayName("startCancellation")
+    class StartCancellation {
+
+        @Test
+        @DisplayName("should claim completed payment as CANCELLING for owner")
+        void startCancellation_success() {
+            // given
+            withStatus(PaymentStatus.COMPLETED);
+            given(paymentRepository.findWithOwnerById(PAYMENT_ID))
+                    .willReturn(Optional.of(new PaymentWithOwner(testPayment, MEMBER_ID)));
+            given(paymentRepository.transitionStatus(eq(PAYMENT_ID), eq(PaymentStatus.COMPLETED),
+                    eq(PaymentStatus.CANCELLING), any())).willReturn(1);
             given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
-            given(orderRepository.findById(ORDER_ID)).willReturn(Optional.of(testOrder));
-            given(paymentGateway.cancelPayment(eq("PG-12345678"), eq(AMOUNT)))
-                    .willReturn(PaymentResult.success("PG-12345678"));
 
             // when
-            Payment result = paymentService.cancelPayment(PAYMENT_ID, MEMBER_ID);
+            Payment result = paymentService.startCancellation(PAYMENT_ID, MEMBER_ID);
 
             // then
-            assertThat(result.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
-            assertThat(result.getCancelledAt()).isNotNull();
+            assertThat(result).isSameAs(testPayment);
+        }
+
+        @Test
+        @DisplayName("should reject a concurrent cancellation that lost the claim")
+        void startCancellation_claimLost() {
+            // given
+            withStatus(PaymentStatus.COMPLETED);
+            given(paymentRepository.findWithOwnerById(PAYMENT_ID))
+                    .willReturn(Optional.of(new PaymentWithOwner(testPayment, MEMBER_ID)));
+            given(paymentRepository.transitionStatus(eq(PAYMENT_ID), eq(PaymentStatus.COMPLETED),
+                    eq(PaymentStatus.CANCELLING), any())).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.startCancellation(PAYMENT_ID, MEMBER_ID))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.PAYMENT_CANNOT_CANCEL);
         }
 
         @Test
         @DisplayName("should throw exception when payment not completed")
-        void cancelPayment_notCompleted() {
+        void startCancellation_notCompleted() {
             // given
-            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
-            given(orderRepository.findById(ORDER_ID)).willReturn(Optional.of(testOrder));
+            given(paymentRepository.findWithOwnerById(PAYMENT_ID))
+                    .willReturn(Optional.of(new PaymentWithOwner(testPayment, MEMBER_ID)));
 
             // when & then
-            assertThatThrownBy(() -> paymentService.cancelPayment(PAYMENT_ID, MEMBER_ID))
+            assertThatThrownBy(() -> paymentService.startCancellation(PAYMENT_ID, MEMBER_ID))
                     .isInstanceOf(InvalidStateException.class);
+            verify(paymentRepository, never()).transitionStatus(any(), any(), any(), any());
         }
 
         @Test
         @DisplayName("should throw exception when payment not found")
-        void cancelPayment_notFound() {
+        void startCancellation_notFound() {
             // given
-            given(paymentRepository.findById(999L)).willReturn(Optional.empty());
+            given(paymentRepository.findWithOwnerById(999L)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> paymentService.cancelPayment(999L, MEMBER_ID))
+            assertThatThrownBy(() -> paymentService.startCancellation(999L, MEMBER_ID))
                     .isInstanceOf(EntityNotFoundException.class);
         }
 
         @Test
         @DisplayName("should throw exception when member is not owner")
-        void cancelPayment_notOwner() {
+        void startCancellation_notOwner() {
             // given
-            testPayment.complete("PG-12345678");
+            withStatus(PaymentStatus.COMPLETED);
+            given(paymentRepository.findWithOwnerById(PAYMENT_ID))
+                    .willReturn(Optional.of(new PaymentWithOwner(testPayment, MEMBER_ID)));
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.startCancellation(PAYMENT_ID, 999L))
+                    .isInstanceOf(InvalidStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("completeCancellation")
+    class CompleteCancellation {
+
+        @Test
+        @DisplayName("should cancel a CANCELLING payment")
+        void completeCancellation_success() {
+            // given
+            given(paymentRepository.completeCancelling(eq(PAYMENT_ID), any())).willReturn(1);
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
+
+            // when
+            Payment result = paymentService.completeCancellation(PAYMENT_ID);
+
+            // then
+            assertThat(result).isSameAs(testPayment);
+            verify(paymentRepository).completeCancelling(eq(PAYMENT_ID), any());
+        }
+
+        @Test
+        @DisplayName("should return the payment unchanged when recovery already cancelled it")
+        void completeCancellation_alreadyCancelled() {
+            // given
+            withStatus(PaymentStatus.CANCELLED);
+            given(paymentRepository.completeCancelling(eq(PAYMENT_ID), any())).willReturn(0);
+            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
+
+            // when
+            Payment result = paymentService.completeCancellation(PAYMENT_ID);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(PaymentStatus.CANCELLED);
+        }
+
+        @Test
+        @DisplayName("should throw exception when payment was never claimed for cancellation")
+        void completeCancellation_notClaimed() {
+            // given
+            withStatus(PaymentStatus.COMPLETED);
+            given(paymentRepository.completeCancelling(eq(PAYMENT_ID), any())).willReturn(0);
             given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
-            given(orderRepository.findById(ORDER_ID)).willReturn(Optional.of(testOrder));
 
             // when & then
-            assertThatThrownBy(() -> paymentService.cancelPayment(PAYMENT_ID, 999L))
+            assertThatThrownBy(() -> paymentService.completeCancellation(PAYMENT_ID))
                     .isInstanceOf(InvalidStateException.class);
         }
     }
@@ -291,8 +469,8 @@ class PaymentServiceTest {
         @DisplayName("should return payment by id for owner")
         void getPayment_success() {
             // given
-            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
-            given(orderRepository.findById(ORDER_ID)).willReturn(Optional.of(testOrder));
+            given(paymentRepository.findWithOwnerById(PAYMENT_ID))
+                    .willReturn(Optional.of(new PaymentWithOwner(testPayment, MEMBER_ID)));
 
             // when
             Payment result = paymentService.getPayment(PAYMENT_ID, MEMBER_ID);
@@ -306,7 +484,7 @@ class PaymentServiceTest {
         @DisplayName("should throw exception when payment not found")
         void getPayment_notFound() {
             // given
-            given(paymentRepository.findById(999L)).willReturn(Optional.empty());
+            given(paymentRepository.findWithOwnerById(999L)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> paymentService.getPayment(999L, MEMBER_ID))
@@ -317,8 +495,8 @@ class PaymentServiceTest {
         @DisplayName("should throw exception when not owner")
         void getPayment_notOwner() {
             // given
-            given(paymentRepository.findById(PAYMENT_ID)).willReturn(Optional.of(testPayment));
-            given(orderRepository.findById(ORDER_ID)).willReturn(Optional.of(testOrder));
+            given(paymentRepository.findWithOwnerById(PAYMENT_ID))
+                    .willReturn(Optional.of(new PaymentWithOwner(testPayment, MEMBER_ID)));
 
             // when & then
             assertThatThrownBy(() -> paymentService.getPayment(PAYMENT_ID, 999L))
@@ -341,9 +519,9 @@ class PaymentServiceTest {
                     .build();
             ReflectionTestUtils.setField(payment2, "id", 201L);
 
-            given(orderRepository.findById(ORDER_ID)).willReturn(Optional.of(testOrder));
-            given(paymentRepository.findByOrderIdOrderByCreatedAtDesc(ORDER_ID))
-                    .willReturn(List.of(testPayment, payment2));
+            given(paymentRepository.findAllWithOwnerByOrderId(ORDER_ID)).willReturn(List.of(
+                    new PaymentWithOwner(testPayment, MEMBER_ID),
+                    new PaymentWithOwner(payment2, MEMBER_ID)));
 
             // when
             List<Payment> results = paymentService.getPaymentsByOrderId(ORDER_ID, MEMBER_ID);
@@ -358,8 +536,8 @@ class PaymentServiceTest {
         @DisplayName("should return empty list when no payments")
         void getPaymentsByOrderId_empty() {
             // given
-            given(orderRepository.findById(ORDER_ID)).willReturn(Optional.of(testOrder));
-            given(paymentRepository.findByOrderIdOrderByCreatedAtDesc(ORDER_ID)).willReturn(List.of());
+            given(paymentRepository.findAllWithOwnerByOrderId(ORDER_ID))
+                    .willReturn(List.of(new PaymentWithOwner(null, MEMBER_ID)));
 
             // when
             List<Payment> results = paymentService.getPaymentsByOrderId(ORDER_ID, MEMBER_ID);
@@ -367,5 +545,34 @@ class PaymentServiceTest {
             // then
             assertThat(results).isEmpty();
         }
+
+        @Test
+        @DisplayName("should throw exception when order not found")
+        void getPaymentsByOrderId_orderNotFound() {
+            // given
+            given(paymentRepository.findAllWithOwnerByOrderId(999L)).willReturn(List.of());
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.getPaymentsByOrderId(999L, MEMBER_ID))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should throw exception when not owner")
+        void getPaymentsByOrderId_notOwner() {
+            // given
+            given(paymentRepository.findAllWithOwnerByOrderId(ORDER_ID))
+                    .willReturn(List.of(new PaymentWithOwner(testPayment, MEMBER_ID)));
+
+            // when & then
+            assertThatThrownBy(() -> paymentService.getPaymentsByOrderId(ORDER_ID, 999L))
+                    .isInstanceOf(InvalidStateException.class);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private void withStatus(PaymentStatus status) {
+        ReflectionTestUtils.setField(testPayment, "status", status);
     }
 }
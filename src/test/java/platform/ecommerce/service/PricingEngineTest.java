@@ -0,0 +1,185 @@
+package platform.ecommerce.service;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import platform.ecommerce.domain.coupon.Coupon;
+import platform.ecommerce.domain.coupon.CouponType;
+import platform.ecommerce.service.pricing.CartPricing;
+import platform.ecommerce.service.pricing.CouponRanker;
+import platform.ecommerce.service.pricing.CouponTerms;
+import platform.ecommerce.service.pricing.MinorUnits;
+import platform.ecommerce.service.pricing.PriceLine;
+import platform.ecommerce.service.pricing.PricingEngine;
+import platform.ecommerce.service.pricing.ShippingPolicy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PricingEngine tests.
+ * Properties check that minor-unit results equal the BigDecimal rules they replace,
+ * including coupon ranking.
+ */
+@DisplayName("PricingEngine Tests")
+class PricingEngineTest {
+
+    record Line(BigDecimal basePrice, BigDecimal additionalPrice, int quantity) {
+    }
+
+    @Property(tries = 500)
+    @Label("line totals and subtotal equal BigDecimal arithmetic")
+    void subtotal_matchesBigDecimal(@ForAll("lines") @Size(max = 50) List<Line> lines) {
+        // when
+        CartPricing pricing = PricingEngine.price(toPriceLines(lines), null, ShippingPolicy.FREE);
+
+        // then
+        BigDecimal expectedSubtotal = BigDecimal.ZERO;
+        for (int i = 0; i < lines.size(); i++) {
+            Line line = lines.get(i);
+            BigDecimal unitPrice = line.basePrice().add(line.additionalPrice());
+            BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(line.quantity()));
+            assertThat(pricing.unitPrice(i)).isEqualByComparingTo(unitPrice);
+            assertThat(pricing.lineTotal(i)).isEqualByComparingTo(lineTotal);
+            expectedSubtotal = expectedSubtotal.add(lineTotal);
+        }
+        assertThat(pricing.subtotal()).isEqualByComparingTo(expectedSubtotal);
+        assertThat(pricing.total()).isEqualByComparingTo(expectedSubtotal);
+    }
+
+    @Property(tries = 1000)
+    @Label("coupon discount equals Coupon.calculateDiscount")
+    void discount_matchesCoupon(@ForAll("lines") @Size(min = 1, max = 20) List<Line> lines,
+                                @ForAll("coupons") Coupon coupon) {
+        // when
+        CartPricing pricing = PricingEngine.price(toPriceLines(lines), CouponTerms.of(coupon), ShippingPolicy.FREE);
+
+        // then
+        BigDecimal expectedDiscount = coupon.calculateDiscount(pricing.subtotal());
+        assertThat(pricing.discount()).isEqualByComparingTo(expectedDiscount);
+        assertThat(pricing.total()).isEqualByComparingTo(pricing.subtotal().subtract(expectedDiscount));
+    }
+
+    @Property(tries = 300)
+    @Label("ranked coupons equal the best Coupon.calculateDiscount results, earlier coupon first on ties")
+    void rank_matchesSortedDiscounts(@ForAll @Size(max = 40) List<@From("coupons") Coupon> coupons,
+                                     @ForAll @IntRange(min = 1, max = 5) int limit,
+                                     @ForAll @LongRange(min = 0, max = 100_000_000L) long orderAmountMinorUnits) {
+        // given
+        BigDecimal orderAmount = MinorUnits.toAmount(orderAmountMinorUnits);
+        CouponTerms[] terms = coupons.stream().map(CouponTerms::of).toArray(CouponTerms[]::new);
+        int[] topIndexes = new int[limit];
+        long[] topDiscounts = new long[limit];
+
+        // when
+        int ranked = CouponRanker.rank(terms, orderAmountMinorUnits, topIndexes, topDiscounts);
+
+        // then
+        List<Integer> expected = IntStream.range(0, coupons.size()).boxed()
+                .filter(i -> coupons.get(i).calculateDiscount(orderAmount).signum() > 0)
+                .sorted(Comparator.comparing((Integer i) -> coupons.get(i).calculateDiscount(orderAmount)).reversed())
+                .limit(limit)
+                .toList();
+        assertThat(Arrays.stream(topIndexes, 0, ranked).boxed().toList()).isEqualTo(expected);
+        for (int i = 0; i < ranked; i++) {
+            assertThat(MinorUnits.toAmount(topDiscounts[i]))
+                    .isEqualByComparingTo(coupons.get(topIndexes[i]).calculateDiscount(orderAmount));
+        }
+    }
+
+    @Test
+    @DisplayName("should charge shipping below the free threshold only")
+    void shipping_appliesBelowThreshold() {
+        // given
+        ShippingPolicy policy = ShippingPolicy.of(BigDecimal.valueOf(3000), BigDecimal.valueOf(50000));
+
+        // when
+        CartPricing below = PricingEngine.price(
+                List.of(PriceLine.of(BigDecimal.valueOf(20000), null, 2)), null, policy);
+        CartPricing atThreshold = PricingEngine.price(
+                List.of(PriceLine.of(BigDecimal.valueOf(25000), null, 2)), null, policy);
+
+        // then
+        assertThat(below.shippingFee()).isEqualByComparingTo("3000");
+        assertThat(below.total()).isEqualByComparingTo("43000");
+        assertThat(atThreshold.shippingFee()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("should charge no shipping for an empty cart")
+    void shipping_emptyCart() {
+        // when
+        CartPricing pricing = PricingEngine.price(
+                List.of(), null, ShippingPolicy.of(BigDecimal.valueOf(3000), null));
+
+        // then
+        assertThat(pricing.lineCount()).isZero();
+        assertThat(pricing.total()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("should fail instead of overflowing")
+    void price_overflow_shouldThrow() {
+        // given
+        List<PriceLine> lines = List.of(new PriceLine(Long.MAX_VALUE / 2, 0, 3));
+
+        // when & then
+        assertThatThrownBy(() -> PricingEngine.price(lines, null, ShippingPolicy.FREE))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    // ========== Arbitraries ==========
+
+    @Provide
+    Arbitrary<List<Line>> lines() {
+        Arbitrary<BigDecimal> basePrices = Arbitraries.longs().between(0, 100_000_000L).map(v -> BigDecimal.valueOf(v, 2));
+        Arbitrary<BigDecimal> additionalPrices = Arbitraries.longs().between(0, 1_000_000L).map(v -> BigDecimal.valueOf(v, 2));
+        Arbitrary<Integer> quantities = Arbitraries.integers().between(1, 99);
+        return Combinators.combine(basePrices, additionalPrices, quantities).as(Line::new).list();
+    }
+
+    @Provide
+    Arbitrary<Coupon> coupons() {
+        Arbitrary<BigDecimal> percentages = Arbitraries.longs().between(1, 10_000).map(v -> BigDecimal.valueOf(v, 2));
+        Arbitrary<BigDecimal> amounts = Arbitraries.longs().between(1, 100_000_000L).map(v -> BigDecimal.valueOf(v, 2));
+        Arbitrary<BigDecimal> optionalAmounts = amounts.injectNull(0.3);
+
+        Arbitrary<Coupon> percentage = Combinators.combine(percentages, optionalAmounts, optionalAmounts)
+                .as((value, minimumOrder, maximumDiscount) ->
+                        coupon(CouponType.PERCENTAGE, value, minimumOrder, maximumDiscount));
+        Arbitrary<Coupon> fixed = Combinators.combine(amounts, optionalAmounts)
+                .as((value, minimumOrder) -> coupon(CouponType.FIXED_AMOUNT, value, minimumOrder, null));
+        return Arbitraries.oneOf(percentage, fixed);
+    }
+
+    // ========== Helper Methods ==========
+
+    private List<PriceLine> toPriceLines(List<Line> lines) {
+        return lines.stream()
+                .map(line -> PriceLine.of(line.basePrice(), line.additionalPrice(), line.quantity()))
+                .toList();
+    }
+
+    private Coupon coupon(CouponType type, BigDecimal value, BigDecimal minimumOrder, BigDecimal maximumDiscount) {
+        return Coupon.builder()
+                .code("PROP")
+                .name("Property")
+                .type(type)
+                .discountValue(value)
+                .minimumOrder(minimumOrder)
+                .maximumDiscount(maximumDiscount)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validTo(LocalDateTime.now().plusDays(1))
+                .totalQuantity(100)
+                .build();
+    }
+}
@@ -16,10 +16,12 @@ import platform.ecommerce.domain.product.Product;
 import platform.ecommerce.dto.request.product.ProductSearchCondition;
 import platform.ecommerce.dto.request.product.ProductSortType;
 import platform.ecommerce.repository.product.ProductRepository;
+import platform.ecommerce.service.category.CategoryService;
 import platform.ecommerce.service.product.ProductServiceImpl;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +40,9 @@ class ProductSearchTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private CategoryService categoryService;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -213,6 +218,7 @@ class ProductSearchTest {
             Product product = createProduct("Gaming Mouse", "High DPI gaming mouse");
             Page<Product> productPage = new PageImpl<>(List.of(product), pageable, 1);
 
+            given(categoryService.findCategoryPath(1L)).willReturn(Optional.of("/1/"));
             given(productRepository.searchProducts(any(), eq(pageable))).willReturn(productPage);
 
             // when
@@ -223,6 +229,7 @@ class ProductSearchTest {
             verify(productRepository).searchProducts(captor.capture(), eq(pageable));
             assertThat(captor.getValue().keyword()).isEqualTo("gaming");
             assertThat(captor.getValue().categoryId()).isEqualTo(1L);
+            assertThat(captor.getValue().categoryPath()).isEqualTo("/1/");
         }
 
         @Test
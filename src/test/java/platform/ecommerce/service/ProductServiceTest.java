@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -15,15 +16,21 @@ import platform.ecommerce.domain.product.*;
 import platform.ecommerce.dto.request.product.*;
 import platform.ecommerce.exception.*;
 import platform.ecommerce.repository.product.ProductRepository;
+import platform.ecommerce.service.category.CategoryService;
 import platform.ecommerce.service.product.ProductServiceImpl;
+import platform.ecommerce.service.product.StockAdjustment;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * ProductService unit tests.
@@ -36,6 +43,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private CategoryService categoryService;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -58,6 +68,7 @@ class ProductServiceTest {
             Product product = createProduct();
             setId(product, 1L);
 
+            given(categoryService.findCategoryPath(1L)).willReturn(Optional.of("/1/"));
             given(productRepository.save(any(Product.class))).willReturn(product);
 
             // when
@@ -67,6 +78,26 @@ class ProductServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getName()).isEqualTo("Test Product");
             assertThat(result.getStatus()).isEqualTo(ProductStatus.DRAFT);
+            ArgumentCaptor<Product> saved = ArgumentCaptor.forClass(Product.class);
+            verify(productRepository).save(saved.capture());
+            assertThat(saved.getValue().getCategoryPath()).isEqualTo("/1/");
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown category")
+        void createProduct_withUnknownCategory_shouldThrow() {
+            // given
+            ProductCreateRequest request = ProductCreateRequest.builder()
+                    .name("Test Product")
+                    .basePrice(new BigDecimal("10000"))
+                    .categoryId(99L)
+                    .build();
+            given(categoryService.findCategoryPath(99L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> productService.createProduct(1L, request))
+                    .isInstanceOf(EntityNotFoundException.class);
+            verify(productRepository, never()).save(any());
         }
     }
 
@@ -129,6 +160,86 @@ class ProductServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
         }
+
+        @Test
+        @DisplayName("Should match a category's whole subtree by its path")
+        void searchProducts_withCategory_shouldFilterBySubtreePath() {
+            // given
+            ProductSearchCondition condition = ProductSearchCondition.builder().categoryId(1L).build();
+            Pageable pageable = PageRequest.of(0, 10);
+            given(categoryService.findCategoryPath(1L)).willReturn(Optional.of("/1/"));
+            given(productRepository.searchProducts(any(), eq(pageable))).willReturn(Page.empty(pageable));
+
+            // when
+            productService.searchProducts(condition, pageable);
+
+            // then
+            ArgumentCaptor<ProductSearchCondition> captor = ArgumentCaptor.forClass(ProductSearchCondition.class);
+            verify(productRepository).searchProducts(captor.capture(), eq(pageable));
+            assertThat(captor.getValue().categoryPath()).isEqualTo("/1/");
+            assertThat(captor.getValue().categoryId()).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reindex Category Paths")
+    class ReindexCategoryPaths {
+
+        @Test
+        @DisplayName("Should re-root one batch of products under the new path")
+        void reindexCategoryPaths_shouldReplacePrefixForBatch() {
+            // given
+            given(productRepository.findIdsByCategoryPathPrefix("/1/2/", PageRequest.of(0, 2))).willReturn(List.of(10L, 11L));
+            given(productRepository.replaceCategoryPathPrefix(List.of(10L, 11L), 5, "/3/2/")).willReturn(2);
+
+            // when
+            int moved = productService.reindexCategoryPaths("/1/2/", "/3/2/", 2);
+
+            // then
+            assertThat(moved).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should stop when no product is left under the old path")
+        void reindexCategoryPaths_nothingLeft_shouldReturnZero() {
+            // given
+            given(productRepository.findIdsByCategoryPathPrefix("/1/2/", PageRequest.of(0, 2))).willReturn(List.of());
+
+            // when
+            int moved = productService.reindexCategoryPaths("/1/2/", "/3/2/", 2);
+
+            // then
+            assertThat(moved).isZero();
+            verify(productRepository, never()).replaceCategoryPathPrefix(any(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Should copy the category path onto products that drifted from it")
+        void repairCategoryPaths_shouldCopyPathForBatch() {
+            // given
+            given(productRepository.findIdsWithStaleCategoryPath(PageRequest.of(0, 2))).willReturn(List.of(10L));
+            given(productRepository.copyCategoryPaths(List.of(10L))).willReturn(1);
+
+            // when
+            int repaired = productService.repairCategoryPaths(2);
+
+            // then
+            assertThat(repaired).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not update anything when every path matches its category")
+        void repairCategoryPaths_nothingStale_shouldReturnZero() {
+            // given
+            given(productRepository.findIdsWithStaleCategoryPath(PageRequest.of(0, 2))).willReturn(List.of());
+
+            // when
+            int repaired = productService.repairCategoryPaths(2);
+
+            // then
+            assertThat(repaired).isZero();
+            verify(productRepository, never()).copyCategoryPaths(any());
+        }
     }
 
     @Nested
@@ -234,43 +345,83 @@ class ProductServiceTest {
     class StockManagement {
 
         @Test
-        @DisplayName("Should decrease stock successfully")
+        @DisplayName("Should take stock in place when enough is left")
         void decreaseStock_withSufficientStock_shouldSucceed() {
             // given
-            Long productId = 1L;
-            Long optionId = 1L;
-            Product product = createProduct();
-            setId(product, productId);
-
-            ProductOption option = product.addOption(OptionType.SIZE, "M", BigDecimal.ZERO, 10);
-            setId(option, optionId);
-
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(productRepository.decreaseOptionStock(1L, 1L, 3)).willReturn(1);
 
             // when
-            productService.decreaseStock(productId, optionId, 3);
+            productService.decreaseStock(1L, 1L, 3);
 
             // then
-            assertThat(option.getStock()).isEqualTo(7);
+            verify(productRepository).markSoldOut(Set.of(1L), ProductStatus.ACTIVE, ProductStatus.SOLD_OUT);
+            verify(productRepository, never()).findById(anyLong());
         }
 
         @Test
         @DisplayName("Should throw exception for insufficient stock")
         void decreaseStock_insufficientStock_shouldThrowException() {
             // given
-            Long productId = 1L;
-            Long optionId = 1L;
-            Product product = createProduct();
-            setId(product, productId);
+            given(productRepository.decreaseOptionStock(1L, 1L, 10)).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> productService.decreaseStock(1L, 1L, 10))
+                    .isInstanceOf(InvalidStateException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+            verify(productRepository, never()).markSoldOut(anyCollection(), any(), any());
+        }
 
-            ProductOption option = product.addOption(OptionType.SIZE, "M", BigDecimal.ZERO, 5);
-            setId(option, optionId);
+        @Test
+        @DisplayName("Should sum adjustments per option and add them in place without loading products")
+        void increaseStocks_shouldAggregatePerOption() {
+            // given
+            given(productRepository.increaseOptionStock(anyLong(), anyLong(), anyInt())).willReturn(1);
 
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            // when
+            productService.increaseStocks(List.of(
+                    new StockAdjustment(1L, 10L, 2),
+                    new StockAdjustment(1L, 11L, 1),
+                    new StockAdjustment(1L, 10L, 3)
+            ));
+
+            // then
+            verify(productRepository).increaseOptionStock(1L, 10L, 5);
+            verify(productRepository).increaseOptionStock(1L, 11L, 1);
+            verify(productRepository).reactivateSoldOut(Set.of(1L), ProductStatus.SOLD_OUT, ProductStatus.ACTIVE);
+            verify(productRepository, never()).findAllById(anyIterable());
+            verify(productRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should throw when the option does not belong to the product")
+        void increaseStock_unknownOption_shouldThrowException() {
+            // given
+            given(productRepository.increaseOptionStock(1L, 99L, 1)).willReturn(0);
 
             // when & then
-            assertThatThrownBy(() -> productService.decreaseStock(productId, optionId, 10))
-                    .isInstanceOf(InvalidStateException.class);
+            assertThatThrownBy(() -> productService.increaseStock(1L, 99L, 1))
+                    .isInstanceOf(EntityNotFoundException.class);
+            verify(productRepository, never()).reactivateSoldOut(anyCollection(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should sum adjustments per option and take them in place without loading products")
+        void decreaseStocks_shouldAggregatePerOption() {
+            // given
+            given(productRepository.decreaseOptionStock(anyLong(), anyLong(), anyInt())).willReturn(1);
+
+            // when
+            productService.decreaseStocks(List.of(
+                    new StockAdjustment(1L, 10L, 2),
+                    new StockAdjustment(2L, 20L, 1),
+                    new StockAdjustment(1L, 10L, 3)
+            ));
+
+            // then
+            verify(productRepository).decreaseOptionStock(1L, 10L, 5);
+            verify(productRepository).decreaseOptionStock(2L, 20L, 1);
+            verify(productRepository).markSoldOut(Set.of(1L, 2L), ProductStatus.ACTIVE, ProductStatus.SOLD_OUT);
+            verify(productRepository, never()).findAllWithOptionsByIdIn(anyCollection());
         }
     }
 
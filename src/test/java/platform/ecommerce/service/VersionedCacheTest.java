@@ -0,0 +1,130 @@
+package platform.ecommerce.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import platform.ecommerce.service.cache.InMemoryCacheGenerationStore;
+import platform.ecommerce.service.cache.VersionedCache;
+import platform.ecommerce.service.cache.VersionedCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for VersionedCache and VersionedCacheManager with the in-memory generation store.
+ */
+class VersionedCacheTest {
+
+    private InMemoryCacheGenerationStore generationStore;
+    private ConcurrentMapCache target;
+    private VersionedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        generationStore = new InMemoryCacheGenerationStore();
+        target = new ConcurrentMapCache("categoryTree");
+        cache = new VersionedCache(target, generationStore);
+    }
+
+    @Nested
+    @DisplayName("keys")
+    class Keys {
+
+        @Test
+        @DisplayName("should store entries under the current generation")
+        void put_shouldEmbedGeneration() {
+            // when
+            cache.put("root", "tree");
+
+            // then
+            assertThat(target.getNativeCache()).containsOnlyKeys("0:root");
+            assertThat(cache.get("root", String.class)).isEqualTo("tree");
+        }
+
+        @Test
+        @DisplayName("should evict a single key within the current generation")
+        void evict_shouldRemoveCurrentEntry() {
+            // given
+            cache.put("root", "tree");
+            cache.put("other", "value");
+
+            // when
+            cache.evict("root");
+
+            // then
+            assertThat(cache.get("root")).isNull();
+            assertThat(cache.get("other", String.class)).isEqualTo("value");
+        }
+    }
+
+    @Nested
+    @DisplayName("clear")
+    class Clear {
+
+        @Test
+        @DisplayName("should bump the generation instead of deleting entries")
+        void clear_shouldBumpGeneration() {
+            // given
+            cache.put("root", "tree");
+
+            // when
+            cache.clear();
+
+            // then - the old entry is left to expire but no longer read
+            assertThat(generationStore.current("categoryTree")).isEqualTo(1L);
+            assertThat(target.getNativeCache()).containsOnlyKeys("0:root");
+            assertThat(cache.get("root")).isNull();
+
+            cache.put("root", "new tree");
+            assertThat(cache.get("root", String.class)).isEqualTo("new tree");
+        }
+
+        @Test
+        @DisplayName("should leave other namespaces untouched")
+        void clear_shouldBeScopedToNamespace() {
+            // given
+            VersionedCache categories = new VersionedCache(new ConcurrentMapCache("categories"), generationStore);
+            categories.put(1L, "Books");
+
+            // when
+            cache.clear();
+
+            // then
+            assertThat(generationStore.current("categories")).isZero();
+            assertThat(categories.get(1L, String.class)).isEqualTo("Books");
+        }
+    }
+
+    @Nested
+    @DisplayName("VersionedCacheManager")
+    class Manager {
+
+        @Test
+        @DisplayName("should version only the configured names and reuse decorated caches")
+        void getCache_shouldVersionConfiguredNames() {
+            // given
+            VersionedCacheManager manager = new VersionedCacheManager(
+                    new ConcurrentMapCacheManager(), generationStore, List.of("categoryTree"));
+
+            // when
+            Cache versioned = manager.getCache("categoryTree");
+            Cache plain = manager.getCache("products");
+            versioned.put("root", "tree");
+            plain.put(1L, "product");
+            versioned.clear();
+            plain.clear();
+
+            // then - outside a transaction the decorator applies changes immediately
+            assertThat(manager.getCache("categoryTree")).isSameAs(versioned);
+            assertThat(generationStore.current("categoryTree")).isEqualTo(1L);
+            assertThat(generationStore.current("products")).isZero();
+            assertThat(versioned.get("root")).isNull();
+            assertThat(plain.get(1L)).isNull();
+        }
+    }
+}